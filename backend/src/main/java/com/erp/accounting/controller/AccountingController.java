@@ -2,17 +2,24 @@ package com.erp.accounting.controller;
 
 import com.erp.accounting.dto.*;
 import com.erp.accounting.entity.Transaction;
+import com.erp.accounting.service.AccountingExportService;
 import com.erp.accounting.service.AccountingService;
+import com.erp.accounting.service.VatReportService;
 import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
+import com.erp.common.export.ExportFormat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 import java.math.BigDecimal;
@@ -30,6 +37,8 @@ import java.util.List;
 public class AccountingController {
 
     private final AccountingService accountingService;
+    private final AccountingExportService accountingExportService;
+    private final VatReportService vatReportService;
 
     /**
      * 복식부기 분개 생성
@@ -328,6 +337,29 @@ public class AccountingController {
         }
     }
 
+    /**
+     * 마감된 회계연도 거래 보관 (파티션 분리)
+     */
+    @PostMapping("/fiscal-years/{fiscalYear}/archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<String>> archiveFiscalYear(@PathVariable Integer fiscalYear) {
+        try {
+            log.info("회계연도 거래 보관 요청 - 연도: {}", fiscalYear);
+            
+            String archiveTable = accountingService.archiveFiscalYear(fiscalYear);
+            
+            return ResponseEntity.ok(ApiResponse.success(
+                "회계연도 거래가 성공적으로 보관되었습니다",
+                archiveTable
+            ));
+        } catch (Exception e) {
+            log.error("회계연도 거래 보관 실패 - 연도: {}", fiscalYear, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("회계연도 거래 보관에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
     /**
      * 대차평형 검증
      */
@@ -430,6 +462,34 @@ public class AccountingController {
         }
     }
 
+    /**
+     * 회사별 거래 목록/검색 (슬라이스, COUNT 쿼리 없음)
+     */
+    @GetMapping("/companies/{companyId}/transactions/slice")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<ApiResponse.SliceResponse<TransactionDto>>> getTransactionSlice(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(defaultValue = "NONE") CountMode count,
+            @PageableDefault(size = 20) Pageable pageable) {
+        try {
+            log.info("회사별 거래 슬라이스 조회 요청 - 회사: {}, 검색어: {}, 건수: {}", companyId, searchTerm, count);
+            
+            ApiResponse.SliceResponse<TransactionDto> result =
+                accountingService.getTransactionSlice(companyId, searchTerm, pageable, count);
+            
+            return ResponseEntity.ok(ApiResponse.successWithSlice(
+                "회사별 거래 목록을 성공적으로 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("회사별 거래 슬라이스 조회 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("회사별 거래 목록 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
     /**
      * 거래 통계
      */
@@ -477,4 +537,151 @@ public class AccountingController {
             );
         }
     }
+
+    /**
+     * 총계정원장 내보내기 (CSV/XLSX 스트리밍)
+     */
+    @GetMapping("/companies/{companyId}/export/general-ledger")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> exportGeneralLedger(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            log.info("총계정원장 내보내기 요청 - 회사: {}, 계정 ID: {}, 기간: {} ~ {}, 형식: {}",
+                    companyId, accountId, startDate, endDate, format);
+
+            ExportFormat exportFormat = ExportFormat.from(format);
+            accountingExportService.validatePeriod(startDate, endDate);
+
+            return exportResponse("general_ledger", exportFormat, outputStream ->
+                accountingExportService.exportGeneralLedger(
+                    companyId, accountId, startDate, endDate, exportFormat, outputStream));
+        } catch (Exception e) {
+            log.error("총계정원장 내보내기 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("총계정원장 내보내기에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 분개장 내보내기 (CSV/XLSX 스트리밍)
+     */
+    @GetMapping("/companies/{companyId}/export/journal")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> exportJournal(
+            @PathVariable Long companyId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            log.info("분개장 내보내기 요청 - 회사: {}, 기간: {} ~ {}, 형식: {}", companyId, startDate, endDate, format);
+
+            ExportFormat exportFormat = ExportFormat.from(format);
+            accountingExportService.validatePeriod(startDate, endDate);
+
+            return exportResponse("journal", exportFormat, outputStream ->
+                accountingExportService.exportJournal(companyId, startDate, endDate, exportFormat, outputStream));
+        } catch (Exception e) {
+            log.error("분개장 내보내기 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("분개장 내보내기에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 시산표 내보내기 (CSV/XLSX 스트리밍)
+     */
+    @GetMapping("/companies/{companyId}/export/trial-balance")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> exportTrialBalance(
+            @PathVariable Long companyId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            log.info("시산표 내보내기 요청 - 회사: {}, 기간: {} ~ {}, 형식: {}", companyId, startDate, endDate, format);
+
+            ExportFormat exportFormat = ExportFormat.from(format);
+            accountingExportService.validatePeriod(startDate, endDate);
+
+            return exportResponse("trial_balance", exportFormat, outputStream ->
+                accountingExportService.exportTrialBalance(companyId, startDate, endDate, exportFormat, outputStream));
+        } catch (Exception e) {
+            log.error("시산표 내보내기 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("시산표 내보내기에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 부가가치세 신고 요약 조회
+     */
+    @GetMapping("/companies/{companyId}/vat-summary")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<VatSummaryDto>> getVatSummary(
+            @PathVariable Long companyId,
+            @RequestParam Integer fiscalYear,
+            @RequestParam VatSummaryDto.FilingPeriod filingPeriod) {
+        try {
+            log.info("부가가치세 요약 조회 요청 - 회사: {}, 기간: {} {}", companyId, fiscalYear, filingPeriod);
+
+            VatSummaryDto result = vatReportService.getVatSummary(companyId, fiscalYear, filingPeriod);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "부가가치세 요약을 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("부가가치세 요약 조회 실패 - 회사: {}, 기간: {} {}", companyId, fiscalYear, filingPeriod, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("부가가치세 요약 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 부가가치세 신고 요약 내보내기 (CSV/XLSX 스트리밍)
+     */
+    @GetMapping("/companies/{companyId}/export/vat-summary")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> exportVatSummary(
+            @PathVariable Long companyId,
+            @RequestParam Integer fiscalYear,
+            @RequestParam VatSummaryDto.FilingPeriod filingPeriod,
+            @RequestParam(defaultValue = "csv") String format) {
+        try {
+            log.info("부가가치세 요약 내보내기 요청 - 회사: {}, 기간: {} {}, 형식: {}",
+                    companyId, fiscalYear, filingPeriod, format);
+
+            ExportFormat exportFormat = ExportFormat.from(format);
+            vatReportService.validateFilingPeriod(companyId, fiscalYear, filingPeriod);
+
+            return exportResponse("vat_summary_" + fiscalYear + "_" + filingPeriod.name().toLowerCase(), exportFormat,
+                outputStream -> vatReportService.exportVatSummary(
+                    companyId, fiscalYear, filingPeriod, exportFormat, outputStream));
+        } catch (Exception e) {
+            log.error("부가가치세 요약 내보내기 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("부가가치세 요약 내보내기에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 내보내기 스트리밍 응답 생성 (응답 스트림에 바로 작성)
+     */
+    private ResponseEntity<StreamingResponseBody> exportResponse(String fileName, ExportFormat format,
+                                                                 StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=" + fileName + "_" + LocalDate.now() + "." + format.getExtension())
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .body(body);
+    }
 }
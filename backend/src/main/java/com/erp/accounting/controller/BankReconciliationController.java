@@ -0,0 +1,139 @@
+package com.erp.accounting.controller;
+
+import com.erp.accounting.dto.BankReconciliationLineDto;
+import com.erp.accounting.dto.BankReconciliationResultDto;
+import com.erp.accounting.entity.BankReconciliationLine;
+import com.erp.accounting.service.BankReconciliationService;
+import com.erp.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+
+/**
+ * 은행 거래내역 대사 컨트롤러
+ * 은행 거래내역서 업로드 대사와 대사 결과 조회 기능을 제공합니다
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/accounting/bank-reconciliations")
+@RequiredArgsConstructor
+public class BankReconciliationController {
+
+    private final BankReconciliationService bankReconciliationService;
+
+    /**
+     * 거래내역서(CSV) 업로드 대사
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<BankReconciliationResultDto>> reconcile(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam Long companyId,
+            @RequestParam Long bankAccountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            log.info("은행 거래내역 대사 요청 - 회사: {}, 계정: {}, 파일: {}",
+                    companyId, bankAccountId, file.getOriginalFilename());
+
+            if (file.isEmpty()) {
+                return ResponseEntity.badRequest().body(ApiResponse.error("거래내역서 파일이 비어 있습니다"));
+            }
+            BankReconciliationResultDto result;
+            try (InputStream inputStream = file.getInputStream()) {
+                result = bankReconciliationService.reconcile(companyId, bankAccountId, startDate, endDate,
+                    file.getOriginalFilename(), inputStream);
+            }
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "은행 거래내역 대사가 완료되었습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("은행 거래내역 대사 실패 - 회사: {}, 계정: {}", companyId, bankAccountId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("은행 거래내역 대사에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 회사별 대사 실행 목록
+     */
+    @GetMapping("/companies/{companyId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<Page<BankReconciliationResultDto>>> getReconciliations(
+            @PathVariable Long companyId,
+            @PageableDefault(size = 20) Pageable pageable) {
+        try {
+            Page<BankReconciliationResultDto> result = bankReconciliationService.getReconciliations(companyId, pageable);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "대사 내역 목록을 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("대사 내역 목록 조회 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("대사 내역 목록 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 대사 실행 요약 조회
+     */
+    @GetMapping("/{reconciliationId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<BankReconciliationResultDto>> getReconciliation(
+            @PathVariable Long reconciliationId) {
+        try {
+            BankReconciliationResultDto result = bankReconciliationService.getReconciliation(reconciliationId);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "대사 내역을 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("대사 내역 조회 실패 - 대사: {}", reconciliationId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("대사 내역 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 대사 행 목록 (일치 유형 필터 선택)
+     */
+    @GetMapping("/{reconciliationId}/lines")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<Page<BankReconciliationLineDto>>> getReconciliationLines(
+            @PathVariable Long reconciliationId,
+            @RequestParam(required = false) BankReconciliationLine.MatchType matchType,
+            @PageableDefault(size = 50) Pageable pageable) {
+        try {
+            Page<BankReconciliationLineDto> result =
+                bankReconciliationService.getReconciliationLines(reconciliationId, matchType, pageable);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "대사 행 목록을 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("대사 행 목록 조회 실패 - 대사: {}", reconciliationId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("대사 행 목록 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+}
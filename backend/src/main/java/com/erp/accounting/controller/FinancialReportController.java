@@ -1,20 +1,35 @@
 package com.erp.accounting.controller;
 
+import com.erp.accounting.dto.BudgetVarianceReportDto;
+import com.erp.accounting.dto.ComparativeIncomeStatementDto;
 import com.erp.accounting.dto.FinancialReportDto;
+import com.erp.accounting.dto.FinancialReportJobDto;
+import com.erp.accounting.dto.FinancialTrendDto;
+import com.erp.accounting.dto.ReportSnapshotDiffDto;
+import com.erp.accounting.dto.ReportSnapshotLineDto;
 import com.erp.accounting.entity.FinancialReport;
+import com.erp.accounting.service.BudgetService;
+import com.erp.accounting.service.FinancialReportJobService;
 import com.erp.accounting.service.FinancialReportService;
+import com.erp.accounting.service.FinancialReportSnapshotService;
 import com.erp.common.dto.ApiResponse;
+import com.erp.common.export.ExportFormat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 
@@ -29,6 +44,9 @@ import java.util.Map;
 public class FinancialReportController {
 
     private final FinancialReportService financialReportService;
+    private final FinancialReportJobService financialReportJobService;
+    private final FinancialReportSnapshotService snapshotService;
+    private final BudgetService budgetService;
 
     /**
      * 재무상태표 생성
@@ -228,6 +246,142 @@ public class FinancialReportController {
         }
     }
 
+    /**
+     * 예산 대비 실적 차이 보고서 조회
+     */
+    @GetMapping("/companies/{companyId}/budget-variance")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<BudgetVarianceReportDto>> getBudgetVarianceReport(
+            @PathVariable Long companyId,
+            @RequestParam Integer fiscalYear) {
+        try {
+            log.info("예산 차이 보고서 조회 요청 - 회사: {}, 연도: {}", companyId, fiscalYear);
+
+            BudgetVarianceReportDto result = budgetService.getVarianceReport(companyId, fiscalYear);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "예산 차이 보고서를 성공적으로 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("예산 차이 보고서 조회 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("예산 차이 보고서 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 회계연도 예산 실적 재계산
+     */
+    @PostMapping("/companies/{companyId}/budget-actuals/recompute")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<Integer>> recomputeBudgetActuals(
+            @PathVariable Long companyId,
+            @RequestParam Integer fiscalYear) {
+        try {
+            log.info("예산 실적 재계산 요청 - 회사: {}, 연도: {}", companyId, fiscalYear);
+
+            int updated = budgetService.recomputeActuals(companyId, fiscalYear);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "예산 실적을 재계산했습니다",
+                updated
+            ));
+        } catch (Exception e) {
+            log.error("예산 실적 재계산 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("예산 실적 재계산에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 보고서 생성 작업 접수 (비동기)
+     * 같은 회사/유형/기간의 작업이 진행 중이면 그 작업 ID를 반환합니다
+     */
+    @PostMapping("/jobs")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<FinancialReportJobDto>> submitReportJob(
+            @RequestParam Long companyId,
+            @RequestParam FinancialReport.ReportType reportType,
+            @RequestParam Integer fiscalYear,
+            @RequestParam String fiscalPeriod,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        try {
+            log.info("보고서 작업 접수 요청 - 회사: {}, 유형: {}, 연도: {}, 기간: {}",
+                companyId, reportType, fiscalYear, fiscalPeriod);
+
+            FinancialReportJobDto result = financialReportJobService.submitJob(
+                companyId, reportType, fiscalYear, fiscalPeriod, startDate, endDate);
+
+            return ResponseEntity.accepted().body(ApiResponse.success(
+                "보고서 생성 작업이 접수되었습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("보고서 작업 접수 실패 - 회사: {}, 유형: {}", companyId, reportType, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("보고서 작업 접수에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 보고서 생성 작업 조회 (폴링)
+     */
+    @GetMapping("/jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<FinancialReportJobDto>> getReportJob(@PathVariable Long jobId) {
+        try {
+            FinancialReportJobDto result = financialReportJobService.getJob(jobId);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "보고서 작업을 성공적으로 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("보고서 작업 조회 실패 - 작업: {}", jobId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("보고서 작업 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 보고서 생성 작업 진행 상태 구독 (SSE)
+     */
+    @GetMapping(value = "/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public SseEmitter subscribeReportJob(@PathVariable Long jobId) {
+        log.info("보고서 작업 구독 요청 - 작업: {}", jobId);
+        return financialReportJobService.subscribe(jobId);
+    }
+
+    /**
+     * 회사별 보고서 생성 작업 목록
+     */
+    @GetMapping("/companies/{companyId}/jobs")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<Page<FinancialReportJobDto>>> getReportJobsByCompany(
+            @PathVariable Long companyId,
+            @PageableDefault(size = 20) Pageable pageable) {
+        try {
+            Page<FinancialReportJobDto> result = financialReportJobService.getJobsByCompany(companyId, pageable);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "보고서 작업 목록을 성공적으로 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("보고서 작업 목록 조회 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("보고서 작업 목록 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
     /**
      * 보고서 승인
      */
@@ -276,6 +430,79 @@ public class FinancialReportController {
         }
     }
 
+    /**
+     * 보고서 항목 스냅샷 조회 (저장된 항목만 읽음, 버전 미지정 시 현재 버전)
+     */
+    @GetMapping("/{reportId}/items")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<Page<ReportSnapshotLineDto>>> getReportItems(
+            @PathVariable Long reportId,
+            @RequestParam(required = false) Integer version,
+            @PageableDefault(size = 100) Pageable pageable) {
+        try {
+            Page<ReportSnapshotLineDto> result = snapshotService.getSnapshotLines(reportId, version, pageable);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "보고서 항목을 성공적으로 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("보고서 항목 조회 실패 - 보고서: {}, 버전: {}", reportId, version, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("보고서 항목 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 보고서 항목 스냅샷 내보내기 (CSV/XLSX 스트리밍)
+     */
+    @GetMapping("/{reportId}/items/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> exportReportItems(
+            @PathVariable Long reportId,
+            @RequestParam(required = false) Integer version,
+            @RequestParam(defaultValue = "csv") String format) {
+        try {
+            log.info("보고서 항목 내보내기 요청 - 보고서: {}, 버전: {}, 형식: {}", reportId, version, format);
+
+            ExportFormat exportFormat = ExportFormat.from(format);
+            int resolved = snapshotService.resolveVersion(reportId, version);
+
+            return exportResponse("report_" + reportId + "_v" + resolved, exportFormat, outputStream ->
+                snapshotService.exportSnapshot(reportId, resolved, exportFormat, outputStream));
+        } catch (Exception e) {
+            log.error("보고서 항목 내보내기 실패 - 보고서: {}", reportId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("보고서 항목 내보내기에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 보고서 버전 비교 (기준 버전 미지정 시 직전 버전, 대상 버전 미지정 시 현재 버전)
+     */
+    @GetMapping("/{reportId}/items/diff")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<ReportSnapshotDiffDto>> compareReportVersions(
+            @PathVariable Long reportId,
+            @RequestParam(required = false) Integer baseVersion,
+            @RequestParam(required = false) Integer targetVersion) {
+        try {
+            ReportSnapshotDiffDto result = snapshotService.compareVersions(reportId, baseVersion, targetVersion);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "보고서 버전을 성공적으로 비교했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("보고서 버전 비교 실패 - 보고서: {}", reportId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("보고서 버전 비교에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
     /**
      * 보고서 삭제
      */
@@ -321,6 +548,35 @@ public class FinancialReportController {
         }
     }
 
+    /**
+     * 비교 손익계산서 조회 (월/분기별 N개 기간)
+     */
+    @GetMapping("/companies/{companyId}/income-statement/comparative")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<ComparativeIncomeStatementDto>> getComparativeIncomeStatement(
+            @PathVariable Long companyId,
+            @RequestParam String startMonth,
+            @RequestParam(defaultValue = "12") Integer periods,
+            @RequestParam(defaultValue = "MONTH") ComparativeIncomeStatementDto.Granularity granularity) {
+        try {
+            log.info("비교 손익계산서 조회 요청 - 회사: {}, 시작 월: {}, 기간: {} x {}",
+                companyId, startMonth, periods, granularity);
+
+            ComparativeIncomeStatementDto result = financialReportService.getComparativeIncomeStatement(
+                companyId, YearMonth.parse(startMonth), periods, granularity);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "비교 손익계산서를 성공적으로 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("비교 손익계산서 조회 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("비교 손익계산서 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
     /**
      * 보고서 유형별 조회
      */
@@ -374,13 +630,14 @@ public class FinancialReportController {
      */
     @GetMapping("/companies/{companyId}/trends")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getFinancialTrends(
+    public ResponseEntity<ApiResponse<FinancialTrendDto>> getFinancialTrends(
             @PathVariable Long companyId,
-            @RequestParam(defaultValue = "12") Integer periods) {
+            @RequestParam(defaultValue = "12") Integer periods,
+            @RequestParam(defaultValue = "MONTH") ComparativeIncomeStatementDto.Granularity granularity) {
         try {
-            log.info("재무 트렌드 데이터 조회 요청 - 회사: {}, 기간: {}", companyId, periods);
+            log.info("재무 트렌드 데이터 조회 요청 - 회사: {}, 기간: {} x {}", companyId, periods, granularity);
             
-            Map<String, Object> result = financialReportService.getFinancialTrends(companyId, periods);
+            FinancialTrendDto result = financialReportService.getFinancialTrends(companyId, periods, granularity);
             
             return ResponseEntity.ok(ApiResponse.success(
                 "재무 트렌드 데이터를 성공적으로 조회했습니다",
@@ -494,4 +751,13 @@ public class FinancialReportController {
             );
         }
     }
+
+    private ResponseEntity<StreamingResponseBody> exportResponse(String fileName, ExportFormat format,
+                                                                 StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=" + fileName + "_" + LocalDate.now() + "." + format.getExtension())
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .body(body);
+    }
 }
@@ -0,0 +1,41 @@
+package com.erp.accounting.dto;
+
+import com.erp.accounting.entity.BankReconciliationLine;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 은행 거래내역 대사 행 DTO
+ * 거래내역서 행과 일치한 장부 거래를 담는 DTO입니다
+ */
+public record BankReconciliationLineDto(
+        Long id,
+        Integer lineNumber,
+        LocalDate statementDate,
+        BigDecimal amount,
+        String counterparty,
+        String description,
+        Long transactionId,
+        BankReconciliationLine.MatchType matchType,
+        String matchTypeDescription,
+        BigDecimal matchScore
+) {
+    /**
+     * 엔티티에서 DTO로 변환
+     */
+    public static BankReconciliationLineDto from(BankReconciliationLine line) {
+        return new BankReconciliationLineDto(
+                line.getId(),
+                line.getLineNumber(),
+                line.getStatementDate(),
+                line.getAmount(),
+                line.getCounterparty(),
+                line.getDescription(),
+                line.getTransactionId(),
+                line.getMatchType(),
+                line.getMatchType() != null ? line.getMatchType().getDescription() : null,
+                line.getMatchScore()
+        );
+    }
+}
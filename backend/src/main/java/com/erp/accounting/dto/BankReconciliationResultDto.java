@@ -0,0 +1,78 @@
+package com.erp.accounting.dto;
+
+import com.erp.accounting.entity.BankReconciliation;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 은행 거래내역 대사 결과 DTO
+ * 대사 실행별 일치/미대사 건수를 담는 DTO입니다
+ */
+public record BankReconciliationResultDto(
+        Long id,
+        Long companyId,
+        Long bankAccountId,
+        String bankAccountCode,
+        String bankAccountName,
+        LocalDate statementStartDate,
+        LocalDate statementEndDate,
+        String fileName,
+        Integer totalLines,
+        Integer exactMatchCount,
+        Integer fuzzyMatchCount,
+        Integer unmatchedLineCount,
+        Integer unmatchedTransactionCount,
+        Integer invalidLineCount,
+        LocalDateTime createdAt
+) {
+    public BankReconciliationResultDto {
+        if (companyId == null) {
+            throw new IllegalArgumentException("회사 ID는 필수입니다");
+        }
+        if (bankAccountId == null) {
+            throw new IllegalArgumentException("예금 계정과목 ID는 필수입니다");
+        }
+        if (totalLines == null) {
+            totalLines = 0;
+        }
+        if (exactMatchCount == null) {
+            exactMatchCount = 0;
+        }
+        if (fuzzyMatchCount == null) {
+            fuzzyMatchCount = 0;
+        }
+        if (unmatchedLineCount == null) {
+            unmatchedLineCount = 0;
+        }
+        if (unmatchedTransactionCount == null) {
+            unmatchedTransactionCount = 0;
+        }
+        if (invalidLineCount == null) {
+            invalidLineCount = 0;
+        }
+    }
+
+    /**
+     * 엔티티에서 DTO로 변환
+     */
+    public static BankReconciliationResultDto from(BankReconciliation reconciliation) {
+        return new BankReconciliationResultDto(
+                reconciliation.getId(),
+                reconciliation.getCompany().getId(),
+                reconciliation.getBankAccount().getId(),
+                reconciliation.getBankAccount().getAccountCode(),
+                reconciliation.getBankAccount().getName(),
+                reconciliation.getStatementStartDate(),
+                reconciliation.getStatementEndDate(),
+                reconciliation.getFileName(),
+                reconciliation.getTotalLines(),
+                reconciliation.getExactMatchCount(),
+                reconciliation.getFuzzyMatchCount(),
+                reconciliation.getUnmatchedLineCount(),
+                reconciliation.getUnmatchedTransactionCount(),
+                reconciliation.getInvalidLineCount(),
+                reconciliation.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package com.erp.accounting.dto;
+
+import com.erp.accounting.entity.Budget;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 예산 대비 실적 차이 보고서 DTO
+ * 전기된 거래에서 다시 집계한 실적과 예산에 저장된 실적을 함께 보여줘 재계산 필요 여부도 확인할 수 있습니다
+ */
+public record BudgetVarianceReportDto(
+        Long companyId,
+        Integer fiscalYear,
+        BigDecimal totalBudgetAmount,
+        BigDecimal totalActualAmount,
+        BigDecimal totalVarianceAmount,
+        Integer overBudgetCount,
+        Integer outOfSyncCount,
+        List<Line> lines
+) {
+    public BudgetVarianceReportDto {
+        if (companyId == null) {
+            throw new IllegalArgumentException("회사 ID는 필수입니다");
+        }
+        if (fiscalYear == null) {
+            throw new IllegalArgumentException("회계연도는 필수입니다");
+        }
+        if (lines == null) {
+            lines = List.of();
+        }
+    }
+
+    /**
+     * 예산별 차이
+     *
+     * @param actualAmount 전기된 거래에서 집계한 실적
+     * @param storedActual 예산에 저장된 실적 (실적과 다르면 재계산 필요)
+     */
+    public record Line(
+            Long budgetId,
+            String accountCode,
+            String accountName,
+            Budget.BudgetType budgetType,
+            Budget.BudgetPeriod budgetPeriod,
+            Integer periodNumber,
+            String departmentCode,
+            String projectCode,
+            Budget.BudgetStatus budgetStatus,
+            BigDecimal budgetAmount,
+            BigDecimal actualAmount,
+            BigDecimal storedActual,
+            BigDecimal varianceAmount,
+            BigDecimal varianceRate,
+            BigDecimal achievementRate,
+            Boolean overBudget,
+            Boolean outOfSync
+    ) {
+    }
+}
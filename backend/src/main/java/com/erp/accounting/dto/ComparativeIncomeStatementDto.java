@@ -0,0 +1,71 @@
+package com.erp.accounting.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 비교 손익계산서 DTO
+ * 여러 월/분기의 손익 항목을 기간별로 나란히 담는 DTO입니다
+ */
+public record ComparativeIncomeStatementDto(
+        Long companyId,
+        Granularity granularity,
+        LocalDate startDate,
+        LocalDate endDate,
+        List<String> periods,
+        List<Line> lines
+) {
+    public ComparativeIncomeStatementDto {
+        if (companyId == null) {
+            throw new IllegalArgumentException("회사 ID는 필수입니다");
+        }
+        if (granularity == null) {
+            throw new IllegalArgumentException("기간 단위는 필수입니다");
+        }
+        if (periods == null) {
+            periods = List.of();
+        }
+        if (lines == null) {
+            lines = List.of();
+        }
+    }
+
+    /**
+     * 손익 항목 행 (기간 순서대로 금액)
+     */
+    public record Line(
+            String item,
+            String itemName,
+            List<BigDecimal> amounts
+    ) {
+    }
+
+    /**
+     * 비교 기간 단위
+     */
+    public enum Granularity {
+        MONTH("월", 1),
+        QUARTER("분기", 3),
+        YEAR("연", 12);
+
+        private final String description;
+        private final int months;
+
+        Granularity(String description, int months) {
+            this.description = description;
+            this.months = months;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * 기간 하나의 개월 수
+         */
+        public int getMonths() {
+            return months;
+        }
+    }
+}
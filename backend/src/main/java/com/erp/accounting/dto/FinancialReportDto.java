@@ -23,6 +23,7 @@ public record FinancialReportDto(
         FinancialReport.ReportStatus reportStatus,
         String reportData,
         String summaryData,
+        Integer snapshotVersion,
         BigDecimal totalAssets,
         BigDecimal totalLiabilities,
         BigDecimal totalEquity,
@@ -93,6 +94,7 @@ public record FinancialReportDto(
             report.getReportStatus(),
             report.getReportData(),
             report.getSummaryData(),
+            report.getSnapshotVersion(),
             report.getTotalAssets(),
             report.getTotalLiabilities(),
             report.getTotalEquity(),
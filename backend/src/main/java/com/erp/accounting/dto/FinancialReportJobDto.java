@@ -0,0 +1,72 @@
+package com.erp.accounting.dto;
+
+import com.erp.accounting.entity.FinancialReport;
+import com.erp.accounting.entity.FinancialReportJob;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 재무보고서 생성 작업 DTO
+ * 비동기 보고서 작업의 상태/진행률 조회 및 SSE 이벤트에 사용됩니다
+ */
+public record FinancialReportJobDto(
+        Long id,
+        Long companyId,
+        FinancialReport.ReportType reportType,
+        Integer fiscalYear,
+        String fiscalPeriod,
+        LocalDate startDate,
+        LocalDate endDate,
+        FinancialReportJob.JobStatus jobStatus,
+        Integer progress,
+        Long reportId,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime completedAt
+) {
+    public FinancialReportJobDto {
+        if (companyId == null) {
+            throw new IllegalArgumentException("회사 ID는 필수입니다");
+        }
+        if (reportType == null) {
+            throw new IllegalArgumentException("보고서 유형은 필수입니다");
+        }
+        if (jobStatus == null) {
+            jobStatus = FinancialReportJob.JobStatus.QUEUED;
+        }
+        if (progress == null) {
+            progress = 0;
+        }
+    }
+
+    /**
+     * 종료 상태 여부
+     */
+    public boolean finished() {
+        return jobStatus.isFinished();
+    }
+
+    /**
+     * 엔티티에서 DTO로 변환
+     */
+    public static FinancialReportJobDto from(FinancialReportJob job) {
+        return new FinancialReportJobDto(
+                job.getId(),
+                job.getCompany().getId(),
+                job.getReportType(),
+                job.getFiscalYear(),
+                job.getFiscalPeriod(),
+                job.getStartDate(),
+                job.getEndDate(),
+                job.getJobStatus(),
+                job.getProgress(),
+                job.getReportId(),
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getCompletedAt()
+        );
+    }
+}
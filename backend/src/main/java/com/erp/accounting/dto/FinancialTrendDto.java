@@ -0,0 +1,54 @@
+package com.erp.accounting.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 재무 트렌드 DTO
+ * 마감된 월별 잔액 스냅샷으로 계산한 기간별 재무 수치와 재무비율 시계열을 담는 DTO입니다
+ */
+public record FinancialTrendDto(
+        Long companyId,
+        ComparativeIncomeStatementDto.Granularity granularity,
+        Integer lastClosedYear,
+        Integer lastClosedMonth,
+        List<Point> points
+) {
+    public FinancialTrendDto {
+        if (companyId == null) {
+            throw new IllegalArgumentException("회사 ID는 필수입니다");
+        }
+        if (granularity == null) {
+            throw new IllegalArgumentException("기간 단위는 필수입니다");
+        }
+        if (points == null) {
+            points = List.of();
+        }
+    }
+
+    /**
+     * 기간별 재무 수치와 재무비율 (비율/증감률은 %, 유동비율은 배수)
+     */
+    public record Point(
+            String period,
+            BigDecimal currentAssets,
+            BigDecimal totalAssets,
+            BigDecimal currentLiabilities,
+            BigDecimal totalLiabilities,
+            BigDecimal totalEquity,
+            BigDecimal revenue,
+            BigDecimal operatingIncome,
+            BigDecimal netIncome,
+            BigDecimal currentRatio,
+            BigDecimal debtRatio,
+            BigDecimal equityRatio,
+            BigDecimal operatingMargin,
+            BigDecimal netMargin,
+            BigDecimal roa,
+            BigDecimal roe,
+            BigDecimal revenueGrowth,
+            BigDecimal netIncomeGrowth,
+            BigDecimal assetGrowth
+    ) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.erp.accounting.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 회계연도 마감 결과 DTO
+ * 연도 마감 처리 건수와 당기순이익을 담는 DTO입니다
+ */
+public record FiscalYearCloseResultDto(
+        Long companyId,
+        Integer fiscalYear,
+        Integer accountCount,
+        Integer snapshotCount,
+        Integer closingEntryCount,
+        Integer resetAccountCount,
+        BigDecimal netIncome
+) {
+    public FiscalYearCloseResultDto {
+        if (companyId == null) {
+            throw new IllegalArgumentException("회사 ID는 필수입니다");
+        }
+        if (fiscalYear == null) {
+            throw new IllegalArgumentException("회계연도는 필수입니다");
+        }
+        if (accountCount == null) {
+            accountCount = 0;
+        }
+        if (snapshotCount == null) {
+            snapshotCount = 0;
+        }
+        if (closingEntryCount == null) {
+            closingEntryCount = 0;
+        }
+        if (resetAccountCount == null) {
+            resetAccountCount = 0;
+        }
+        if (netIncome == null) {
+            netIncome = BigDecimal.ZERO;
+        }
+    }
+}
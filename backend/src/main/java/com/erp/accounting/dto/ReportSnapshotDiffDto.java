@@ -0,0 +1,63 @@
+package com.erp.accounting.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 재무보고서 스냅샷 비교 DTO
+ * 같은 보고서의 두 버전 사이에서 달라진 항목만 담는 DTO입니다
+ */
+public record ReportSnapshotDiffDto(
+        Long reportId,
+        Integer baseVersion,
+        Integer targetVersion,
+        Integer addedCount,
+        Integer removedCount,
+        Integer changedCount,
+        List<Line> lines
+) {
+    public ReportSnapshotDiffDto {
+        if (reportId == null) {
+            throw new IllegalArgumentException("보고서 ID는 필수입니다");
+        }
+        if (lines == null) {
+            lines = List.of();
+        }
+    }
+
+    /**
+     * 변경 항목 (기준/대상 버전 금액)
+     */
+    public record Line(
+            String itemCode,
+            String itemName,
+            ChangeType changeType,
+            BigDecimal baseDebitAmount,
+            BigDecimal targetDebitAmount,
+            BigDecimal baseCreditAmount,
+            BigDecimal targetCreditAmount,
+            BigDecimal baseBalance,
+            BigDecimal targetBalance,
+            BigDecimal balanceChange
+    ) {
+    }
+
+    /**
+     * 변경 구분
+     */
+    public enum ChangeType {
+        ADDED("추가"),
+        REMOVED("삭제"),
+        CHANGED("변경");
+
+        private final String description;
+
+        ChangeType(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
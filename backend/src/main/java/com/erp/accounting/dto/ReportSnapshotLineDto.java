@@ -0,0 +1,37 @@
+package com.erp.accounting.dto;
+
+import com.erp.accounting.entity.FinancialReportItem;
+
+import java.math.BigDecimal;
+
+/**
+ * 재무보고서 스냅샷 항목 DTO
+ * 생성 시점에 저장된 보고서 항목 한 줄을 그대로 다시 보여줄 때 사용됩니다
+ */
+public record ReportSnapshotLineDto(
+        Integer lineNumber,
+        String itemCode,
+        String itemName,
+        String accountType,
+        Integer itemLevel,
+        String parentItemCode,
+        FinancialReportItem.ItemType itemType,
+        BigDecimal debitAmount,
+        BigDecimal creditAmount,
+        BigDecimal balance
+) {
+    public ReportSnapshotLineDto {
+        if (lineNumber == null) {
+            throw new IllegalArgumentException("라인 번호는 필수입니다");
+        }
+        if (debitAmount == null) {
+            debitAmount = BigDecimal.ZERO;
+        }
+        if (creditAmount == null) {
+            creditAmount = BigDecimal.ZERO;
+        }
+        if (balance == null) {
+            balance = BigDecimal.ZERO;
+        }
+    }
+}
@@ -12,7 +12,10 @@ public record TrialBalanceDto(
         String accountType,
         BigDecimal debitAmount,
         BigDecimal creditAmount,
-        BigDecimal balance
+        BigDecimal balance,
+        Integer accountLevel,
+        String parentAccountCode,
+        Boolean leafAccount
 ) {
     public TrialBalanceDto {
         if (accountCode == null || accountCode.trim().isEmpty()) {
@@ -33,6 +36,12 @@ public record TrialBalanceDto(
         if (balance == null) {
             balance = BigDecimal.ZERO;
         }
+        if (accountLevel == null) {
+            accountLevel = 1;
+        }
+        if (leafAccount == null) {
+            leafAccount = true;
+        }
     }
 }
 
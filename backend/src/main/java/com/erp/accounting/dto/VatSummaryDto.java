@@ -0,0 +1,169 @@
+package com.erp.accounting.dto;
+
+import com.erp.accounting.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 부가가치세 신고 요약 DTO
+ * 신고 기간별 세금유형/거래처/세금계산서 집계와 매출·매입 세액 대사 결과를 담는 DTO입니다
+ */
+public record VatSummaryDto(
+        Long companyId,
+        Integer fiscalYear,
+        FilingPeriod filingPeriod,
+        LocalDate startDate,
+        LocalDate endDate,
+        List<TaxTypeSummary> taxTypes,
+        List<PartnerSummary> partners,
+        List<InvoiceSummary> invoices,
+        List<Reconciliation> reconciliations
+) {
+    public VatSummaryDto {
+        if (companyId == null) {
+            throw new IllegalArgumentException("회사 ID는 필수입니다");
+        }
+        if (fiscalYear == null) {
+            throw new IllegalArgumentException("회계연도는 필수입니다");
+        }
+        if (filingPeriod == null) {
+            throw new IllegalArgumentException("신고 기간은 필수입니다");
+        }
+        if (taxTypes == null) {
+            taxTypes = List.of();
+        }
+        if (partners == null) {
+            partners = List.of();
+        }
+        if (invoices == null) {
+            invoices = List.of();
+        }
+        if (reconciliations == null) {
+            reconciliations = List.of();
+        }
+    }
+
+    /**
+     * 세금유형별 집계
+     */
+    public record TaxTypeSummary(
+            Direction direction,
+            Transaction.TaxType taxType,
+            Long lineCount,
+            BigDecimal supplyAmount,
+            BigDecimal taxAmount
+    ) {
+    }
+
+    /**
+     * 거래처별 집계
+     */
+    public record PartnerSummary(
+            Direction direction,
+            String businessPartner,
+            Long lineCount,
+            Integer invoiceCount,
+            BigDecimal supplyAmount,
+            BigDecimal taxAmount
+    ) {
+    }
+
+    /**
+     * 세금계산서별 집계
+     */
+    public record InvoiceSummary(
+            Direction direction,
+            String taxInvoiceNumber,
+            String businessPartner,
+            Long lineCount,
+            BigDecimal supplyAmount,
+            BigDecimal taxAmount
+    ) {
+    }
+
+    /**
+     * 매출·매입 세액 대사
+     * 신고세액(거래별 세액 합계)을 세율 기준 예상세액, 부가세 전기액과 비교합니다
+     */
+    public record Reconciliation(
+            Direction direction,
+            BigDecimal taxableSupply,
+            BigDecimal declaredTax,
+            BigDecimal expectedTax,
+            BigDecimal postedTax,
+            BigDecimal expectedDifference,
+            BigDecimal postedDifference,
+            Long missingInvoiceLineCount,
+            Boolean balanced
+    ) {
+    }
+
+    /**
+     * 매출/매입 구분
+     */
+    public enum Direction {
+        SALES("매출"),
+        PURCHASE("매입"),
+        OTHER("기타");
+
+        private final String description;
+
+        Direction(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * 거래 유형별 구분 (매출/매입 외 거래는 기타)
+         */
+        public static Direction of(Transaction.TransactionType transactionType) {
+            if (transactionType == Transaction.TransactionType.SALES) {
+                return SALES;
+            }
+            if (transactionType == Transaction.TransactionType.PURCHASE) {
+                return PURCHASE;
+            }
+            return OTHER;
+        }
+    }
+
+    /**
+     * 부가가치세 신고 기간 (예정/확정 신고 분기, 과세기간 반기)
+     */
+    public enum FilingPeriod {
+        FIRST_PRELIMINARY("제1기 예정", 1, 3),
+        FIRST_FINAL("제1기 확정", 4, 6),
+        SECOND_PRELIMINARY("제2기 예정", 7, 9),
+        SECOND_FINAL("제2기 확정", 10, 12),
+        FIRST_HALF("제1기 과세기간", 1, 6),
+        SECOND_HALF("제2기 과세기간", 7, 12);
+
+        private final String description;
+        private final int startMonth;
+        private final int endMonth;
+
+        FilingPeriod(String description, int startMonth, int endMonth) {
+            this.description = description;
+            this.startMonth = startMonth;
+            this.endMonth = endMonth;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public LocalDate startDate(int fiscalYear) {
+            return LocalDate.of(fiscalYear, startMonth, 1);
+        }
+
+        public LocalDate endDate(int fiscalYear) {
+            return YearMonth.of(fiscalYear, endMonth).atEndOfMonth();
+        }
+    }
+}
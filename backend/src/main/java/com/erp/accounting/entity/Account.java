@@ -1,5 +1,6 @@
 package com.erp.accounting.entity;
 
+import com.erp.accounting.event.AccountChangeListener;
 import com.erp.common.entity.BaseEntity;
 import com.erp.common.entity.Company;
 import jakarta.persistence.*;
@@ -17,6 +18,7 @@ import java.util.List;
  * 회계 시스템의 계정과목을 관리합니다
  */
 @Entity
+@EntityListeners(AccountChangeListener.class)
 @Table(name = "accounts", indexes = {
     @Index(name = "idx_accounts_code", columnList = "account_code"),
     @Index(name = "idx_accounts_type", columnList = "account_type"),
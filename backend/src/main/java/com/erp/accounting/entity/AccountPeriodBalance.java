@@ -0,0 +1,81 @@
+package com.erp.accounting.entity;
+
+import com.erp.common.entity.BaseEntity;
+import com.erp.common.entity.Company;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 계정과목 월별 잔액 스냅샷 엔티티
+ * 회계연도 마감 시 계정과목별 월 합계와 월말 잔액을 기록합니다
+ */
+@Entity
+@Table(name = "account_period_balances", indexes = {
+    @Index(name = "idx_account_period_balances_company_period", columnList = "company_id, fiscal_year, fiscal_month"),
+    @Index(name = "idx_account_period_balances_account", columnList = "account_id")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_account_period_balances_account_period",
+                     columnNames = {"company_id", "account_id", "fiscal_year", "fiscal_month"})
+})
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountPeriodBalance extends BaseEntity {
+
+    /**
+     * 소속 회사
+     */
+    @NotNull(message = "소속 회사는 필수입니다")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false)
+    private Company company;
+
+    /**
+     * 계정과목
+     */
+    @NotNull(message = "계정과목은 필수입니다")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    /**
+     * 회계연도
+     */
+    @NotNull(message = "회계연도는 필수입니다")
+    @Column(name = "fiscal_year", nullable = false)
+    private Integer fiscalYear;
+
+    /**
+     * 회계월
+     */
+    @NotNull(message = "회계월은 필수입니다")
+    @Min(value = 1, message = "회계월은 1 이상이어야 합니다")
+    @Max(value = 12, message = "회계월은 12 이하여야 합니다")
+    @Column(name = "fiscal_month", nullable = false)
+    private Integer fiscalMonth;
+
+    /**
+     * 월 차변 합계
+     */
+    @Column(name = "debit_total", nullable = false, precision = 15, scale = 2)
+    private BigDecimal debitTotal = BigDecimal.ZERO;
+
+    /**
+     * 월 대변 합계
+     */
+    @Column(name = "credit_total", nullable = false, precision = 15, scale = 2)
+    private BigDecimal creditTotal = BigDecimal.ZERO;
+
+    /**
+     * 월말 잔액 (마감분개 반영 전)
+     */
+    @Column(name = "closing_balance", nullable = false, precision = 15, scale = 2)
+    private BigDecimal closingBalance = BigDecimal.ZERO;
+}
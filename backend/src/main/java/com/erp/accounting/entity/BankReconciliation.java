@@ -0,0 +1,99 @@
+package com.erp.accounting.entity;
+
+import com.erp.common.entity.BaseEntity;
+import com.erp.common.entity.Company;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 은행 거래내역 대사 엔티티
+ * 은행 거래내역서 한 건을 예금 계정 거래와 대사한 실행 결과 요약입니다
+ */
+@Entity
+@Table(name = "bank_reconciliations", indexes = {
+    @Index(name = "idx_bank_reconciliations_company", columnList = "company_id, bank_account_id, statement_start_date")
+})
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankReconciliation extends BaseEntity {
+
+    /**
+     * 소속 회사
+     */
+    @NotNull(message = "소속 회사는 필수입니다")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false)
+    private Company company;
+
+    /**
+     * 예금 계정과목
+     */
+    @NotNull(message = "예금 계정과목은 필수입니다")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "bank_account_id", nullable = false)
+    private Account bankAccount;
+
+    /**
+     * 거래내역서 시작일
+     */
+    @NotNull(message = "거래내역서 시작일은 필수입니다")
+    @Column(name = "statement_start_date", nullable = false)
+    private LocalDate statementStartDate;
+
+    /**
+     * 거래내역서 종료일
+     */
+    @NotNull(message = "거래내역서 종료일은 필수입니다")
+    @Column(name = "statement_end_date", nullable = false)
+    private LocalDate statementEndDate;
+
+    /**
+     * 거래내역서 파일명
+     */
+    @Column(name = "file_name", length = 200)
+    private String fileName;
+
+    /**
+     * 거래내역 행 수
+     */
+    @Column(name = "total_lines", nullable = false)
+    private Integer totalLines = 0;
+
+    /**
+     * 정확 일치 건수
+     */
+    @Column(name = "exact_match_count", nullable = false)
+    private Integer exactMatchCount = 0;
+
+    /**
+     * 유사 일치 건수
+     */
+    @Column(name = "fuzzy_match_count", nullable = false)
+    private Integer fuzzyMatchCount = 0;
+
+    /**
+     * 미대사 거래내역 행 수
+     */
+    @Column(name = "unmatched_line_count", nullable = false)
+    private Integer unmatchedLineCount = 0;
+
+    /**
+     * 미대사 장부 거래 수
+     */
+    @Column(name = "unmatched_transaction_count", nullable = false)
+    private Integer unmatchedTransactionCount = 0;
+
+    /**
+     * 형식 오류로 건너뛴 행 수
+     */
+    @Column(name = "invalid_line_count", nullable = false)
+    private Integer invalidLineCount = 0;
+}
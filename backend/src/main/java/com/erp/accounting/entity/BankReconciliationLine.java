@@ -0,0 +1,116 @@
+package com.erp.accounting.entity;
+
+import com.erp.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 은행 거래내역 대사 행 엔티티
+ * 거래내역서 행별 대사 결과(일치한 장부 거래, 일치 유형, 점수)를 기록합니다
+ * 대량 저장은 JDBC 배치로 처리합니다
+ */
+@Entity
+@Table(name = "bank_reconciliation_lines", indexes = {
+    @Index(name = "idx_bank_reconciliation_lines_reconciliation", columnList = "reconciliation_id, match_type"),
+    @Index(name = "idx_bank_reconciliation_lines_transaction", columnList = "transaction_id")
+})
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BankReconciliationLine extends BaseEntity {
+
+    /**
+     * 대사 실행
+     */
+    @NotNull(message = "대사 실행은 필수입니다")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reconciliation_id", nullable = false)
+    private BankReconciliation reconciliation;
+
+    /**
+     * 회사 ID
+     */
+    @NotNull(message = "회사 ID는 필수입니다")
+    @Column(name = "company_id", nullable = false)
+    private Long companyId;
+
+    /**
+     * 거래내역서 행 번호
+     */
+    @NotNull(message = "행 번호는 필수입니다")
+    @Column(name = "line_number", nullable = false)
+    private Integer lineNumber;
+
+    /**
+     * 거래일자
+     */
+    @NotNull(message = "거래일자는 필수입니다")
+    @Column(name = "statement_date", nullable = false)
+    private LocalDate statementDate;
+
+    /**
+     * 금액 (입금 +, 출금 -)
+     */
+    @NotNull(message = "금액은 필수입니다")
+    @Column(name = "amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    /**
+     * 거래처 (입금자/수취인)
+     */
+    @Column(name = "counterparty", length = 100)
+    private String counterparty;
+
+    /**
+     * 적요
+     */
+    @Column(name = "description", length = 200)
+    private String description;
+
+    /**
+     * 일치한 장부 거래 ID (거래 테이블이 파티션 테이블이므로 FK 없이 보관)
+     */
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    /**
+     * 일치 유형
+     */
+    @NotNull(message = "일치 유형은 필수입니다")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "match_type", nullable = false, length = 20)
+    private MatchType matchType;
+
+    /**
+     * 일치 점수 (0 ~ 1)
+     */
+    @Column(name = "match_score", precision = 5, scale = 4)
+    private BigDecimal matchScore;
+
+    /**
+     * 일치 유형 열거형
+     */
+    public enum MatchType {
+        EXACT("정확 일치"),
+        FUZZY("유사 일치"),
+        UNMATCHED("미대사");
+
+        private final String description;
+
+        MatchType(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.erp.accounting.entity;
 
+import com.erp.accounting.event.BudgetChangeListener;
 import com.erp.common.entity.BaseEntity;
 import com.erp.common.entity.Company;
 import com.erp.hr.entity.Employee;
@@ -19,6 +20,7 @@ import java.util.List;
  * 회계연도별 예산 계획 및 관리를 담당합니다
  */
 @Entity
+@EntityListeners(BudgetChangeListener.class)
 @Table(name = "budgets", indexes = {
     @Index(name = "idx_budgets_company", columnList = "company_id"),
     @Index(name = "idx_budgets_account", columnList = "account_id"),
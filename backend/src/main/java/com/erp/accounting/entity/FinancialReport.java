@@ -106,6 +106,12 @@ public class FinancialReport extends BaseEntity {
     @Column(name = "summary_data", columnDefinition = "TEXT")
     private String summaryData;
 
+    /**
+     * 현재 항목 스냅샷 버전 (0: 항목 없음, 생성할 때마다 DB에서 1씩 증가하므로 엔티티로는 갱신하지 않음)
+     */
+    @Column(name = "snapshot_version", nullable = false, updatable = false)
+    private Integer snapshotVersion = 0;
+
     /**
      * 총 자산
      */
@@ -19,7 +19,8 @@ import java.math.BigDecimal;
     @Index(name = "idx_financial_report_items_report", columnList = "report_id"),
     @Index(name = "idx_financial_report_items_account", columnList = "account_id"),
     @Index(name = "idx_financial_report_items_line_number", columnList = "line_number"),
-    @Index(name = "idx_financial_report_items_parent", columnList = "parent_item_id")
+    @Index(name = "idx_financial_report_items_parent", columnList = "parent_item_id"),
+    @Index(name = "idx_financial_report_items_snapshot", columnList = "report_id, report_version, line_number")
 })
 @Data
 @EqualsAndHashCode(callSuper = true)
@@ -35,6 +36,13 @@ public class FinancialReportItem extends BaseEntity {
     @JoinColumn(name = "report_id", nullable = false)
     private FinancialReport report;
 
+    /**
+     * 스냅샷 버전 (보고서 생성 회차)
+     */
+    @NotNull(message = "스냅샷 버전은 필수입니다")
+    @Column(name = "report_version", nullable = false)
+    private Integer reportVersion = 1;
+
     /**
      * 계정과목 (해당하는 경우)
      */
@@ -88,6 +96,32 @@ public class FinancialReportItem extends BaseEntity {
     @JoinColumn(name = "parent_item_id")
     private FinancialReportItem parentItem;
 
+    /**
+     * 계정 유형 (생성 시점 기준)
+     */
+    @Size(max = 20, message = "계정 유형은 20자 이하여야 합니다")
+    @Column(name = "account_type", length = 20)
+    private String accountType;
+
+    /**
+     * 상위 항목 코드 (생성 시점 기준)
+     */
+    @Size(max = 50, message = "상위 항목 코드는 50자 이하여야 합니다")
+    @Column(name = "parent_item_code", length = 50)
+    private String parentItemCode;
+
+    /**
+     * 차변 금액
+     */
+    @Column(name = "debit_amount", precision = 15, scale = 2)
+    private BigDecimal debitAmount = BigDecimal.ZERO;
+
+    /**
+     * 대변 금액
+     */
+    @Column(name = "credit_amount", precision = 15, scale = 2)
+    private BigDecimal creditAmount = BigDecimal.ZERO;
+
     /**
      * 당기 금액
      */
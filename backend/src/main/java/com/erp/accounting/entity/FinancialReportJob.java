@@ -0,0 +1,149 @@
+package com.erp.accounting.entity;
+
+import com.erp.common.entity.BaseEntity;
+import com.erp.common.entity.Company;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 재무보고서 생성 작업 엔티티
+ * 비동기로 실행되는 보고서 생성 요청의 상태와 진행률을 보관합니다
+ */
+@Entity
+@Table(name = "financial_report_jobs", indexes = {
+    @Index(name = "idx_financial_report_jobs_key", columnList = "dedup_key, job_status"),
+    @Index(name = "idx_financial_report_jobs_company", columnList = "company_id, created_at")
+})
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class FinancialReportJob extends BaseEntity {
+
+    /**
+     * 소속 회사
+     */
+    @NotNull(message = "소속 회사는 필수입니다")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false)
+    private Company company;
+
+    /**
+     * 보고서 유형
+     */
+    @NotNull(message = "보고서 유형은 필수입니다")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "report_type", nullable = false, length = 30)
+    private FinancialReport.ReportType reportType;
+
+    /**
+     * 회계연도
+     */
+    @NotNull(message = "회계연도는 필수입니다")
+    @Column(name = "fiscal_year", nullable = false)
+    private Integer fiscalYear;
+
+    /**
+     * 회계기간
+     */
+    @NotNull(message = "회계기간은 필수입니다")
+    @Column(name = "fiscal_period", nullable = false, length = 20)
+    private String fiscalPeriod;
+
+    /**
+     * 보고 시작일
+     */
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    /**
+     * 보고 종료일 (재무상태표는 기준일)
+     */
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    /**
+     * 중복 요청 식별 키 (회사:유형:연도:기간)
+     */
+    @Column(name = "dedup_key", nullable = false, length = 100)
+    private String dedupKey;
+
+    /**
+     * 작업 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_status", nullable = false, length = 20)
+    private JobStatus jobStatus = JobStatus.QUEUED;
+
+    /**
+     * 진행률 (0~100)
+     */
+    @Column(name = "progress", nullable = false)
+    private Integer progress = 0;
+
+    /**
+     * 생성된 보고서 ID
+     */
+    @Column(name = "report_id")
+    private Long reportId;
+
+    /**
+     * 실패 사유
+     */
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    /**
+     * 실행 시작 시각
+     */
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * 완료 시각 (성공/실패)
+     */
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 작업 상태
+     */
+    public enum JobStatus {
+        QUEUED("대기"),
+        RUNNING("진행중"),
+        COMPLETED("완료"),
+        FAILED("실패");
+
+        private final String description;
+
+        JobStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * 종료 상태 여부
+         */
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED;
+        }
+    }
+
+    /**
+     * 중복 요청 식별 키 생성
+     */
+    public static String dedupKey(Long companyId, FinancialReport.ReportType reportType,
+                                  Integer fiscalYear, String fiscalPeriod) {
+        return companyId + ":" + reportType + ":" + fiscalYear + ":" + fiscalPeriod;
+    }
+}
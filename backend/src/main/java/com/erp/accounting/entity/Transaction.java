@@ -9,6 +9,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.Hibernate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -409,6 +410,8 @@ public class Transaction extends BaseEntity {
         reversingEntry.setDescription("수정분개 - " + this.description);
         reversingEntry.setFiscalYear(this.fiscalYear);
         reversingEntry.setFiscalMonth(this.fiscalMonth);
+        reversingEntry.setDepartmentInfo(this.departmentInfo); // 부서/프로젝트 예산 실적 차감용
+        reversingEntry.setProjectCode(this.projectCode);
         reversingEntry.setOriginalTransaction(this);
         
         return reversingEntry;
@@ -439,8 +442,9 @@ public class Transaction extends BaseEntity {
             throw new IllegalArgumentException("차변 또는 대변 금액을 입력해야 합니다");
         }
 
-        // 말단 계정과목만 거래 입력 가능
-        if (account != null && !account.isLeafAccount()) {
+        // 말단 계정과목만 거래 입력 가능 (서비스에서 계정과목 체계로 검증하므로 적재된 경우에만 확인)
+        if (account != null && Hibernate.isInitialized(account)
+                && Hibernate.isInitialized(account.getSubAccounts()) && !account.isLeafAccount()) {
             throw new IllegalArgumentException("말단 계정과목만 거래를 입력할 수 있습니다");
         }
     }
@@ -0,0 +1,40 @@
+package com.erp.accounting.event;
+
+import com.erp.accounting.entity.Account;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 계정과목 엔티티 리스너
+ * 계정과목 변경을 애플리케이션 이벤트로 발행합니다
+ */
+@RequiredArgsConstructor
+public class AccountChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Account account) {
+        publish(account, AccountChangedEvent.ChangeType.CREATED);
+    }
+
+    @PostUpdate
+    public void onUpdated(Account account) {
+        publish(account, AccountChangedEvent.ChangeType.UPDATED);
+    }
+
+    @PostRemove
+    public void onDeleted(Account account) {
+        publish(account, AccountChangedEvent.ChangeType.DELETED);
+    }
+
+    private void publish(Account account, AccountChangedEvent.ChangeType changeType) {
+        if (account.getCompany() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new AccountChangedEvent(account.getCompany().getId(), account, changeType));
+    }
+}
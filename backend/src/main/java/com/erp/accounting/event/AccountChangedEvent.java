@@ -0,0 +1,23 @@
+package com.erp.accounting.event;
+
+import com.erp.accounting.entity.Account;
+
+/**
+ * 계정과목 변경 이벤트
+ * 계정과목 생성/수정/삭제 시 발행되어 계정과목 체계 캐시를 갱신합니다
+ */
+public record AccountChangedEvent(
+        Long companyId,
+        Account account,
+        ChangeType changeType
+) {
+
+    /**
+     * 변경 유형
+     */
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
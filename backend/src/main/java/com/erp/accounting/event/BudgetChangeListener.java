@@ -0,0 +1,28 @@
+package com.erp.accounting.event;
+
+import com.erp.accounting.entity.Budget;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 예산 엔티티 리스너
+ * 예산 변경을 애플리케이션 이벤트로 발행합니다
+ */
+@RequiredArgsConstructor
+public class BudgetChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Budget budget) {
+        if (budget.getCompany() == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new BudgetChangedEvent(budget.getCompany().getId(), budget.getId()));
+    }
+}
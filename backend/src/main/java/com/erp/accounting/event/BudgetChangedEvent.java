@@ -0,0 +1,11 @@
+package com.erp.accounting.event;
+
+/**
+ * 예산 변경 이벤트
+ * 예산 생성/수정/삭제 시 발행되어 계정과목별 활성 예산 색인을 무효화합니다
+ */
+public record BudgetChangedEvent(
+        Long companyId,
+        Long budgetId
+) {
+}
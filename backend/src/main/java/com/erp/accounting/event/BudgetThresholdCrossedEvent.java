@@ -0,0 +1,18 @@
+package com.erp.accounting.event;
+
+import java.math.BigDecimal;
+
+/**
+ * 예산 기준선 도달 이벤트
+ * 실적 반영으로 예산 대비 실적률이 기준선(%)을 처음 넘으면 발행되어 커밋 후 알림을 생성합니다
+ */
+public record BudgetThresholdCrossedEvent(
+        Long companyId,
+        Long budgetId,
+        Long accountId,
+        Integer fiscalYear,
+        int thresholdPercent,
+        BigDecimal budgetAmount,
+        BigDecimal currentActual
+) {
+}
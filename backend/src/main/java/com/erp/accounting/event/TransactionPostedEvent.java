@@ -0,0 +1,21 @@
+package com.erp.accounting.event;
+
+import java.math.BigDecimal;
+
+/**
+ * 거래 전기 이벤트
+ * 거래가 전기되면 발행되어 예산 실적을 증분 반영합니다 (역분개 전기 시 금액은 음수)
+ *
+ * @param amount 계정과목 차대 구분 방향 기준 금액
+ */
+public record TransactionPostedEvent(
+        Long companyId,
+        Long transactionId,
+        Long accountId,
+        Integer fiscalYear,
+        Integer fiscalMonth,
+        String departmentCode,
+        String projectCode,
+        BigDecimal amount
+) {
+}
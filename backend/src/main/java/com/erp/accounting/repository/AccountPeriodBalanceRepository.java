@@ -0,0 +1,85 @@
+package com.erp.accounting.repository;
+
+import com.erp.accounting.entity.AccountPeriodBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 계정과목 월별 잔액 스냅샷 레포지토리
+ * 마감 시 기록된 월별 잔액에 대한 데이터베이스 접근을 담당합니다
+ */
+@Repository
+public interface AccountPeriodBalanceRepository extends JpaRepository<AccountPeriodBalance, Long> {
+
+    /**
+     * 회사별 회계연도/월 스냅샷 조회
+     */
+    @Query("SELECT b FROM AccountPeriodBalance b " +
+           "JOIN FETCH b.account a " +
+           "WHERE b.company.id = :companyId " +
+           "AND b.fiscalYear = :fiscalYear AND b.fiscalMonth = :fiscalMonth " +
+           "AND b.isDeleted = false " +
+           "ORDER BY a.accountType, a.sortOrder, a.accountCode")
+    List<AccountPeriodBalance> findByCompanyIdAndFiscalYearAndFiscalMonth(@Param("companyId") Long companyId,
+                                                                        @Param("fiscalYear") Integer fiscalYear,
+                                                                        @Param("fiscalMonth") Integer fiscalMonth);
+
+    /**
+     * 회사별 회계연도 스냅샷 존재 여부
+     */
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM AccountPeriodBalance b " +
+           "WHERE b.company.id = :companyId AND b.fiscalYear = :fiscalYear AND b.isDeleted = false")
+    boolean existsByCompanyIdAndFiscalYear(@Param("companyId") Long companyId,
+                                           @Param("fiscalYear") Integer fiscalYear);
+
+    /**
+     * 회사별 회계연도/월 계정과목별 월말 잔액 (다음 연도 마감의 기초잔액용)
+     * 결과: [계정 ID, 월말 잔액]
+     */
+    @Query("SELECT b.account.id, b.closingBalance FROM AccountPeriodBalance b " +
+           "WHERE b.company.id = :companyId " +
+           "AND b.fiscalYear = :fiscalYear AND b.fiscalMonth = :fiscalMonth " +
+           "AND b.isDeleted = false")
+    List<Object[]> getClosingBalancesByAccount(@Param("companyId") Long companyId,
+                                               @Param("fiscalYear") Integer fiscalYear,
+                                               @Param("fiscalMonth") Integer fiscalMonth);
+
+    /**
+     * 회사별 회계연도 스냅샷 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM AccountPeriodBalance b " +
+           "WHERE b.company.id = :companyId AND b.fiscalYear = :fiscalYear")
+    int deleteByCompanyIdAndFiscalYear(@Param("companyId") Long companyId,
+                                       @Param("fiscalYear") Integer fiscalYear);
+
+    /**
+     * 마지막 마감 월 인덱스 (연도 * 12 + 월 - 1, 스냅샷이 없으면 null)
+     */
+    @Query("SELECT MAX(b.fiscalYear * 12 + b.fiscalMonth - 1) FROM AccountPeriodBalance b " +
+           "WHERE b.company.id = :companyId AND b.isDeleted = false")
+    Integer findLastClosedMonthIndex(@Param("companyId") Long companyId);
+
+    /**
+     * 월별/계정 분류별 스냅샷 합계 (재무 트렌드용, 단일 쿼리)
+     * 결과: [회계연도, 회계월, 계정 유형, 계정 분류, 차변 합계, 대변 합계, 월말 잔액 합계]
+     */
+    @Query(value = "SELECT b.fiscal_year, b.fiscal_month, a.account_type, a.account_category, " +
+                   "SUM(b.debit_total), SUM(b.credit_total), SUM(b.closing_balance) " +
+                   "FROM account_period_balances b " +
+                   "JOIN accounts a ON a.id = b.account_id " +
+                   "WHERE b.company_id = :companyId " +
+                   "AND b.fiscal_year BETWEEN :fromMonthIndex / 12 AND :toMonthIndex / 12 " +
+                   "AND b.fiscal_year * 12 + b.fiscal_month - 1 BETWEEN :fromMonthIndex AND :toMonthIndex " +
+                   "AND b.is_deleted = false " +
+                   "GROUP BY b.fiscal_year, b.fiscal_month, a.account_type, a.account_category",
+           nativeQuery = true)
+    List<Object[]> getTrendTotalsByMonth(@Param("companyId") Long companyId,
+                                         @Param("fromMonthIndex") Integer fromMonthIndex,
+                                         @Param("toMonthIndex") Integer toMonthIndex);
+}
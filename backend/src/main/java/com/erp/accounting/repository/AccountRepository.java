@@ -4,11 +4,13 @@ import com.erp.accounting.entity.Account;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -282,4 +284,26 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
            "WHERE a.company.id = :companyId AND a.accountType = 'EXPENSE' " +
            "AND a.trackBalance = true AND a.isDeleted = false")
     BigDecimal getTotalExpenseBalance(@Param("companyId") Long companyId);
+
+    /**
+     * 회사별 이익잉여금 계정 조회 (연도 마감 대체 계정)
+     */
+    @Query("SELECT a FROM Account a " +
+           "WHERE a.company.id = :companyId AND a.accountType = 'EQUITY' " +
+           "AND a.name LIKE '%이익잉여금%' " +
+           "AND a.isActive = true AND a.isDeleted = false " +
+           "AND NOT EXISTS (SELECT 1 FROM Account child WHERE child.parentAccount = a AND child.isDeleted = false) " +
+           "ORDER BY a.sortOrder, a.accountCode")
+    List<Account> findRetainedEarningsAccountsByCompanyId(@Param("companyId") Long companyId);
+
+    /**
+     * 회사별 계정과목 유형 잔액 일괄 초기화 (손익계정 마감용)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Account a SET " +
+           "a.debitBalance = 0, a.creditBalance = 0, a.currentBalance = 0 " +
+           "WHERE a.company.id = :companyId AND a.accountType IN :accountTypes " +
+           "AND a.isDeleted = false")
+    int resetBalancesByCompanyIdAndAccountTypes(@Param("companyId") Long companyId,
+                                                @Param("accountTypes") Collection<Account.AccountType> accountTypes);
 }
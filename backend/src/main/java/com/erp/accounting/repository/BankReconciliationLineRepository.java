@@ -0,0 +1,29 @@
+package com.erp.accounting.repository;
+
+import com.erp.accounting.entity.BankReconciliationLine;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 은행 거래내역 대사 행 레포지토리
+ * 행별 대사 결과 조회를 담당합니다 (대량 저장은 JDBC 배치 사용)
+ */
+@Repository
+public interface BankReconciliationLineRepository extends JpaRepository<BankReconciliationLine, Long> {
+
+    /**
+     * 대사 실행별 행 목록 (일치 유형 미지정 시 전체)
+     */
+    @Query("SELECT l FROM BankReconciliationLine l " +
+           "WHERE l.reconciliation.id = :reconciliationId " +
+           "AND (:matchType IS NULL OR l.matchType = :matchType) " +
+           "AND l.isDeleted = false " +
+           "ORDER BY l.lineNumber")
+    Page<BankReconciliationLine> findByReconciliationId(@Param("reconciliationId") Long reconciliationId,
+                                                        @Param("matchType") BankReconciliationLine.MatchType matchType,
+                                                        Pageable pageable);
+}
@@ -0,0 +1,64 @@
+package com.erp.accounting.repository;
+
+import com.erp.accounting.entity.BankReconciliation;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 은행 거래내역 대사 레포지토리
+ * 대사 실행 요약에 대한 데이터베이스 접근을 담당합니다
+ */
+@Repository
+public interface BankReconciliationRepository extends JpaRepository<BankReconciliation, Long> {
+
+    /**
+     * 대사 실행 조회 (회사, 예금 계정과목 포함)
+     */
+    @Query("SELECT r FROM BankReconciliation r " +
+           "JOIN FETCH r.company " +
+           "JOIN FETCH r.bankAccount " +
+           "WHERE r.id = :id AND r.isDeleted = false")
+    Optional<BankReconciliation> findWithAccountById(@Param("id") Long id);
+
+    /**
+     * 회사별 대사 실행 목록
+     */
+    @Query(value = "SELECT r FROM BankReconciliation r " +
+                   "JOIN FETCH r.company " +
+                   "JOIN FETCH r.bankAccount " +
+                   "WHERE r.company.id = :companyId AND r.isDeleted = false " +
+                   "ORDER BY r.createdAt DESC",
+           countQuery = "SELECT COUNT(r) FROM BankReconciliation r " +
+                        "WHERE r.company.id = :companyId AND r.isDeleted = false")
+    Page<BankReconciliation> findByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+
+    /**
+     * 대사 결과 건수 갱신
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE BankReconciliation r SET " +
+           "r.totalLines = :totalLines, " +
+           "r.exactMatchCount = :exactMatchCount, " +
+           "r.fuzzyMatchCount = :fuzzyMatchCount, " +
+           "r.unmatchedLineCount = :unmatchedLineCount, " +
+           "r.unmatchedTransactionCount = :unmatchedTransactionCount, " +
+           "r.invalidLineCount = :invalidLineCount, " +
+           "r.updatedAt = :updatedAt " +
+           "WHERE r.id = :id")
+    int updateCounts(@Param("id") Long id,
+                     @Param("totalLines") Integer totalLines,
+                     @Param("exactMatchCount") Integer exactMatchCount,
+                     @Param("fuzzyMatchCount") Integer fuzzyMatchCount,
+                     @Param("unmatchedLineCount") Integer unmatchedLineCount,
+                     @Param("unmatchedTransactionCount") Integer unmatchedTransactionCount,
+                     @Param("invalidLineCount") Integer invalidLineCount,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -4,6 +4,7 @@ import com.erp.accounting.entity.Budget;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,6 +20,35 @@ import java.util.Optional;
 @Repository
 public interface BudgetRepository extends JpaRepository<Budget, Long> {
 
+    /**
+     * 회계연도 예산별 실적 집계 (재계산/차이 보고서 공통)
+     * 전기된 거래를 (계정과목, 월, 부서, 프로젝트)로 한 번 집계한 뒤 예산의 기간/부서/프로젝트 조건으로 묶어
+     * 계정과목 차대 구분 방향의 실적을 구합니다 (결산분개 제외, 활성/마감 예산 대상)
+     */
+    String NATIVE_BUDGET_ACTUALS =
+        "WITH agg AS (" +
+        "SELECT t.account_id, t.fiscal_month, t.department_info, t.project_code, " +
+        "SUM(t.debit_amount) AS debit_total, SUM(t.credit_amount) AS credit_total " +
+        "FROM transactions t " +
+        "WHERE t.company_id = :companyId AND t.fiscal_year = :fiscalYear " +
+        "AND t.transaction_status = 'POSTED' AND t.transaction_type <> 'CLOSING' AND t.is_deleted = false " +
+        "GROUP BY t.account_id, t.fiscal_month, t.department_info, t.project_code" +
+        "), actual AS (" +
+        "SELECT b.id AS budget_id, COALESCE(SUM(CASE WHEN a.debit_credit_type = 'DEBIT' " +
+        "THEN g.debit_total - g.credit_total ELSE g.credit_total - g.debit_total END), 0) AS actual_amount " +
+        "FROM budgets b " +
+        "JOIN accounts a ON a.id = b.account_id " +
+        "LEFT JOIN agg g ON g.account_id = b.account_id " +
+        "AND (b.budget_period = 'ANNUAL' " +
+        "OR (b.budget_period = 'QUARTERLY' AND (b.period_number IS NULL OR (g.fiscal_month - 1) / 3 + 1 = b.period_number)) " +
+        "OR (b.budget_period = 'MONTHLY' AND (b.period_number IS NULL OR g.fiscal_month = b.period_number))) " +
+        "AND (b.department_code IS NULL OR g.department_info = b.department_code) " +
+        "AND (b.project_code IS NULL OR g.project_code = b.project_code) " +
+        "WHERE b.company_id = :companyId AND b.fiscal_year = :fiscalYear " +
+        "AND b.budget_status IN ('ACTIVE', 'CLOSED') AND b.is_deleted = false " +
+        "GROUP BY b.id" +
+        ") ";
+
     /**
      * 회사별 예산 목록 조회
      */
@@ -111,6 +141,65 @@ public interface BudgetRepository extends JpaRepository<Budget, Long> {
            "ORDER BY b.budgetPeriod, b.periodNumber, b.account.accountCode")
     List<Budget> findActiveBudgetsByCompanyId(@Param("companyId") Long companyId);
 
+    /**
+     * 활성 예산 실적 반영 대상 조회 (계정과목별 색인용)
+     * 결과: [예산 ID, 계정과목 ID, 회계연도, 예산 기간, 기간 번호, 부서 코드, 프로젝트 코드]
+     */
+    @Query("SELECT b.id, b.account.id, b.fiscalYear, b.budgetPeriod, b.periodNumber, " +
+           "b.departmentCode, b.projectCode " +
+           "FROM Budget b " +
+           "WHERE b.company.id = :companyId AND b.budgetStatus = 'ACTIVE' " +
+           "AND b.isDeleted = false")
+    List<Object[]> findActiveBudgetTargets(@Param("companyId") Long companyId);
+
+    /**
+     * 실적 재계산 대상 예산 잠금 (재계산 중 전기되는 거래의 증분 반영이 재계산 이후에 적용되도록)
+     */
+    @Query(value = "SELECT b.id FROM budgets b " +
+                   "WHERE b.company_id = :companyId AND b.fiscal_year = :fiscalYear " +
+                   "AND b.budget_status IN ('ACTIVE', 'CLOSED') AND b.is_deleted = false " +
+                   "FOR UPDATE",
+           nativeQuery = true)
+    List<Long> lockBudgetsForRecompute(@Param("companyId") Long companyId,
+                                       @Param("fiscalYear") Integer fiscalYear);
+
+    /**
+     * 회계연도 예산 실적 일괄 재계산 (단일 UPDATE)
+     * 실적률/차이율은 컬럼 정밀도(5,2) 범위로 제한합니다
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = NATIVE_BUDGET_ACTUALS +
+                   "UPDATE budgets b SET " +
+                   "current_actual = x.actual_amount, " +
+                   "variance_amount = x.actual_amount - b.budget_amount, " +
+                   "achievement_rate = CASE WHEN b.budget_amount > 0 " +
+                   "THEN LEAST(ROUND(x.actual_amount * 100 / b.budget_amount, 2), 999.99) ELSE 0 END, " +
+                   "variance_rate = CASE WHEN b.budget_amount > 0 " +
+                   "THEN GREATEST(LEAST(ROUND((x.actual_amount - b.budget_amount) * 100 / b.budget_amount, 2), " +
+                   "999.99), -999.99) ELSE 0 END, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "FROM actual x WHERE b.id = x.budget_id",
+           nativeQuery = true)
+    int recomputeActuals(@Param("companyId") Long companyId,
+                         @Param("fiscalYear") Integer fiscalYear);
+
+    /**
+     * 회계연도 예산 대비 실적 차이 조회 (재계산과 같은 집계)
+     * 결과: [예산 ID, 계정코드, 계정과목명, 예산 유형, 예산 기간, 기간 번호, 부서 코드, 프로젝트 코드, 예산 상태,
+     *       예산 금액, 집계 실적, 저장된 실적]
+     */
+    @Query(value = NATIVE_BUDGET_ACTUALS +
+                   "SELECT b.id, a.account_code, a.name, b.budget_type, b.budget_period, b.period_number, " +
+                   "b.department_code, b.project_code, b.budget_status, b.budget_amount, x.actual_amount, " +
+                   "COALESCE(b.current_actual, 0) " +
+                   "FROM actual x " +
+                   "JOIN budgets b ON b.id = x.budget_id " +
+                   "JOIN accounts a ON a.id = b.account_id " +
+                   "ORDER BY a.account_code, b.budget_period, b.period_number, b.id",
+           nativeQuery = true)
+    List<Object[]> getBudgetVarianceRows(@Param("companyId") Long companyId,
+                                         @Param("fiscalYear") Integer fiscalYear);
+
     /**
      * 승인 대기 중인 예산 조회
      */
@@ -0,0 +1,66 @@
+package com.erp.accounting.repository;
+
+import com.erp.accounting.dto.ReportSnapshotLineDto;
+import com.erp.accounting.entity.FinancialReportItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 재무보고서 항목 레포지토리
+ * 버전별 보고서 항목 스냅샷에 대한 데이터베이스 접근을 담당합니다
+ */
+@Repository
+public interface FinancialReportItemRepository extends JpaRepository<FinancialReportItem, Long> {
+
+    /**
+     * 스냅샷 항목 페이지 조회 (라인 번호 순)
+     */
+    @Query(value = "SELECT new com.erp.accounting.dto.ReportSnapshotLineDto(" +
+                   "i.lineNumber, i.itemCode, i.itemName, i.accountType, i.itemLevel, i.parentItemCode, " +
+                   "i.itemType, i.debitAmount, i.creditAmount, i.currentAmount) " +
+                   "FROM FinancialReportItem i " +
+                   "WHERE i.report.id = :reportId AND i.reportVersion = :version AND i.isDeleted = false " +
+                   "ORDER BY i.lineNumber",
+           countQuery = "SELECT COUNT(i) FROM FinancialReportItem i " +
+                        "WHERE i.report.id = :reportId AND i.reportVersion = :version AND i.isDeleted = false")
+    Page<ReportSnapshotLineDto> findSnapshotLines(@Param("reportId") Long reportId,
+                                                  @Param("version") Integer version,
+                                                  Pageable pageable);
+
+    /**
+     * 두 버전 간 변경 항목 (항목 코드 기준 완전 외부 조인, 달라진 행만)
+     * 결과: [항목 코드, 항목명, 기준 존재(1/0), 대상 존재(1/0), 기준 차변, 대상 차변, 기준 대변, 대상 대변, 기준 잔액, 대상 잔액]
+     */
+    @Query(value = "SELECT COALESCE(b.item_code, a.item_code), COALESCE(b.item_name, a.item_name), " +
+                   "CASE WHEN a.item_code IS NULL THEN 0 ELSE 1 END, " +
+                   "CASE WHEN b.item_code IS NULL THEN 0 ELSE 1 END, " +
+                   "a.debit_amount, b.debit_amount, a.credit_amount, b.credit_amount, " +
+                   "a.current_amount, b.current_amount " +
+                   "FROM (SELECT * FROM financial_report_items " +
+                   "WHERE report_id = :reportId AND report_version = :baseVersion AND is_deleted = false) a " +
+                   "FULL OUTER JOIN (SELECT * FROM financial_report_items " +
+                   "WHERE report_id = :reportId AND report_version = :targetVersion AND is_deleted = false) b " +
+                   "ON b.item_code = a.item_code " +
+                   "WHERE a.item_code IS NULL OR b.item_code IS NULL " +
+                   "OR a.debit_amount <> b.debit_amount OR a.credit_amount <> b.credit_amount " +
+                   "OR a.current_amount <> b.current_amount " +
+                   "ORDER BY COALESCE(b.line_number, a.line_number)",
+           nativeQuery = true)
+    List<Object[]> findSnapshotDifferences(@Param("reportId") Long reportId,
+                                           @Param("baseVersion") Integer baseVersion,
+                                           @Param("targetVersion") Integer targetVersion);
+
+    /**
+     * 오래된 스냅샷 버전 삭제 (지정 버전 이하)
+     */
+    @Modifying
+    @Query("DELETE FROM FinancialReportItem i WHERE i.report.id = :reportId AND i.reportVersion <= :version")
+    int deleteVersionsUpTo(@Param("reportId") Long reportId, @Param("version") Integer version);
+}
@@ -0,0 +1,85 @@
+package com.erp.accounting.repository;
+
+import com.erp.accounting.entity.FinancialReportJob;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 재무보고서 생성 작업 레포지토리
+ * 비동기 보고서 작업의 상태/진행률에 대한 데이터베이스 접근을 담당합니다
+ */
+@Repository
+public interface FinancialReportJobRepository extends JpaRepository<FinancialReportJob, Long> {
+
+    /**
+     * 회사별 작업 목록 (최근 순)
+     */
+    @Query(value = "SELECT j FROM FinancialReportJob j " +
+                   "WHERE j.company.id = :companyId AND j.isDeleted = false " +
+                   "ORDER BY j.createdAt DESC",
+           countQuery = "SELECT COUNT(j) FROM FinancialReportJob j " +
+                        "WHERE j.company.id = :companyId AND j.isDeleted = false")
+    Page<FinancialReportJob> findByCompanyId(@Param("companyId") Long companyId, Pageable pageable);
+
+    /**
+     * 작업 시작 (대기 상태인 경우에만)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FinancialReportJob j SET " +
+           "j.jobStatus = :status, j.progress = :progress, j.startedAt = :now, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.jobStatus = 'QUEUED'")
+    int markStarted(@Param("id") Long id,
+                    @Param("status") FinancialReportJob.JobStatus status,
+                    @Param("progress") Integer progress,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * 작업 완료
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FinancialReportJob j SET " +
+           "j.jobStatus = :status, j.progress = 100, j.reportId = :reportId, " +
+           "j.completedAt = :now, j.updatedAt = :now " +
+           "WHERE j.id = :id")
+    int markCompleted(@Param("id") Long id,
+                      @Param("status") FinancialReportJob.JobStatus status,
+                      @Param("reportId") Long reportId,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * 작업 실패
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FinancialReportJob j SET " +
+           "j.jobStatus = :status, j.errorMessage = :errorMessage, j.completedAt = :now, j.updatedAt = :now " +
+           "WHERE j.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("status") FinancialReportJob.JobStatus status,
+                   @Param("errorMessage") String errorMessage,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 미완료 작업 일괄 실패 처리 (서버 재시작 시 중단된 작업 정리)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE FinancialReportJob j SET " +
+           "j.jobStatus = :status, j.errorMessage = :errorMessage, j.completedAt = :now, j.updatedAt = :now " +
+           "WHERE j.jobStatus IN :statuses")
+    int failAll(@Param("statuses") Collection<FinancialReportJob.JobStatus> statuses,
+                @Param("status") FinancialReportJob.JobStatus status,
+                @Param("errorMessage") String errorMessage,
+                @Param("now") LocalDateTime now);
+}
@@ -19,6 +19,14 @@ import java.util.Optional;
 @Repository
 public interface FinancialReportRepository extends JpaRepository<FinancialReport, Long> {
 
+    /**
+     * 보고서 스냅샷 버전을 1 올리고 올린 버전 반환
+     * 행 잠금이 커밋까지 유지되므로 동시에 다시 생성해도 버전이 겹치지 않습니다
+     */
+    String NATIVE_NEXT_SNAPSHOT_VERSION =
+        "UPDATE financial_reports SET snapshot_version = snapshot_version + 1 " +
+        "WHERE id = ? RETURNING snapshot_version";
+
     /**
      * 회사별 재무보고서 목록 조회
      */
@@ -3,6 +3,7 @@ package com.erp.accounting.repository;
 import com.erp.accounting.entity.Transaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,6 +21,16 @@ import java.util.Optional;
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
+    /**
+     * 기간 조회의 회계연도 조건 (거래 테이블이 fiscal_year 범위 파티션이므로 파티션 프루닝용)
+     */
+    String FISCAL_YEAR_OF_PERIOD =
+        "AND t.fiscalYear BETWEEN CAST(YEAR(:startDate) AS Integer) AND CAST(YEAR(:endDate) AS Integer) ";
+
+    String NATIVE_FISCAL_YEAR_OF_PERIOD =
+        "AND t.fiscal_year BETWEEN CAST(EXTRACT(YEAR FROM CAST(:startDate AS date)) AS integer) " +
+        "AND CAST(EXTRACT(YEAR FROM CAST(:endDate AS date)) AS integer) ";
+
     /**
      * 거래번호로 조회
      */
@@ -61,6 +72,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
            "JOIN FETCH t.account a " +
            "LEFT JOIN FETCH t.inputBy ib " +
            "WHERE t.transactionDate BETWEEN :startDate AND :endDate " +
+           FISCAL_YEAR_OF_PERIOD +
            "AND t.isDeleted = false " +
            "ORDER BY t.transactionDate DESC, t.transactionNumber DESC")
     List<Transaction> findByTransactionDateBetween(@Param("startDate") LocalDate startDate, 
@@ -75,6 +87,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
            "LEFT JOIN FETCH t.inputBy ib " +
            "WHERE t.company.id = :companyId " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           FISCAL_YEAR_OF_PERIOD +
            "AND t.isDeleted = false " +
            "ORDER BY t.transactionDate DESC, t.transactionNumber DESC")
     List<Transaction> findByCompanyIdAndTransactionDateBetween(@Param("companyId") Long companyId,
@@ -181,6 +194,53 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
                                                 @Param("searchTerm") String searchTerm,
                                                 Pageable pageable);
 
+    /**
+     * 회사별 거래 목록 조회 (슬라이스, COUNT 쿼리 없음)
+     */
+    @Query("SELECT t FROM Transaction t " +
+           "JOIN FETCH t.company c " +
+           "JOIN FETCH t.account a " +
+           "LEFT JOIN FETCH t.inputBy ib " +
+           "WHERE t.company.id = :companyId AND t.isDeleted = false")
+    Slice<Transaction> findSliceByCompanyIdWithDetails(@Param("companyId") Long companyId, Pageable pageable);
+
+    /**
+     * 회사별 거래 검색 (슬라이스, COUNT 쿼리 없음)
+     */
+    @Query("SELECT t FROM Transaction t " +
+           "JOIN FETCH t.company c " +
+           "JOIN FETCH t.account a " +
+           "LEFT JOIN FETCH t.inputBy ib " +
+           "WHERE t.company.id = :companyId " +
+           "AND (t.transactionNumber LIKE %:searchTerm% " +
+           "OR t.description LIKE %:searchTerm% " +
+           "OR t.memo LIKE %:searchTerm% " +
+           "OR a.name LIKE %:searchTerm%) " +
+           "AND t.isDeleted = false")
+    Slice<Transaction> searchTransactionSliceByCompany(@Param("companyId") Long companyId,
+                                                       @Param("searchTerm") String searchTerm,
+                                                       Pageable pageable);
+
+    /**
+     * 회사별 거래 수
+     */
+    @Query("SELECT COUNT(t) FROM Transaction t WHERE t.company.id = :companyId AND t.isDeleted = false")
+    long countActiveByCompanyId(@Param("companyId") Long companyId);
+
+    /**
+     * 회사별 거래 검색 결과 수
+     */
+    @Query("SELECT COUNT(t) FROM Transaction t " +
+           "JOIN t.account a " +
+           "WHERE t.company.id = :companyId " +
+           "AND (t.transactionNumber LIKE %:searchTerm% " +
+           "OR t.description LIKE %:searchTerm% " +
+           "OR t.memo LIKE %:searchTerm% " +
+           "OR a.name LIKE %:searchTerm%) " +
+           "AND t.isDeleted = false")
+    long countSearchTransactionsByCompany(@Param("companyId") Long companyId,
+                                          @Param("searchTerm") String searchTerm);
+
     /**
      * 거래번호 중복 확인
      */
@@ -230,6 +290,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     @Query("SELECT COALESCE(SUM(t.debitAmount), 0) FROM Transaction t " +
            "WHERE t.account.id = :accountId " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           FISCAL_YEAR_OF_PERIOD +
            "AND t.transactionStatus = 'POSTED' " +
            "AND t.isDeleted = false")
     BigDecimal sumDebitAmountByAccountIdAndDateBetween(@Param("accountId") Long accountId,
@@ -242,6 +303,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     @Query("SELECT COALESCE(SUM(t.creditAmount), 0) FROM Transaction t " +
            "WHERE t.account.id = :accountId " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           FISCAL_YEAR_OF_PERIOD +
            "AND t.transactionStatus = 'POSTED' " +
            "AND t.isDeleted = false")
     BigDecimal sumCreditAmountByAccountIdAndDateBetween(@Param("accountId") Long accountId,
@@ -255,6 +317,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
            "FROM Transaction t " +
            "WHERE t.company.id = :companyId " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           FISCAL_YEAR_OF_PERIOD +
            "AND t.isDeleted = false " +
            "GROUP BY t.transactionDate " +
            "ORDER BY t.transactionDate")
@@ -282,6 +345,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
            "FROM Transaction t " +
            "WHERE t.company.id = :companyId " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           FISCAL_YEAR_OF_PERIOD +
            "AND t.isDeleted = false " +
            "GROUP BY t.transactionType")
     List<Object[]> getTransactionStatsByType(@Param("companyId") Long companyId,
@@ -305,6 +369,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
            "JOIN t.account a " +
            "WHERE t.company.id = :companyId " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           FISCAL_YEAR_OF_PERIOD +
            "AND t.isDeleted = false " +
            "GROUP BY a.id, a.name " +
            "ORDER BY COUNT(t) DESC")
@@ -320,6 +385,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
            "JOIN t.inputBy e " +
            "WHERE t.company.id = :companyId " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           FISCAL_YEAR_OF_PERIOD +
            "AND t.isDeleted = false " +
            "GROUP BY e.id, e.name " +
            "ORDER BY COUNT(t) DESC")
@@ -335,6 +401,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
            "JOIN FETCH t.account a " +
            "WHERE t.company.id = :companyId " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           FISCAL_YEAR_OF_PERIOD +
            "AND t.isDeleted = false " +
            "ORDER BY (t.debitAmount + t.creditAmount) DESC")
     List<Transaction> findTopTransactionsByAmount(@Param("companyId") Long companyId,
@@ -350,6 +417,7 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
            "FROM Account a " +
            "LEFT JOIN Transaction t ON t.account = a " +
            "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           FISCAL_YEAR_OF_PERIOD +
            "AND t.transactionStatus = 'POSTED' " +
            "AND t.isDeleted = false " +
            "WHERE a.company.id = :companyId AND a.trackBalance = true " +
@@ -359,4 +427,172 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     List<Object[]> getTrialBalanceData(@Param("companyId") Long companyId,
                                       @Param("startDate") LocalDate startDate,
                                       @Param("endDate") LocalDate endDate);
+
+    /**
+     * 계정과목별 기간 차대변 합계 (계층 시산표용)
+     * 결과: [계정 ID, 차변 합계, 대변 합계]
+     */
+    @Query("SELECT t.account.id, COALESCE(SUM(t.debitAmount), 0), COALESCE(SUM(t.creditAmount), 0) " +
+           "FROM Transaction t " +
+           "WHERE t.company.id = :companyId " +
+           "AND t.transactionDate BETWEEN :startDate AND :endDate " +
+           FISCAL_YEAR_OF_PERIOD +
+           "AND t.transactionStatus = 'POSTED' " +
+           "AND t.isDeleted = false " +
+           "GROUP BY t.account.id")
+    List<Object[]> getTrialBalanceTotalsByAccount(@Param("companyId") Long companyId,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
+    /**
+     * 회사별 회계연도 승인 대기 거래 건수
+     */
+    @Query("SELECT COUNT(t) FROM Transaction t " +
+           "WHERE t.company.id = :companyId AND t.fiscalYear = :fiscalYear " +
+           "AND t.transactionStatus = 'PENDING' AND t.isDeleted = false")
+    long countPendingTransactionsByCompanyAndFiscalYear(@Param("companyId") Long companyId,
+                                                       @Param("fiscalYear") Integer fiscalYear);
+
+    /**
+     * 회사별 회계연도 마감분개 존재 여부
+     */
+    @Query("SELECT CASE WHEN COUNT(t) > 0 THEN true ELSE false END FROM Transaction t " +
+           "WHERE t.company.id = :companyId AND t.fiscalYear = :fiscalYear " +
+           "AND t.transactionType = 'CLOSING' AND t.isDeleted = false")
+    boolean existsClosingEntriesByCompanyAndFiscalYear(@Param("companyId") Long companyId,
+                                                       @Param("fiscalYear") Integer fiscalYear);
+
+    /**
+     * 회계연도 이전 계정과목별 차대변 합계 (마감분개 포함, 이전 마감 스냅샷이 없을 때 연도 마감의 기초잔액 계산용)
+     * 결과: [계정 ID, 차변 합계, 대변 합계]
+     */
+    @Query("SELECT t.account.id, COALESCE(SUM(t.debitAmount), 0), COALESCE(SUM(t.creditAmount), 0) " +
+           "FROM Transaction t " +
+           "WHERE t.company.id = :companyId AND t.fiscalYear < :fiscalYear " +
+           "AND t.transactionStatus = 'POSTED' AND t.isDeleted = false " +
+           "GROUP BY t.account.id")
+    List<Object[]> getTotalsByAccountBeforeFiscalYear(@Param("companyId") Long companyId,
+                                                      @Param("fiscalYear") Integer fiscalYear);
+
+    /**
+     * 회계연도 마감분개 계정과목별 차대변 합계
+     * 결과: [계정 ID, 차변 합계, 대변 합계]
+     */
+    @Query("SELECT t.account.id, COALESCE(SUM(t.debitAmount), 0), COALESCE(SUM(t.creditAmount), 0) " +
+           "FROM Transaction t " +
+           "WHERE t.company.id = :companyId AND t.fiscalYear = :fiscalYear " +
+           "AND t.transactionType = 'CLOSING' AND t.transactionStatus = 'POSTED' AND t.isDeleted = false " +
+           "GROUP BY t.account.id")
+    List<Object[]> getClosingEntryTotalsByAccount(@Param("companyId") Long companyId,
+                                                  @Param("fiscalYear") Integer fiscalYear);
+
+    /**
+     * 회계연도 계정과목별/월별 차대변 합계 (연도 마감용 단일 집계)
+     * 결과: [계정 ID, 회계월, 차변 합계, 대변 합계], 계정 ID/회계월 순 정렬
+     */
+    @Query("SELECT t.account.id, t.fiscalMonth, " +
+           "COALESCE(SUM(t.debitAmount), 0), COALESCE(SUM(t.creditAmount), 0) " +
+           "FROM Transaction t " +
+           "WHERE t.company.id = :companyId AND t.fiscalYear = :fiscalYear " +
+           "AND t.transactionStatus = 'POSTED' AND t.transactionType <> 'CLOSING' " +
+           "AND t.isDeleted = false " +
+           "GROUP BY t.account.id, t.fiscalMonth " +
+           "ORDER BY t.account.id, t.fiscalMonth")
+    List<Object[]> getFiscalYearTotalsByAccountAndMonth(@Param("companyId") Long companyId,
+                                                        @Param("fiscalYear") Integer fiscalYear);
+
+    /**
+     * 거래 통계 단일 집계 (GROUPING SETS)
+     * 결과: [그룹 구분, 거래 유형, 거래 상태, 거래일자, 건수, 차변 합계, 대변 합계]
+     * 그룹 구분은 GROUPING(유형, 상태, 일자) 비트값입니다 (7: 전체, 3: 유형별, 5: 상태별, 6: 일자별)
+     */
+    @Query(value = "SELECT GROUPING(t.transaction_type, t.transaction_status, t.transaction_date) AS grouping_id, " +
+                   "t.transaction_type, t.transaction_status, t.transaction_date, " +
+                   "COUNT(*), COALESCE(SUM(t.debit_amount), 0), COALESCE(SUM(t.credit_amount), 0) " +
+                   "FROM transactions t " +
+                   "WHERE t.company_id = :companyId " +
+                   "AND t.transaction_date BETWEEN :startDate AND :endDate " +
+                   NATIVE_FISCAL_YEAR_OF_PERIOD +
+                   "AND t.is_deleted = false " +
+                   "GROUP BY GROUPING SETS ((), (t.transaction_type), (t.transaction_status), (t.transaction_date)) " +
+                   "ORDER BY grouping_id, t.transaction_date",
+           nativeQuery = true)
+    List<Object[]> getTransactionStatisticsGroupingSets(@Param("companyId") Long companyId,
+                                                        @Param("startDate") LocalDate startDate,
+                                                        @Param("endDate") LocalDate endDate);
+
+    /**
+     * 재무상태표 계정과목별 잔액 집계 (잔액 추적 자산/부채/자본 계정, 단일 쿼리)
+     * 결과: [계정 ID, 계정 유형, 계정 분류, 차대 구분, 계정명, 기초잔액, 차변 합계, 대변 합계]
+     */
+    @Query(value = "SELECT a.id, a.account_type, a.account_category, a.debit_credit_type, a.name, " +
+                   "COALESCE(a.opening_balance, 0), COALESCE(s.debit_total, 0), COALESCE(s.credit_total, 0) " +
+                   "FROM accounts a " +
+                   "LEFT JOIN (" +
+                   "SELECT t.account_id, SUM(t.debit_amount) AS debit_total, SUM(t.credit_amount) AS credit_total " +
+                   "FROM transactions t " +
+                   "WHERE t.company_id = :companyId " +
+                   "AND t.transaction_date BETWEEN :startDate AND :endDate " +
+                   NATIVE_FISCAL_YEAR_OF_PERIOD +
+                   "AND t.transaction_status = 'POSTED' AND t.is_deleted = false " +
+                   "GROUP BY t.account_id" +
+                   ") s ON s.account_id = a.id " +
+                   "WHERE a.company_id = :companyId AND a.track_balance = true AND a.is_deleted = false " +
+                   "AND a.account_type IN ('ASSET', 'LIABILITY', 'EQUITY')",
+           nativeQuery = true)
+    List<Object[]> getBalanceSheetBalances(@Param("companyId") Long companyId,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    /**
+     * 현금흐름표/자본변동표용 계정과목별 기간 전후 금액 집계 (결산분개 제외, 단일 쿼리)
+     * startDate는 연초, periodStartDate 이전 금액은 기초잔액 계산에, 이후 금액은 기간 증감에 사용합니다
+     * 결과: [계정 ID, 계정 유형, 계정 분류, 차대 구분, 계정명, 기초잔액, 기간 전 차변, 기간 전 대변, 기간 차변, 기간 대변]
+     */
+    @Query(value = "SELECT a.id, a.account_type, a.account_category, a.debit_credit_type, a.name, " +
+                   "COALESCE(a.opening_balance, 0), COALESCE(s.before_debit, 0), COALESCE(s.before_credit, 0), " +
+                   "COALESCE(s.period_debit, 0), COALESCE(s.period_credit, 0) " +
+                   "FROM accounts a " +
+                   "LEFT JOIN (" +
+                   "SELECT t.account_id, " +
+                   "SUM(CASE WHEN t.transaction_date < :periodStartDate THEN t.debit_amount ELSE 0 END) AS before_debit, " +
+                   "SUM(CASE WHEN t.transaction_date < :periodStartDate THEN t.credit_amount ELSE 0 END) AS before_credit, " +
+                   "SUM(CASE WHEN t.transaction_date >= :periodStartDate THEN t.debit_amount ELSE 0 END) AS period_debit, " +
+                   "SUM(CASE WHEN t.transaction_date >= :periodStartDate THEN t.credit_amount ELSE 0 END) AS period_credit " +
+                   "FROM transactions t " +
+                   "WHERE t.company_id = :companyId " +
+                   "AND t.transaction_date BETWEEN :startDate AND :endDate " +
+                   NATIVE_FISCAL_YEAR_OF_PERIOD +
+                   "AND t.transaction_status = 'POSTED' AND t.transaction_type <> 'CLOSING' " +
+                   "AND t.is_deleted = false " +
+                   "GROUP BY t.account_id" +
+                   ") s ON s.account_id = a.id " +
+                   "WHERE a.company_id = :companyId AND a.is_deleted = false " +
+                   "AND (a.track_balance = true OR a.account_type IN ('REVENUE', 'EXPENSE'))",
+           nativeQuery = true)
+    List<Object[]> getBalanceChangesByAccount(@Param("companyId") Long companyId,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("periodStartDate") LocalDate periodStartDate,
+                                              @Param("endDate") LocalDate endDate);
+
+    /**
+     * 손익계산서 계정 분류/월별 금액 집계 (수익/비용 계정, 결산분개 제외, 단일 쿼리)
+     * 결과: [계정 유형, 계정 분류, 법인세 여부(1/0), 회계연도, 회계월, 차변 합계, 대변 합계]
+     */
+    @Query(value = "SELECT a.account_type, a.account_category, " +
+                   "CASE WHEN a.name LIKE '%법인세%' THEN 1 ELSE 0 END AS income_tax, " +
+                   "t.fiscal_year, t.fiscal_month, SUM(t.debit_amount), SUM(t.credit_amount) " +
+                   "FROM transactions t " +
+                   "JOIN accounts a ON a.id = t.account_id " +
+                   "WHERE t.company_id = :companyId " +
+                   "AND t.transaction_date BETWEEN :startDate AND :endDate " +
+                   NATIVE_FISCAL_YEAR_OF_PERIOD +
+                   "AND t.transaction_status = 'POSTED' AND t.transaction_type <> 'CLOSING' " +
+                   "AND t.is_deleted = false " +
+                   "AND a.account_type IN ('REVENUE', 'EXPENSE') " +
+                   "GROUP BY a.account_type, a.account_category, income_tax, t.fiscal_year, t.fiscal_month",
+           nativeQuery = true)
+    List<Object[]> getIncomeStatementAmountsByMonth(@Param("companyId") Long companyId,
+                                                    @Param("startDate") LocalDate startDate,
+                                                    @Param("endDate") LocalDate endDate);
 }
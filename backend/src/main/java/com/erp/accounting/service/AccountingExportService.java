@@ -0,0 +1,37 @@
+package com.erp.accounting.service;
+
+import com.erp.common.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * 회계 장부 내보내기 서비스 인터페이스
+ * 총계정원장, 분개장, 시산표를 CSV/XLSX로 스트리밍 내보내기합니다
+ */
+public interface AccountingExportService {
+
+    /**
+     * 총계정원장 내보내기 (계정과목 미지정 시 전체 계정과목)
+     */
+    void exportGeneralLedger(Long companyId, Long accountId, LocalDate startDate, LocalDate endDate,
+                             ExportFormat format, OutputStream outputStream) throws IOException;
+
+    /**
+     * 분개장 내보내기
+     */
+    void exportJournal(Long companyId, LocalDate startDate, LocalDate endDate,
+                       ExportFormat format, OutputStream outputStream) throws IOException;
+
+    /**
+     * 시산표 내보내기
+     */
+    void exportTrialBalance(Long companyId, LocalDate startDate, LocalDate endDate,
+                            ExportFormat format, OutputStream outputStream) throws IOException;
+
+    /**
+     * 내보내기 기간 검증
+     */
+    void validatePeriod(LocalDate startDate, LocalDate endDate);
+}
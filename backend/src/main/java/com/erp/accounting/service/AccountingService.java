@@ -3,6 +3,8 @@ package com.erp.accounting.service;
 import com.erp.accounting.dto.*;
 import com.erp.accounting.entity.Account;
 import com.erp.accounting.entity.Transaction;
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -83,6 +85,11 @@ public interface AccountingService {
      */
     void closeFiscalYear(Long companyId, Integer fiscalYear);
 
+    /**
+     * 마감된 회계연도 거래 파티션 보관 (파티션 분리)
+     */
+    String archiveFiscalYear(Integer fiscalYear);
+
     /**
      * 대차평형 검증
      */
@@ -103,6 +110,12 @@ public interface AccountingService {
      */
     Page<TransactionDto> searchTransactionsByCompany(Long companyId, String searchTerm, Pageable pageable);
 
+    /**
+     * 회사별 거래 목록/검색 (슬라이스, 건수는 요청 시에만 조회)
+     */
+    ApiResponse.SliceResponse<TransactionDto> getTransactionSlice(Long companyId, String searchTerm,
+                                                                 Pageable pageable, CountMode countMode);
+
     /**
      * 거래 통계
      */
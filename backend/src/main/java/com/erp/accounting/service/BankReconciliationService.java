@@ -0,0 +1,42 @@
+package com.erp.accounting.service;
+
+import com.erp.accounting.dto.BankReconciliationLineDto;
+import com.erp.accounting.dto.BankReconciliationResultDto;
+import com.erp.accounting.entity.BankReconciliationLine;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+
+/**
+ * 은행 거래내역 대사 서비스 인터페이스
+ * 은행 거래내역서를 예금 계정의 은행 입출금 거래(BANK_RECEIPT, BANK_PAYMENT)와 대사합니다
+ */
+public interface BankReconciliationService {
+
+    /**
+     * 거래내역서 대사 실행
+     * 기간 내 미대사 은행 입출금 거래와 정확 일치 후 유사 일치 순으로 대사하고 결과를 저장합니다
+     */
+    BankReconciliationResultDto reconcile(Long companyId, Long bankAccountId, LocalDate startDate, LocalDate endDate,
+                                          String fileName, InputStream statement) throws IOException;
+
+    /**
+     * 대사 실행 요약 조회
+     */
+    BankReconciliationResultDto getReconciliation(Long reconciliationId);
+
+    /**
+     * 회사별 대사 실행 목록
+     */
+    Page<BankReconciliationResultDto> getReconciliations(Long companyId, Pageable pageable);
+
+    /**
+     * 대사 행 목록 (일치 유형 미지정 시 전체)
+     */
+    Page<BankReconciliationLineDto> getReconciliationLines(Long reconciliationId,
+                                                           BankReconciliationLine.MatchType matchType,
+                                                           Pageable pageable);
+}
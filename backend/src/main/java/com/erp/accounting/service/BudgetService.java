@@ -0,0 +1,22 @@
+package com.erp.accounting.service;
+
+import com.erp.accounting.dto.BudgetVarianceReportDto;
+
+/**
+ * 예산 서비스 인터페이스
+ * 예산 실적 재계산과 예산 대비 실적 차이 보고서를 제공합니다
+ */
+public interface BudgetService {
+
+    /**
+     * 회계연도 예산 실적 일괄 재계산 (소급 전기 반영 등)
+     *
+     * @return 갱신된 예산 수
+     */
+    int recomputeActuals(Long companyId, Integer fiscalYear);
+
+    /**
+     * 회계연도 예산 대비 실적 차이 보고서
+     */
+    BudgetVarianceReportDto getVarianceReport(Long companyId, Integer fiscalYear);
+}
@@ -0,0 +1,38 @@
+package com.erp.accounting.service;
+
+import com.erp.accounting.dto.FinancialReportJobDto;
+import com.erp.accounting.entity.FinancialReport;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+
+/**
+ * 재무보고서 생성 작업 서비스 인터페이스
+ * 보고서 생성을 비동기 작업으로 접수하고 진행 상태를 제공합니다
+ */
+public interface FinancialReportJobService {
+
+    /**
+     * 보고서 생성 작업 접수
+     * 같은 회사/유형/기간의 작업이 진행 중이면 새로 만들지 않고 그 작업을 반환합니다
+     */
+    FinancialReportJobDto submitJob(Long companyId, FinancialReport.ReportType reportType, Integer fiscalYear,
+                                    String fiscalPeriod, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 작업 조회
+     */
+    FinancialReportJobDto getJob(Long jobId);
+
+    /**
+     * 회사별 작업 목록
+     */
+    Page<FinancialReportJobDto> getJobsByCompany(Long companyId, Pageable pageable);
+
+    /**
+     * 작업 진행 상태 구독 (SSE)
+     */
+    SseEmitter subscribe(Long jobId);
+}
@@ -1,11 +1,14 @@
 package com.erp.accounting.service;
 
+import com.erp.accounting.dto.ComparativeIncomeStatementDto;
 import com.erp.accounting.dto.FinancialReportDto;
+import com.erp.accounting.dto.FinancialTrendDto;
 import com.erp.accounting.entity.FinancialReport;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +29,12 @@ public interface FinancialReportService {
     FinancialReportDto generateIncomeStatement(Long companyId, Integer fiscalYear, String fiscalPeriod, 
                                              LocalDate startDate, LocalDate endDate);
 
+    /**
+     * 비교 손익계산서 조회 (월/분기별 N개 기간)
+     */
+    ComparativeIncomeStatementDto getComparativeIncomeStatement(Long companyId, YearMonth startMonth, Integer periods,
+                                                                ComparativeIncomeStatementDto.Granularity granularity);
+
     /**
      * 현금흐름표 생성
      */
@@ -85,9 +94,10 @@ public interface FinancialReportService {
     Map<String, FinancialReportDto> getLatestFinancialStatements(Long companyId);
 
     /**
-     * 재무 트렌드 데이터 조회
+     * 재무 트렌드 조회 (마감된 월별 잔액 스냅샷 기준 N개 기간)
      */
-    Map<String, Object> getFinancialTrends(Long companyId, Integer periods);
+    FinancialTrendDto getFinancialTrends(Long companyId, Integer periods,
+                                         ComparativeIncomeStatementDto.Granularity granularity);
 
     /**
      * 재무비율 분석
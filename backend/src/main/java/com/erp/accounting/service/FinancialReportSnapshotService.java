@@ -0,0 +1,58 @@
+package com.erp.accounting.service;
+
+import com.erp.accounting.dto.ReportSnapshotDiffDto;
+import com.erp.accounting.dto.ReportSnapshotLineDto;
+import com.erp.accounting.dto.TrialBalanceDto;
+import com.erp.common.export.ExportFormat;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 재무보고서 스냅샷 서비스 인터페이스
+ * 생성 시점의 보고서 항목을 버전별로 저장하고, 조회/내보내기/비교는 저장된 항목만 읽습니다
+ */
+public interface FinancialReportSnapshotService {
+
+    /**
+     * 보고서의 다음 스냅샷 버전 할당 (보고서 행에서 원자적으로 증가)
+     */
+    int nextVersion(Long reportId);
+
+    /**
+     * 시산표 항목 스냅샷 저장 (일괄 저장, 오래된 버전 정리)
+     *
+     * @return 저장한 항목 수
+     */
+    int saveTrialBalanceSnapshot(Long reportId, int version, List<TrialBalanceDto> lines);
+
+    /**
+     * 계산된 보고서 항목 스냅샷 저장 (현금흐름표, 자본변동표 등)
+     *
+     * @return 저장한 항목 수
+     */
+    int saveSnapshotLines(Long reportId, int version, List<ReportSnapshotLineDto> lines);
+
+    /**
+     * 스냅샷 항목 페이지 조회 (버전 미지정 시 현재 버전)
+     */
+    Page<ReportSnapshotLineDto> getSnapshotLines(Long reportId, Integer version, Pageable pageable);
+
+    /**
+     * 스냅샷 항목 내보내기 (버전 미지정 시 현재 버전)
+     */
+    void exportSnapshot(Long reportId, Integer version, ExportFormat format, OutputStream outputStream) throws IOException;
+
+    /**
+     * 두 스냅샷 버전 비교 (대상 버전 미지정 시 현재 버전)
+     */
+    ReportSnapshotDiffDto compareVersions(Long reportId, Integer baseVersion, Integer targetVersion);
+
+    /**
+     * 조회할 스냅샷 버전 확인 (미지정 시 현재 버전, 보관 범위 밖이면 예외)
+     */
+    int resolveVersion(Long reportId, Integer version);
+}
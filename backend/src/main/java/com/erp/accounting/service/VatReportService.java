@@ -0,0 +1,30 @@
+package com.erp.accounting.service;
+
+import com.erp.accounting.dto.VatSummaryDto;
+import com.erp.common.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 부가가치세 신고 요약 서비스 인터페이스
+ * 신고 기간별 세금유형/거래처/세금계산서 집계와 매출·매입 세액 대사를 제공합니다
+ */
+public interface VatReportService {
+
+    /**
+     * 신고 기간 부가가치세 요약 조회
+     */
+    VatSummaryDto getVatSummary(Long companyId, Integer fiscalYear, VatSummaryDto.FilingPeriod filingPeriod);
+
+    /**
+     * 신고 기간 부가가치세 요약 내보내기
+     */
+    void exportVatSummary(Long companyId, Integer fiscalYear, VatSummaryDto.FilingPeriod filingPeriod,
+                          ExportFormat format, OutputStream outputStream) throws IOException;
+
+    /**
+     * 신고 기간 검증
+     */
+    void validateFilingPeriod(Long companyId, Integer fiscalYear, VatSummaryDto.FilingPeriod filingPeriod);
+}
@@ -0,0 +1,197 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.TrialBalanceDto;
+import com.erp.accounting.entity.Account;
+import com.erp.accounting.service.AccountingExportService;
+import com.erp.accounting.service.AccountingService;
+import com.erp.common.export.ExportFormat;
+import com.erp.common.export.ExportWriter;
+import com.erp.common.utils.ExceptionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회계 장부 내보내기 서비스 구현체
+ * 서버 측 커서(fetch size 지정)로 행을 읽어 엔티티를 만들지 않고 바로 작성기로 흘려보냅니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountingExportServiceImpl implements AccountingExportService {
+
+    /**
+     * 커서 fetch size (PostgreSQL은 트랜잭션 안에서 fetch size 지정 시 커서로 조회)
+     */
+    private static final int FETCH_SIZE = 2_000;
+
+    private static final String GENERAL_LEDGER_SQL =
+        "SELECT a.id, a.account_code, a.name, a.debit_credit_type, a.opening_balance, " +
+        "t.transaction_date, t.transaction_number, t.description, t.debit_amount, t.credit_amount " +
+        "FROM transactions t " +
+        "JOIN accounts a ON a.id = t.account_id " +
+        "WHERE t.company_id = ? AND t.transaction_date BETWEEN ? AND ? AND t.fiscal_year BETWEEN ? AND ? " +
+        "AND t.transaction_status = 'POSTED' AND t.is_deleted = false ";
+
+    private static final String GENERAL_LEDGER_ORDER =
+        "ORDER BY a.account_code, t.transaction_date, t.transaction_number, t.id";
+
+    private static final String JOURNAL_SQL =
+        "SELECT t.transaction_date, t.transaction_number, t.transaction_type, t.transaction_status, " +
+        "a.account_code, a.name, t.debit_amount, t.credit_amount, t.description, t.business_partner " +
+        "FROM transactions t " +
+        "JOIN accounts a ON a.id = t.account_id " +
+        "WHERE t.company_id = ? AND t.transaction_date BETWEEN ? AND ? AND t.fiscal_year BETWEEN ? AND ? " +
+        "AND t.is_deleted = false " +
+        "ORDER BY t.transaction_date, t.transaction_number, t.id";
+
+    private static final String[] JOURNAL_HEADERS = {
+        "거래일자", "거래번호", "거래유형", "거래상태", "계정코드", "계정과목명", "차변", "대변", "적요", "거래처"
+    };
+
+    private static final String[] TRIAL_BALANCE_HEADERS = {
+        "계정코드", "계정과목명", "계정유형", "레벨", "상위계정코드", "차변합계", "대변합계", "잔액"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountingService accountingService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportGeneralLedger(Long companyId, Long accountId, LocalDate startDate, LocalDate endDate,
+                                    ExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("총계정원장 내보내기 시작 - 회사: {}, 계정: {}, 기간: {} ~ {}, 형식: {}",
+                companyId, accountId, startDate, endDate, format);
+        validatePeriod(startDate, endDate);
+
+        List<Object> params = new ArrayList<>(periodParams(companyId, startDate, endDate));
+        if (accountId != null) {
+            params.add(accountId);
+        }
+        String sql = GENERAL_LEDGER_SQL + (accountId != null ? "AND t.account_id = ? " : "") + GENERAL_LEDGER_ORDER;
+
+        ExportWriter.write(format, outputStream, "총계정원장", writer -> {
+            GeneralLedgerExporter exporter = new GeneralLedgerExporter(writer);
+            streamRows(sql, params, rs -> {
+                try {
+                    exporter.accept(
+                        rs.getLong(1),
+                        rs.getString(2),
+                        rs.getString(3),
+                        Account.DebitCreditType.DEBIT.name().equals(rs.getString(4)),
+                        rs.getBigDecimal(5),
+                        rs.getDate(6).toLocalDate(),
+                        rs.getString(7),
+                        rs.getString(8),
+                        rs.getBigDecimal(9),
+                        rs.getBigDecimal(10));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("총계정원장 내보내기 완료 - 회사: {}, 행 수: {}", companyId, writer.getRowCount());
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportJournal(Long companyId, LocalDate startDate, LocalDate endDate,
+                              ExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("분개장 내보내기 시작 - 회사: {}, 기간: {} ~ {}, 형식: {}", companyId, startDate, endDate, format);
+        validatePeriod(startDate, endDate);
+
+        List<Object> params = periodParams(companyId, startDate, endDate);
+        ExportWriter.write(format, outputStream, "분개장", writer -> {
+            writer.writeHeader(JOURNAL_HEADERS);
+            Object[] row = new Object[JOURNAL_HEADERS.length];
+            streamRows(JOURNAL_SQL, params, rs -> {
+                row[0] = rs.getDate(1).toLocalDate();
+                row[1] = rs.getString(2);
+                row[2] = rs.getString(3);
+                row[3] = rs.getString(4);
+                row[4] = rs.getString(5);
+                row[5] = rs.getString(6);
+                row[6] = rs.getBigDecimal(7);
+                row[7] = rs.getBigDecimal(8);
+                row[8] = rs.getString(9);
+                row[9] = rs.getString(10);
+                try {
+                    writer.writeRow(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("분개장 내보내기 완료 - 회사: {}, 행 수: {}", companyId, writer.getRowCount());
+        });
+    }
+
+    @Override
+    public void exportTrialBalance(Long companyId, LocalDate startDate, LocalDate endDate,
+                                   ExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("시산표 내보내기 시작 - 회사: {}, 기간: {} ~ {}, 형식: {}", companyId, startDate, endDate, format);
+        validatePeriod(startDate, endDate);
+
+        // 시산표는 계정과목 수만큼의 행이므로 집계 결과를 그대로 사용
+        List<TrialBalanceDto> trialBalance = accountingService.generateTrialBalance(companyId, startDate, endDate);
+        ExportWriter.write(format, outputStream, "시산표", writer -> {
+            writer.writeHeader(TRIAL_BALANCE_HEADERS);
+            for (TrialBalanceDto item : trialBalance) {
+                writer.writeRow(item.accountCode(), item.accountName(), item.accountType(), item.accountLevel(),
+                    item.parentAccountCode(), item.debitAmount(), item.creditAmount(), item.balance());
+            }
+        });
+    }
+
+    @Override
+    public void validatePeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw ExceptionUtils.businessException("내보내기 기간은 필수입니다");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw ExceptionUtils.businessException("시작일은 종료일보다 이후일 수 없습니다");
+        }
+    }
+
+    /**
+     * 회사/기간 조건 파라미터 (회계연도 조건은 거래 파티션 프루닝용)
+     */
+    private List<Object> periodParams(Long companyId, LocalDate startDate, LocalDate endDate) {
+        return List.of(companyId, Date.valueOf(startDate), Date.valueOf(endDate),
+            startDate.getYear(), endDate.getYear());
+    }
+
+    /**
+     * 전진 전용 커서로 행 단위 처리
+     */
+    private void streamRows(String sql, List<Object> params, RowCallbackHandler handler) {
+        PreparedStatementCreator creator = connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        };
+        try {
+            jdbcTemplate.query(creator, handler);
+        } catch (UncheckedIOException e) {
+            log.warn("내보내기 스트림 중단: {}", e.getCause().getMessage());
+            throw e;
+        }
+    }
+}
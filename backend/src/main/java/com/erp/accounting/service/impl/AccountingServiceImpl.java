@@ -3,19 +3,29 @@ package com.erp.accounting.service.impl;
 import com.erp.accounting.dto.*;
 import com.erp.accounting.entity.Account;
 import com.erp.accounting.entity.Transaction;
+import com.erp.accounting.event.TransactionPostedEvent;
 import com.erp.accounting.repository.AccountRepository;
 import com.erp.accounting.repository.TransactionRepository;
 import com.erp.accounting.service.AccountingService;
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.common.entity.Company;
 import com.erp.common.repository.CompanyRepository;
+import com.erp.common.service.impl.ListCountCache;
 import com.erp.common.utils.ExceptionUtils;
+import com.erp.common.utils.MoneyUtils;
+import com.erp.common.utils.PageableUtils;
+import com.erp.config.TransactionPartitionManager;
 import com.erp.hr.entity.Employee;
 import com.erp.hr.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,10 +44,21 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class AccountingServiceImpl implements AccountingService {
 
+    /**
+     * 거래 슬라이스 기본 정렬 (거래일 최신순)
+     */
+    static final Sort DEFAULT_SLICE_SORT = Sort.by(Sort.Direction.DESC, "transactionDate");
+
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final CompanyRepository companyRepository;
     private final EmployeeRepository employeeRepository;
+    private final FiscalYearCloseEngine fiscalYearCloseEngine;
+    private final FinancialTrendCache financialTrendCache;
+    private final ChartOfAccountsCache chartOfAccountsCache;
+    private final TransactionPartitionManager transactionPartitionManager;
+    private final ListCountCache listCountCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 복식부기 거래 생성
@@ -127,8 +148,8 @@ public class AccountingServiceImpl implements AccountingService {
         Company company = companyRepository.findById(dto.companyId())
             .orElseThrow(() -> ExceptionUtils.entityNotFoundException("회사를 찾을 수 없습니다"));
 
-        Account account = accountRepository.findById(dto.accountId())
-            .orElseThrow(() -> ExceptionUtils.entityNotFoundException("계정과목을 찾을 수 없습니다"));
+        // 계정과목 검증 (계정과목 체계 캐시 사용, 조회 쿼리 없음)
+        Account account = getLeafAccountReference(dto.companyId(), dto.accountId());
 
         Employee inputBy = null;
         if (dto.inputById() != null) {
@@ -141,11 +162,6 @@ public class AccountingServiceImpl implements AccountingService {
             throw ExceptionUtils.duplicateException("이미 존재하는 거래번호입니다: " + dto.transactionNumber());
         }
 
-        // 말단 계정과목 검증
-        if (!account.isLeafAccount()) {
-            throw ExceptionUtils.businessException("말단 계정과목만 거래를 입력할 수 있습니다");
-        }
-
         // 거래 엔티티 생성
         Transaction transaction = new Transaction();
         transaction.setTransactionNumber(dto.transactionNumber());
@@ -193,13 +209,8 @@ public class AccountingServiceImpl implements AccountingService {
 
         // 계정과목 변경 시 검증
         if (!transaction.getAccount().getId().equals(dto.accountId())) {
-            Account newAccount = accountRepository.findById(dto.accountId())
-                .orElseThrow(() -> ExceptionUtils.entityNotFoundException("계정과목을 찾을 수 없습니다"));
-            
-            if (!newAccount.isLeafAccount()) {
-                throw ExceptionUtils.businessException("말단 계정과목만 거래를 입력할 수 있습니다");
-            }
-            
+            Account newAccount = getLeafAccountReference(
+                transaction.getCompany().getId(), dto.accountId());
             transaction.setAccount(newAccount);
         }
 
@@ -269,12 +280,33 @@ public class AccountingServiceImpl implements AccountingService {
 
         transaction.post();
         Transaction savedTransaction = transactionRepository.save(transaction);
+
+        // 예산 실적 증분 반영 (같은 트랜잭션, 역분개는 음수 금액)
+        eventPublisher.publishEvent(postedEvent(savedTransaction));
         
         log.info("거래 전기 완료 - ID: {}, 계정: {}", savedTransaction.getId(), 
                 savedTransaction.getAccount().getAccountName());
         return TransactionDto.from(savedTransaction);
     }
 
+    /**
+     * 전기된 거래의 예산 실적 반영 이벤트 (계정과목 차대 구분과 반대 방향이면 음수 금액)
+     */
+    static TransactionPostedEvent postedEvent(Transaction transaction) {
+        Account account = transaction.getAccount();
+        BigDecimal amount = transaction.getAmount();
+        boolean debitNormal = account.getDebitCreditType() == Account.DebitCreditType.DEBIT;
+        return new TransactionPostedEvent(
+            transaction.getCompany().getId(),
+            transaction.getId(),
+            account.getId(),
+            transaction.getFiscalYear(),
+            transaction.getFiscalMonth(),
+            transaction.getDepartmentInfo(),
+            transaction.getProjectCode(),
+            debitNormal == transaction.isDebitTransaction() ? amount : amount.negate());
+    }
+
     /**
      * 거래 취소
      */
@@ -400,27 +432,54 @@ public class AccountingServiceImpl implements AccountingService {
 
     /**
      * 시산표 생성
+     * 말단 계정 합계를 모든 상위 계정에 누적하여 계층별 소계를 포함합니다
      */
     @Override
     @Transactional(readOnly = true)
     public List<TrialBalanceDto> generateTrialBalance(Long companyId, LocalDate startDate, LocalDate endDate) {
         log.info("시산표 생성 시작 - 회사: {}, 기간: {} ~ {}", companyId, startDate, endDate);
 
-        List<Object[]> trialBalanceData = transactionRepository.getTrialBalanceData(companyId, startDate, endDate);
-
-        List<TrialBalanceDto> result = trialBalanceData.stream()
-            .map(data -> {
-                String accountCode = (String) data[0];
-                String accountName = (String) data[1];
-                String accountType = ((Account.AccountType) data[2]).name();
-                BigDecimal debitAmount = (BigDecimal) data[3];
-                BigDecimal creditAmount = (BigDecimal) data[4];
-                BigDecimal balance = debitAmount.subtract(creditAmount);
-
-                return new TrialBalanceDto(accountCode, accountName, accountType, 
-                                         debitAmount, creditAmount, balance);
-            })
-            .collect(Collectors.toList());
+        // 계정과목별 합계 1회 집계 후 계정과목 트리에 따라 상위 계정으로 누적
+        ChartOfAccounts chart = chartOfAccountsCache.get(companyId);
+        int size = chart.size();
+        long[] debits = new long[size];
+        long[] credits = new long[size];
+        for (Object[] row : transactionRepository.getTrialBalanceTotalsByAccount(companyId, startDate, endDate)) {
+            int index = chart.indexOf((Long) row[0]);
+            if (index < 0 || !chart.isTrackBalance(index)) {
+                continue;
+            }
+            debits[index] = MoneyUtils.toCents((BigDecimal) row[1]);
+            credits[index] = MoneyUtils.toCents((BigDecimal) row[2]);
+        }
+        chart.rollUp(debits);
+        chart.rollUp(credits);
+
+        // 전위 순회 순서로 행 생성 (잔액 추적하지 않는 말단 계정 제외)
+        List<TrialBalanceDto> result = new ArrayList<>(size);
+        for (int position = 0; position < size; position++) {
+            int index = chart.preOrderAt(position);
+            boolean leaf = chart.isLeaf(index);
+            if (leaf && !chart.isTrackBalance(index)) {
+                continue;
+            }
+            long balance = chart.isDebitNormal(index)
+                ? debits[index] - credits[index]
+                : credits[index] - debits[index];
+            int parent = chart.parent(index);
+
+            result.add(new TrialBalanceDto(
+                chart.code(index),
+                chart.name(index),
+                chart.type(index).name(),
+                MoneyUtils.fromCents(debits[index]),
+                MoneyUtils.fromCents(credits[index]),
+                MoneyUtils.fromCents(balance),
+                chart.level(index),
+                parent >= 0 ? chart.code(parent) : null,
+                leaf
+            ));
+        }
 
         log.info("시산표 생성 완료 - 계정 수: {}", result.size());
         return result;
@@ -503,30 +562,32 @@ public class AccountingServiceImpl implements AccountingService {
     public void closeFiscalYear(Long companyId, Integer fiscalYear) {
         log.info("회계연도 마감 시작 - 회사: {}, 연도: {}", companyId, fiscalYear);
 
-        // 모든 월 마감
-        for (int month = 1; month <= 12; month++) {
-            closeFiscalPeriod(companyId, fiscalYear, month);
-        }
+        // 연간 단일 집계 기반 마감 (월별 스냅샷, 마감분개, 손익계정 초기화)
+        FiscalYearCloseResultDto result = fiscalYearCloseEngine.close(companyId, fiscalYear, null);
+        financialTrendCache.evict(companyId);
 
-        // 손익 계정 마감 (이익잉여금으로 대체)
-        List<Account> revenueAccounts = accountRepository.findByAccountType(Account.AccountType.REVENUE);
-        List<Account> expenseAccounts = accountRepository.findByAccountType(Account.AccountType.EXPENSE);
+        log.info("회계연도 마감 완료 - 회사: {}, 연도: {}, 마감분개: {}, 당기순이익: {}",
+                companyId, fiscalYear, result.closingEntryCount(), result.netIncome());
+    }
 
-        for (Account account : revenueAccounts) {
-            if (account.getCompany().getId().equals(companyId)) {
-                account.resetBalance();
-                accountRepository.save(account);
-            }
-        }
+    /**
+     * 마감된 회계연도 거래 파티션 보관
+     */
+    @Override
+    public String archiveFiscalYear(Integer fiscalYear) {
+        log.info("회계연도 거래 보관 시작 - 연도: {}", fiscalYear);
 
-        for (Account account : expenseAccounts) {
-            if (account.getCompany().getId().equals(companyId)) {
-                account.resetBalance();
-                accountRepository.save(account);
-            }
+        if (fiscalYear == null) {
+            throw ExceptionUtils.businessException("회계연도는 필수입니다");
         }
 
-        log.info("회계연도 마감 완료 - 회사: {}, 연도: {}", companyId, fiscalYear);
+        try {
+            String archiveTable = transactionPartitionManager.detachPartition(fiscalYear);
+            log.info("회계연도 거래 보관 완료 - 연도: {}, 보관 테이블: {}", fiscalYear, archiveTable);
+            return archiveTable;
+        } catch (IllegalStateException e) {
+            throw ExceptionUtils.businessException(e.getMessage());
+        }
     }
 
     /**
@@ -578,6 +639,22 @@ public class AccountingServiceImpl implements AccountingService {
         return prefix + dateStr + sequence;
     }
 
+    /**
+     * 거래 입력 가능한 말단 계정과목 참조 반환
+     * 계정과목 체계 캐시로 검증하므로 계정과목 조회 쿼리가 발생하지 않습니다
+     */
+    private Account getLeafAccountReference(Long companyId, Long accountId) {
+        ChartOfAccounts chart = chartOfAccountsCache.get(companyId);
+        int index = chart.indexOf(accountId);
+        if (index < 0) {
+            throw ExceptionUtils.entityNotFoundException("계정과목을 찾을 수 없습니다");
+        }
+        if (!chart.isLeaf(index)) {
+            throw ExceptionUtils.businessException("말단 계정과목만 거래를 입력할 수 있습니다");
+        }
+        return accountRepository.getReferenceById(accountId);
+    }
+
     private String getTransactionPrefix(Transaction.TransactionType transactionType) {
         return switch (transactionType) {
             case JOURNAL -> "JE";
@@ -620,6 +697,29 @@ public class AccountingServiceImpl implements AccountingService {
         return new PageImpl<>(transactionDtos, pageable, transactions.getTotalElements());
     }
 
+    /**
+     * 회사별 거래 목록/검색 (슬라이스)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse.SliceResponse<TransactionDto> getTransactionSlice(Long companyId, String searchTerm,
+                                                                        Pageable pageable, CountMode countMode) {
+        boolean search = searchTerm != null && !searchTerm.isBlank();
+        Pageable ordered = PageableUtils.withStableOrder(pageable, DEFAULT_SLICE_SORT);
+        Slice<TransactionDto> transactions = (search
+            ? transactionRepository.searchTransactionSliceByCompany(companyId, searchTerm, ordered)
+            : transactionRepository.findSliceByCompanyIdWithDetails(companyId, ordered))
+            .map(TransactionDto::from);
+
+        Long totalElements = listCountCache.count(countMode,
+            "transactions:" + companyId + ":" + (search ? searchTerm : ""),
+            () -> search
+                ? transactionRepository.countSearchTransactionsByCompany(companyId, searchTerm)
+                : transactionRepository.countActiveByCompanyId(companyId));
+
+        return ApiResponse.SliceResponse.of(transactions, totalElements, countMode);
+    }
+
     /**
      * 거래 통계
      */
@@ -628,67 +728,13 @@ public class AccountingServiceImpl implements AccountingService {
     public TransactionStatisticsDto getTransactionStatistics(Long companyId, LocalDate startDate, LocalDate endDate) {
         log.info("거래 통계 조회 시작 - 회사: {}, 기간: {} ~ {}", companyId, startDate, endDate);
 
-        // 기본 통계
-        List<Transaction> transactions = transactionRepository.findByCompanyIdAndTransactionDateBetween(
+        // 전체/유형별/상태별/일자별 통계를 단일 GROUPING SETS 집계로 조회
+        List<Object[]> rows = transactionRepository.getTransactionStatisticsGroupingSets(
             companyId, startDate, endDate);
 
-        Long totalCount = (long) transactions.size();
-        BigDecimal totalAmount = transactions.stream()
-            .map(t -> t.getDebitAmount().add(t.getCreditAmount()))
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal totalDebit = transactions.stream()
-            .map(Transaction::getDebitAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal totalCredit = transactions.stream()
-            .map(Transaction::getCreditAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        TransactionStatisticsDto result = TransactionStatisticsAssembler.assemble(startDate, endDate, rows);
 
-        // 유형별 통계
-        Map<String, Long> countByType = transactions.stream()
-            .collect(Collectors.groupingBy(
-                t -> t.getTransactionType().name(),
-                Collectors.counting()));
-
-        Map<String, BigDecimal> amountByType = transactions.stream()
-            .collect(Collectors.groupingBy(
-                t -> t.getTransactionType().name(),
-                Collectors.reducing(BigDecimal.ZERO, 
-                    t -> t.getDebitAmount().add(t.getCreditAmount()),
-                    BigDecimal::add)));
-
-        // 상태별 통계
-        Map<String, Long> countByStatus = transactions.stream()
-            .collect(Collectors.groupingBy(
-                t -> t.getTransactionStatus().name(),
-                Collectors.counting()));
-
-        // 일별 통계
-        Map<String, Long> dailyCounts = transactions.stream()
-            .collect(Collectors.groupingBy(
-                t -> t.getTransactionDate().toString(),
-                Collectors.counting()));
-
-        Map<String, BigDecimal> dailyAmounts = transactions.stream()
-            .collect(Collectors.groupingBy(
-                t -> t.getTransactionDate().toString(),
-                Collectors.reducing(BigDecimal.ZERO,
-                    t -> t.getDebitAmount().add(t.getCreditAmount()),
-                    BigDecimal::add)));
-
-        log.info("거래 통계 조회 완료 - 총 거래 수: {}", totalCount);
-
-        return new TransactionStatisticsDto(
-            startDate,
-            endDate,
-            totalCount,
-            totalAmount,
-            totalDebit,
-            totalCredit,
-            countByType,
-            amountByType,
-            countByStatus,
-            dailyCounts,
-            dailyAmounts
-        );
+        log.info("거래 통계 조회 완료 - 총 거래 수: {}", result.totalTransactionCount());
+        return result;
     }
 }
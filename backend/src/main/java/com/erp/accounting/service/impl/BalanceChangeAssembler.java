@@ -0,0 +1,323 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.ReportSnapshotLineDto;
+import com.erp.accounting.entity.Account;
+import com.erp.accounting.entity.FinancialReport;
+import com.erp.accounting.entity.FinancialReportItem;
+import com.erp.common.utils.MoneyUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재무상태 변동 조립기
+ * 계정과목별 기초/기간 증감 집계 결과를 한 번의 순회로 간접법 현금흐름표와 자본변동표 항목(1/100 단위)에 누적합니다
+ * 결산분개를 제외한 기간 증감만 사용하므로 당기순이익은 수익/비용 계정에서, 나머지 현금흐름은 계정 분류별 잔액 변동에서 계산됩니다
+ */
+final class BalanceChangeAssembler {
+
+    /**
+     * 현금흐름 활동 구분
+     */
+    enum Section {
+        OPERATING("영업활동으로 인한 현금흐름"),
+        INVESTING("투자활동으로 인한 현금흐름"),
+        FINANCING("재무활동으로 인한 현금흐름");
+
+        private final String description;
+
+        Section(String description) {
+            this.description = description;
+        }
+
+        String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * 간접법 현금흐름 항목
+     */
+    enum CashFlowItem {
+        NET_INCOME(Section.OPERATING, "당기순이익"),
+        NON_CASH_EXPENSE(Section.OPERATING, "감가상각비 등 현금유출이 없는 비용의 가산"),
+        OPERATING_ASSET_CHANGE(Section.OPERATING, "영업활동 자산의 증감"),
+        OPERATING_LIABILITY_CHANGE(Section.OPERATING, "영업활동 부채의 증감"),
+        FIXED_ASSET_CHANGE(Section.INVESTING, "고정자산의 취득 및 처분"),
+        DEBT_CHANGE(Section.FINANCING, "장기부채의 증감"),
+        EQUITY_CHANGE(Section.FINANCING, "자본의 증감");
+
+        private final Section section;
+        private final String description;
+
+        CashFlowItem(Section section, String description) {
+            this.section = section;
+            this.description = description;
+        }
+    }
+
+    /**
+     * 자본 구성요소 (계정과목명 기준)
+     */
+    enum EquityComponent {
+        CAPITAL_STOCK("자본금"),
+        CAPITAL_SURPLUS("자본잉여금"),
+        RETAINED_EARNINGS("이익잉여금"),
+        OTHER_EQUITY("기타자본");
+
+        private final String description;
+
+        EquityComponent(String description) {
+            this.description = description;
+        }
+
+        static EquityComponent of(String name) {
+            if (name == null) {
+                return OTHER_EQUITY;
+            }
+            if (name.contains("이익잉여금")) {
+                return RETAINED_EARNINGS;
+            }
+            if (name.contains("자본잉여금")) {
+                return CAPITAL_SURPLUS;
+            }
+            if (name.contains("자본금")) {
+                return CAPITAL_STOCK;
+            }
+            return OTHER_EQUITY;
+        }
+    }
+
+    /**
+     * 계정 분류별 현금흐름 항목 매핑
+     * 현금성 자산과 상각누계액은 계정과목명으로 먼저 구분하고, 나머지는 이 표를 따릅니다
+     */
+    static final Map<Account.AccountCategory, CashFlowItem> CASH_FLOW_ITEMS;
+
+    static {
+        Map<Account.AccountCategory, CashFlowItem> items = new EnumMap<>(Account.AccountCategory.class);
+        items.put(Account.AccountCategory.CURRENT_ASSET, CashFlowItem.OPERATING_ASSET_CHANGE);
+        items.put(Account.AccountCategory.CURRENT_LIABILITY, CashFlowItem.OPERATING_LIABILITY_CHANGE);
+        items.put(Account.AccountCategory.FIXED_ASSET, CashFlowItem.FIXED_ASSET_CHANGE);
+        items.put(Account.AccountCategory.LONG_TERM_LIABILITY, CashFlowItem.DEBT_CHANGE);
+        items.put(Account.AccountCategory.CAPITAL, CashFlowItem.EQUITY_CHANGE);
+        items.put(Account.AccountCategory.OPERATING_REVENUE, CashFlowItem.NET_INCOME);
+        items.put(Account.AccountCategory.NON_OPERATING_REVENUE, CashFlowItem.NET_INCOME);
+        items.put(Account.AccountCategory.OPERATING_EXPENSE, CashFlowItem.NET_INCOME);
+        items.put(Account.AccountCategory.NON_OPERATING_EXPENSE, CashFlowItem.NET_INCOME);
+        CASH_FLOW_ITEMS = Collections.unmodifiableMap(items);
+    }
+
+    private final long[] cashFlows = new long[CashFlowItem.values().length];
+    private final long[] equityOpening = new long[EquityComponent.values().length];
+    private final long[] equityChanges = new long[EquityComponent.values().length];
+    private long cashOpening;
+    private long cashClosing;
+
+    /**
+     * 집계 행 목록 누적
+     * 행 구조: [계정 ID, 계정 유형, 계정 분류, 차대 구분, 계정명, 기초잔액, 기간 전 차변, 기간 전 대변, 기간 차변, 기간 대변]
+     */
+    BalanceChangeAssembler accept(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            accept(Account.AccountType.valueOf((String) row[1]),
+                Account.AccountCategory.valueOf((String) row[2]),
+                Account.DebitCreditType.DEBIT.name().equals(row[3]),
+                (String) row[4],
+                MoneyUtils.toCents((BigDecimal) row[5]),
+                MoneyUtils.toCents((BigDecimal) row[6]),
+                MoneyUtils.toCents((BigDecimal) row[7]),
+                MoneyUtils.toCents((BigDecimal) row[8]),
+                MoneyUtils.toCents((BigDecimal) row[9]));
+        }
+        return this;
+    }
+
+    /**
+     * 계정과목 1건 누적
+     * 현금흐름은 기간 대변 - 차변(현금 유입 방향)으로, 현금과 자본 잔액은 차대 구분에 맞춰 기초잔액을 부호화해 계산합니다
+     */
+    void accept(Account.AccountType type, Account.AccountCategory category, boolean debitNormal, String name,
+                long openingCents, long beforeDebitCents, long beforeCreditCents,
+                long periodDebitCents, long periodCreditCents) {
+        long inflow = periodCreditCents - periodDebitCents;
+        if (type == Account.AccountType.REVENUE || type == Account.AccountType.EXPENSE) {
+            cashFlows[CashFlowItem.NET_INCOME.ordinal()] += inflow;
+            return;
+        }
+
+        // 기초잔액은 차변 잔액을 양수로 통일
+        long openingDebit = (debitNormal ? openingCents : -openingCents) + beforeDebitCents - beforeCreditCents;
+        if (type == Account.AccountType.ASSET && category == Account.AccountCategory.CURRENT_ASSET
+                && BalanceSheetAssembler.isCashEquivalent(name)) {
+            cashOpening += openingDebit;
+            cashClosing += openingDebit - inflow;
+            return;
+        }
+
+        CashFlowItem item = isAccumulatedDepreciation(name)
+            ? CashFlowItem.NON_CASH_EXPENSE
+            : CASH_FLOW_ITEMS.get(category);
+        cashFlows[item.ordinal()] += inflow;
+
+        if (type == Account.AccountType.EQUITY) {
+            int component = EquityComponent.of(name).ordinal();
+            equityOpening[component] -= openingDebit;
+            equityChanges[component] += inflow;
+        }
+    }
+
+    /**
+     * 상각누계액 여부 (계정과목명 기준)
+     */
+    static boolean isAccumulatedDepreciation(String name) {
+        return name != null && name.contains("상각누계액");
+    }
+
+    long cashFlow(CashFlowItem item) {
+        return cashFlows[item.ordinal()];
+    }
+
+    long netIncome() {
+        return cashFlow(CashFlowItem.NET_INCOME);
+    }
+
+    long sectionTotal(Section section) {
+        long total = 0;
+        for (CashFlowItem item : CashFlowItem.values()) {
+            if (item.section == section) {
+                total += cashFlows[item.ordinal()];
+            }
+        }
+        return total;
+    }
+
+    long netCashChange() {
+        long total = 0;
+        for (long amount : cashFlows) {
+            total += amount;
+        }
+        return total;
+    }
+
+    long cashOpening() {
+        return cashOpening;
+    }
+
+    long cashClosing() {
+        return cashClosing;
+    }
+
+    /**
+     * 자본 구성요소 기말잔액 (당기순이익은 이익잉여금에 반영)
+     */
+    long equityClosing(EquityComponent component) {
+        long closing = equityOpening[component.ordinal()] + equityChanges[component.ordinal()];
+        return component == EquityComponent.RETAINED_EARNINGS ? closing + netIncome() : closing;
+    }
+
+    long totalEquityClosing() {
+        long total = 0;
+        for (EquityComponent component : EquityComponent.values()) {
+            total += equityClosing(component);
+        }
+        return total;
+    }
+
+    /**
+     * 현금흐름표 요약 필드 반영 (기말 현금, 당기순이익)
+     */
+    void applyCashFlowTo(FinancialReport report) {
+        report.setNetIncome(MoneyUtils.fromCents(netIncome()));
+        report.setCashAndEquivalents(MoneyUtils.fromCents(cashClosing));
+    }
+
+    /**
+     * 자본변동표 요약 필드 반영 (기말 자본총계, 당기순이익)
+     */
+    void applyEquityTo(FinancialReport report) {
+        report.setNetIncome(MoneyUtils.fromCents(netIncome()));
+        report.setTotalEquity(MoneyUtils.fromCents(totalEquityClosing()));
+    }
+
+    /**
+     * 간접법 현금흐름표 항목
+     * 활동별 소계, 현금 증감, 기초/기말 현금과 잔액 변동과의 차이(검증용)를 차례로 담습니다
+     */
+    List<ReportSnapshotLineDto> cashFlowLines() {
+        LineBuilder lines = new LineBuilder();
+        for (Section section : Section.values()) {
+            lines.add(section.name(), section.getDescription(), section.name(), 1, null,
+                FinancialReportItem.ItemType.SUBTOTAL, sectionTotal(section));
+            for (CashFlowItem item : CashFlowItem.values()) {
+                if (item.section == section) {
+                    lines.add(item.name(), item.description, section.name(), 2, section.name(),
+                        FinancialReportItem.ItemType.ACCOUNT, cashFlows[item.ordinal()]);
+                }
+            }
+        }
+        lines.add("NET_CASH_CHANGE", "현금의 증감", null, 1, null,
+            FinancialReportItem.ItemType.TOTAL, netCashChange());
+        lines.add("CASH_OPENING", "기초의 현금", null, 1, null,
+            FinancialReportItem.ItemType.CALCULATED, cashOpening);
+        lines.add("CASH_CLOSING", "기말의 현금", null, 1, null,
+            FinancialReportItem.ItemType.CALCULATED, cashClosing);
+        lines.add("UNRECONCILED", "현금 증감 검증 차이", null, 1, null,
+            FinancialReportItem.ItemType.CALCULATED, cashClosing - cashOpening - netCashChange());
+        return lines.lines;
+    }
+
+    /**
+     * 자본변동표 항목
+     * 구성요소별 기초잔액, 당기순이익, 기타 증감, 기말잔액과 자본총계를 담습니다
+     */
+    List<ReportSnapshotLineDto> equityLines() {
+        LineBuilder lines = new LineBuilder();
+        long totalOpening = 0;
+        long totalChanges = 0;
+        for (EquityComponent component : EquityComponent.values()) {
+            int index = component.ordinal();
+            String code = component.name();
+            long closing = equityClosing(component);
+            lines.add(code, component.description, Account.AccountType.EQUITY.name(), 1, null,
+                FinancialReportItem.ItemType.SUBTOTAL, closing);
+            lines.add(code + ".OPENING", "기초잔액", Account.AccountType.EQUITY.name(), 2, code,
+                FinancialReportItem.ItemType.ACCOUNT, equityOpening[index]);
+            if (component == EquityComponent.RETAINED_EARNINGS) {
+                lines.add(code + ".NET_INCOME", "당기순이익", Account.AccountType.EQUITY.name(), 2, code,
+                    FinancialReportItem.ItemType.ACCOUNT, netIncome());
+            }
+            lines.add(code + ".CHANGES", "기타 증감", Account.AccountType.EQUITY.name(), 2, code,
+                FinancialReportItem.ItemType.ACCOUNT, equityChanges[index]);
+            totalOpening += equityOpening[index];
+            totalChanges += equityChanges[index];
+        }
+        lines.add("TOTAL_OPENING", "기초 자본총계", null, 1, null,
+            FinancialReportItem.ItemType.CALCULATED, totalOpening);
+        lines.add("TOTAL_NET_INCOME", "당기순이익", null, 1, null,
+            FinancialReportItem.ItemType.CALCULATED, netIncome());
+        lines.add("TOTAL_CHANGES", "기타 증감", null, 1, null,
+            FinancialReportItem.ItemType.CALCULATED, totalChanges);
+        lines.add("TOTAL_CLOSING", "기말 자본총계", null, 1, null,
+            FinancialReportItem.ItemType.TOTAL, totalEquityClosing());
+        return lines.lines;
+    }
+
+    /**
+     * 라인 번호를 차례로 매기는 항목 목록
+     */
+    private static final class LineBuilder {
+
+        private final List<ReportSnapshotLineDto> lines = new ArrayList<>();
+
+        void add(String itemCode, String itemName, String accountType, int level, String parentItemCode,
+                 FinancialReportItem.ItemType itemType, long amountCents) {
+            lines.add(new ReportSnapshotLineDto(lines.size() + 1, itemCode, itemName, accountType, level,
+                parentItemCode, itemType, null, null, MoneyUtils.fromCents(amountCents)));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.entity.Account;
+import com.erp.accounting.entity.FinancialReport;
+import com.erp.common.utils.MoneyUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 재무상태표 조립기
+ * 계정과목별 잔액 집계 결과를 한 번의 순회로 유동/비유동, 현금성 자산까지 분류합니다
+ */
+final class BalanceSheetAssembler {
+
+    /**
+     * 합계 배열 인덱스
+     */
+    static final int TOTAL_ASSETS = 0;
+    static final int CURRENT_ASSETS = 1;
+    static final int NON_CURRENT_ASSETS = 2;
+    static final int TOTAL_LIABILITIES = 3;
+    static final int CURRENT_LIABILITIES = 4;
+    static final int NON_CURRENT_LIABILITIES = 5;
+    static final int TOTAL_EQUITY = 6;
+    static final int CASH_AND_EQUIVALENTS = 7;
+    static final int SIZE = 8;
+
+    private BalanceSheetAssembler() {
+    }
+
+    /**
+     * 집계 행 목록으로 합계 배열 생성 (1/100 단위)
+     * 행 구조: [계정 ID, 계정 유형, 계정 분류, 차대 구분, 계정명, 기초잔액, 차변 합계, 대변 합계]
+     */
+    static long[] assemble(List<Object[]> rows) {
+        long[] totals = new long[SIZE];
+        for (Object[] row : rows) {
+            accept(totals,
+                Account.AccountType.valueOf((String) row[1]),
+                Account.AccountCategory.valueOf((String) row[2]),
+                Account.DebitCreditType.DEBIT.name().equals(row[3]),
+                (String) row[4],
+                MoneyUtils.toCents((BigDecimal) row[5]),
+                MoneyUtils.toCents((BigDecimal) row[6]),
+                MoneyUtils.toCents((BigDecimal) row[7]));
+        }
+        return totals;
+    }
+
+    /**
+     * 계정과목 잔액 1건 분류 누적
+     * 잔액은 기초잔액에 차대 구분 방향으로 차변/대변 합계를 더한 값입니다
+     */
+    static void accept(long[] totals, Account.AccountType type, Account.AccountCategory category, boolean debitNormal,
+                       String name, long openingCents, long debitCents, long creditCents) {
+        long balance = openingCents + (debitNormal ? debitCents - creditCents : creditCents - debitCents);
+        switch (type) {
+            case ASSET -> {
+                totals[TOTAL_ASSETS] += balance;
+                if (category == Account.AccountCategory.CURRENT_ASSET) {
+                    totals[CURRENT_ASSETS] += balance;
+                    if (isCashEquivalent(name)) {
+                        totals[CASH_AND_EQUIVALENTS] += balance;
+                    }
+                } else {
+                    totals[NON_CURRENT_ASSETS] += balance;
+                }
+            }
+            case LIABILITY -> {
+                totals[TOTAL_LIABILITIES] += balance;
+                if (category == Account.AccountCategory.CURRENT_LIABILITY) {
+                    totals[CURRENT_LIABILITIES] += balance;
+                } else {
+                    totals[NON_CURRENT_LIABILITIES] += balance;
+                }
+            }
+            case EQUITY -> totals[TOTAL_EQUITY] += balance;
+            default -> {
+                // 수익/비용은 손익계산서 항목이므로 재무상태표에서는 제외
+            }
+        }
+    }
+
+    /**
+     * 현금성 자산 여부 (계정과목명 기준)
+     */
+    static boolean isCashEquivalent(String name) {
+        return name != null && (name.contains("현금") || name.contains("예금"));
+    }
+
+    /**
+     * 합계 배열을 재무상태표 보고서에 반영
+     */
+    static void applyTo(FinancialReport report, long[] totals) {
+        report.setTotalAssets(MoneyUtils.fromCents(totals[TOTAL_ASSETS]));
+        report.setCurrentAssets(MoneyUtils.fromCents(totals[CURRENT_ASSETS]));
+        report.setNonCurrentAssets(MoneyUtils.fromCents(totals[NON_CURRENT_ASSETS]));
+        report.setTotalLiabilities(MoneyUtils.fromCents(totals[TOTAL_LIABILITIES]));
+        report.setCurrentLiabilities(MoneyUtils.fromCents(totals[CURRENT_LIABILITIES]));
+        report.setNonCurrentLiabilities(MoneyUtils.fromCents(totals[NON_CURRENT_LIABILITIES]));
+        report.setTotalEquity(MoneyUtils.fromCents(totals[TOTAL_EQUITY]));
+        report.setCashAndEquivalents(MoneyUtils.fromCents(totals[CASH_AND_EQUIVALENTS]));
+    }
+}
@@ -0,0 +1,240 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.BankReconciliationLineDto;
+import com.erp.accounting.dto.BankReconciliationResultDto;
+import com.erp.accounting.entity.Account;
+import com.erp.accounting.entity.BankReconciliation;
+import com.erp.accounting.entity.BankReconciliationLine;
+import com.erp.accounting.repository.AccountRepository;
+import com.erp.accounting.repository.BankReconciliationLineRepository;
+import com.erp.accounting.repository.BankReconciliationRepository;
+import com.erp.accounting.service.BankReconciliationService;
+import com.erp.common.entity.Company;
+import com.erp.common.repository.CompanyRepository;
+import com.erp.common.utils.ExceptionUtils;
+import com.erp.common.utils.MoneyUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 은행 거래내역 대사 서비스 구현체
+ * 미대사 은행 입출금 거래를 커서로 읽어 메모리 인덱스를 만들고,
+ * 거래내역서를 한 행씩 읽으면서 정확 일치는 즉시, 나머지는 유사 일치로 대사한 뒤 결과를 JDBC 배치로 저장합니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BankReconciliationServiceImpl implements BankReconciliationService {
+
+    private static final int FETCH_SIZE = 2_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    /**
+     * 장부 거래 조회 시 거래내역서 기간 앞뒤로 넓히는 일수 (유사 일치 허용 일수)
+     */
+    private static final int PERIOD_MARGIN_DAYS = BankStatementMatcher.FUZZY_DAY_TOLERANCE;
+
+    /**
+     * 미대사 은행 입출금 거래 (예금 계정 기준 차변 = 입금, 대변 = 출금)
+     */
+    private static final String UNRECONCILED_SQL =
+        "SELECT t.id, t.transaction_date, t.debit_amount, t.credit_amount, t.business_partner " +
+        "FROM transactions t " +
+        "WHERE t.company_id = ? AND t.account_id = ? " +
+        "AND t.transaction_date BETWEEN ? AND ? AND t.fiscal_year BETWEEN ? AND ? " +
+        "AND t.transaction_type IN ('BANK_RECEIPT', 'BANK_PAYMENT') " +
+        "AND t.transaction_status = 'POSTED' AND t.is_deleted = false " +
+        "AND NOT EXISTS (SELECT 1 FROM bank_reconciliation_lines l " +
+        "WHERE l.transaction_id = t.id AND l.is_deleted = false) " +
+        "ORDER BY t.transaction_date, t.id";
+
+    private static final String INSERT_LINE_SQL =
+        "INSERT INTO bank_reconciliation_lines (reconciliation_id, company_id, line_number, statement_date, " +
+        "amount, counterparty, description, transaction_id, match_type, match_score, created_at, is_deleted) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+
+    private final BankReconciliationRepository bankReconciliationRepository;
+    private final BankReconciliationLineRepository bankReconciliationLineRepository;
+    private final AccountRepository accountRepository;
+    private final CompanyRepository companyRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public BankReconciliationResultDto reconcile(Long companyId, Long bankAccountId, LocalDate startDate,
+                                                 LocalDate endDate, String fileName, InputStream statement)
+            throws IOException {
+        log.info("은행 거래내역 대사 시작 - 회사: {}, 계정: {}, 기간: {} ~ {}, 파일: {}",
+                companyId, bankAccountId, startDate, endDate, fileName);
+        if (startDate == null || endDate == null) {
+            throw ExceptionUtils.businessException("거래내역서 기간은 필수입니다");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw ExceptionUtils.businessException("시작일은 종료일보다 이후일 수 없습니다");
+        }
+        Company company = companyRepository.findById(companyId)
+            .orElseThrow(() -> ExceptionUtils.entityNotFoundException("회사를 찾을 수 없습니다"));
+        Account bankAccount = accountRepository.findById(bankAccountId)
+            .orElseThrow(() -> ExceptionUtils.entityNotFoundException("예금 계정과목을 찾을 수 없습니다"));
+        if (!bankAccount.getCompany().getId().equals(companyId)) {
+            throw ExceptionUtils.businessException("다른 회사의 계정과목으로 대사할 수 없습니다");
+        }
+        if (bankAccount.getAccountType() != Account.AccountType.ASSET) {
+            throw ExceptionUtils.businessException("예금 계정과목은 자산 계정이어야 합니다: " + bankAccount.getAccountCode());
+        }
+
+        long started = System.nanoTime();
+        BankStatementMatcher matcher = loadUnreconciled(companyId, bankAccountId, startDate, endDate);
+
+        BankReconciliation reconciliation = new BankReconciliation();
+        reconciliation.setCompany(company);
+        reconciliation.setBankAccount(bankAccount);
+        reconciliation.setStatementStartDate(startDate);
+        reconciliation.setStatementEndDate(endDate);
+        reconciliation.setFileName(fileName);
+        reconciliation = bankReconciliationRepository.saveAndFlush(reconciliation);
+        Long reconciliationId = reconciliation.getId();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        List<BankStatementReader.StatementLine> pending = new ArrayList<>();
+        int exactCount = 0;
+        int fuzzyCount = 0;
+        int totalLines;
+        int invalidLines;
+
+        // 1단계: 정확 일치 (거래내역서를 읽으면서 바로 저장)
+        try (BankStatementReader reader = new BankStatementReader(statement)) {
+            BankStatementReader.StatementLine line;
+            while ((line = reader.next()) != null) {
+                int match = matcher.matchExact(line.date(), line.amountCents(), line.counterparty());
+                if (match == BankStatementMatcher.NO_MATCH) {
+                    pending.add(line);
+                    continue;
+                }
+                exactCount++;
+                batch.add(lineRow(reconciliationId, companyId, line, matcher.transactionId(match),
+                    BankReconciliationLine.MatchType.EXACT, BigDecimal.ONE, now));
+                flushIfFull(batch);
+            }
+            totalLines = reader.getLineNumber();
+            invalidLines = reader.getInvalidCount();
+        }
+
+        // 2단계: 유사 일치 (남은 행만, 같은 금액 후보를 제한된 수만큼 비교)
+        for (BankStatementReader.StatementLine line : pending) {
+            int match = matcher.matchFuzzy(line.date(), line.amountCents(), line.counterparty());
+            if (match == BankStatementMatcher.NO_MATCH) {
+                batch.add(lineRow(reconciliationId, companyId, line, null,
+                    BankReconciliationLine.MatchType.UNMATCHED, null, now));
+            } else {
+                fuzzyCount++;
+                batch.add(lineRow(reconciliationId, companyId, line, matcher.transactionId(match),
+                    BankReconciliationLine.MatchType.FUZZY,
+                    BigDecimal.valueOf(matcher.lastScore()).setScale(4, RoundingMode.HALF_UP), now));
+            }
+            flushIfFull(batch);
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_LINE_SQL, batch);
+        }
+
+        int unmatchedLines = pending.size() - fuzzyCount;
+        bankReconciliationRepository.updateCounts(reconciliationId, totalLines, exactCount, fuzzyCount,
+            unmatchedLines, matcher.unmatchedCount(), invalidLines, LocalDateTime.now());
+
+        log.info("은행 거래내역 대사 완료 - 대사: {}, 행: {}, 정확: {}, 유사: {}, 미대사 행: {}, 미대사 거래: {}, 오류 행: {}, {}ms",
+                reconciliationId, totalLines, exactCount, fuzzyCount, unmatchedLines, matcher.unmatchedCount(),
+                invalidLines, (System.nanoTime() - started) / 1_000_000);
+        return getReconciliation(reconciliationId);
+    }
+
+    @Override
+    public BankReconciliationResultDto getReconciliation(Long reconciliationId) {
+        return bankReconciliationRepository.findWithAccountById(reconciliationId)
+            .map(BankReconciliationResultDto::from)
+            .orElseThrow(() -> ExceptionUtils.entityNotFoundException("대사 내역을 찾을 수 없습니다"));
+    }
+
+    @Override
+    public Page<BankReconciliationResultDto> getReconciliations(Long companyId, Pageable pageable) {
+        return bankReconciliationRepository.findByCompanyId(companyId, pageable)
+            .map(BankReconciliationResultDto::from);
+    }
+
+    @Override
+    public Page<BankReconciliationLineDto> getReconciliationLines(Long reconciliationId,
+                                                                  BankReconciliationLine.MatchType matchType,
+                                                                  Pageable pageable) {
+        return bankReconciliationLineRepository.findByReconciliationId(reconciliationId, matchType, pageable)
+            .map(BankReconciliationLineDto::from);
+    }
+
+    /**
+     * 기간 내 미대사 은행 입출금 거래를 전진 전용 커서로 읽어 매처 구성
+     */
+    private BankStatementMatcher loadUnreconciled(Long companyId, Long bankAccountId,
+                                                  LocalDate startDate, LocalDate endDate) {
+        LocalDate from = startDate.minusDays(PERIOD_MARGIN_DAYS);
+        LocalDate to = endDate.plusDays(PERIOD_MARGIN_DAYS);
+        BankStatementMatcher matcher = new BankStatementMatcher(1_024);
+        PreparedStatementCreator creator = connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                UNRECONCILED_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, companyId);
+            statement.setLong(2, bankAccountId);
+            statement.setDate(3, Date.valueOf(from));
+            statement.setDate(4, Date.valueOf(to));
+            statement.setInt(5, from.getYear());
+            statement.setInt(6, to.getYear());
+            return statement;
+        };
+        jdbcTemplate.query(creator, rs -> {
+            matcher.add(
+                rs.getLong(1),
+                rs.getDate(2).toLocalDate(),
+                MoneyUtils.toCents(rs.getBigDecimal(3)) - MoneyUtils.toCents(rs.getBigDecimal(4)),
+                rs.getString(5));
+        });
+        log.info("미대사 은행 입출금 거래 적재 - 회사: {}, 계정: {}, 건수: {}", companyId, bankAccountId, matcher.size());
+        return matcher;
+    }
+
+    private Object[] lineRow(Long reconciliationId, Long companyId, BankStatementReader.StatementLine line,
+                             Long transactionId, BankReconciliationLine.MatchType matchType,
+                             BigDecimal matchScore, Timestamp now) {
+        return new Object[]{
+            reconciliationId, companyId, line.lineNumber(), Date.valueOf(line.date()),
+            MoneyUtils.fromCents(line.amountCents()), line.counterparty(), line.description(),
+            transactionId, matchType.name(), matchScore, now
+        };
+    }
+
+    private void flushIfFull(List<Object[]> batch) {
+        if (batch.size() >= BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(INSERT_LINE_SQL, batch);
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.erp.accounting.service.impl;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 은행 거래내역 대사 매처
+ * 미대사 장부 거래를 (금액, 날짜 구간, 거래처) 해시 인덱스로 보관하여 정확 일치는 O(1)로 찾고,
+ * 남은 행은 같은 금액 후보만 제한된 수만큼 살펴보는 유사 일치로 처리합니다
+ * 한 번 일치한 장부 거래는 다시 일치하지 않습니다
+ */
+final class BankStatementMatcher {
+
+    /**
+     * 일치 없음
+     */
+    static final int NO_MATCH = -1;
+
+    /**
+     * 정확 일치 허용 일수 (은행 반영일과 전표일 차이)
+     */
+    static final int EXACT_DAY_TOLERANCE = 2;
+
+    /**
+     * 날짜 구간 크기 (정확 일치 시 인접 구간까지 조회하므로 허용 일수보다 커야 함)
+     */
+    static final int BUCKET_DAYS = 3;
+
+    /**
+     * 유사 일치 허용 일수
+     */
+    static final int FUZZY_DAY_TOLERANCE = 7;
+
+    /**
+     * 유사 일치 시 점수를 계산할 최대 후보 수
+     */
+    static final int MAX_FUZZY_CANDIDATES = 32;
+
+    /**
+     * 유사 일치 시 금액 체인에서 방문할 최대 노드 수 (이미 일치한 거래 포함)
+     */
+    static final int MAX_FUZZY_VISITS = 256;
+
+    /**
+     * 유사 일치 최소 점수
+     */
+    static final double FUZZY_THRESHOLD = 0.6;
+
+    private long[] ids;
+    private long[] epochDays;
+    private String[] counterparties;
+    private boolean[] matched;
+    private int[] nextExact;
+    private int[] nextAmount;
+    private int size;
+    private int matchedCount;
+
+    private final Map<ExactKey, Integer> exactHeads;
+    private final Map<Long, Integer> amountHeads;
+
+    /**
+     * 마지막 유사 일치 점수
+     */
+    private double lastScore;
+
+    BankStatementMatcher(int expectedSize) {
+        int capacity = Math.max(expectedSize, 16);
+        this.ids = new long[capacity];
+        this.epochDays = new long[capacity];
+        this.counterparties = new String[capacity];
+        this.matched = new boolean[capacity];
+        this.nextExact = new int[capacity];
+        this.nextAmount = new int[capacity];
+        this.exactHeads = new HashMap<>(capacity * 2);
+        this.amountHeads = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 미대사 장부 거래 추가
+     */
+    void add(long transactionId, LocalDate date, long amountCents, String counterparty) {
+        if (size == ids.length) {
+            grow();
+        }
+        int index = size++;
+        long epochDay = date.toEpochDay();
+        String normalized = normalize(counterparty);
+        ids[index] = transactionId;
+        epochDays[index] = epochDay;
+        counterparties[index] = normalized;
+
+        if (!normalized.isEmpty()) {
+            ExactKey key = new ExactKey(amountCents, bucket(epochDay), normalized);
+            Integer head = exactHeads.put(key, index);
+            nextExact[index] = head != null ? head : NO_MATCH;
+        } else {
+            nextExact[index] = NO_MATCH;
+        }
+        Integer head = amountHeads.put(amountCents, index);
+        nextAmount[index] = head != null ? head : NO_MATCH;
+    }
+
+    /**
+     * 정확 일치 (같은 금액, 같은 거래처, 허용 일수 이내 중 가장 가까운 날짜)
+     *
+     * @return 일치한 장부 거래 인덱스, 없으면 -1
+     */
+    int matchExact(LocalDate date, long amountCents, String counterparty) {
+        String normalized = normalize(counterparty);
+        if (normalized.isEmpty()) {
+            return NO_MATCH;
+        }
+        long epochDay = date.toEpochDay();
+        long bucket = bucket(epochDay);
+        int best = NO_MATCH;
+        long bestDistance = Long.MAX_VALUE;
+        for (long b = bucket - 1; b <= bucket + 1; b++) {
+            Integer head = exactHeads.get(new ExactKey(amountCents, b, normalized));
+            for (int index = head != null ? head : NO_MATCH; index != NO_MATCH; index = nextExact[index]) {
+                if (matched[index]) {
+                    continue;
+                }
+                long distance = Math.abs(epochDays[index] - epochDay);
+                if (distance <= EXACT_DAY_TOLERANCE && (distance < bestDistance
+                        || (distance == bestDistance && index < best))) {
+                    best = index;
+                    bestDistance = distance;
+                }
+            }
+        }
+        if (best != NO_MATCH) {
+            markMatched(best);
+        }
+        return best;
+    }
+
+    /**
+     * 유사 일치 (같은 금액, 유사 일치 허용 일수 이내 후보 중 날짜/거래처 점수가 가장 높은 거래)
+     * 점수는 {@link #lastScore()}로 조회합니다
+     *
+     * @return 일치한 장부 거래 인덱스, 없으면 -1
+     */
+    int matchFuzzy(LocalDate date, long amountCents, String counterparty) {
+        lastScore = 0;
+        Integer head = amountHeads.get(amountCents);
+        if (head == null) {
+            return NO_MATCH;
+        }
+        String normalized = normalize(counterparty);
+        long epochDay = date.toEpochDay();
+        int best = NO_MATCH;
+        double bestScore = 0;
+        int candidates = 0;
+        int visits = 0;
+        for (int index = head; index != NO_MATCH && candidates < MAX_FUZZY_CANDIDATES && visits < MAX_FUZZY_VISITS;
+             index = nextAmount[index]) {
+            visits++;
+            if (matched[index]) {
+                continue;
+            }
+            long distance = Math.abs(epochDays[index] - epochDay);
+            if (distance > FUZZY_DAY_TOLERANCE) {
+                continue;
+            }
+            candidates++;
+            double score = score(distance, normalized, counterparties[index]);
+            if (score > bestScore) {
+                best = index;
+                bestScore = score;
+            }
+        }
+        if (best == NO_MATCH || bestScore < FUZZY_THRESHOLD) {
+            return NO_MATCH;
+        }
+        markMatched(best);
+        lastScore = bestScore;
+        return best;
+    }
+
+    /**
+     * 날짜 근접도와 거래처 유사도의 평균 (거래처가 없으면 거래처 점수는 0.5)
+     */
+    static double score(long dayDistance, String left, String right) {
+        double dateScore = 1.0 - (double) dayDistance / (FUZZY_DAY_TOLERANCE + 1);
+        double nameScore = left.isEmpty() || right.isEmpty() ? 0.5 : similarity(left, right);
+        return 0.5 * dateScore + 0.5 * nameScore;
+    }
+
+    /**
+     * 거래처명 유사도 (문자 2-gram Dice 계수)
+     */
+    static double similarity(String left, String right) {
+        if (left.equals(right)) {
+            return 1.0;
+        }
+        if (left.length() < 2 || right.length() < 2) {
+            return left.contains(right) || right.contains(left) ? 0.5 : 0.0;
+        }
+        int[] leftGrams = bigrams(left);
+        int[] rightGrams = bigrams(right);
+        int common = 0;
+        int i = 0;
+        int j = 0;
+        while (i < leftGrams.length && j < rightGrams.length) {
+            if (leftGrams[i] == rightGrams[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (leftGrams[i] < rightGrams[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return 2.0 * common / (leftGrams.length + rightGrams.length);
+    }
+
+    private static int[] bigrams(String value) {
+        int[] grams = new int[value.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (value.charAt(i) << 16) | value.charAt(i + 1);
+        }
+        Arrays.sort(grams);
+        return grams;
+    }
+
+    /**
+     * 거래처명 정규화 (법인 표기, 공백, 기호 제거 후 소문자)
+     */
+    static String normalize(String counterparty) {
+        if (counterparty == null || counterparty.isBlank()) {
+            return "";
+        }
+        String value = counterparty.toLowerCase()
+            .replace("주식회사", "")
+            .replace("(주)", "")
+            .replace("㈜", "");
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private void markMatched(int index) {
+        matched[index] = true;
+        matchedCount++;
+    }
+
+    private static long bucket(long epochDay) {
+        return Math.floorDiv(epochDay, BUCKET_DAYS);
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        counterparties = Arrays.copyOf(counterparties, capacity);
+        matched = Arrays.copyOf(matched, capacity);
+        nextExact = Arrays.copyOf(nextExact, capacity);
+        nextAmount = Arrays.copyOf(nextAmount, capacity);
+    }
+
+    double lastScore() {
+        return lastScore;
+    }
+
+    long transactionId(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int unmatchedCount() {
+        return size - matchedCount;
+    }
+
+    private record ExactKey(long amountCents, long bucket, String counterparty) {
+    }
+}
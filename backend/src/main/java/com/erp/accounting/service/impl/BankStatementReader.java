@@ -0,0 +1,205 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.common.utils.MoneyUtils;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvValidationException;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 은행 거래내역서 CSV 리더
+ * 파일 전체를 메모리에 올리지 않고 한 행씩 읽어 거래일자/금액/거래처를 추출합니다
+ * 금액은 단일 금액 열(입금 +, 출금 -) 또는 입금/출금 열을 모두 지원하며,
+ * 형식이 잘못된 행은 건너뛰고 건수만 집계합니다
+ */
+final class BankStatementReader implements Closeable {
+
+    private static final List<String> DATE_HEADERS = List.of("date", "거래일자", "거래일", "일자");
+    private static final List<String> AMOUNT_HEADERS = List.of("amount", "금액", "거래금액");
+    private static final List<String> DEPOSIT_HEADERS = List.of("deposit", "입금", "입금액");
+    private static final List<String> WITHDRAWAL_HEADERS = List.of("withdrawal", "출금", "출금액");
+    private static final List<String> COUNTERPARTY_HEADERS = List.of("counterparty", "거래처", "적요", "입금자", "받는분");
+    private static final List<String> DESCRIPTION_HEADERS = List.of("description", "내용", "메모", "비고");
+
+    private static final DateTimeFormatter[] DATE_FORMATS = {
+        DateTimeFormatter.ISO_LOCAL_DATE,
+        DateTimeFormatter.ofPattern("yyyy.MM.dd"),
+        DateTimeFormatter.ofPattern("yyyy/MM/dd"),
+        DateTimeFormatter.BASIC_ISO_DATE
+    };
+
+    private final CSVReader csvReader;
+    private final int dateColumn;
+    private final int amountColumn;
+    private final int depositColumn;
+    private final int withdrawalColumn;
+    private final int counterpartyColumn;
+    private final int descriptionColumn;
+    private int lineNumber;
+    private int invalidCount;
+
+    BankStatementReader(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.csvReader = new CSVReaderBuilder(reader).build();
+        String[] header = readRow();
+        if (header == null) {
+            throw new IllegalArgumentException("거래내역서가 비어 있습니다");
+        }
+        if (header.length > 0 && !header[0].isEmpty() && header[0].charAt(0) == '\uFEFF') {
+            header[0] = header[0].substring(1);
+        }
+        this.dateColumn = column(header, DATE_HEADERS);
+        this.amountColumn = column(header, AMOUNT_HEADERS);
+        this.depositColumn = column(header, DEPOSIT_HEADERS);
+        this.withdrawalColumn = column(header, WITHDRAWAL_HEADERS);
+        this.counterpartyColumn = column(header, COUNTERPARTY_HEADERS);
+        this.descriptionColumn = column(header, DESCRIPTION_HEADERS);
+        if (dateColumn < 0) {
+            throw new IllegalArgumentException("거래내역서에 거래일자 열이 없습니다");
+        }
+        if (amountColumn < 0 && depositColumn < 0 && withdrawalColumn < 0) {
+            throw new IllegalArgumentException("거래내역서에 금액 또는 입금/출금 열이 없습니다");
+        }
+    }
+
+    /**
+     * 다음 유효 행 (파일 끝이면 null)
+     */
+    StatementLine next() throws IOException {
+        String[] row;
+        while ((row = readRow()) != null) {
+            lineNumber++;
+            if (row.length == 1 && row[0].isBlank()) {
+                continue;
+            }
+            StatementLine line = parse(row);
+            if (line != null) {
+                return line;
+            }
+            invalidCount++;
+        }
+        return null;
+    }
+
+    private StatementLine parse(String[] row) {
+        LocalDate date = parseDate(cell(row, dateColumn));
+        if (date == null) {
+            return null;
+        }
+        Long amount;
+        if (amountColumn >= 0) {
+            amount = parseAmount(cell(row, amountColumn));
+        } else {
+            Long deposit = parseAmount(cell(row, depositColumn));
+            Long withdrawal = parseAmount(cell(row, withdrawalColumn));
+            amount = deposit == null && withdrawal == null ? null
+                : (deposit != null ? deposit : 0L) - (withdrawal != null ? Math.abs(withdrawal) : 0L);
+        }
+        if (amount == null || amount == 0L) {
+            return null;
+        }
+        return new StatementLine(lineNumber, date, amount,
+            truncate(cell(row, counterpartyColumn), 100), truncate(cell(row, descriptionColumn), 200));
+    }
+
+    static LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.length() > 10 ? value.substring(0, 10).trim() : value;
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(text, format);
+            } catch (DateTimeParseException ignored) {
+                // 다음 형식 시도
+            }
+        }
+        return null;
+    }
+
+    static Long parseAmount(String value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.replace(",", "").replace("원", "").trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return MoneyUtils.toCents(new BigDecimal(text));
+        } catch (NumberFormatException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static String cell(String[] row, int column) {
+        if (column < 0 || column >= row.length) {
+            return null;
+        }
+        String value = row[column].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String truncate(String value, int length) {
+        return value != null && value.length() > length ? value.substring(0, length) : value;
+    }
+
+    /**
+     * 열 위치 조회 (먼저 나열된 별칭 우선)
+     */
+    private static int column(String[] header, List<String> aliases) {
+        for (String alias : aliases) {
+            for (int i = 0; i < header.length; i++) {
+                if (alias.equals(header[i].trim().toLowerCase(Locale.ROOT))) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private String[] readRow() throws IOException {
+        try {
+            return csvReader.readNext();
+        } catch (CsvValidationException e) {
+            throw new IllegalArgumentException("CSV 파일 형식 오류: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 처리한 데이터 행 수 (빈 행 포함, 헤더 제외)
+     */
+    int getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * 형식 오류로 건너뛴 행 수
+     */
+    int getInvalidCount() {
+        return invalidCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        csvReader.close();
+    }
+
+    /**
+     * 거래내역서 행 (금액은 1/100 단위, 입금 +, 출금 -)
+     */
+    record StatementLine(int lineNumber, LocalDate date, long amountCents, String counterparty, String description) {
+    }
+}
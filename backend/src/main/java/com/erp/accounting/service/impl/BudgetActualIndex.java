@@ -0,0 +1,106 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.entity.Budget;
+import com.erp.accounting.event.BudgetChangedEvent;
+import com.erp.accounting.repository.BudgetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 계정과목별 활성 예산 색인
+ * 거래 전기마다 예산을 조회하지 않도록 회사별로 (계정과목 -> 활성 예산 대상) 색인을 메모리에 보관하고,
+ * 예산이 바뀌면 커밋 후 해당 회사 색인을 버려 다음 전기 때 다시 적재합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetActualIndex {
+
+    private final BudgetRepository budgetRepository;
+
+    private final ConcurrentMap<Long, Map<Long, List<Target>>> companies = new ConcurrentHashMap<>();
+
+    /**
+     * 거래 1건에 해당하는 활성 예산 ID 목록
+     * 연간/분기/월간 예산이 함께 있으면 모두 반환합니다
+     */
+    public List<Long> findBudgetIds(Long companyId, Long accountId, int fiscalYear, int fiscalMonth,
+                                    String departmentCode, String projectCode) {
+        List<Target> targets = companies.computeIfAbsent(companyId, this::load).get(accountId);
+        if (targets == null) {
+            return List.of();
+        }
+        List<Long> budgetIds = new ArrayList<>(targets.size());
+        for (Target target : targets) {
+            if (target.matches(fiscalYear, fiscalMonth, departmentCode, projectCode)) {
+                budgetIds.add(target.budgetId());
+            }
+        }
+        return budgetIds;
+    }
+
+    /**
+     * 회사별 색인 무효화
+     */
+    public void evict(Long companyId) {
+        companies.remove(companyId);
+    }
+
+    /**
+     * 예산 변경 시 회사별 색인 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBudgetChanged(BudgetChangedEvent event) {
+        evict(event.companyId());
+    }
+
+    private Map<Long, List<Target>> load(Long companyId) {
+        Map<Long, List<Target>> index = new HashMap<>();
+        List<Object[]> rows = budgetRepository.findActiveBudgetTargets(companyId);
+        for (Object[] row : rows) {
+            index.computeIfAbsent((Long) row[1], accountId -> new ArrayList<>(2))
+                .add(new Target((Long) row[0], (Integer) row[2], (Budget.BudgetPeriod) row[3],
+                    (Integer) row[4], (String) row[5], (String) row[6]));
+        }
+        log.info("활성 예산 색인 적재 완료 - 회사: {}, 예산 수: {}, 계정 수: {}", companyId, rows.size(), index.size());
+        return index;
+    }
+
+    /**
+     * 예산 실적 반영 대상
+     * 부서/프로젝트 코드가 비어 있는 예산은 모든 부서/프로젝트의 거래를 반영합니다
+     */
+    record Target(
+            Long budgetId,
+            Integer fiscalYear,
+            Budget.BudgetPeriod budgetPeriod,
+            Integer periodNumber,
+            String departmentCode,
+            String projectCode
+    ) {
+
+        boolean matches(int year, int month, String department, String project) {
+            if (fiscalYear != year) {
+                return false;
+            }
+            boolean periodMatches = switch (budgetPeriod) {
+                case ANNUAL -> true;
+                case QUARTERLY -> periodNumber == null || periodNumber == (month - 1) / 3 + 1;
+                case MONTHLY -> periodNumber == null || periodNumber == month;
+            };
+            return periodMatches
+                && (departmentCode == null || departmentCode.equals(department))
+                && (projectCode == null || projectCode.equals(project));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.event.BudgetThresholdCrossedEvent;
+import com.erp.accounting.event.TransactionPostedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 예산 실적 증분 반영기
+ * 거래 전기 이벤트를 전기와 같은 트랜잭션 안에서 받아 해당 활성 예산의 실적을 원자적 UPDATE로 더하고,
+ * 갱신 전후 실적으로 알림 기준선을 처음 넘은 예산을 찾아 기준선 도달 이벤트를 발행합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetActualUpdater {
+
+    /**
+     * 실적/차이/실적률을 한 문장으로 갱신하고 갱신 후 실적을 반환
+     * 실적률/차이율은 컬럼 정밀도(5,2) 범위로 제한합니다
+     */
+    private static final String UPDATE_ACTUAL_SQL =
+        "UPDATE budgets SET " +
+        "current_actual = COALESCE(current_actual, 0) + ?, " +
+        "variance_amount = COALESCE(current_actual, 0) + ? - budget_amount, " +
+        "achievement_rate = CASE WHEN budget_amount > 0 " +
+        "THEN LEAST(ROUND((COALESCE(current_actual, 0) + ?) * 100 / budget_amount, 2), 999.99) " +
+        "ELSE achievement_rate END, " +
+        "variance_rate = CASE WHEN budget_amount > 0 " +
+        "THEN GREATEST(LEAST(ROUND((COALESCE(current_actual, 0) + ? - budget_amount) * 100 / budget_amount, 2), " +
+        "999.99), -999.99) ELSE variance_rate END, " +
+        "updated_at = ? " +
+        "WHERE id IN (%s) AND budget_status = 'ACTIVE' AND is_deleted = false " +
+        "RETURNING id, account_id, fiscal_year, budget_amount, current_actual";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BudgetActualIndex budgetActualIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${erp.budget.alert-thresholds:90,100}")
+    private int[] alertThresholds;
+
+    /**
+     * 전기된 거래 금액을 해당 활성 예산 실적에 반영
+     */
+    @EventListener
+    public void onTransactionPosted(TransactionPostedEvent event) {
+        if (event.amount() == null || event.amount().signum() == 0) {
+            return;
+        }
+        List<Long> budgetIds = budgetActualIndex.findBudgetIds(event.companyId(), event.accountId(),
+            event.fiscalYear(), event.fiscalMonth(), event.departmentCode(), event.projectCode());
+        if (budgetIds.isEmpty()) {
+            return;
+        }
+
+        BigDecimal amount = event.amount();
+        List<Object> args = new ArrayList<>(5 + budgetIds.size());
+        Collections.addAll(args, amount, amount, amount, amount, Timestamp.valueOf(LocalDateTime.now()));
+        args.addAll(budgetIds);
+        String sql = String.format(UPDATE_ACTUAL_SQL, String.join(", ", Collections.nCopies(budgetIds.size(), "?")));
+
+        jdbcTemplate.query(sql, rs -> {
+            BigDecimal budgetAmount = rs.getBigDecimal(4);
+            BigDecimal after = rs.getBigDecimal(5);
+            for (int threshold : crossedThresholds(after.subtract(amount), after, budgetAmount, alertThresholds)) {
+                eventPublisher.publishEvent(new BudgetThresholdCrossedEvent(event.companyId(), rs.getLong(1),
+                    rs.getLong(2), rs.getInt(3), threshold, budgetAmount, after));
+            }
+        }, args.toArray());
+        log.debug("예산 실적 반영 - 거래: {}, 예산: {}, 금액: {}", event.transactionId(), budgetIds, amount);
+    }
+
+    /**
+     * 실적 변동으로 새로 넘은 기준선 목록 (예산 대비 실적률 %)
+     * 기준선 금액 미만이던 실적이 기준선 이상이 된 경우만 포함하므로 같은 기준선 알림은 한 번만 발생합니다
+     */
+    static List<Integer> crossedThresholds(BigDecimal before, BigDecimal after, BigDecimal budgetAmount,
+                                           int[] thresholds) {
+        if (budgetAmount == null || budgetAmount.signum() <= 0 || after.compareTo(before) <= 0) {
+            return List.of();
+        }
+        List<Integer> crossed = new ArrayList<>(thresholds.length);
+        for (int threshold : thresholds) {
+            BigDecimal line = budgetAmount.multiply(BigDecimal.valueOf(threshold)).movePointLeft(2);
+            if (before.compareTo(line) < 0 && after.compareTo(line) >= 0) {
+                crossed.add(threshold);
+            }
+        }
+        return crossed;
+    }
+}
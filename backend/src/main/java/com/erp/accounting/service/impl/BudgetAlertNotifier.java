@@ -0,0 +1,74 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.entity.Budget;
+import com.erp.accounting.event.BudgetThresholdCrossedEvent;
+import com.erp.accounting.repository.BudgetRepository;
+import com.erp.common.entity.Notification;
+import com.erp.common.entity.User;
+import com.erp.common.repository.UserRepository;
+import com.erp.common.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 예산 기준선 도달 알림기
+ * 실적 반영이 커밋된 뒤 예산 담당자와 회사 관리자/매니저에게 알림을 생성합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BudgetAlertNotifier {
+
+    private final BudgetRepository budgetRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * 기준선 도달 알림 생성 (알림 실패가 이미 커밋된 전기에 영향을 주지 않도록 별도 트랜잭션)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onThresholdCrossed(BudgetThresholdCrossedEvent event) {
+        try {
+            Budget budget = budgetRepository.findById(event.budgetId()).orElse(null);
+            if (budget == null) {
+                return;
+            }
+            boolean over = event.thresholdPercent() >= 100;
+            String title = over ? "예산 초과" : "예산 " + event.thresholdPercent() + "% 도달";
+            String message = String.format("%d년 %s 예산(%s) 실적이 %s원으로 예산 %s원의 %d%%에 도달했습니다",
+                event.fiscalYear(), budget.getAccount().getName(), budget.getBudgetPeriod().getDescription(),
+                event.currentActual().toPlainString(), event.budgetAmount().toPlainString(),
+                event.thresholdPercent());
+            Notification.NotificationType type = over
+                ? Notification.NotificationType.ERROR : Notification.NotificationType.WARNING;
+
+            Map<Long, User> recipients = new LinkedHashMap<>();
+            if (budget.getResponsiblePerson() != null) {
+                userRepository.findActiveByEmail(budget.getResponsiblePerson().getEmail())
+                    .ifPresent(user -> recipients.put(user.getId(), user));
+            }
+            for (User user : userRepository.findActiveByCompanyIdAndRoleIn(event.companyId(),
+                    EnumSet.of(User.UserRole.ADMIN, User.UserRole.MANAGER))) {
+                recipients.putIfAbsent(user.getId(), user);
+            }
+            for (User user : recipients.values()) {
+                notificationService.createNotification(user, title, message, type,
+                    "/accounting/budgets/" + event.budgetId());
+            }
+            log.info("예산 기준선 알림 - 예산: {}, 기준선: {}%, 수신자: {}",
+                event.budgetId(), event.thresholdPercent(), recipients.size());
+        } catch (RuntimeException e) {
+            log.error("예산 기준선 알림 생성 실패 - 예산: {}", event.budgetId(), e);
+        }
+    }
+}
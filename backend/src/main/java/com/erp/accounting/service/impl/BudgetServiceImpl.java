@@ -0,0 +1,111 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.BudgetVarianceReportDto;
+import com.erp.accounting.entity.Budget;
+import com.erp.accounting.repository.BudgetRepository;
+import com.erp.accounting.service.BudgetService;
+import com.erp.common.repository.CompanyRepository;
+import com.erp.common.utils.ExceptionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 예산 서비스 구현체
+ * 예산별로 거래를 다시 합산하지 않고, 전기된 거래의 단일 집계를 예산에 조인해 재계산/보고서를 만듭니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BudgetServiceImpl implements BudgetService {
+
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    private final BudgetRepository budgetRepository;
+    private final CompanyRepository companyRepository;
+
+    @Override
+    @Transactional
+    public int recomputeActuals(Long companyId, Integer fiscalYear) {
+        validate(companyId, fiscalYear);
+
+        // 대상 예산을 먼저 잠가 재계산 도중 전기된 거래의 증분 반영이 재계산 결과 위에 더해지도록 함
+        int locked = budgetRepository.lockBudgetsForRecompute(companyId, fiscalYear).size();
+        int updated = budgetRepository.recomputeActuals(companyId, fiscalYear);
+        log.info("예산 실적 재계산 완료 - 회사: {}, 연도: {}, 대상: {}, 갱신: {}", companyId, fiscalYear, locked, updated);
+        return updated;
+    }
+
+    @Override
+    public BudgetVarianceReportDto getVarianceReport(Long companyId, Integer fiscalYear) {
+        validate(companyId, fiscalYear);
+
+        List<Object[]> rows = budgetRepository.getBudgetVarianceRows(companyId, fiscalYear);
+        List<BudgetVarianceReportDto.Line> lines = new ArrayList<>(rows.size());
+        BigDecimal totalBudget = BigDecimal.ZERO;
+        BigDecimal totalActual = BigDecimal.ZERO;
+        int overBudget = 0;
+        int outOfSync = 0;
+        for (Object[] row : rows) {
+            BudgetVarianceReportDto.Line line = toLine(row);
+            totalBudget = totalBudget.add(line.budgetAmount());
+            totalActual = totalActual.add(line.actualAmount());
+            if (line.overBudget()) {
+                overBudget++;
+            }
+            if (line.outOfSync()) {
+                outOfSync++;
+            }
+            lines.add(line);
+        }
+        return new BudgetVarianceReportDto(companyId, fiscalYear, totalBudget, totalActual,
+            totalActual.subtract(totalBudget), overBudget, outOfSync, lines);
+    }
+
+    /**
+     * 차이 조회 행을 예산별 차이로 변환
+     * 행 구조: [예산 ID, 계정코드, 계정과목명, 예산 유형, 예산 기간, 기간 번호, 부서 코드, 프로젝트 코드, 예산 상태,
+     *          예산 금액, 집계 실적, 저장된 실적]
+     */
+    static BudgetVarianceReportDto.Line toLine(Object[] row) {
+        BigDecimal budgetAmount = (BigDecimal) row[9];
+        BigDecimal actual = (BigDecimal) row[10];
+        BigDecimal stored = (BigDecimal) row[11];
+        BigDecimal variance = actual.subtract(budgetAmount);
+        boolean hasBudget = budgetAmount.signum() > 0;
+        return new BudgetVarianceReportDto.Line(
+            ((Number) row[0]).longValue(),
+            (String) row[1],
+            (String) row[2],
+            Budget.BudgetType.valueOf((String) row[3]),
+            Budget.BudgetPeriod.valueOf((String) row[4]),
+            row[5] != null ? ((Number) row[5]).intValue() : null,
+            (String) row[6],
+            (String) row[7],
+            Budget.BudgetStatus.valueOf((String) row[8]),
+            budgetAmount,
+            actual,
+            stored,
+            variance,
+            hasBudget ? variance.multiply(HUNDRED).divide(budgetAmount, 2, RoundingMode.HALF_UP) : BigDecimal.ZERO,
+            hasBudget ? actual.multiply(HUNDRED).divide(budgetAmount, 2, RoundingMode.HALF_UP) : BigDecimal.ZERO,
+            actual.compareTo(budgetAmount) > 0,
+            actual.compareTo(stored) != 0);
+    }
+
+    private void validate(Long companyId, Integer fiscalYear) {
+        if (fiscalYear == null || fiscalYear < 2000 || fiscalYear > 2100) {
+            throw ExceptionUtils.businessException("회계연도는 2000~2100년 사이여야 합니다");
+        }
+        if (!companyRepository.existsById(companyId)) {
+            throw ExceptionUtils.entityNotFoundException("회사를 찾을 수 없습니다");
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.entity.Account;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회사별 계정과목 체계 (불변)
+ * 계정과목 트리를 배열 인덱스로 보관하여 계층 집계를 O(n)으로 처리합니다
+ * 계정과목이 변경되면 새 버전의 체계로 통째로 교체됩니다
+ */
+public final class ChartOfAccounts {
+
+    private static final int NO_PARENT = -1;
+
+    private final Long companyId;
+    private final long version;
+    private final long[] ids;
+    private final String[] codes;
+    private final String[] names;
+    private final int[] levels;
+    private final Account.AccountType[] types;
+    private final Account.AccountCategory[] categories;
+    private final Account.DebitCreditType[] debitCreditTypes;
+    private final boolean[] trackBalance;
+    private final boolean[] active;
+
+    /**
+     * 상위 계정 인덱스 (최상위는 -1)
+     */
+    private final int[] parents;
+
+    /**
+     * 하위 계정 인덱스 (childStart[i] ~ childStart[i + 1] 구간)
+     */
+    private final int[] childStart;
+    private final int[] children;
+
+    /**
+     * 전위 순회 순서 (표시용) / 후위 순회 순서 (집계용)
+     */
+    private final int[] preOrder;
+    private final int[] postOrder;
+
+    private final Map<Long, Integer> indexById;
+    private final Map<String, Integer> indexByCode;
+    private final Map<Account.AccountType, int[]> indexesByType;
+    private final Map<Account.AccountCategory, int[]> indexesByCategory;
+
+    private ChartOfAccounts(Long companyId, long version, List<Account> accounts) {
+        int size = accounts.size();
+        this.companyId = companyId;
+        this.version = version;
+        this.ids = new long[size];
+        this.codes = new String[size];
+        this.names = new String[size];
+        this.levels = new int[size];
+        this.types = new Account.AccountType[size];
+        this.categories = new Account.AccountCategory[size];
+        this.debitCreditTypes = new Account.DebitCreditType[size];
+        this.trackBalance = new boolean[size];
+        this.active = new boolean[size];
+        this.parents = new int[size];
+        this.indexById = new HashMap<>(size * 2);
+        this.indexByCode = new HashMap<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            Account account = accounts.get(i);
+            ids[i] = account.getId();
+            codes[i] = account.getAccountCode();
+            names[i] = account.getName();
+            levels[i] = account.getAccountLevel() != null ? account.getAccountLevel() : 1;
+            types[i] = account.getAccountType();
+            categories[i] = account.getAccountCategory();
+            debitCreditTypes[i] = account.getDebitCreditType();
+            trackBalance[i] = Boolean.TRUE.equals(account.getTrackBalance());
+            active[i] = Boolean.TRUE.equals(account.getIsActive());
+            indexById.put(account.getId(), i);
+            indexByCode.put(account.getAccountCode(), i);
+        }
+
+        // 상위 계정 인덱스 (삭제되었거나 다른 회사의 상위 계정은 최상위로 취급)
+        int[] childCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            Account parent = accounts.get(i).getParentAccount();
+            Integer parentIndex = parent != null ? indexById.get(parent.getId()) : null;
+            parents[i] = parentIndex != null && parentIndex != i ? parentIndex : NO_PARENT;
+            if (parents[i] != NO_PARENT) {
+                childCounts[parents[i]]++;
+            }
+        }
+
+        // 하위 계정 인덱스 (입력 순서 = 정렬 순서 유지)
+        this.childStart = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            childStart[i + 1] = childStart[i] + childCounts[i];
+        }
+        this.children = new int[childStart[size]];
+        int[] cursor = Arrays.copyOf(childStart, size);
+        for (int i = 0; i < size; i++) {
+            if (parents[i] != NO_PARENT) {
+                children[cursor[parents[i]]++] = i;
+            }
+        }
+
+        this.preOrder = new int[size];
+        this.postOrder = new int[size];
+        traverse();
+
+        // 유형/분류별 인덱스 (전위 순회 순서)
+        this.indexesByType = new EnumMap<>(Account.AccountType.class);
+        for (Account.AccountType type : Account.AccountType.values()) {
+            indexesByType.put(type, collect(types, type));
+        }
+        this.indexesByCategory = new EnumMap<>(Account.AccountCategory.class);
+        for (Account.AccountCategory category : Account.AccountCategory.values()) {
+            indexesByCategory.put(category, collect(categories, category));
+        }
+    }
+
+    /**
+     * 계정과목 목록으로 체계 생성
+     * 목록은 레벨, 정렬순서, 계정코드 순으로 정렬되어 있어야 합니다
+     */
+    public static ChartOfAccounts of(Long companyId, long version, List<Account> accounts) {
+        return new ChartOfAccounts(companyId, version, accounts);
+    }
+
+    private int[] collect(Object[] values, Object target) {
+        int count = 0;
+        for (int index : preOrder) {
+            if (values[index] == target) {
+                count++;
+            }
+        }
+        int[] result = new int[count];
+        int position = 0;
+        for (int index : preOrder) {
+            if (values[index] == target) {
+                result[position++] = index;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 전위/후위 순회 순서 계산 (명시적 스택 사용)
+     */
+    private void traverse() {
+        int size = ids.length;
+        boolean[] visited = new boolean[size];
+        int[] stack = new int[size];
+        int[] nextChild = new int[size];
+        int[] counters = new int[2];
+
+        for (int root = 0; root < size; root++) {
+            if (parents[root] == NO_PARENT) {
+                traverseFrom(root, visited, stack, nextChild, counters);
+            }
+        }
+
+        // 순환 참조로 최상위에서 도달하지 못한 계정은 최상위로 분리
+        for (int i = 0; i < size; i++) {
+            if (!visited[i]) {
+                parents[i] = NO_PARENT;
+                traverseFrom(i, visited, stack, nextChild, counters);
+            }
+        }
+    }
+
+    private void traverseFrom(int root, boolean[] visited, int[] stack, int[] nextChild, int[] counters) {
+        int top = 0;
+        stack[top++] = root;
+        visited[root] = true;
+        preOrder[counters[0]++] = root;
+        nextChild[root] = childStart[root];
+
+        while (top > 0) {
+            int node = stack[top - 1];
+            if (nextChild[node] < childStart[node + 1]) {
+                int child = children[nextChild[node]++];
+                if (!visited[child]) {
+                    visited[child] = true;
+                    preOrder[counters[0]++] = child;
+                    nextChild[child] = childStart[child];
+                    stack[top++] = child;
+                }
+            } else {
+                postOrder[counters[1]++] = node;
+                top--;
+            }
+        }
+    }
+
+    /**
+     * 하위 계정 값을 모든 상위 계정에 누적 (후위 순회 1회)
+     */
+    public void rollUp(long[] values) {
+        if (values.length != ids.length) {
+            throw new IllegalArgumentException("집계 배열 크기가 계정과목 수와 일치하지 않습니다");
+        }
+        for (int node : postOrder) {
+            int parent = parents[node];
+            if (parent != NO_PARENT) {
+                values[parent] += values[node];
+            }
+        }
+    }
+
+    /**
+     * 계정과목 엔티티와 체계의 구조 정보 일치 여부
+     * 잔액 변경처럼 구조와 무관한 변경은 일치로 판단합니다
+     */
+    public boolean matches(Account account) {
+        int index = indexOf(account.getId());
+        boolean deleted = Boolean.TRUE.equals(account.getIsDeleted());
+        if (index < 0) {
+            return deleted;
+        }
+        if (deleted) {
+            return false;
+        }
+        Long parentId = account.getParentAccount() != null ? account.getParentAccount().getId() : null;
+        int parent = parents[index];
+        return codes[index].equals(account.getAccountCode())
+            && names[index].equals(account.getName())
+            && levels[index] == (account.getAccountLevel() != null ? account.getAccountLevel() : 1)
+            && types[index] == account.getAccountType()
+            && categories[index] == account.getAccountCategory()
+            && debitCreditTypes[index] == account.getDebitCreditType()
+            && trackBalance[index] == Boolean.TRUE.equals(account.getTrackBalance())
+            && active[index] == Boolean.TRUE.equals(account.getIsActive())
+            && (parent == NO_PARENT ? parentId == null || indexOf(parentId) < 0 : parentId != null && ids[parent] == parentId);
+    }
+
+    public Long getCompanyId() {
+        return companyId;
+    }
+
+    /**
+     * 체계 버전 (재구성될 때마다 증가)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * 계정 ID로 인덱스 조회 (없으면 -1)
+     */
+    public int indexOf(Long accountId) {
+        Integer index = accountId != null ? indexById.get(accountId) : null;
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 계정코드로 인덱스 조회 (없으면 -1)
+     */
+    public int indexOfCode(String accountCode) {
+        Integer index = accountCode != null ? indexByCode.get(accountCode) : null;
+        return index != null ? index : -1;
+    }
+
+    /**
+     * 상위 계정 경로 (가까운 상위부터 최상위까지)
+     */
+    public int[] parentChain(int index) {
+        int depth = 0;
+        for (int node = parents[index]; node != NO_PARENT; node = parents[node]) {
+            depth++;
+        }
+        int[] chain = new int[depth];
+        int position = 0;
+        for (int node = parents[index]; node != NO_PARENT; node = parents[node]) {
+            chain[position++] = node;
+        }
+        return chain;
+    }
+
+    /**
+     * 계정과목 유형별 인덱스 (전위 순회 순서)
+     */
+    public int[] indexesOf(Account.AccountType type) {
+        return indexesByType.get(type).clone();
+    }
+
+    /**
+     * 계정과목 분류별 인덱스 (전위 순회 순서)
+     */
+    public int[] indexesOf(Account.AccountCategory category) {
+        return indexesByCategory.get(category).clone();
+    }
+
+    public int preOrderAt(int position) {
+        return preOrder[position];
+    }
+
+    public int postOrderAt(int position) {
+        return postOrder[position];
+    }
+
+    public long id(int index) {
+        return ids[index];
+    }
+
+    public String code(int index) {
+        return codes[index];
+    }
+
+    public String name(int index) {
+        return names[index];
+    }
+
+    public int level(int index) {
+        return levels[index];
+    }
+
+    public Account.AccountType type(int index) {
+        return types[index];
+    }
+
+    public Account.AccountCategory category(int index) {
+        return categories[index];
+    }
+
+    public Account.DebitCreditType debitCreditType(int index) {
+        return debitCreditTypes[index];
+    }
+
+    /**
+     * 차변 잔액 계정 여부 (DebitCreditType 기준)
+     */
+    public boolean isDebitNormal(int index) {
+        return debitCreditTypes[index] == Account.DebitCreditType.DEBIT;
+    }
+
+    public boolean isTrackBalance(int index) {
+        return trackBalance[index];
+    }
+
+    public boolean isActive(int index) {
+        return active[index];
+    }
+
+    public boolean isLeaf(int index) {
+        return childStart[index] == childStart[index + 1];
+    }
+
+    /**
+     * 상위 계정 인덱스 (최상위는 -1)
+     */
+    public int parent(int index) {
+        return parents[index];
+    }
+}
@@ -0,0 +1,82 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.event.AccountChangedEvent;
+import com.erp.accounting.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회사별 계정과목 체계 캐시
+ * 계정과목 변경이 드물기 때문에 회사별 불변 체계를 메모리에 보관하고,
+ * 계정과목 구조가 바뀌면 커밋 후 새 버전으로 원자적으로 교체합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChartOfAccountsCache {
+
+    private final AccountRepository accountRepository;
+
+    private final ConcurrentMap<Long, ChartOfAccounts> charts = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    /**
+     * 회사별 계정과목 체계 조회 (없으면 적재)
+     */
+    public ChartOfAccounts get(Long companyId) {
+        return charts.computeIfAbsent(companyId, this::load);
+    }
+
+    /**
+     * 회사별 계정과목 체계 버전 (적재 전이면 0)
+     */
+    public long version(Long companyId) {
+        ChartOfAccounts chart = charts.get(companyId);
+        return chart != null ? chart.getVersion() : 0L;
+    }
+
+    /**
+     * 회사별 계정과목 체계 재구성
+     */
+    public ChartOfAccounts refresh(Long companyId) {
+        return charts.compute(companyId, (id, previous) -> load(id));
+    }
+
+    /**
+     * 회사별 계정과목 체계 무효화
+     */
+    public void evict(Long companyId) {
+        charts.remove(companyId);
+    }
+
+    /**
+     * 계정과목 변경 시 구조가 달라졌으면 체계 재구성
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        ChartOfAccounts chart = charts.get(event.companyId());
+        if (chart == null) {
+            return;
+        }
+        if (event.changeType() == AccountChangedEvent.ChangeType.UPDATED && chart.matches(event.account())) {
+            return;
+        }
+        ChartOfAccounts refreshed = refresh(event.companyId());
+        log.info("계정과목 체계 재구성 - 회사: {}, 변경: {}, 버전: {} -> {}",
+                event.companyId(), event.changeType(), chart.getVersion(), refreshed.getVersion());
+    }
+
+    private ChartOfAccounts load(Long companyId) {
+        ChartOfAccounts chart = ChartOfAccounts.of(companyId, versionSequence.incrementAndGet(),
+            accountRepository.findByCompanyId(companyId));
+        log.info("계정과목 체계 적재 완료 - 회사: {}, 계정 수: {}, 버전: {}", companyId, chart.size(), chart.getVersion());
+        return chart;
+    }
+}
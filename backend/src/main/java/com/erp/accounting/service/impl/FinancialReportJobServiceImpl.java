@@ -0,0 +1,231 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.FinancialReportDto;
+import com.erp.accounting.dto.FinancialReportJobDto;
+import com.erp.accounting.entity.FinancialReport;
+import com.erp.accounting.entity.FinancialReportJob;
+import com.erp.accounting.repository.FinancialReportJobRepository;
+import com.erp.accounting.service.FinancialReportJobService;
+import com.erp.accounting.service.FinancialReportService;
+import com.erp.common.entity.Company;
+import com.erp.common.repository.CompanyRepository;
+import com.erp.common.utils.ExceptionUtils;
+import com.erp.config.ExecutorConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 재무보고서 생성 작업 서비스 구현체
+ * 보고서 생성을 제한된 작업 스레드 풀에서 실행하고 상태/진행률을 저장합니다
+ * 같은 회사/유형/기간의 진행 중 요청은 하나의 작업으로 합쳐집니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FinancialReportJobServiceImpl implements FinancialReportJobService {
+
+    /**
+     * 작업 시작 시 진행률
+     */
+    static final int STARTED_PROGRESS = 10;
+
+    private static final long SSE_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+    private static final int ERROR_MESSAGE_LENGTH = 500;
+
+    private static final Set<FinancialReport.ReportType> SUPPORTED_TYPES = EnumSet.of(
+        FinancialReport.ReportType.BALANCE_SHEET,
+        FinancialReport.ReportType.INCOME_STATEMENT,
+        FinancialReport.ReportType.CASH_FLOW_STATEMENT,
+        FinancialReport.ReportType.EQUITY_STATEMENT,
+        FinancialReport.ReportType.TRIAL_BALANCE,
+        FinancialReport.ReportType.BUDGET_REPORT,
+        FinancialReport.ReportType.VARIANCE_ANALYSIS
+    );
+
+    private final FinancialReportJobRepository jobRepository;
+    private final CompanyRepository companyRepository;
+    private final FinancialReportService financialReportService;
+    @Qualifier(ExecutorConfig.REPORT_JOB_EXECUTOR)
+    private final ThreadPoolTaskExecutor executor;
+
+    private final ReportJobRegistry registry = new ReportJobRegistry();
+
+    /**
+     * 서버 재시작으로 중단된 작업 정리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        int failed = jobRepository.failAll(
+            EnumSet.of(FinancialReportJob.JobStatus.QUEUED, FinancialReportJob.JobStatus.RUNNING),
+            FinancialReportJob.JobStatus.FAILED, "서버 재시작으로 작업이 중단되었습니다", LocalDateTime.now());
+        if (failed > 0) {
+            log.warn("중단된 보고서 작업 실패 처리 - {}건", failed);
+        }
+    }
+
+    /**
+     * 보고서 생성 작업 접수
+     */
+    @Override
+    public FinancialReportJobDto submitJob(Long companyId, FinancialReport.ReportType reportType, Integer fiscalYear,
+                                           String fiscalPeriod, LocalDate startDate, LocalDate endDate) {
+        if (reportType == null || !SUPPORTED_TYPES.contains(reportType)) {
+            throw ExceptionUtils.businessException("비동기 생성을 지원하지 않는 보고서 유형입니다: " + reportType);
+        }
+        if (fiscalYear == null || fiscalPeriod == null || fiscalPeriod.isBlank()) {
+            throw ExceptionUtils.businessException("회계연도와 회계기간은 필수입니다");
+        }
+        Company company = companyRepository.findById(companyId)
+            .orElseThrow(() -> ExceptionUtils.entityNotFoundException("회사를 찾을 수 없습니다"));
+
+        JobRequest request = new JobRequest(companyId, reportType, fiscalYear, fiscalPeriod,
+            startDate != null ? startDate : LocalDate.of(fiscalYear, 1, 1),
+            endDate != null ? endDate : LocalDate.of(fiscalYear, 12, 31));
+        String key = FinancialReportJob.dedupKey(companyId, reportType, fiscalYear, fiscalPeriod);
+
+        ReportJobRegistry.Claim claim = registry.claim(key, () -> createJob(company, request, key));
+        if (!claim.created()) {
+            log.info("진행 중인 보고서 작업 재사용 - 작업: {}, 키: {}", claim.jobId(), key);
+            return getJob(claim.jobId());
+        }
+
+        try {
+            executor.execute(() -> run(claim.jobId(), key, request));
+        } catch (TaskRejectedException e) {
+            registry.release(key, claim.jobId());
+            jobRepository.markFailed(claim.jobId(), FinancialReportJob.JobStatus.FAILED,
+                "작업 대기열이 가득 찼습니다", LocalDateTime.now());
+            throw ExceptionUtils.businessException("보고서 작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요");
+        }
+
+        log.info("보고서 작업 접수 - 작업: {}, 키: {}", claim.jobId(), key);
+        return getJob(claim.jobId());
+    }
+
+    /**
+     * 작업 조회
+     */
+    @Override
+    public FinancialReportJobDto getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+            .map(FinancialReportJobDto::from)
+            .orElseThrow(() -> ExceptionUtils.entityNotFoundException("보고서 작업을 찾을 수 없습니다"));
+    }
+
+    /**
+     * 회사별 작업 목록
+     */
+    @Override
+    public Page<FinancialReportJobDto> getJobsByCompany(Long companyId, Pageable pageable) {
+        return jobRepository.findByCompanyId(companyId, pageable).map(FinancialReportJobDto::from);
+    }
+
+    /**
+     * 작업 진행 상태 구독 (SSE)
+     * 현재 상태를 즉시 보내고, 이후 상태가 바뀔 때마다 전송하며 종료 상태에서 연결을 닫습니다
+     */
+    @Override
+    public SseEmitter subscribe(Long jobId) {
+        FinancialReportJobDto job = getJob(jobId);
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+        if (job.finished()) {
+            if (ReportJobRegistry.send(emitter, job)) {
+                emitter.complete();
+            }
+            return emitter;
+        }
+
+        registry.subscribe(jobId, emitter);
+        // 등록 직전에 작업이 끝났을 수 있으므로 등록 후 상태를 다시 읽어 전송
+        FinancialReportJobDto current = getJob(jobId);
+        if (current.finished()) {
+            registry.publish(jobId, current, true);
+        } else {
+            ReportJobRegistry.send(emitter, current);
+        }
+        return emitter;
+    }
+
+    private long createJob(Company company, JobRequest request, String key) {
+        FinancialReportJob job = new FinancialReportJob();
+        job.setCompany(company);
+        job.setReportType(request.reportType());
+        job.setFiscalYear(request.fiscalYear());
+        job.setFiscalPeriod(request.fiscalPeriod());
+        job.setStartDate(request.startDate());
+        job.setEndDate(request.endDate());
+        job.setDedupKey(key);
+        return jobRepository.save(job).getId();
+    }
+
+    /**
+     * 작업 실행 (작업 스레드)
+     */
+    private void run(long jobId, String key, JobRequest request) {
+        try {
+            jobRepository.markStarted(jobId, FinancialReportJob.JobStatus.RUNNING, STARTED_PROGRESS, LocalDateTime.now());
+            publish(jobId);
+
+            FinancialReportDto report = generate(request);
+
+            jobRepository.markCompleted(jobId, FinancialReportJob.JobStatus.COMPLETED, report.id(), LocalDateTime.now());
+            log.info("보고서 작업 완료 - 작업: {}, 보고서: {}", jobId, report.id());
+        } catch (Exception e) {
+            log.error("보고서 작업 실패 - 작업: {}, 키: {}", jobId, key, e);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            jobRepository.markFailed(jobId, FinancialReportJob.JobStatus.FAILED,
+                message.length() > ERROR_MESSAGE_LENGTH ? message.substring(0, ERROR_MESSAGE_LENGTH) : message,
+                LocalDateTime.now());
+        } finally {
+            registry.release(key, jobId);
+            publish(jobId);
+        }
+    }
+
+    private void publish(long jobId) {
+        jobRepository.findById(jobId).map(FinancialReportJobDto::from)
+            .ifPresent(job -> registry.publish(jobId, job, job.finished()));
+    }
+
+    private FinancialReportDto generate(JobRequest request) {
+        Long companyId = request.companyId();
+        Integer fiscalYear = request.fiscalYear();
+        String fiscalPeriod = request.fiscalPeriod();
+        return switch (request.reportType()) {
+            case BALANCE_SHEET -> financialReportService.generateBalanceSheet(
+                companyId, fiscalYear, fiscalPeriod, request.endDate());
+            case INCOME_STATEMENT -> financialReportService.generateIncomeStatement(
+                companyId, fiscalYear, fiscalPeriod, request.startDate(), request.endDate());
+            case CASH_FLOW_STATEMENT -> financialReportService.generateCashFlowStatement(
+                companyId, fiscalYear, fiscalPeriod, request.startDate(), request.endDate());
+            case EQUITY_STATEMENT -> financialReportService.generateEquityStatement(
+                companyId, fiscalYear, fiscalPeriod, request.startDate(), request.endDate());
+            case TRIAL_BALANCE -> financialReportService.generateTrialBalance(
+                companyId, fiscalYear, fiscalPeriod, request.startDate(), request.endDate());
+            case BUDGET_REPORT -> financialReportService.generateBudgetReport(companyId, fiscalYear, fiscalPeriod);
+            case VARIANCE_ANALYSIS -> financialReportService.generateVarianceAnalysis(companyId, fiscalYear, fiscalPeriod);
+            default -> throw ExceptionUtils.businessException("지원하지 않는 보고서 유형입니다");
+        };
+    }
+
+    /**
+     * 작업 실행 요청 값
+     */
+    private record JobRequest(Long companyId, FinancialReport.ReportType reportType, Integer fiscalYear,
+                              String fiscalPeriod, LocalDate startDate, LocalDate endDate) {
+    }
+}
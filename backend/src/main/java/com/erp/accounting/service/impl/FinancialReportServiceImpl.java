@@ -1,13 +1,17 @@
 package com.erp.accounting.service.impl;
 
+import com.erp.accounting.dto.ComparativeIncomeStatementDto;
 import com.erp.accounting.dto.FinancialReportDto;
-import com.erp.accounting.entity.Account;
+import com.erp.accounting.dto.FinancialTrendDto;
+import com.erp.accounting.dto.ReportSnapshotLineDto;
+import com.erp.accounting.dto.TrialBalanceDto;
 import com.erp.accounting.entity.FinancialReport;
-import com.erp.accounting.repository.AccountRepository;
+import com.erp.accounting.repository.AccountPeriodBalanceRepository;
 import com.erp.accounting.repository.FinancialReportRepository;
 import com.erp.accounting.repository.TransactionRepository;
 import com.erp.accounting.service.AccountingService;
 import com.erp.accounting.service.FinancialReportService;
+import com.erp.accounting.service.FinancialReportSnapshotService;
 import com.erp.common.entity.Company;
 import com.erp.common.repository.CompanyRepository;
 import com.erp.common.utils.ExceptionUtils;
@@ -23,6 +27,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -35,12 +41,24 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FinancialReportServiceImpl implements FinancialReportService {
 
+    /**
+     * 비교 손익계산서 최대 기간 수
+     */
+    private static final int MAX_COMPARATIVE_PERIODS = 36;
+
+    /**
+     * 재무비율 분석에 함께 반환하는 연 단위 트렌드 기간 수
+     */
+    private static final int RATIO_TREND_YEARS = 5;
+
     private final FinancialReportRepository reportRepository;
-    private final AccountRepository accountRepository;
     private final TransactionRepository transactionRepository;
     private final CompanyRepository companyRepository;
     private final EmployeeRepository employeeRepository;
     private final AccountingService accountingService;
+    private final FinancialReportSnapshotService snapshotService;
+    private final AccountPeriodBalanceRepository accountPeriodBalanceRepository;
+    private final FinancialTrendCache financialTrendCache;
 
     /**
      * 재무상태표 생성
@@ -70,64 +88,13 @@ public class FinancialReportServiceImpl implements FinancialReportService {
             report.setReportStatus(FinancialReport.ReportStatus.DRAFT);
         }
 
-        // 계정과목별 잔액 조회
-        List<Account> accounts = accountRepository.findTrackingBalanceAccountsByCompanyId(companyId);
-        
-        BigDecimal totalAssets = BigDecimal.ZERO;
-        BigDecimal currentAssets = BigDecimal.ZERO;
-        BigDecimal nonCurrentAssets = BigDecimal.ZERO;
-        BigDecimal totalLiabilities = BigDecimal.ZERO;
-        BigDecimal currentLiabilities = BigDecimal.ZERO;
-        BigDecimal nonCurrentLiabilities = BigDecimal.ZERO;
-        BigDecimal totalEquity = BigDecimal.ZERO;
-        BigDecimal cashAndEquivalents = BigDecimal.ZERO;
-
-        // 계정과목별 잔액 계산
-        for (Account account : accounts) {
-            BigDecimal balance = accountingService.getAccountBalance(account.getId(), baseDate);
-            
-            switch (account.getAccountType()) {
-                case ASSET:
-                    totalAssets = totalAssets.add(balance);
-                    if (account.getAccountCategory() == Account.AccountCategory.CURRENT_ASSET) {
-                        currentAssets = currentAssets.add(balance);
-                        // 현금성 자산 계산 (계정과목명 기준)
-                        if (account.getAccountName().contains("현금") || account.getAccountName().contains("예금")) {
-                            cashAndEquivalents = cashAndEquivalents.add(balance);
-                        }
-                    } else {
-                        nonCurrentAssets = nonCurrentAssets.add(balance);
-                    }
-                    break;
-                case LIABILITY:
-                    totalLiabilities = totalLiabilities.add(balance);
-                    if (account.getAccountCategory() == Account.AccountCategory.CURRENT_LIABILITY) {
-                        currentLiabilities = currentLiabilities.add(balance);
-                    } else {
-                        nonCurrentLiabilities = nonCurrentLiabilities.add(balance);
-                    }
-                    break;
-                case EQUITY:
-                    totalEquity = totalEquity.add(balance);
-                    break;
-                case REVENUE:
-                    // 손익계산서 항목이므로 재무상태표에서는 제외
-                    break;
-                case EXPENSE:
-                    // 손익계산서 항목이므로 재무상태표에서는 제외
-                    break;
-            }
-        }
+        // 계정과목별 잔액을 한 번에 집계 (당해 1월 1일 ~ 기준일, 기초잔액 포함)
+        LocalDate endDate = baseDate != null ? baseDate : LocalDate.now();
+        LocalDate startDate = LocalDate.of(endDate.getYear(), 1, 1);
+        List<Object[]> balances = transactionRepository.getBalanceSheetBalances(companyId, startDate, endDate);
 
-        // 재무상태표 데이터 설정
-        report.setTotalAssets(totalAssets);
-        report.setCurrentAssets(currentAssets);
-        report.setNonCurrentAssets(nonCurrentAssets);
-        report.setTotalLiabilities(totalLiabilities);
-        report.setCurrentLiabilities(currentLiabilities);
-        report.setNonCurrentLiabilities(nonCurrentLiabilities);
-        report.setTotalEquity(totalEquity);
-        report.setCashAndEquivalents(cashAndEquivalents);
+        // 유동/비유동, 현금성 자산 분류 후 재무상태표 데이터 설정
+        BalanceSheetAssembler.applyTo(report, BalanceSheetAssembler.assemble(balances));
 
         // 보고서 완료 처리
         report.completeGeneration(null); // 실제로는 현재 사용자 정보 필요
@@ -166,48 +133,11 @@ public class FinancialReportServiceImpl implements FinancialReportService {
             report.setReportStatus(FinancialReport.ReportStatus.DRAFT);
         }
 
-        // 수익/비용 계정 조회
-        List<Account> revenueAccounts = accountRepository.findByAccountType(Account.AccountType.REVENUE)
-            .stream().filter(a -> a.getCompany().getId().equals(companyId)).collect(Collectors.toList());
-        List<Account> expenseAccounts = accountRepository.findByAccountType(Account.AccountType.EXPENSE)
-            .stream().filter(a -> a.getCompany().getId().equals(companyId)).collect(Collectors.toList());
-
-        BigDecimal totalRevenue = BigDecimal.ZERO;
-        BigDecimal operatingRevenue = BigDecimal.ZERO;
-        BigDecimal totalExpenses = BigDecimal.ZERO;
-        BigDecimal operatingExpenses = BigDecimal.ZERO;
-
-        // 수익 계산
-        for (Account account : revenueAccounts) {
-            BigDecimal amount = calculatePeriodAmount(account.getId(), startDate, endDate);
-            totalRevenue = totalRevenue.add(amount);
-            
-            if (account.getAccountCategory() == Account.AccountCategory.OPERATING_REVENUE) {
-                operatingRevenue = operatingRevenue.add(amount);
-            }
-        }
-
-        // 비용 계산
-        for (Account account : expenseAccounts) {
-            BigDecimal amount = calculatePeriodAmount(account.getId(), startDate, endDate);
-            totalExpenses = totalExpenses.add(amount);
-            
-            if (account.getAccountCategory() == Account.AccountCategory.OPERATING_EXPENSE) {
-                operatingExpenses = operatingExpenses.add(amount);
-            }
-        }
-
-        // 손익 계산
-        BigDecimal operatingIncome = operatingRevenue.subtract(operatingExpenses);
-        BigDecimal netIncome = totalRevenue.subtract(totalExpenses);
-        BigDecimal incomeBeforeTax = netIncome; // 세금 계산 로직 추가 필요
-
-        // 손익계산서 데이터 설정
-        report.setTotalRevenue(totalRevenue);
-        report.setTotalExpenses(totalExpenses);
-        report.setOperatingIncome(operatingIncome);
-        report.setNetIncome(netIncome);
-        report.setIncomeBeforeTax(incomeBeforeTax);
+        // 회사의 수익/비용을 계정 분류별로 한 번에 집계 (기간 전체를 하나의 열로 누적)
+        List<Object[]> amounts = transactionRepository.getIncomeStatementAmountsByMonth(companyId, startDate, endDate);
+        new IncomeStatementAssembler(YearMonth.from(startDate), Integer.MAX_VALUE, 1)
+            .accept(amounts)
+            .applyTo(report);
 
         // 보고서 완료 처리
         report.completeGeneration(null);
@@ -218,8 +148,46 @@ public class FinancialReportServiceImpl implements FinancialReportService {
         return FinancialReportDto.from(savedReport);
     }
 
+    /**
+     * 비교 손익계산서 조회
+     * 시작 월부터 N개 월/분기의 손익 항목을 한 번의 집계로 나란히 반환합니다
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ComparativeIncomeStatementDto getComparativeIncomeStatement(Long companyId, YearMonth startMonth, Integer periods,
+                                                                       ComparativeIncomeStatementDto.Granularity granularity) {
+        if (startMonth == null) {
+            throw ExceptionUtils.businessException("시작 월은 필수입니다");
+        }
+        if (periods == null || periods < 1 || periods > MAX_COMPARATIVE_PERIODS) {
+            throw ExceptionUtils.businessException("비교 기간 수는 1~" + MAX_COMPARATIVE_PERIODS + " 사이여야 합니다");
+        }
+        ComparativeIncomeStatementDto.Granularity unit = granularity != null
+            ? granularity : ComparativeIncomeStatementDto.Granularity.MONTH;
+        getCompanyById(companyId);
+
+        LocalDate startDate = startMonth.atDay(1);
+        LocalDate endDate = startMonth.plusMonths((long) periods * unit.getMonths() - 1).atEndOfMonth();
+        List<Object[]> amounts = transactionRepository.getIncomeStatementAmountsByMonth(companyId, startDate, endDate);
+        IncomeStatementAssembler assembler = new IncomeStatementAssembler(startMonth, unit.getMonths(), periods)
+            .accept(amounts);
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM");
+        List<String> labels = new ArrayList<>(periods);
+        for (int i = 0; i < periods; i++) {
+            YearMonth periodStart = startMonth.plusMonths((long) i * unit.getMonths());
+            labels.add(unit == ComparativeIncomeStatementDto.Granularity.MONTH
+                ? periodStart.format(formatter)
+                : periodStart.format(formatter) + "~" + periodStart.plusMonths(unit.getMonths() - 1).format(formatter));
+        }
+
+        log.debug("비교 손익계산서 조회 - 회사: {}, 시작: {}, 기간: {} x {}", companyId, startMonth, periods, unit);
+        return new ComparativeIncomeStatementDto(companyId, unit, startDate, endDate, labels, assembler.lines());
+    }
+
     /**
      * 현금흐름표 생성
+     * 계정과목별 기간 증감 집계 한 번으로 간접법 현금흐름을 계산해 보고서 항목으로 저장합니다
      */
     @Override
     @Transactional
@@ -227,23 +195,14 @@ public class FinancialReportServiceImpl implements FinancialReportService {
                                                        LocalDate startDate, LocalDate endDate) {
         log.info("현금흐름표 생성 시작 - 회사: {}, 연도: {}, 기간: {}", companyId, fiscalYear, fiscalPeriod);
 
-        Company company = getCompanyById(companyId);
-        
-        FinancialReport report = new FinancialReport();
-        report.setCompany(company);
-        report.setReportType(FinancialReport.ReportType.CASH_FLOW_STATEMENT);
-        report.setFiscalYear(fiscalYear);
-        report.setFiscalPeriod(fiscalPeriod);
+        FinancialReport report = findOrCreateReport(
+            companyId, FinancialReport.ReportType.CASH_FLOW_STATEMENT, fiscalYear, fiscalPeriod);
         report.setBaseDate(endDate);
-        report.setReportStatus(FinancialReport.ReportStatus.DRAFT);
 
-        // 현금흐름 계산 로직 (간소화)
-        // 실제로는 직접법 또는 간접법으로 현금흐름을 계산해야 함
-        
-        // 보고서 완료 처리
-        report.completeGeneration(null);
+        BalanceChangeAssembler assembler = assembleBalanceChanges(companyId, startDate, endDate);
+        assembler.applyCashFlowTo(report);
 
-        FinancialReport savedReport = reportRepository.save(report);
+        FinancialReport savedReport = saveWithSnapshot(report, assembler.cashFlowLines());
         
         log.info("현금흐름표 생성 완료 - ID: {}", savedReport.getId());
         return FinancialReportDto.from(savedReport);
@@ -251,6 +210,7 @@ public class FinancialReportServiceImpl implements FinancialReportService {
 
     /**
      * 자본변동표 생성
+     * 현금흐름표와 같은 집계로 자본 구성요소별 기초/당기순이익/기타 증감/기말 잔액을 계산합니다
      */
     @Override
     @Transactional
@@ -258,27 +218,75 @@ public class FinancialReportServiceImpl implements FinancialReportService {
                                                      LocalDate startDate, LocalDate endDate) {
         log.info("자본변동표 생성 시작 - 회사: {}, 연도: {}, 기간: {}", companyId, fiscalYear, fiscalPeriod);
 
-        Company company = getCompanyById(companyId);
-        
-        FinancialReport report = new FinancialReport();
-        report.setCompany(company);
-        report.setReportType(FinancialReport.ReportType.EQUITY_STATEMENT);
-        report.setFiscalYear(fiscalYear);
-        report.setFiscalPeriod(fiscalPeriod);
+        FinancialReport report = findOrCreateReport(
+            companyId, FinancialReport.ReportType.EQUITY_STATEMENT, fiscalYear, fiscalPeriod);
         report.setBaseDate(endDate);
-        report.setReportStatus(FinancialReport.ReportStatus.DRAFT);
 
-        // 자본 변동 계산 로직
-        
-        // 보고서 완료 처리
-        report.completeGeneration(null);
+        BalanceChangeAssembler assembler = assembleBalanceChanges(companyId, startDate, endDate);
+        assembler.applyEquityTo(report);
 
-        FinancialReport savedReport = reportRepository.save(report);
+        FinancialReport savedReport = saveWithSnapshot(report, assembler.equityLines());
         
         log.info("자본변동표 생성 완료 - ID: {}", savedReport.getId());
         return FinancialReportDto.from(savedReport);
     }
 
+    /**
+     * 기간 시작일이 속한 연도 1월 1일부터 종료일까지 계정과목별 증감을 집계
+     */
+    private BalanceChangeAssembler assembleBalanceChanges(Long companyId, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw ExceptionUtils.businessException("시작일과 종료일은 필수입니다");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw ExceptionUtils.businessException("시작일은 종료일보다 이후일 수 없습니다");
+        }
+        LocalDate yearStart = LocalDate.of(startDate.getYear(), 1, 1);
+        return new BalanceChangeAssembler()
+            .accept(transactionRepository.getBalanceChangesByAccount(companyId, yearStart, startDate, endDate));
+    }
+
+    /**
+     * 같은 회사/유형/연도/기간의 보고서가 있으면 재사용하고 없으면 새로 생성
+     */
+    private FinancialReport findOrCreateReport(Long companyId, FinancialReport.ReportType reportType,
+                                               Integer fiscalYear, String fiscalPeriod) {
+        Company company = getCompanyById(companyId);
+        return reportRepository.findByCompanyIdAndReportTypeAndFiscalYearAndFiscalPeriod(
+            companyId, reportType, fiscalYear, fiscalPeriod)
+            .orElseGet(() -> {
+                FinancialReport created = new FinancialReport();
+                created.setCompany(company);
+                created.setReportType(reportType);
+                created.setFiscalYear(fiscalYear);
+                created.setFiscalPeriod(fiscalPeriod);
+                created.setReportStatus(FinancialReport.ReportStatus.DRAFT);
+                return created;
+            });
+    }
+
+    /**
+     * 보고서를 새 스냅샷 버전으로 완료 처리한 뒤 계산된 항목 저장
+     */
+    private FinancialReport saveWithSnapshot(FinancialReport report, List<ReportSnapshotLineDto> lines) {
+        FinancialReport savedReport = completeWithNextVersion(report);
+        snapshotService.saveSnapshotLines(savedReport.getId(), savedReport.getSnapshotVersion(), lines);
+        return savedReport;
+    }
+
+    /**
+     * 보고서를 완료 처리해 저장한 뒤 보고서 행에서 다음 스냅샷 버전 할당
+     * 버전은 DB에서 원자적으로 증가시키므로 같은 보고서를 동시에 다시 생성해도 버전이 겹치지 않습니다
+     */
+    private FinancialReport completeWithNextVersion(FinancialReport report) {
+        report.setReportData(null);
+        report.completeGeneration(null);
+
+        FinancialReport savedReport = reportRepository.saveAndFlush(report);
+        savedReport.setSnapshotVersion(snapshotService.nextVersion(savedReport.getId()));
+        return savedReport;
+    }
+
     /**
      * 시산표 생성
      */
@@ -288,26 +296,17 @@ public class FinancialReportServiceImpl implements FinancialReportService {
                                                   LocalDate startDate, LocalDate endDate) {
         log.info("시산표 생성 시작 - 회사: {}, 연도: {}, 기간: {}", companyId, fiscalYear, fiscalPeriod);
 
-        Company company = getCompanyById(companyId);
-        
-        FinancialReport report = new FinancialReport();
-        report.setCompany(company);
-        report.setReportType(FinancialReport.ReportType.TRIAL_BALANCE);
-        report.setFiscalYear(fiscalYear);
-        report.setFiscalPeriod(fiscalPeriod);
+        // 기존 보고서가 있으면 새 버전으로 다시 생성 (이전 버전 항목은 비교용으로 보관)
+        FinancialReport report = findOrCreateReport(
+            companyId, FinancialReport.ReportType.TRIAL_BALANCE, fiscalYear, fiscalPeriod);
         report.setBaseDate(endDate);
-        report.setReportStatus(FinancialReport.ReportStatus.DRAFT);
 
-        // 시산표 데이터 생성
-        var trialBalanceData = accountingService.generateTrialBalance(companyId, startDate, endDate);
-        
-        // JSON 형태로 데이터 저장 (실제로는 Jackson 등을 사용)
-        report.setReportData(trialBalanceData.toString());
+        // 시산표 데이터 생성 후 항목 스냅샷으로 일괄 저장
+        List<TrialBalanceDto> trialBalance = accountingService.generateTrialBalance(companyId, startDate, endDate);
 
         // 보고서 완료 처리
-        report.completeGeneration(null);
-
-        FinancialReport savedReport = reportRepository.save(report);
+        FinancialReport savedReport = completeWithNextVersion(report);
+        snapshotService.saveTrialBalanceSnapshot(savedReport.getId(), savedReport.getSnapshotVersion(), trialBalance);
         
         log.info("시산표 생성 완료 - ID: {}", savedReport.getId());
         return FinancialReportDto.from(savedReport);
@@ -418,6 +417,27 @@ public class FinancialReportServiceImpl implements FinancialReportService {
                 LocalDate.of(report.getFiscalYear(), 1, 1),
                 report.getBaseDate()
             );
+            case CASH_FLOW_STATEMENT -> generateCashFlowStatement(
+                report.getCompany().getId(),
+                report.getFiscalYear(),
+                report.getFiscalPeriod(),
+                LocalDate.of(report.getFiscalYear(), 1, 1),
+                report.getBaseDate()
+            );
+            case EQUITY_STATEMENT -> generateEquityStatement(
+                report.getCompany().getId(),
+                report.getFiscalYear(),
+                report.getFiscalPeriod(),
+                LocalDate.of(report.getFiscalYear(), 1, 1),
+                report.getBaseDate()
+            );
+            case TRIAL_BALANCE -> generateTrialBalance(
+                report.getCompany().getId(),
+                report.getFiscalYear(),
+                report.getFiscalPeriod(),
+                LocalDate.of(report.getFiscalYear(), 1, 1),
+                report.getBaseDate()
+            );
             default -> throw ExceptionUtils.businessException("지원하지 않는 보고서 유형입니다");
         };
     }
@@ -488,31 +508,68 @@ public class FinancialReportServiceImpl implements FinancialReportService {
     }
 
     /**
-     * 재무 트렌드 데이터 조회
+     * 재무 트렌드 조회
+     * 마감된 월별 잔액 스냅샷으로 기간별 재무 수치와 재무비율을 계산하며, 결과는 마지막 마감 월 기준으로 캐시합니다
      */
     @Override
     @Transactional(readOnly = true)
-    public Map<String, Object> getFinancialTrends(Long companyId, Integer periods) {
-        List<Object[]> trendsData = reportRepository.getFinancialTrendsData(companyId);
-        
-        Map<String, Object> result = new HashMap<>();
-        result.put("periods", periods);
-        result.put("data", trendsData);
-        
-        return result;
+    public FinancialTrendDto getFinancialTrends(Long companyId, Integer periods,
+                                                ComparativeIncomeStatementDto.Granularity granularity) {
+        if (periods == null || periods < 1 || periods > MAX_COMPARATIVE_PERIODS) {
+            throw ExceptionUtils.businessException("비교 기간 수는 1~" + MAX_COMPARATIVE_PERIODS + " 사이여야 합니다");
+        }
+        ComparativeIncomeStatementDto.Granularity unit = granularity != null
+            ? granularity : ComparativeIncomeStatementDto.Granularity.MONTH;
+
+        Integer lastClosed = accountPeriodBalanceRepository.findLastClosedMonthIndex(companyId);
+        if (lastClosed == null) {
+            return new FinancialTrendDto(companyId, unit, null, null, List.of());
+        }
+        return financialTrendCache.get(companyId, lastClosed, unit + ":" + periods, () -> {
+            FinancialTrendAssembler assembler = new FinancialTrendAssembler(lastClosed, unit.getMonths(), periods);
+            assembler.accept(accountPeriodBalanceRepository.getTrendTotalsByMonth(
+                companyId, assembler.firstMonthIndex(), lastClosed));
+            return new FinancialTrendDto(companyId, unit, lastClosed / 12, lastClosed % 12 + 1,
+                assembler.points(assembler.labels()));
+        });
     }
 
     /**
      * 재무비율 분석
+     * 마감된 회계연도는 연 단위 트렌드(스냅샷)에서, 마감 전 연도는 최신 재무제표에서 계산합니다
      */
     @Override
     @Transactional(readOnly = true)
     public Map<String, Object> getFinancialRatioAnalysis(Long companyId, Integer fiscalYear) {
-        // 최신 재무상태표와 손익계산서 조회
+        Map<String, Object> result = new HashMap<>();
+
+        FinancialTrendDto trends = getFinancialTrends(companyId, RATIO_TREND_YEARS,
+            ComparativeIncomeStatementDto.Granularity.YEAR);
+        String yearEnd = String.format("%04d-12", fiscalYear);
+        Optional<FinancialTrendDto.Point> closed = trends.points().stream()
+            .filter(point -> point.period().endsWith(yearEnd))
+            .findFirst();
+        if (closed.isPresent()) {
+            FinancialTrendDto.Point point = closed.get();
+            result.put("source", "SNAPSHOT");
+            result.put("currentRatio", point.currentRatio());
+            result.put("debtRatio", point.debtRatio());
+            result.put("equityRatio", point.equityRatio());
+            result.put("roa", point.roa());
+            result.put("roe", point.roe());
+            result.put("operatingMargin", point.operatingMargin());
+            result.put("netMargin", point.netMargin());
+            result.put("revenueGrowth", point.revenueGrowth());
+            result.put("netIncomeGrowth", point.netIncomeGrowth());
+            result.put("assetGrowth", point.assetGrowth());
+            result.put("series", trends.points());
+            return result;
+        }
+
+        // 마감 전 연도는 최신 재무상태표와 손익계산서 기준
         Optional<FinancialReport> balanceSheet = reportRepository.findLatestBalanceSheet(companyId);
         Optional<FinancialReport> incomeStatement = reportRepository.findLatestIncomeStatement(companyId);
-
-        Map<String, Object> result = new HashMap<>();
+        result.put("source", "REPORT");
 
         if (balanceSheet.isPresent()) {
             FinancialReport bs = balanceSheet.get();
@@ -525,9 +582,11 @@ public class FinancialReportServiceImpl implements FinancialReportService {
 
         if (incomeStatement.isPresent()) {
             FinancialReport is = incomeStatement.get();
-            result.put("grossMargin", is.getGrossMargin());
+            // 보고서의 매출총이익률은 영업이익 기준이므로 영업이익률로 제공
+            result.put("operatingMargin", is.getGrossMargin());
             result.put("netMargin", is.getNetMargin());
         }
+        result.put("series", trends.points());
 
         return result;
     }
@@ -583,19 +642,4 @@ public class FinancialReportServiceImpl implements FinancialReportService {
         return companyRepository.findById(companyId)
             .orElseThrow(() -> ExceptionUtils.entityNotFoundException("회사를 찾을 수 없습니다"));
     }
-
-    private BigDecimal calculatePeriodAmount(Long accountId, LocalDate startDate, LocalDate endDate) {
-        BigDecimal debitSum = transactionRepository.sumDebitAmountByAccountIdAndDateBetween(accountId, startDate, endDate);
-        BigDecimal creditSum = transactionRepository.sumCreditAmountByAccountIdAndDateBetween(accountId, startDate, endDate);
-        
-        Account account = accountRepository.findById(accountId).orElse(null);
-        if (account == null) return BigDecimal.ZERO;
-
-        // 계정 유형에 따른 금액 계산
-        return switch (account.getAccountType()) {
-            case REVENUE -> creditSum.subtract(debitSum); // 수익은 대변이 증가
-            case EXPENSE -> debitSum.subtract(creditSum);  // 비용은 차변이 증가
-            default -> debitSum.subtract(creditSum);
-        };
-    }
 }
@@ -0,0 +1,283 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.ReportSnapshotDiffDto;
+import com.erp.accounting.dto.ReportSnapshotLineDto;
+import com.erp.accounting.dto.TrialBalanceDto;
+import com.erp.accounting.entity.FinancialReport;
+import com.erp.accounting.entity.FinancialReportItem;
+import com.erp.accounting.repository.FinancialReportItemRepository;
+import com.erp.accounting.repository.FinancialReportRepository;
+import com.erp.accounting.service.FinancialReportSnapshotService;
+import com.erp.common.export.ExportFormat;
+import com.erp.common.export.ExportWriter;
+import com.erp.common.utils.ExceptionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * 재무보고서 스냅샷 서비스 구현체
+ * 보고서 항목을 financial_report_items에 버전별로 일괄 저장하고, 원거래를 다시 집계하지 않고 저장된 항목만 읽습니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FinancialReportSnapshotServiceImpl implements FinancialReportSnapshotService {
+
+    /**
+     * 보고서별로 보관하는 스냅샷 버전 수
+     */
+    static final int KEEP_VERSIONS = 5;
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int FETCH_SIZE = 2_000;
+
+    private static final String INSERT_ITEM_SQL =
+        "INSERT INTO financial_report_items (report_id, report_version, item_name, item_code, line_number, " +
+        "item_level, account_type, parent_item_code, item_type, debit_amount, credit_amount, current_amount, " +
+        "previous_amount, change_amount, change_rate, composition_ratio, is_visible, is_bold, indent_level, " +
+        "created_at, is_deleted) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, 0, 0, true, ?, ?, ?, false)";
+
+    private static final String SNAPSHOT_SQL =
+        "SELECT item_code, item_name, account_type, item_level, parent_item_code, " +
+        "debit_amount, credit_amount, current_amount " +
+        "FROM financial_report_items " +
+        "WHERE report_id = ? AND report_version = ? AND is_deleted = false " +
+        "ORDER BY line_number";
+
+    private static final String[] SNAPSHOT_HEADERS = {
+        "계정코드", "계정과목명", "계정유형", "레벨", "상위계정코드", "차변합계", "대변합계", "잔액"
+    };
+
+    private final FinancialReportRepository reportRepository;
+    private final FinancialReportItemRepository itemRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int nextVersion(Long reportId) {
+        Integer version = jdbcTemplate.queryForObject(FinancialReportRepository.NATIVE_NEXT_SNAPSHOT_VERSION,
+            Integer.class, reportId);
+        if (version == null) {
+            throw ExceptionUtils.entityNotFoundException("보고서를 찾을 수 없습니다");
+        }
+        return version;
+    }
+
+    @Override
+    @Transactional
+    public int saveTrialBalanceSnapshot(Long reportId, int version, List<TrialBalanceDto> lines) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return saveItems(reportId, version, lines.size(),
+            index -> toInsertArgs(reportId, version, index + 1, lines.get(index), now));
+    }
+
+    @Override
+    @Transactional
+    public int saveSnapshotLines(Long reportId, int version, List<ReportSnapshotLineDto> lines) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return saveItems(reportId, version, lines.size(),
+            index -> toInsertArgs(reportId, version, lines.get(index), now));
+    }
+
+    /**
+     * 항목 INSERT 파라미터를 배치 크기 단위로 저장한 뒤 보관 범위 밖의 오래된 버전 정리
+     */
+    private int saveItems(Long reportId, int version, int size, IntFunction<Object[]> argsOf) {
+        List<Object[]> batch = new ArrayList<>(Math.min(size, BATCH_SIZE));
+        for (int i = 0; i < size; i++) {
+            batch.add(argsOf.apply(i));
+            if (batch.size() >= BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, batch);
+        }
+
+        if (version > KEEP_VERSIONS) {
+            int removed = itemRepository.deleteVersionsUpTo(reportId, version - KEEP_VERSIONS);
+            log.debug("오래된 보고서 스냅샷 정리 - 보고서: {}, 삭제 항목: {}", reportId, removed);
+        }
+        log.info("보고서 스냅샷 저장 - 보고서: {}, 버전: {}, 항목: {}", reportId, version, size);
+        return size;
+    }
+
+    @Override
+    public Page<ReportSnapshotLineDto> getSnapshotLines(Long reportId, Integer version, Pageable pageable) {
+        return itemRepository.findSnapshotLines(reportId, resolveVersion(reportId, version), pageable);
+    }
+
+    @Override
+    public void exportSnapshot(Long reportId, Integer version, ExportFormat format,
+                               OutputStream outputStream) throws IOException {
+        int resolved = resolveVersion(reportId, version);
+        log.info("보고서 스냅샷 내보내기 시작 - 보고서: {}, 버전: {}, 형식: {}", reportId, resolved, format);
+
+        PreparedStatementCreator creator = connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                SNAPSHOT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, reportId);
+            statement.setInt(2, resolved);
+            return statement;
+        };
+        ExportWriter.write(format, outputStream, "보고서", writer -> {
+            writer.writeHeader(SNAPSHOT_HEADERS);
+            Object[] row = new Object[SNAPSHOT_HEADERS.length];
+            jdbcTemplate.query(creator, rs -> {
+                row[0] = rs.getString(1);
+                row[1] = rs.getString(2);
+                row[2] = rs.getString(3);
+                row[3] = rs.getInt(4);
+                row[4] = rs.getString(5);
+                row[5] = rs.getBigDecimal(6);
+                row[6] = rs.getBigDecimal(7);
+                row[7] = rs.getBigDecimal(8);
+                try {
+                    writer.writeRow(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("보고서 스냅샷 내보내기 완료 - 보고서: {}, 행 수: {}", reportId, writer.getRowCount());
+        });
+    }
+
+    @Override
+    public ReportSnapshotDiffDto compareVersions(Long reportId, Integer baseVersion, Integer targetVersion) {
+        int target = resolveVersion(reportId, targetVersion);
+        if (baseVersion == null) {
+            baseVersion = target - 1;
+        }
+        int base = resolveVersion(reportId, baseVersion);
+
+        List<ReportSnapshotDiffDto.Line> lines = new ArrayList<>();
+        int added = 0;
+        int removed = 0;
+        for (Object[] row : itemRepository.findSnapshotDifferences(reportId, base, target)) {
+            ReportSnapshotDiffDto.Line line = toDiffLine(row);
+            if (line.changeType() == ReportSnapshotDiffDto.ChangeType.ADDED) {
+                added++;
+            } else if (line.changeType() == ReportSnapshotDiffDto.ChangeType.REMOVED) {
+                removed++;
+            }
+            lines.add(line);
+        }
+        return new ReportSnapshotDiffDto(reportId, base, target, added, removed,
+            lines.size() - added - removed, lines);
+    }
+
+    @Override
+    public int resolveVersion(Long reportId, Integer version) {
+        FinancialReport report = reportRepository.findById(reportId)
+            .orElseThrow(() -> ExceptionUtils.entityNotFoundException("보고서를 찾을 수 없습니다"));
+        int current = report.getSnapshotVersion() != null ? report.getSnapshotVersion() : 0;
+        if (current == 0) {
+            throw ExceptionUtils.businessException("저장된 보고서 항목이 없습니다. 보고서를 다시 생성해 주세요");
+        }
+        if (version == null) {
+            return current;
+        }
+        if (version < Math.max(1, current - KEEP_VERSIONS + 1) || version > current) {
+            throw ExceptionUtils.businessException("조회할 수 없는 보고서 버전입니다: " + version);
+        }
+        return version;
+    }
+
+    /**
+     * 시산표 행 1건을 항목 INSERT 파라미터로 변환
+     */
+    static Object[] toInsertArgs(long reportId, int version, int lineNumber, TrialBalanceDto line, Timestamp now) {
+        boolean leaf = Boolean.TRUE.equals(line.leafAccount());
+        int level = line.accountLevel();
+        return new Object[]{
+            reportId,
+            version,
+            line.accountName(),
+            line.accountCode(),
+            lineNumber,
+            level,
+            line.accountType(),
+            line.parentAccountCode(),
+            (leaf ? FinancialReportItem.ItemType.ACCOUNT : FinancialReportItem.ItemType.SUBTOTAL).name(),
+            line.debitAmount(),
+            line.creditAmount(),
+            line.balance(),
+            !leaf,
+            Math.max(0, level - 1),
+            now
+        };
+    }
+
+    /**
+     * 계산된 보고서 항목 1건을 항목 INSERT 파라미터로 변환
+     */
+    static Object[] toInsertArgs(long reportId, int version, ReportSnapshotLineDto line, Timestamp now) {
+        int level = line.itemLevel() != null ? line.itemLevel() : 1;
+        return new Object[]{
+            reportId,
+            version,
+            line.itemName(),
+            line.itemCode(),
+            line.lineNumber(),
+            level,
+            line.accountType(),
+            line.parentItemCode(),
+            line.itemType().name(),
+            line.debitAmount(),
+            line.creditAmount(),
+            line.balance(),
+            line.itemType() != FinancialReportItem.ItemType.ACCOUNT,
+            Math.max(0, level - 1),
+            now
+        };
+    }
+
+    /**
+     * 버전 비교 결과 행을 변경 항목으로 변환
+     * 행 구조: [항목 코드, 항목명, 기준 존재(1/0), 대상 존재(1/0), 기준 차변, 대상 차변, 기준 대변, 대상 대변, 기준 잔액, 대상 잔액]
+     */
+    static ReportSnapshotDiffDto.Line toDiffLine(Object[] row) {
+        boolean inBase = ((Number) row[2]).intValue() == 1;
+        boolean inTarget = ((Number) row[3]).intValue() == 1;
+        ReportSnapshotDiffDto.ChangeType changeType = !inBase ? ReportSnapshotDiffDto.ChangeType.ADDED
+            : !inTarget ? ReportSnapshotDiffDto.ChangeType.REMOVED
+            : ReportSnapshotDiffDto.ChangeType.CHANGED;
+        BigDecimal baseBalance = (BigDecimal) row[8];
+        BigDecimal targetBalance = (BigDecimal) row[9];
+        BigDecimal change = (targetBalance != null ? targetBalance : BigDecimal.ZERO)
+            .subtract(baseBalance != null ? baseBalance : BigDecimal.ZERO);
+        return new ReportSnapshotDiffDto.Line(
+            (String) row[0],
+            (String) row[1],
+            changeType,
+            (BigDecimal) row[4],
+            (BigDecimal) row[5],
+            (BigDecimal) row[6],
+            (BigDecimal) row[7],
+            baseBalance,
+            targetBalance,
+            change);
+    }
+}
@@ -0,0 +1,210 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.FinancialTrendDto;
+import com.erp.accounting.entity.Account;
+import com.erp.common.utils.MoneyUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재무 트렌드 조립기
+ * 월별 잔액 스냅샷 집계 결과를 한 번의 순회로 기간별 금액 배열(1/100 단위)에 누적하고 재무비율을 계산합니다
+ * 증감률 계산을 위해 요청한 기간 수보다 한 기간 앞의 값까지 누적합니다
+ */
+final class FinancialTrendAssembler {
+
+    /**
+     * 금액 배열 인덱스
+     */
+    static final int CURRENT_ASSETS = 0;
+    static final int TOTAL_ASSETS = 1;
+    static final int CURRENT_LIABILITIES = 2;
+    static final int TOTAL_LIABILITIES = 3;
+    static final int TOTAL_EQUITY = 4;
+    static final int REVENUE = 5;
+    static final int OPERATING_REVENUE = 6;
+    static final int EXPENSES = 7;
+    static final int OPERATING_EXPENSES = 8;
+    static final int SIZE = 9;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final int lastMonthIndex;
+    private final int monthsPerPeriod;
+    private final int columns;
+    private final long[][] amounts;
+
+    /**
+     * @param lastMonthIndex 마지막 마감 월 인덱스 (연도 * 12 + 월 - 1)
+     * @param monthsPerPeriod 기간 하나의 개월 수
+     * @param periods 반환할 기간 수
+     */
+    FinancialTrendAssembler(int lastMonthIndex, int monthsPerPeriod, int periods) {
+        this.lastMonthIndex = lastMonthIndex;
+        this.monthsPerPeriod = monthsPerPeriod;
+        this.columns = periods + 1;
+        this.amounts = new long[SIZE][columns];
+    }
+
+    /**
+     * 누적 대상 첫 월 인덱스 (증감률용 앞 기간 포함)
+     */
+    int firstMonthIndex() {
+        return lastMonthIndex - columns * monthsPerPeriod + 1;
+    }
+
+    /**
+     * 집계 행 목록 누적
+     * 행 구조: [회계연도, 회계월, 계정 유형, 계정 분류, 차변 합계, 대변 합계, 월말 잔액 합계]
+     */
+    FinancialTrendAssembler accept(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            accept(((Number) row[0]).intValue(),
+                ((Number) row[1]).intValue(),
+                Account.AccountType.valueOf((String) row[2]),
+                Account.AccountCategory.valueOf((String) row[3]),
+                MoneyUtils.toCents((BigDecimal) row[4]),
+                MoneyUtils.toCents((BigDecimal) row[5]),
+                MoneyUtils.toCents((BigDecimal) row[6]));
+        }
+        return this;
+    }
+
+    /**
+     * 계정 유형/분류별 월 집계 1건 누적
+     * 잔액 항목은 기간 말 월의 잔액, 수익/비용은 기간 내 월 발생액 합계를 사용합니다
+     * 월말 잔액은 마감분개 반영 전이므로 자본에는 당기 누적 손익(수익 잔액 - 비용 잔액)을 더합니다
+     */
+    void accept(int fiscalYear, int fiscalMonth, Account.AccountType type, Account.AccountCategory category,
+                long debitCents, long creditCents, long closingCents) {
+        int monthsBack = lastMonthIndex - (fiscalYear * 12 + fiscalMonth - 1);
+        if (monthsBack < 0 || monthsBack >= columns * monthsPerPeriod) {
+            return;
+        }
+        int column = columns - 1 - monthsBack / monthsPerPeriod;
+        boolean periodEnd = monthsBack % monthsPerPeriod == 0;
+
+        switch (type) {
+            case ASSET -> {
+                if (periodEnd) {
+                    amounts[TOTAL_ASSETS][column] += closingCents;
+                    if (category == Account.AccountCategory.CURRENT_ASSET) {
+                        amounts[CURRENT_ASSETS][column] += closingCents;
+                    }
+                }
+            }
+            case LIABILITY -> {
+                if (periodEnd) {
+                    amounts[TOTAL_LIABILITIES][column] += closingCents;
+                    if (category == Account.AccountCategory.CURRENT_LIABILITY) {
+                        amounts[CURRENT_LIABILITIES][column] += closingCents;
+                    }
+                }
+            }
+            case EQUITY -> {
+                if (periodEnd) {
+                    amounts[TOTAL_EQUITY][column] += closingCents;
+                }
+            }
+            case REVENUE -> {
+                long revenue = creditCents - debitCents;
+                amounts[REVENUE][column] += revenue;
+                if (category == Account.AccountCategory.OPERATING_REVENUE) {
+                    amounts[OPERATING_REVENUE][column] += revenue;
+                }
+                if (periodEnd) {
+                    amounts[TOTAL_EQUITY][column] += closingCents;
+                }
+            }
+            case EXPENSE -> {
+                long expense = debitCents - creditCents;
+                amounts[EXPENSES][column] += expense;
+                if (category == Account.AccountCategory.OPERATING_EXPENSE) {
+                    amounts[OPERATING_EXPENSES][column] += expense;
+                }
+                if (periodEnd) {
+                    amounts[TOTAL_EQUITY][column] -= closingCents;
+                }
+            }
+        }
+    }
+
+    long amount(int index, int period) {
+        return amounts[index][period + 1];
+    }
+
+    /**
+     * 기간별 재무 수치와 재무비율 생성
+     */
+    List<FinancialTrendDto.Point> points(List<String> labels) {
+        List<FinancialTrendDto.Point> points = new ArrayList<>(columns - 1);
+        for (int column = 1; column < columns; column++) {
+            long totalAssets = amounts[TOTAL_ASSETS][column];
+            long totalEquity = amounts[TOTAL_EQUITY][column];
+            long revenue = amounts[REVENUE][column];
+            long operatingIncome = amounts[OPERATING_REVENUE][column] - amounts[OPERATING_EXPENSES][column];
+            long netIncome = revenue - amounts[EXPENSES][column];
+            long previousNetIncome = amounts[REVENUE][column - 1] - amounts[EXPENSES][column - 1];
+
+            points.add(new FinancialTrendDto.Point(
+                labels.get(column - 1),
+                MoneyUtils.fromCents(amounts[CURRENT_ASSETS][column]),
+                MoneyUtils.fromCents(totalAssets),
+                MoneyUtils.fromCents(amounts[CURRENT_LIABILITIES][column]),
+                MoneyUtils.fromCents(amounts[TOTAL_LIABILITIES][column]),
+                MoneyUtils.fromCents(totalEquity),
+                MoneyUtils.fromCents(revenue),
+                MoneyUtils.fromCents(operatingIncome),
+                MoneyUtils.fromCents(netIncome),
+                ratio(amounts[CURRENT_ASSETS][column], amounts[CURRENT_LIABILITIES][column], false),
+                ratio(amounts[TOTAL_LIABILITIES][column], totalAssets, true),
+                ratio(totalEquity, totalAssets, true),
+                ratio(operatingIncome, revenue, true),
+                ratio(netIncome, revenue, true),
+                ratio(netIncome, totalAssets, true),
+                ratio(netIncome, totalEquity, true),
+                growth(revenue, amounts[REVENUE][column - 1]),
+                growth(netIncome, previousNetIncome),
+                growth(totalAssets, amounts[TOTAL_ASSETS][column - 1])));
+        }
+        return points;
+    }
+
+    /**
+     * 비율 (분모가 0이면 0, 보고서 엔티티의 재무비율 계산과 동일)
+     */
+    static BigDecimal ratio(long numerator, long denominator, boolean percent) {
+        if (denominator == 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        double value = (double) numerator / denominator * (percent ? 100 : 1);
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 증감률 (%) - 이전 값의 절대값 기준
+     */
+    static BigDecimal growth(long current, long previous) {
+        return ratio(current - previous, Math.abs(previous), true);
+    }
+
+    /**
+     * 기간 표시 (월 단위는 yyyy-MM, 그 외는 시작~종료 월)
+     */
+    List<String> labels() {
+        List<String> labels = new ArrayList<>(columns - 1);
+        for (int column = 1; column < columns; column++) {
+            int endIndex = lastMonthIndex - (columns - 1 - column) * monthsPerPeriod;
+            String end = monthLabel(endIndex);
+            labels.add(monthsPerPeriod == 1 ? end : monthLabel(endIndex - monthsPerPeriod + 1) + "~" + end);
+        }
+        return labels;
+    }
+
+    private static String monthLabel(int monthIndex) {
+        return String.format("%04d-%02d", monthIndex / 12, monthIndex % 12 + 1);
+    }
+}
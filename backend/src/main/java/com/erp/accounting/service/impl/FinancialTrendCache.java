@@ -0,0 +1,53 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.FinancialTrendDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 회사별 재무 트렌드 캐시
+ * 마감된 기간의 스냅샷은 바뀌지 않으므로 (회사, 마지막 마감 월) 기준으로 계산 결과를 보관하고,
+ * 마지막 마감 월이 바뀌면 해당 회사의 결과를 통째로 교체합니다
+ */
+@Slf4j
+@Component
+public class FinancialTrendCache {
+
+    private final ConcurrentMap<Long, CompanyTrends> companies = new ConcurrentHashMap<>();
+
+    /**
+     * 회사의 마지막 마감 월 기준 트렌드 조회 (없으면 계산 후 보관)
+     *
+     * @param variant 기간 단위/기간 수 등 같은 마감 월 안에서 결과를 구분하는 키
+     */
+    public FinancialTrendDto get(Long companyId, int lastClosedMonthIndex, String variant,
+                                 Supplier<FinancialTrendDto> loader) {
+        CompanyTrends trends = companies.compute(companyId, (id, existing) ->
+            existing != null && existing.lastClosedMonthIndex == lastClosedMonthIndex
+                ? existing : new CompanyTrends(lastClosedMonthIndex));
+        return trends.series.computeIfAbsent(variant, key -> {
+            log.debug("재무 트렌드 계산 - 회사: {}, 마감 월: {}, 구분: {}", companyId, lastClosedMonthIndex, key);
+            return loader.get();
+        });
+    }
+
+    /**
+     * 회사별 트렌드 무효화
+     */
+    public void evict(Long companyId) {
+        companies.remove(companyId);
+    }
+
+    private static final class CompanyTrends {
+        private final int lastClosedMonthIndex;
+        private final ConcurrentMap<String, FinancialTrendDto> series = new ConcurrentHashMap<>();
+
+        private CompanyTrends(int lastClosedMonthIndex) {
+            this.lastClosedMonthIndex = lastClosedMonthIndex;
+        }
+    }
+}
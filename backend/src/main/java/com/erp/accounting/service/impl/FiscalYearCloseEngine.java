@@ -0,0 +1,292 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.FiscalYearCloseResultDto;
+import com.erp.accounting.entity.Account;
+import com.erp.accounting.entity.Transaction;
+import com.erp.accounting.repository.AccountPeriodBalanceRepository;
+import com.erp.accounting.repository.AccountRepository;
+import com.erp.accounting.repository.TransactionRepository;
+import com.erp.common.utils.ExceptionUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회계연도 마감 엔진
+ * 연간 거래를 한 번의 집계로 읽어 월별 스냅샷, 마감분개, 손익계정 초기화를 단일 트랜잭션으로 처리합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FiscalYearCloseEngine {
+
+    /**
+     * 진행 상황 보고 단위 (계정 수)
+     */
+    private static final int PROGRESS_INTERVAL = 500;
+
+    /**
+     * JDBC 배치 크기
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SNAPSHOT_SQL =
+        "INSERT INTO account_period_balances " +
+        "(company_id, account_id, fiscal_year, fiscal_month, debit_total, credit_total, closing_balance, " +
+        "created_at, updated_at, is_deleted) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+
+    private static final String INSERT_CLOSING_ENTRY_SQL =
+        "INSERT INTO transactions " +
+        "(transaction_number, company_id, transaction_date, transaction_type, transaction_status, account_id, " +
+        "debit_amount, credit_amount, description, fiscal_year, fiscal_month, fiscal_quarter, tax_amount, " +
+        "created_at, updated_at, is_deleted) " +
+        "VALUES (?, ?, ?, 'CLOSING', 'POSTED', ?, ?, ?, ?, ?, 12, 4, 0, ?, ?, false)";
+
+    private static final String UPDATE_BALANCE_SQL =
+        "UPDATE accounts SET current_balance = ?, " +
+        "debit_balance = debit_balance + ?, credit_balance = credit_balance + ?, updated_at = ? " +
+        "WHERE id = ?";
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final AccountPeriodBalanceRepository accountPeriodBalanceRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 마감 진행 상황 수신자
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(String stage, int processed, int total);
+    }
+
+    /**
+     * 회계연도 마감 실행
+     */
+    @Transactional
+    public FiscalYearCloseResultDto close(Long companyId, Integer fiscalYear, ProgressListener listener) {
+        long pendingCount = transactionRepository.countPendingTransactionsByCompanyAndFiscalYear(companyId, fiscalYear);
+        if (pendingCount > 0) {
+            throw ExceptionUtils.businessException("승인되지 않은 거래가 " + pendingCount + "건 있습니다");
+        }
+        if (transactionRepository.existsClosingEntriesByCompanyAndFiscalYear(companyId, fiscalYear)) {
+            throw ExceptionUtils.businessException("이미 마감된 회계연도입니다: " + fiscalYear);
+        }
+
+        // 계정과목 메타데이터를 배열로 적재
+        List<Account> accounts = accountRepository.findTrackingBalanceAccountsByCompanyId(companyId);
+        int accountCount = accounts.size();
+        Map<Long, Integer> indexById = new HashMap<>(accountCount * 2);
+        long[] accountIds = new long[accountCount];
+        boolean[] debitNormal = new boolean[accountCount];
+        boolean[] nominal = new boolean[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            Account account = accounts.get(i);
+            indexById.put(account.getId(), i);
+            accountIds[i] = account.getId();
+            debitNormal[i] = account.getDebitCreditType() == Account.DebitCreditType.DEBIT;
+            nominal[i] = account.getAccountType() == Account.AccountType.REVENUE
+                || account.getAccountType() == Account.AccountType.EXPENSE;
+        }
+        BigDecimal[] openingBalances = openingBalances(companyId, fiscalYear, accounts, indexById, debitNormal);
+
+        // 연간 계정과목별/월별 합계를 단일 집계로 조회
+        BigDecimal[][] monthlyDebits = new BigDecimal[accountCount][12];
+        BigDecimal[][] monthlyCredits = new BigDecimal[accountCount][12];
+        for (Object[] row : transactionRepository.getFiscalYearTotalsByAccountAndMonth(companyId, fiscalYear)) {
+            Integer index = indexById.get((Long) row[0]);
+            if (index == null) {
+                continue;
+            }
+            int month = (Integer) row[1] - 1;
+            monthlyDebits[index][month] = (BigDecimal) row[2];
+            monthlyCredits[index][month] = (BigDecimal) row[3];
+        }
+        report(listener, companyId, "AGGREGATE", accountCount, accountCount);
+
+        // 영속성 컨텍스트의 변경분을 JDBC 배치 전에 반영
+        entityManager.flush();
+        accountPeriodBalanceRepository.deleteByCompanyIdAndFiscalYear(companyId, fiscalYear);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        BigDecimal[] closingBalances = new BigDecimal[accountCount];
+        BigDecimal[] yearNetDebits = new BigDecimal[accountCount];
+        List<Object[]> snapshotBatch = new ArrayList<>(BATCH_SIZE);
+        int snapshotCount = 0;
+        for (int i = 0; i < accountCount; i++) {
+            BigDecimal balance = openingBalances[i];
+            BigDecimal netDebit = BigDecimal.ZERO;
+            for (int month = 0; month < 12; month++) {
+                BigDecimal debit = monthlyDebits[i][month] != null ? monthlyDebits[i][month] : BigDecimal.ZERO;
+                BigDecimal credit = monthlyCredits[i][month] != null ? monthlyCredits[i][month] : BigDecimal.ZERO;
+                BigDecimal monthNet = debit.subtract(credit);
+                netDebit = netDebit.add(monthNet);
+                balance = debitNormal[i] ? balance.add(monthNet) : balance.subtract(monthNet);
+
+                snapshotBatch.add(new Object[]{
+                    companyId, accountIds[i], fiscalYear, month + 1, debit, credit, balance, now, now
+                });
+                if (snapshotBatch.size() >= BATCH_SIZE) {
+                    snapshotCount += executeBatch(INSERT_SNAPSHOT_SQL, snapshotBatch);
+                }
+            }
+            closingBalances[i] = balance;
+            yearNetDebits[i] = netDebit;
+
+            if ((i + 1) % PROGRESS_INTERVAL == 0) {
+                report(listener, companyId, "SNAPSHOT", i + 1, accountCount);
+            }
+        }
+        snapshotCount += executeBatch(INSERT_SNAPSHOT_SQL, snapshotBatch);
+        report(listener, companyId, "SNAPSHOT", accountCount, accountCount);
+
+        // 손익계정 마감분개 생성 (순차변 합계 = -당기순이익)
+        LocalDate closingDate = LocalDate.of(fiscalYear, 12, 31);
+        String numberPrefix = "CL" + closingDate.toString().replace("-", "");
+        List<Object[]> entryBatch = new ArrayList<>();
+        BigDecimal nominalNetDebit = BigDecimal.ZERO;
+        for (int i = 0; i < accountCount; i++) {
+            if (!nominal[i] || yearNetDebits[i].signum() == 0) {
+                continue;
+            }
+            BigDecimal net = yearNetDebits[i];
+            nominalNetDebit = nominalNetDebit.add(net);
+            entryBatch.add(closingEntry(numberPrefix, entryBatch.size() + 1, companyId, closingDate, accountIds[i],
+                net.signum() < 0 ? net.negate() : BigDecimal.ZERO,
+                net.signum() > 0 ? net : BigDecimal.ZERO,
+                "회계연도 마감 - 손익계정 대체", fiscalYear, now));
+        }
+
+        BigDecimal[] debitIncrements = new BigDecimal[accountCount];
+        BigDecimal[] creditIncrements = new BigDecimal[accountCount];
+        if (nominalNetDebit.signum() != 0) {
+            Account retainedEarnings = accountRepository.findRetainedEarningsAccountsByCompanyId(companyId).stream()
+                .findFirst()
+                .orElseThrow(() -> ExceptionUtils.businessException("이익잉여금 계정과목을 찾을 수 없습니다"));
+
+            BigDecimal debit = nominalNetDebit.signum() > 0 ? nominalNetDebit : BigDecimal.ZERO;
+            BigDecimal credit = nominalNetDebit.signum() < 0 ? nominalNetDebit.negate() : BigDecimal.ZERO;
+            entryBatch.add(closingEntry(numberPrefix, entryBatch.size() + 1, companyId, closingDate,
+                retainedEarnings.getId(), debit, credit, "회계연도 마감 - 당기순손익 대체", fiscalYear, now));
+
+            Integer index = indexById.get(retainedEarnings.getId());
+            if (index != null) {
+                BigDecimal net = debit.subtract(credit);
+                closingBalances[index] = debitNormal[index]
+                    ? closingBalances[index].add(net) : closingBalances[index].subtract(net);
+                debitIncrements[index] = debit;
+                creditIncrements[index] = credit;
+            }
+        }
+        int closingEntryCount = executeBatch(INSERT_CLOSING_ENTRY_SQL, entryBatch);
+        report(listener, companyId, "CLOSING_ENTRY", closingEntryCount, closingEntryCount);
+
+        // 실질계정 잔액 일괄 갱신
+        List<Object[]> balanceBatch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < accountCount; i++) {
+            if (nominal[i]) {
+                continue;
+            }
+            balanceBatch.add(new Object[]{
+                closingBalances[i],
+                debitIncrements[i] != null ? debitIncrements[i] : BigDecimal.ZERO,
+                creditIncrements[i] != null ? creditIncrements[i] : BigDecimal.ZERO,
+                now,
+                accountIds[i]
+            });
+            if (balanceBatch.size() >= BATCH_SIZE) {
+                executeBatch(UPDATE_BALANCE_SQL, balanceBatch);
+            }
+        }
+        executeBatch(UPDATE_BALANCE_SQL, balanceBatch);
+
+        // 손익계정 잔액 일괄 초기화
+        int resetCount = accountRepository.resetBalancesByCompanyIdAndAccountTypes(
+            companyId, EnumSet.of(Account.AccountType.REVENUE, Account.AccountType.EXPENSE));
+        report(listener, companyId, "RESET", resetCount, resetCount);
+
+        return new FiscalYearCloseResultDto(companyId, fiscalYear, accountCount, snapshotCount,
+            closingEntryCount, resetCount, nominalNetDebit.negate());
+    }
+
+    /**
+     * 연초 잔액
+     * 직전 연도 마감 스냅샷이 있으면 12월 말 잔액에 마감분개를 더하고 (손익계정은 0, 이익잉여금은 대체액 포함),
+     * 없으면 계정 기초잔액에 이전 연도 거래 누계를 더합니다
+     */
+    private BigDecimal[] openingBalances(Long companyId, Integer fiscalYear, List<Account> accounts,
+                                         Map<Long, Integer> indexById, boolean[] debitNormal) {
+        BigDecimal[] balances = new BigDecimal[accounts.size()];
+        for (int i = 0; i < balances.length; i++) {
+            BigDecimal opening = accounts.get(i).getOpeningBalance();
+            balances[i] = opening != null ? opening : BigDecimal.ZERO;
+        }
+        int previousYear = fiscalYear - 1;
+        List<Object[]> movements;
+        if (accountPeriodBalanceRepository.existsByCompanyIdAndFiscalYear(companyId, previousYear)) {
+            for (Object[] row : accountPeriodBalanceRepository.getClosingBalancesByAccount(companyId, previousYear, 12)) {
+                Integer index = indexById.get((Long) row[0]);
+                if (index != null && row[1] != null) {
+                    balances[index] = (BigDecimal) row[1];
+                }
+            }
+            movements = transactionRepository.getClosingEntryTotalsByAccount(companyId, previousYear);
+        } else {
+            movements = transactionRepository.getTotalsByAccountBeforeFiscalYear(companyId, fiscalYear);
+        }
+        for (Object[] row : movements) {
+            Integer index = indexById.get((Long) row[0]);
+            if (index == null) {
+                continue;
+            }
+            BigDecimal net = ((BigDecimal) row[1]).subtract((BigDecimal) row[2]);
+            balances[index] = debitNormal[index] ? balances[index].add(net) : balances[index].subtract(net);
+        }
+        return balances;
+    }
+
+    private Object[] closingEntry(String numberPrefix, int sequence, Long companyId, LocalDate closingDate,
+                                  Long accountId, BigDecimal debit, BigDecimal credit, String description,
+                                  Integer fiscalYear, Timestamp now) {
+        return new Object[]{
+            numberPrefix + String.format("%04d", sequence), companyId, Date.valueOf(closingDate), accountId,
+            debit, credit, description, fiscalYear, now, now
+        };
+    }
+
+    private int executeBatch(String sql, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        int size = batch.size();
+        jdbcTemplate.batchUpdate(sql, batch);
+        batch.clear();
+        return size;
+    }
+
+    private void report(ProgressListener listener, Long companyId, String stage, int processed, int total) {
+        log.info("회계연도 마감 진행 - 회사: {}, 단계: {}, 처리: {}/{}", companyId, stage, processed, total);
+        if (listener != null) {
+            listener.onProgress(stage, processed, total);
+        }
+    }
+}
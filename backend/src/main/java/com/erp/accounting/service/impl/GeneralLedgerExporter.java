@@ -0,0 +1,49 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.common.export.ExportWriter;
+import com.erp.common.utils.MoneyUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 총계정원장 행 작성기
+ * 계정코드/일자 순으로 정렬된 전기 거래를 받아 계정과목별 누적 잔액과 함께 작성합니다
+ */
+class GeneralLedgerExporter {
+
+    static final String[] HEADERS = {
+        "계정코드", "계정과목명", "거래일자", "거래번호", "적요", "차변", "대변", "잔액"
+    };
+
+    private final ExportWriter writer;
+    private long currentAccountId = -1L;
+    private boolean debitNormal;
+    private long balanceCents;
+
+    GeneralLedgerExporter(ExportWriter writer) throws IOException {
+        this.writer = writer;
+        writer.writeHeader(HEADERS);
+    }
+
+    /**
+     * 원장 1행 작성 (계정과목이 바뀌면 기초잔액부터 다시 누적)
+     */
+    void accept(long accountId, String accountCode, String accountName, boolean debitNormal,
+                BigDecimal openingBalance, LocalDate transactionDate, String transactionNumber,
+                String description, BigDecimal debitAmount, BigDecimal creditAmount) throws IOException {
+        if (accountId != currentAccountId) {
+            this.currentAccountId = accountId;
+            this.debitNormal = debitNormal;
+            this.balanceCents = MoneyUtils.toCents(openingBalance);
+        }
+
+        long debit = MoneyUtils.toCents(debitAmount);
+        long credit = MoneyUtils.toCents(creditAmount);
+        balanceCents += this.debitNormal ? debit - credit : credit - debit;
+
+        writer.writeRow(accountCode, accountName, transactionDate, transactionNumber, description,
+            debitAmount, creditAmount, MoneyUtils.fromCents(balanceCents));
+    }
+}
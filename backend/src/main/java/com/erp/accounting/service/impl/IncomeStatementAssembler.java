@@ -0,0 +1,154 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.ComparativeIncomeStatementDto;
+import com.erp.accounting.entity.Account;
+import com.erp.accounting.entity.FinancialReport;
+import com.erp.common.utils.MoneyUtils;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 손익계산서 조립기
+ * 계정 분류/월별 집계 결과를 한 번의 순회로 기간별 손익 항목 배열(1/100 단위)에 누적합니다
+ * 단일 기간 손익계산서는 기간 수 1, 비교 손익계산서는 월/분기 수만큼의 열을 사용합니다
+ */
+final class IncomeStatementAssembler {
+
+    /**
+     * 집계 항목 인덱스
+     */
+    static final int OPERATING_REVENUE = 0;
+    static final int OPERATING_EXPENSE = 1;
+    static final int NON_OPERATING_REVENUE = 2;
+    static final int NON_OPERATING_EXPENSE = 3;
+    static final int INCOME_TAX = 4;
+    static final int ITEM_COUNT = 5;
+
+    private static final String[][] LINES = {
+        {"OPERATING_REVENUE", "영업수익"},
+        {"OPERATING_EXPENSE", "영업비용"},
+        {"OPERATING_INCOME", "영업이익"},
+        {"NON_OPERATING_REVENUE", "영업외수익"},
+        {"NON_OPERATING_EXPENSE", "영업외비용"},
+        {"INCOME_BEFORE_TAX", "법인세차감전순이익"},
+        {"INCOME_TAX", "법인세비용"},
+        {"NET_INCOME", "당기순이익"}
+    };
+
+    private final YearMonth startMonth;
+    private final int monthsPerPeriod;
+    private final long[][] amounts;
+
+    /**
+     * @param startMonth 첫 기간 시작 월
+     * @param monthsPerPeriod 기간 하나의 개월 수 (단일 기간이면 전체 개월 수 이상)
+     * @param periods 기간 수
+     */
+    IncomeStatementAssembler(YearMonth startMonth, int monthsPerPeriod, int periods) {
+        this.startMonth = startMonth;
+        this.monthsPerPeriod = monthsPerPeriod;
+        this.amounts = new long[ITEM_COUNT][periods];
+    }
+
+    /**
+     * 집계 행 목록 누적
+     * 행 구조: [계정 유형, 계정 분류, 법인세 여부(1/0), 회계연도, 회계월, 차변 합계, 대변 합계]
+     */
+    IncomeStatementAssembler accept(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            accept(Account.AccountType.valueOf((String) row[0]),
+                Account.AccountCategory.valueOf((String) row[1]),
+                ((Number) row[2]).intValue() == 1,
+                ((Number) row[3]).intValue(),
+                ((Number) row[4]).intValue(),
+                MoneyUtils.toCents((BigDecimal) row[5]),
+                MoneyUtils.toCents((BigDecimal) row[6]));
+        }
+        return this;
+    }
+
+    void accept(Account.AccountType type, Account.AccountCategory category, boolean incomeTax,
+                int fiscalYear, int fiscalMonth, long debitCents, long creditCents) {
+        long monthOffset = startMonth.until(YearMonth.of(fiscalYear, fiscalMonth), ChronoUnit.MONTHS);
+        int period = (int) (monthOffset / monthsPerPeriod);
+        if (monthOffset < 0 || period >= amounts[0].length) {
+            return;
+        }
+        if (type == Account.AccountType.REVENUE) {
+            int item = category == Account.AccountCategory.OPERATING_REVENUE ? OPERATING_REVENUE : NON_OPERATING_REVENUE;
+            amounts[item][period] += creditCents - debitCents;
+        } else if (type == Account.AccountType.EXPENSE) {
+            int item = incomeTax ? INCOME_TAX
+                : category == Account.AccountCategory.OPERATING_EXPENSE ? OPERATING_EXPENSE : NON_OPERATING_EXPENSE;
+            amounts[item][period] += debitCents - creditCents;
+        }
+    }
+
+    long amount(int item, int period) {
+        return amounts[item][period];
+    }
+
+    long totalRevenue(int period) {
+        return amounts[OPERATING_REVENUE][period] + amounts[NON_OPERATING_REVENUE][period];
+    }
+
+    long totalExpenses(int period) {
+        return amounts[OPERATING_EXPENSE][period] + amounts[NON_OPERATING_EXPENSE][period] + amounts[INCOME_TAX][period];
+    }
+
+    long operatingIncome(int period) {
+        return amounts[OPERATING_REVENUE][period] - amounts[OPERATING_EXPENSE][period];
+    }
+
+    long netIncome(int period) {
+        return totalRevenue(period) - totalExpenses(period);
+    }
+
+    long incomeBeforeTax(int period) {
+        return netIncome(period) + amounts[INCOME_TAX][period];
+    }
+
+    /**
+     * 첫 기간 금액을 손익계산서 보고서에 반영
+     */
+    void applyTo(FinancialReport report) {
+        report.setTotalRevenue(MoneyUtils.fromCents(totalRevenue(0)));
+        report.setTotalExpenses(MoneyUtils.fromCents(totalExpenses(0)));
+        report.setOperatingIncome(MoneyUtils.fromCents(operatingIncome(0)));
+        report.setIncomeBeforeTax(MoneyUtils.fromCents(incomeBeforeTax(0)));
+        report.setNetIncome(MoneyUtils.fromCents(netIncome(0)));
+    }
+
+    /**
+     * 기간별 손익 항목 행 생성
+     */
+    List<ComparativeIncomeStatementDto.Line> lines() {
+        int periods = amounts[0].length;
+        List<ComparativeIncomeStatementDto.Line> lines = new ArrayList<>(LINES.length);
+        for (int line = 0; line < LINES.length; line++) {
+            List<BigDecimal> values = new ArrayList<>(periods);
+            for (int period = 0; period < periods; period++) {
+                values.add(MoneyUtils.fromCents(lineAmount(line, period)));
+            }
+            lines.add(new ComparativeIncomeStatementDto.Line(LINES[line][0], LINES[line][1], values));
+        }
+        return lines;
+    }
+
+    private long lineAmount(int line, int period) {
+        return switch (line) {
+            case 0 -> amounts[OPERATING_REVENUE][period];
+            case 1 -> amounts[OPERATING_EXPENSE][period];
+            case 2 -> operatingIncome(period);
+            case 3 -> amounts[NON_OPERATING_REVENUE][period];
+            case 4 -> amounts[NON_OPERATING_EXPENSE][period];
+            case 5 -> incomeBeforeTax(period);
+            case 6 -> amounts[INCOME_TAX][period];
+            default -> netIncome(period);
+        };
+    }
+}
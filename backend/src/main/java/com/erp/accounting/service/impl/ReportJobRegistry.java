@@ -0,0 +1,104 @@
+package com.erp.accounting.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+/**
+ * 보고서 작업 레지스트리
+ * 진행 중 작업의 중복 요청 키 → 작업 ID 매핑(단일 실행)과 작업별 SSE 구독자를 관리합니다
+ */
+@Slf4j
+final class ReportJobRegistry {
+
+    static final String EVENT_NAME = "job";
+
+    /**
+     * 작업 선점 결과
+     *
+     * @param jobId 실행할(또는 이미 진행 중인) 작업 ID
+     * @param created 이번 요청으로 새 작업이 만들어졌는지 여부
+     */
+    record Claim(long jobId, boolean created) {
+    }
+
+    private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 중복 요청 키로 진행 중 작업 선점
+     * 같은 키의 작업이 진행 중이면 그 작업 ID를, 없으면 새 작업을 만들어 등록합니다
+     */
+    Claim claim(String key, LongSupplier createJob) {
+        boolean[] created = new boolean[1];
+        long jobId = inFlight.computeIfAbsent(key, k -> {
+            created[0] = true;
+            return createJob.getAsLong();
+        });
+        return new Claim(jobId, created[0]);
+    }
+
+    /**
+     * 진행 중 작업 해제 (같은 작업이 등록된 경우에만)
+     */
+    void release(String key, long jobId) {
+        inFlight.remove(key, jobId);
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * SSE 구독자 등록 (완료/시간초과/오류 시 자동 해제)
+     */
+    void subscribe(long jobId, SseEmitter emitter) {
+        subscribers.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+        Runnable remove = () -> unsubscribe(jobId, emitter);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+    }
+
+    private void unsubscribe(long jobId, SseEmitter emitter) {
+        subscribers.computeIfPresent(jobId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    /**
+     * 작업 상태를 구독자에게 전송 (종료 상태면 전송 후 구독 종료)
+     */
+    void publish(long jobId, Object payload, boolean finished) {
+        List<SseEmitter> emitters = finished ? subscribers.remove(jobId) : subscribers.get(jobId);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            if (send(emitter, payload) && finished) {
+                emitter.complete();
+            }
+        }
+    }
+
+    /**
+     * 이벤트 1건 전송 (연결이 끊긴 구독자는 해제)
+     */
+    static boolean send(SseEmitter emitter, Object payload) {
+        try {
+            emitter.send(SseEmitter.event().name(EVENT_NAME).data(payload));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("보고서 작업 SSE 전송 실패 - {}", e.getMessage());
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.TransactionStatisticsDto;
+import com.erp.accounting.entity.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래 통계 조립기
+ * GROUPING SETS 집계 결과를 한 번의 순회로 거래 통계 DTO로 변환합니다
+ */
+final class TransactionStatisticsAssembler {
+
+    /**
+     * GROUPING(유형, 상태, 일자) 비트값
+     */
+    static final int GROUPING_TOTAL = 7;
+    static final int GROUPING_BY_TYPE = 3;
+    static final int GROUPING_BY_STATUS = 5;
+    static final int GROUPING_BY_DATE = 6;
+
+    private TransactionStatisticsAssembler() {
+    }
+
+    /**
+     * 집계 행 목록으로 통계 DTO 생성
+     * 행 구조: [그룹 구분, 거래 유형, 거래 상태, 거래일자, 건수, 차변 합계, 대변 합계]
+     */
+    static TransactionStatisticsDto assemble(LocalDate startDate, LocalDate endDate, List<Object[]> rows) {
+        int typeCount = Transaction.TransactionType.values().length;
+        int statusCount = Transaction.TransactionStatus.values().length;
+        int dayCount = (int) Math.min(Math.max(ChronoUnit.DAYS.between(startDate, endDate) + 1, 1), 366);
+
+        Map<String, Long> countByType = new HashMap<>(capacity(typeCount));
+        Map<String, BigDecimal> amountByType = new HashMap<>(capacity(typeCount));
+        Map<String, Long> countByStatus = new HashMap<>(capacity(statusCount));
+        Map<String, Long> dailyCounts = new LinkedHashMap<>(capacity(dayCount));
+        Map<String, BigDecimal> dailyAmounts = new LinkedHashMap<>(capacity(dayCount));
+
+        long totalCount = 0L;
+        BigDecimal totalDebit = BigDecimal.ZERO;
+        BigDecimal totalCredit = BigDecimal.ZERO;
+
+        for (Object[] row : rows) {
+            int grouping = ((Number) row[0]).intValue();
+            long count = ((Number) row[4]).longValue();
+            BigDecimal debit = (BigDecimal) row[5];
+            BigDecimal credit = (BigDecimal) row[6];
+
+            switch (grouping) {
+                case GROUPING_TOTAL -> {
+                    totalCount = count;
+                    totalDebit = debit;
+                    totalCredit = credit;
+                }
+                case GROUPING_BY_TYPE -> {
+                    String type = (String) row[1];
+                    countByType.put(type, count);
+                    amountByType.put(type, debit.add(credit));
+                }
+                case GROUPING_BY_STATUS -> countByStatus.put((String) row[2], count);
+                case GROUPING_BY_DATE -> {
+                    String date = row[3].toString();
+                    dailyCounts.put(date, count);
+                    dailyAmounts.put(date, debit.add(credit));
+                }
+                default -> {
+                    // 정의되지 않은 그룹은 무시
+                }
+            }
+        }
+
+        return new TransactionStatisticsDto(
+            startDate,
+            endDate,
+            totalCount,
+            totalDebit.add(totalCredit),
+            totalDebit,
+            totalCredit,
+            countByType,
+            amountByType,
+            countByStatus,
+            dailyCounts,
+            dailyAmounts
+        );
+    }
+
+    private static int capacity(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+}
@@ -0,0 +1,121 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.VatSummaryDto;
+import com.erp.accounting.entity.Transaction;
+import com.erp.accounting.service.VatReportService;
+import com.erp.common.export.ExportFormat;
+import com.erp.common.export.ExportWriter;
+import com.erp.common.utils.ExceptionUtils;
+import com.erp.common.utils.MoneyUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+
+/**
+ * 부가가치세 신고 요약 서비스 구현체
+ * 거래 엔티티를 적재하지 않고 한 번의 그룹 집계 쿼리를 커서로 읽어 누적기에 흘려보냅니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class VatReportServiceImpl implements VatReportService {
+
+    private static final int FETCH_SIZE = 2_000;
+
+    /**
+     * 세금유형이 있는 거래와 매출/매입 거래의 (유형, 세금유형, 거래처, 세금계산서번호)별 집계
+     * 세금유형이 없는 행은 거래처/세금계산서를 묶어 부가세 전기액 한 줄로 모읍니다
+     */
+    private static final String VAT_SUMMARY_SQL =
+        "SELECT t.transaction_type, t.tax_type, " +
+        "CASE WHEN t.tax_type IS NULL THEN NULL ELSE t.business_partner END AS partner, " +
+        "CASE WHEN t.tax_type IS NULL THEN NULL ELSE t.tax_invoice_number END AS invoice, " +
+        "COUNT(*), SUM(t.debit_amount), SUM(t.credit_amount), SUM(COALESCE(t.tax_amount, 0)) " +
+        "FROM transactions t " +
+        "WHERE t.company_id = ? AND t.transaction_date BETWEEN ? AND ? AND t.fiscal_year = ? " +
+        "AND t.transaction_status = 'POSTED' AND t.is_deleted = false " +
+        "AND (t.tax_type IS NOT NULL OR t.transaction_type IN ('SALES', 'PURCHASE')) " +
+        "GROUP BY 1, 2, 3, 4";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public VatSummaryDto getVatSummary(Long companyId, Integer fiscalYear, VatSummaryDto.FilingPeriod filingPeriod) {
+        validateFilingPeriod(companyId, fiscalYear, filingPeriod);
+        LocalDate startDate = filingPeriod.startDate(fiscalYear);
+        LocalDate endDate = filingPeriod.endDate(fiscalYear);
+        VatSummaryAccumulator accumulator = aggregate(companyId, fiscalYear, startDate, endDate);
+        return accumulator.toDto(companyId, fiscalYear, filingPeriod, startDate, endDate);
+    }
+
+    @Override
+    public void exportVatSummary(Long companyId, Integer fiscalYear, VatSummaryDto.FilingPeriod filingPeriod,
+                                 ExportFormat format, OutputStream outputStream) throws IOException {
+        validateFilingPeriod(companyId, fiscalYear, filingPeriod);
+        VatSummaryAccumulator accumulator = aggregate(companyId, fiscalYear,
+            filingPeriod.startDate(fiscalYear), filingPeriod.endDate(fiscalYear));
+        ExportWriter.write(format, outputStream, "부가세 " + filingPeriod.getDescription(), writer -> {
+            accumulator.writeTo(writer);
+            log.info("부가가치세 요약 내보내기 완료 - 회사: {}, 기간: {} {}, 행 수: {}",
+                    companyId, fiscalYear, filingPeriod, writer.getRowCount());
+        });
+    }
+
+    @Override
+    public void validateFilingPeriod(Long companyId, Integer fiscalYear, VatSummaryDto.FilingPeriod filingPeriod) {
+        if (companyId == null) {
+            throw ExceptionUtils.businessException("회사 ID는 필수입니다");
+        }
+        if (fiscalYear == null || fiscalYear < 2000 || fiscalYear > 2100) {
+            throw ExceptionUtils.businessException("회계연도는 2000~2100년 사이여야 합니다");
+        }
+        if (filingPeriod == null) {
+            throw ExceptionUtils.businessException("신고 기간은 필수입니다");
+        }
+    }
+
+    /**
+     * 집계 쿼리를 전진 전용 커서로 읽어 누적
+     */
+    private VatSummaryAccumulator aggregate(Long companyId, int fiscalYear, LocalDate startDate, LocalDate endDate) {
+        long started = System.nanoTime();
+        VatSummaryAccumulator accumulator = new VatSummaryAccumulator();
+        PreparedStatementCreator creator = connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                VAT_SUMMARY_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, companyId);
+            statement.setDate(2, Date.valueOf(startDate));
+            statement.setDate(3, Date.valueOf(endDate));
+            statement.setInt(4, fiscalYear);
+            return statement;
+        };
+        jdbcTemplate.query(creator, rs -> {
+            String taxType = rs.getString(2);
+            accumulator.accept(
+                Transaction.TransactionType.valueOf(rs.getString(1)),
+                taxType != null ? Transaction.TaxType.valueOf(taxType) : null,
+                rs.getString(3),
+                rs.getString(4),
+                rs.getLong(5),
+                MoneyUtils.toCents(rs.getBigDecimal(6)),
+                MoneyUtils.toCents(rs.getBigDecimal(7)),
+                MoneyUtils.toCents(rs.getBigDecimal(8)));
+        });
+        log.info("부가가치세 요약 집계 - 회사: {}, 기간: {} ~ {}, 거래처: {}, 세금계산서: {}, {}ms",
+                companyId, startDate, endDate, accumulator.partnerCount(), accumulator.invoiceCount(),
+                (System.nanoTime() - started) / 1_000_000);
+        return accumulator;
+    }
+}
@@ -0,0 +1,301 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.VatSummaryDto;
+import com.erp.accounting.dto.VatSummaryDto.Direction;
+import com.erp.accounting.entity.Transaction;
+import com.erp.common.export.ExportWriter;
+import com.erp.common.utils.MoneyUtils;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부가가치세 요약 누적기
+ * (거래 유형, 세금유형, 거래처, 세금계산서번호)별 집계 행을 한 번씩 받아
+ * 세금유형/거래처/세금계산서별 금액을 1/100 단위 long 배열에 누적합니다
+ *
+ * 세금유형이 없는 매출 대변/매입 차변 전기액은 부가세(예수금/대급금) 전기액으로 보고 신고세액과 대사합니다
+ */
+final class VatSummaryAccumulator {
+
+    static final String[] EXPORT_HEADERS = {
+        "구분", "매출/매입", "세금유형", "거래처", "세금계산서번호", "건수", "공급가액", "세액", "비고"
+    };
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final Transaction.TaxType[] TAX_TYPES = Transaction.TaxType.values();
+    private static final int TAX_TYPE_COUNT = TAX_TYPES.length;
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    // 세금유형별 (구분 * 세금유형 수 + 세금유형)
+    private final long[] typeLines = new long[DIRECTIONS.length * TAX_TYPE_COUNT];
+    private final long[] typeSupply = new long[DIRECTIONS.length * TAX_TYPE_COUNT];
+    private final long[] typeTax = new long[DIRECTIONS.length * TAX_TYPE_COUNT];
+
+    // 대사 (구분별)
+    private final long[] expectedTax = new long[DIRECTIONS.length];
+    private final long[] postedTax = new long[DIRECTIONS.length];
+    private final long[] missingInvoiceLines = new long[DIRECTIONS.length];
+
+    // 거래처별
+    private final Map<String, Integer> partnerIndex = new HashMap<>();
+    private int partnerCount;
+    private int[] partnerDirections = new int[64];
+    private String[] partnerNames = new String[64];
+    private long[] partnerLines = new long[64];
+    private int[] partnerInvoices = new int[64];
+    private long[] partnerSupply = new long[64];
+    private long[] partnerTax = new long[64];
+
+    // 세금계산서별
+    private final Map<String, Integer> invoiceIndex = new HashMap<>();
+    private int invoiceCount;
+    private int[] invoiceDirections = new int[64];
+    private String[] invoiceNumbers = new String[64];
+    private String[] invoicePartners = new String[64];
+    private long[] invoiceLines = new long[64];
+    private long[] invoiceSupply = new long[64];
+    private long[] invoiceTax = new long[64];
+
+    /**
+     * 집계 행 누적
+     *
+     * @param taxType 세금유형 (없으면 부가세 전기액 후보)
+     * @param debitCents 차변 합계 (1/100 단위)
+     * @param creditCents 대변 합계 (1/100 단위)
+     * @param taxCents 세액 합계 (1/100 단위)
+     */
+    void accept(Transaction.TransactionType transactionType, Transaction.TaxType taxType, String businessPartner,
+                String taxInvoiceNumber, long lineCount, long debitCents, long creditCents, long taxCents) {
+        Direction direction = Direction.of(transactionType);
+        int d = direction.ordinal();
+
+        if (taxType == null) {
+            if (direction == Direction.SALES) {
+                postedTax[d] += creditCents;
+            } else if (direction == Direction.PURCHASE) {
+                postedTax[d] += debitCents;
+            }
+            return;
+        }
+
+        // 공급가액: 매출은 대변 - 차변, 매입은 차변 - 대변, 기타는 발생액
+        long supply = switch (direction) {
+            case SALES -> creditCents - debitCents;
+            case PURCHASE -> debitCents - creditCents;
+            case OTHER -> debitCents + creditCents;
+        };
+
+        int slot = d * TAX_TYPE_COUNT + taxType.ordinal();
+        typeLines[slot] += lineCount;
+        typeSupply[slot] += supply;
+        typeTax[slot] += taxCents;
+        if (taxType != Transaction.TaxType.WITHHOLDING) {
+            expectedTax[d] += expectedTax(taxType, supply);
+        }
+
+        String partner = businessPartner != null && !businessPartner.isBlank() ? businessPartner.trim() : null;
+        int p = partnerSlot(d, partner);
+        partnerLines[p] += lineCount;
+        partnerSupply[p] += supply;
+        partnerTax[p] += taxCents;
+
+        String invoice = taxInvoiceNumber != null && !taxInvoiceNumber.isBlank() ? taxInvoiceNumber.trim() : null;
+        if (invoice == null) {
+            if (taxType == Transaction.TaxType.VAT_10 || taxType == Transaction.TaxType.VAT_0) {
+                missingInvoiceLines[d] += lineCount;
+            }
+            return;
+        }
+        int i = invoiceSlot(d, invoice, partner, p);
+        invoiceLines[i] += lineCount;
+        invoiceSupply[i] += supply;
+        invoiceTax[i] += taxCents;
+    }
+
+    /**
+     * 세율 기준 부가세 예상세액 (영세율/면세는 0)
+     */
+    static long expectedTax(Transaction.TaxType taxType, long supplyCents) {
+        return taxType == Transaction.TaxType.VAT_10 ? Math.round(supplyCents / 10.0) : 0L;
+    }
+
+    private int partnerSlot(int direction, String partner) {
+        String key = direction + String.valueOf(KEY_SEPARATOR) + (partner != null ? partner : "");
+        Integer index = partnerIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        if (partnerCount == partnerNames.length) {
+            int capacity = partnerCount * 2;
+            partnerDirections = Arrays.copyOf(partnerDirections, capacity);
+            partnerNames = Arrays.copyOf(partnerNames, capacity);
+            partnerLines = Arrays.copyOf(partnerLines, capacity);
+            partnerInvoices = Arrays.copyOf(partnerInvoices, capacity);
+            partnerSupply = Arrays.copyOf(partnerSupply, capacity);
+            partnerTax = Arrays.copyOf(partnerTax, capacity);
+        }
+        int slot = partnerCount++;
+        partnerDirections[slot] = direction;
+        partnerNames[slot] = partner;
+        partnerIndex.put(key, slot);
+        return slot;
+    }
+
+    private int invoiceSlot(int direction, String invoice, String partner, int partnerSlot) {
+        String key = direction + String.valueOf(KEY_SEPARATOR) + invoice + KEY_SEPARATOR + (partner != null ? partner : "");
+        Integer index = invoiceIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        if (invoiceCount == invoiceNumbers.length) {
+            int capacity = invoiceCount * 2;
+            invoiceDirections = Arrays.copyOf(invoiceDirections, capacity);
+            invoiceNumbers = Arrays.copyOf(invoiceNumbers, capacity);
+            invoicePartners = Arrays.copyOf(invoicePartners, capacity);
+            invoiceLines = Arrays.copyOf(invoiceLines, capacity);
+            invoiceSupply = Arrays.copyOf(invoiceSupply, capacity);
+            invoiceTax = Arrays.copyOf(invoiceTax, capacity);
+        }
+        int slot = invoiceCount++;
+        invoiceDirections[slot] = direction;
+        invoiceNumbers[slot] = invoice;
+        invoicePartners[slot] = partner;
+        invoiceIndex.put(key, slot);
+        partnerInvoices[partnerSlot]++;
+        return slot;
+    }
+
+    /**
+     * 요약 DTO 생성 (거래처/세금계산서는 구분, 이름 순)
+     */
+    VatSummaryDto toDto(Long companyId, int fiscalYear, VatSummaryDto.FilingPeriod filingPeriod,
+                        LocalDate startDate, LocalDate endDate) {
+        List<VatSummaryDto.TaxTypeSummary> taxTypes = new ArrayList<>();
+        for (int slot = 0; slot < typeLines.length; slot++) {
+            if (typeLines[slot] == 0) {
+                continue;
+            }
+            taxTypes.add(new VatSummaryDto.TaxTypeSummary(
+                DIRECTIONS[slot / TAX_TYPE_COUNT], TAX_TYPES[slot % TAX_TYPE_COUNT], typeLines[slot],
+                MoneyUtils.fromCents(typeSupply[slot]), MoneyUtils.fromCents(typeTax[slot])));
+        }
+
+        List<VatSummaryDto.PartnerSummary> partners = new ArrayList<>(partnerCount);
+        for (int p : sortedPartners()) {
+            partners.add(new VatSummaryDto.PartnerSummary(
+                DIRECTIONS[partnerDirections[p]], partnerNames[p], partnerLines[p], partnerInvoices[p],
+                MoneyUtils.fromCents(partnerSupply[p]), MoneyUtils.fromCents(partnerTax[p])));
+        }
+
+        List<VatSummaryDto.InvoiceSummary> invoices = new ArrayList<>(invoiceCount);
+        for (int i : sortedInvoices()) {
+            invoices.add(new VatSummaryDto.InvoiceSummary(
+                DIRECTIONS[invoiceDirections[i]], invoiceNumbers[i], invoicePartners[i], invoiceLines[i],
+                MoneyUtils.fromCents(invoiceSupply[i]), MoneyUtils.fromCents(invoiceTax[i])));
+        }
+
+        List<VatSummaryDto.Reconciliation> reconciliations = new ArrayList<>(2);
+        for (Direction direction : new Direction[]{Direction.SALES, Direction.PURCHASE}) {
+            reconciliations.add(reconciliation(direction));
+        }
+        return new VatSummaryDto(companyId, fiscalYear, filingPeriod, startDate, endDate,
+            taxTypes, partners, invoices, reconciliations);
+    }
+
+    /**
+     * 구분별 세액 대사 (원천세는 부가세가 아니므로 제외)
+     */
+    VatSummaryDto.Reconciliation reconciliation(Direction direction) {
+        int d = direction.ordinal();
+        long supply = 0;
+        long declared = 0;
+        for (int t = 0; t < TAX_TYPE_COUNT; t++) {
+            if (TAX_TYPES[t] == Transaction.TaxType.WITHHOLDING) {
+                continue;
+            }
+            supply += typeSupply[d * TAX_TYPE_COUNT + t];
+            declared += typeTax[d * TAX_TYPE_COUNT + t];
+        }
+        long expected = expectedTax[d];
+        long expectedDifference = declared - expected;
+        long postedDifference = declared - postedTax[d];
+        return new VatSummaryDto.Reconciliation(direction,
+            MoneyUtils.fromCents(supply), MoneyUtils.fromCents(declared), MoneyUtils.fromCents(expected),
+            MoneyUtils.fromCents(postedTax[d]), MoneyUtils.fromCents(expectedDifference),
+            MoneyUtils.fromCents(postedDifference), missingInvoiceLines[d],
+            expectedDifference == 0 && postedDifference == 0 && missingInvoiceLines[d] == 0);
+    }
+
+    /**
+     * 내보내기 작성 (세금유형별, 거래처별, 세금계산서별, 대사 순)
+     */
+    void writeTo(ExportWriter writer) throws IOException {
+        writer.writeHeader(EXPORT_HEADERS);
+        for (int slot = 0; slot < typeLines.length; slot++) {
+            if (typeLines[slot] == 0) {
+                continue;
+            }
+            writer.writeRow("세금유형별", DIRECTIONS[slot / TAX_TYPE_COUNT].getDescription(),
+                TAX_TYPES[slot % TAX_TYPE_COUNT].getDescription(), null, null, typeLines[slot],
+                MoneyUtils.fromCents(typeSupply[slot]), MoneyUtils.fromCents(typeTax[slot]), null);
+        }
+        for (int p : sortedPartners()) {
+            writer.writeRow("거래처별", DIRECTIONS[partnerDirections[p]].getDescription(), null, partnerNames[p], null,
+                partnerLines[p], MoneyUtils.fromCents(partnerSupply[p]), MoneyUtils.fromCents(partnerTax[p]),
+                "세금계산서 " + partnerInvoices[p] + "매");
+        }
+        for (int i : sortedInvoices()) {
+            writer.writeRow("세금계산서별", DIRECTIONS[invoiceDirections[i]].getDescription(), null, invoicePartners[i],
+                invoiceNumbers[i], invoiceLines[i], MoneyUtils.fromCents(invoiceSupply[i]),
+                MoneyUtils.fromCents(invoiceTax[i]), null);
+        }
+        for (Direction direction : new Direction[]{Direction.SALES, Direction.PURCHASE}) {
+            VatSummaryDto.Reconciliation reconciliation = reconciliation(direction);
+            String label = direction.getDescription();
+            writer.writeRow("대사", label, null, null, null, null,
+                reconciliation.taxableSupply(), reconciliation.declaredTax(), "신고세액");
+            writer.writeRow("대사", label, null, null, null, null,
+                null, reconciliation.expectedTax(), "세율 기준 예상세액 (차이 " + reconciliation.expectedDifference() + ")");
+            writer.writeRow("대사", label, null, null, null, null,
+                null, reconciliation.postedTax(), "부가세 전기액 (차이 " + reconciliation.postedDifference() + ")");
+            writer.writeRow("대사", label, null, null, null, reconciliation.missingInvoiceLineCount(),
+                null, null, "세금계산서번호 누락");
+        }
+    }
+
+    private int[] sortedPartners() {
+        Integer[] order = new Integer[partnerCount];
+        for (int p = 0; p < partnerCount; p++) {
+            order[p] = p;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(p -> partnerDirections[p])
+            .thenComparing(p -> partnerNames[p], Comparator.nullsLast(Comparator.naturalOrder())));
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    private int[] sortedInvoices() {
+        Integer[] order = new Integer[invoiceCount];
+        for (int i = 0; i < invoiceCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(i -> invoiceDirections[i])
+            .thenComparing(i -> invoiceNumbers[i])
+            .thenComparing(i -> invoicePartners[i], Comparator.nullsFirst(Comparator.naturalOrder())));
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    int partnerCount() {
+        return partnerCount;
+    }
+
+    int invoiceCount() {
+        return invoiceCount;
+    }
+}
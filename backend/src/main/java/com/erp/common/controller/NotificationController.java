@@ -1,6 +1,7 @@
 package com.erp.common.controller;
 
 import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.common.dto.NotificationDto;
 import com.erp.common.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -55,6 +56,32 @@ public class NotificationController {
         }
     }
 
+    /**
+     * 사용자의 알림 목록 조회 (슬라이스, COUNT 쿼리 없음)
+     */
+    @GetMapping("/slice")
+    @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN') or hasRole('SUPER_ADMIN')")
+    @Operation(summary = "알림 슬라이스 조회", description = "COUNT 쿼리 없이 사용자의 알림 목록을 조회합니다 (건수는 count 파라미터로 요청)")
+    public ResponseEntity<ApiResponse<ApiResponse.SliceResponse<NotificationDto>>> getNotificationSlice(
+            Authentication authentication,
+            @Parameter(description = "건수 조회 방식") @RequestParam(defaultValue = "NONE") CountMode count,
+            @PageableDefault(size = 20) Pageable pageable) {
+        try {
+            Long userId = getCurrentUserId(authentication);
+            log.info("알림 슬라이스 조회 요청: userId={}, page={}, size={}, count={}",
+                    userId, pageable.getPageNumber(), pageable.getPageSize(), count);
+            
+            ApiResponse.SliceResponse<NotificationDto> notifications =
+                    notificationService.getUserNotificationSlice(userId, pageable, count);
+            
+            return ResponseEntity.ok(ApiResponse.successWithSlice("알림 목록 조회 완료", notifications));
+        } catch (Exception e) {
+            log.error("알림 슬라이스 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("알림 목록 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
     /**
      * 읽지 않은 알림 개수 조회
      */
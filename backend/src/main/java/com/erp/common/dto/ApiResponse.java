@@ -7,11 +7,25 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import org.springframework.data.domain.Slice;
+
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * API 응답 표준 포맷
  * 모든 REST API 응답에서 사용되는 공통 응답 구조입니다
+ *
+ * <p>목록 API 페이징 계약</p>
+ * <ul>
+ *   <li>기존 목록 API는 Spring {@code Page}를 반환하며 매 요청마다 COUNT 쿼리가 함께 실행됩니다</li>
+ *   <li>{@code .../slice} 목록 API는 {@link SliceResponse}를 반환하며, size + 1건을 조회해
+ *       {@code hasNext}만 판단하고 COUNT 쿼리는 실행하지 않습니다</li>
+ *   <li>전체 건수가 필요하면 {@code count} 파라미터로 요청합니다
+ *       ({@link CountMode#NONE} 기본값, {@link CountMode#EXACT} 정확한 건수,
+ *       {@link CountMode#APPROXIMATE} 짧은 TTL로 캐시된 건수)</li>
+ *   <li>프론트엔드는 첫 페이지에서만 건수를 요청하고, 이후 페이지는 {@code hasNext}로 "더 보기"를 판단합니다</li>
+ * </ul>
  */
 @Data
 @NoArgsConstructor
@@ -174,6 +188,13 @@ public class ApiResponse<T> {
         return success(pageResponse);
     }
     
+    /**
+     * 슬라이스 정보를 포함한 성공 응답 생성
+     */
+    public static <T> ApiResponse<SliceResponse<T>> successWithSlice(String message, SliceResponse<T> slice) {
+        return success(message, slice);
+    }
+
     /**
      * 응답이 성공인지 확인
      */
@@ -215,5 +236,36 @@ public class ApiResponse<T> {
             this.empty = totalElements == 0;
         }
     }
-}
 
+    /**
+     * 슬라이스(COUNT 없는 페이징) 응답을 위한 내부 클래스
+     * totalElements는 count 파라미터로 요청한 경우에만 포함됩니다
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SliceResponse<T> {
+        private List<T> content;
+        private int pageNumber;
+        private int pageSize;
+        private int numberOfElements;
+        private boolean first;
+        private boolean hasNext;
+        private Long totalElements;
+        private Boolean totalElementsApproximate;
+
+        public static <T> SliceResponse<T> of(Slice<T> slice, Long totalElements, CountMode countMode) {
+            return new SliceResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                slice.getNumberOfElements(),
+                slice.isFirst(),
+                slice.hasNext(),
+                totalElements,
+                totalElements != null ? countMode == CountMode.APPROXIMATE : null
+            );
+        }
+    }
+}
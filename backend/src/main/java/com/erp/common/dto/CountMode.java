@@ -0,0 +1,21 @@
+package com.erp.common.dto;
+
+/**
+ * 슬라이스 목록 API의 전체 건수 조회 방식
+ */
+public enum CountMode {
+    /**
+     * 건수 조회 안 함 (기본값)
+     */
+    NONE,
+
+    /**
+     * COUNT 쿼리로 정확한 건수 조회
+     */
+    EXACT,
+
+    /**
+     * 짧은 TTL로 캐시된 건수 (만료 시 COUNT 쿼리로 갱신)
+     */
+    APPROXIMATE
+}
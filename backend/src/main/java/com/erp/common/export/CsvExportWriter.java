@@ -0,0 +1,64 @@
+package com.erp.common.export;
+
+import com.opencsv.CSVWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 스트리밍 작성기
+ * UTF-8 BOM을 붙여 Excel에서 한글이 깨지지 않도록 합니다
+ */
+public class CsvExportWriter implements ExportWriter {
+
+    private final CSVWriter csvWriter;
+    private String[] buffer = new String[0];
+    private long rowCount;
+
+    public CsvExportWriter(OutputStream outputStream) throws IOException {
+        // UTF-8 BOM 추가 (Excel 한글 호환)
+        outputStream.write(0xEF);
+        outputStream.write(0xBB);
+        outputStream.write(0xBF);
+        this.csvWriter = new CSVWriter(new BufferedWriter(
+            new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024));
+    }
+
+    @Override
+    public void writeHeader(String... headers) {
+        csvWriter.writeNext(headers, false);
+    }
+
+    @Override
+    public void writeRow(Object... values) {
+        if (buffer.length != values.length) {
+            buffer = new String[values.length];
+        }
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                buffer[i] = "";
+            } else if (value instanceof BigDecimal decimal) {
+                buffer[i] = decimal.toPlainString();
+            } else {
+                buffer[i] = value.toString();
+            }
+        }
+        csvWriter.writeNext(buffer, false);
+        rowCount++;
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        csvWriter.close();
+    }
+}
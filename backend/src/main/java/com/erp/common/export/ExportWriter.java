@@ -0,0 +1,66 @@
+package com.erp.common.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 행 단위 스트리밍 내보내기 작성기
+ * 행을 받는 즉시 출력 스트림(또는 임시 파일)으로 내보내므로 행 수와 무관하게 힙 사용량이 일정합니다
+ */
+public interface ExportWriter extends Closeable {
+
+    /**
+     * 헤더 행 작성
+     */
+    void writeHeader(String... headers) throws IOException;
+
+    /**
+     * 데이터 행 작성 (숫자는 숫자, 그 외는 문자열로 기록)
+     */
+    void writeRow(Object... values) throws IOException;
+
+    /**
+     * 작성된 데이터 행 수
+     */
+    long getRowCount();
+
+    /**
+     * 작성 중단 표시 (닫을 때 미완성 파일을 완성된 파일처럼 내보내지 않음)
+     */
+    default void abort() {
+    }
+
+    /**
+     * 형식별 작성기 생성
+     */
+    static ExportWriter open(ExportFormat format, OutputStream outputStream, String sheetName) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvExportWriter(outputStream);
+            case XLSX -> new XlsxExportWriter(outputStream, sheetName);
+        };
+    }
+
+    /**
+     * 작성기를 열어 본문을 실행한 뒤 닫음 (본문이 실패하면 중단 처리 후 예외를 그대로 전달)
+     */
+    static void write(ExportFormat format, OutputStream outputStream, String sheetName, Body body)
+            throws IOException {
+        try (ExportWriter writer = open(format, outputStream, sheetName)) {
+            try {
+                body.write(writer);
+            } catch (IOException | RuntimeException | Error e) {
+                writer.abort();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 작성 본문
+     */
+    @FunctionalInterface
+    interface Body {
+        void write(ExportWriter writer) throws IOException;
+    }
+}
@@ -0,0 +1,113 @@
+package com.erp.common.export;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * XLSX 스트리밍 작성기 (POI SXSSF)
+ * 메모리에는 최근 행 일부만 유지하고 나머지는 임시 파일로 내보냅니다
+ * 시트 최대 행 수를 넘으면 다음 시트로 이어서 작성합니다
+ */
+public class XlsxExportWriter implements ExportWriter {
+
+    /**
+     * 메모리에 유지할 행 수
+     */
+    private static final int ROW_ACCESS_WINDOW = 100;
+
+    /**
+     * 시트당 최대 행 수 (헤더 포함)
+     */
+    static final int MAX_ROWS_PER_SHEET = 1_048_576;
+
+    private final OutputStream outputStream;
+    private final SXSSFWorkbook workbook;
+    private final String sheetName;
+    private String[] headers;
+    private Sheet sheet;
+    private int sheetIndex;
+    private int nextRow;
+    private long rowCount;
+    private boolean aborted;
+
+    public XlsxExportWriter(OutputStream outputStream, String sheetName) {
+        this.outputStream = outputStream;
+        this.sheetName = sheetName;
+        this.workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+    }
+
+    @Override
+    public void writeHeader(String... headers) {
+        this.headers = headers;
+        startSheet();
+    }
+
+    @Override
+    public void writeRow(Object... values) {
+        if (sheet == null || nextRow >= MAX_ROWS_PER_SHEET) {
+            startSheet();
+        }
+        Row row = sheet.createRow(nextRow++);
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            Cell cell = row.createCell(i);
+            if (value instanceof Number number) {
+                cell.setCellValue(number.doubleValue());
+            } else {
+                cell.setCellValue(value.toString());
+            }
+        }
+        rowCount++;
+    }
+
+    private void startSheet() {
+        sheetIndex++;
+        sheet = workbook.createSheet(sheetIndex == 1 ? sheetName : sheetName + " (" + sheetIndex + ")");
+        nextRow = 0;
+        if (headers != null) {
+            Row headerRow = sheet.createRow(nextRow++);
+            for (int i = 0; i < headers.length; i++) {
+                headerRow.createCell(i).setCellValue(headers[i]);
+            }
+        }
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 작성 중단 (닫을 때 통합문서를 쓰지 않고 임시 파일만 정리)
+     */
+    @Override
+    public void abort() {
+        aborted = true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (aborted) {
+                return;
+            }
+            if (sheet == null) {
+                startSheet();
+            }
+            workbook.write(outputStream);
+            outputStream.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.erp.common.entity.Notification;
 import com.erp.common.entity.NotificationScope;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,6 +25,18 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isDeleted = false ORDER BY n.createdAt DESC")
     Page<Notification> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
 
+    /**
+     * 사용자별 알림 목록 조회 (슬라이스, COUNT 쿼리 없음, 정렬은 요청에서 지정)
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.isDeleted = false")
+    Slice<Notification> findSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 사용자별 알림 수
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isDeleted = false")
+    long countByUserId(@Param("userId") Long userId);
+
     /**
      * 사용자별 읽지 않은 알림 개수 조회
      */
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -69,6 +70,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u JOIN FETCH u.company c JOIN FETCH u.department d WHERE u.company.id = :companyId AND u.isDeleted = false")
     List<User> findByCompanyId(@Param("companyId") Long companyId);
 
+    /**
+     * 회사별 역할 목록에 해당하는 활성 사용자 조회 (업무 알림 수신자)
+     */
+    @Query("SELECT u FROM User u WHERE u.company.id = :companyId AND u.role IN :roles " +
+           "AND u.isActive = true AND u.isDeleted = false")
+    List<User> findActiveByCompanyIdAndRoleIn(@Param("companyId") Long companyId,
+                                              @Param("roles") Collection<User.UserRole> roles);
+
     /**
      * 부서별 사용자 목록 조회
      */
@@ -1,5 +1,7 @@
 package com.erp.common.service;
 
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.common.dto.NotificationDto;
 import com.erp.common.entity.Notification;
 import com.erp.common.entity.User;
@@ -19,6 +21,11 @@ public interface NotificationService {
      */
     Page<NotificationDto> getUserNotifications(Long userId, Pageable pageable);
 
+    /**
+     * 사용자의 알림 목록 조회 (슬라이스, 건수는 요청 시에만 조회)
+     */
+    ApiResponse.SliceResponse<NotificationDto> getUserNotificationSlice(Long userId, Pageable pageable, CountMode countMode);
+
     /**
      * 사용자의 읽지 않은 알림 개수 조회
      */
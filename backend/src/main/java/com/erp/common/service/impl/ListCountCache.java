@@ -0,0 +1,67 @@
+package com.erp.common.service.impl;
+
+import com.erp.common.dto.CountMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 건수 캐시
+ * 슬라이스 목록 API에서 요청한 경우에만 COUNT 쿼리를 실행하고,
+ * 근사 건수 요청은 짧은 TTL 동안 같은 조건의 건수를 재사용합니다
+ */
+@Slf4j
+@Component
+public class ListCountCache {
+
+    static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(30);
+    static final int MAX_ENTRIES = 10_000;
+
+    private final ConcurrentMap<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    /**
+     * 건수 조회 방식에 따라 건수 반환 (NONE이면 null)
+     */
+    public Long count(CountMode countMode, String key, LongSupplier exactCount) {
+        if (countMode == null || countMode == CountMode.NONE) {
+            return null;
+        }
+
+        long now = System.nanoTime();
+        if (countMode == CountMode.APPROXIMATE) {
+            CachedCount cached = counts.get(key);
+            if (cached != null && cached.expiresAt() - now > 0) {
+                return cached.count();
+            }
+        }
+
+        long count = exactCount.getAsLong();
+        if (counts.size() >= MAX_ENTRIES) {
+            evictExpired(now);
+        }
+        counts.put(key, new CachedCount(count, now + TTL_NANOS));
+        return count;
+    }
+
+    /**
+     * 접두어로 시작하는 건수 캐시 무효화
+     */
+    public void evictByPrefix(String prefix) {
+        counts.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private void evictExpired(long now) {
+        counts.values().removeIf(cached -> cached.expiresAt() - now <= 0);
+        if (counts.size() >= MAX_ENTRIES) {
+            log.debug("목록 건수 캐시 초기화 - 항목 수: {}", counts.size());
+            counts.clear();
+        }
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
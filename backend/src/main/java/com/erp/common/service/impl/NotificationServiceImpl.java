@@ -1,5 +1,7 @@
 package com.erp.common.service.impl;
 
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.common.dto.NotificationDto;
 import com.erp.common.entity.Notification;
 import com.erp.common.entity.User;
@@ -7,10 +9,13 @@ import com.erp.common.repository.NotificationRepository;
 import com.erp.common.repository.UserRepository;
 import com.erp.common.service.NotificationService;
 import com.erp.common.utils.ExceptionUtils;
+import com.erp.common.utils.PageableUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,8 +30,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
 
+    /**
+     * 알림 슬라이스 기본 정렬 (최신순)
+     */
+    static final Sort DEFAULT_SLICE_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final ListCountCache listCountCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -40,6 +51,23 @@ public class NotificationServiceImpl implements NotificationService {
         return notifications.map(NotificationDto::from);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse.SliceResponse<NotificationDto> getUserNotificationSlice(Long userId, Pageable pageable,
+                                                                               CountMode countMode) {
+        log.info("사용자 알림 슬라이스 조회: userId={}, page={}, size={}, count={}",
+                userId, pageable.getPageNumber(), pageable.getPageSize(), countMode);
+
+        Slice<NotificationDto> notifications = notificationRepository
+                .findSliceByUserId(userId, PageableUtils.withStableOrder(pageable, DEFAULT_SLICE_SORT))
+                .map(NotificationDto::from);
+
+        Long totalElements = listCountCache.count(countMode, "notifications:" + userId,
+                () -> notificationRepository.countByUserId(userId));
+
+        return ApiResponse.SliceResponse.of(notifications, totalElements, countMode);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public long getUnreadCount(Long userId) {
@@ -0,0 +1,37 @@
+package com.erp.common.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 처리 유틸리티 클래스
+ * 대량 집계 시 금액(소수점 2자리)을 long 단위(1/100)로 변환합니다
+ */
+public class MoneyUtils {
+
+    /**
+     * 금액 소수점 자리수 (DECIMAL(15,2))
+     */
+    public static final int SCALE = 2;
+
+    private MoneyUtils() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /**
+     * 금액을 1/100 단위 long 값으로 변환
+     */
+    public static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * 1/100 단위 long 값을 금액으로 변환
+     */
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+}
@@ -0,0 +1,28 @@
+package com.erp.common.utils;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 페이지 요청 유틸리티 클래스
+ * 슬라이스 목록 API가 페이지 경계에서 같은 행을 중복하거나 빠뜨리지 않도록 정렬을 고정합니다
+ */
+public class PageableUtils {
+
+    private PageableUtils() {
+        // 유틸리티 클래스는 인스턴스화 방지
+    }
+
+    /**
+     * 정렬이 없으면 도메인 기본 정렬, 요청 정렬이 있으면 그대로 쓰고
+     * 어느 쪽이든 ID가 없으면 마지막 정렬 기준으로 ID 내림차순을 추가해 순서를 유일하게 만듭니다
+     */
+    public static Pageable withStableOrder(Pageable pageable, Sort defaultSort) {
+        Sort sort = pageable.getSort().isUnsorted() ? defaultSort : pageable.getSort();
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by(Sort.Direction.DESC, "id"));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+}
@@ -30,6 +30,7 @@ public class DdlForcer {
     private final JdbcTemplate jdbcTemplate;
     private final TransactionTemplate transactionTemplate;
     private final PasswordEncoder passwordEncoder;
+    private final TransactionPartitionManager transactionPartitionManager;
 
     @EventListener(ApplicationReadyEvent.class)
     @Order(1) // 가장 먼저 실행
@@ -50,6 +51,9 @@ public class DdlForcer {
             log.info("직접 테이블 생성 방식으로 전환...");
             createTablesWithHardcodedSql();
             
+            // 3-1. 거래 테이블 회계연도 파티션 생성
+            createTransactionPartitions();
+            
             // 4. 데이터 초기화 실행
             initializeData();
             
@@ -74,6 +78,7 @@ public class DdlForcer {
                 "DROP TABLE IF EXISTS stock_movements CASCADE",
                 "DROP TABLE IF EXISTS inventories CASCADE", 
                 "DROP TABLE IF EXISTS orders CASCADE",
+                "DROP TABLE IF EXISTS transactions CASCADE",
                 "DROP TABLE IF EXISTS warehouses CASCADE",
                 "DROP TABLE IF EXISTS customers CASCADE",
                 "DROP TABLE IF EXISTS positions CASCADE",
@@ -432,6 +437,7 @@ public class DdlForcer {
                 "available_quantity INTEGER NOT NULL DEFAULT 0, " +
                 "reorder_point INTEGER DEFAULT 0, " +
                 "max_stock INTEGER, " +
+                "last_outbound_at TIMESTAMP, " +
                 "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
                 "updated_at TIMESTAMP, " +
                 "created_by BIGINT, " +
@@ -550,6 +556,17 @@ public class DdlForcer {
         log.info("✅ 하드코딩된 테이블 생성 완료");
     }
     
+    /**
+     * 거래 테이블 회계연도 파티션 생성 (보관용으로 분리된 파티션은 유지)
+     */
+    private void createTransactionPartitions() {
+        try {
+            transactionPartitionManager.initialize();
+        } catch (Exception e) {
+            log.warn("⚠️ 거래 테이블 파티션 생성 중 오류: {}", e.getMessage());
+        }
+    }
+    
     /**
      * 데이터 초기화 실행 (안전한 개별 트랜잭션 처리)
      */
@@ -0,0 +1,69 @@
+package com.erp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 작업 스레드 풀 설정 클래스
+ * 백그라운드 작업별 스레드 풀을 이름 있는 빈으로 등록해 생성/종료를 컨테이너가 관리합니다.
+ * 종료 시 대기 중인 작업을 마칠 때까지 기다리며, 서비스에서는 {@code @Qualifier}로 이름을 지정해 주입합니다
+ */
+@Configuration
+public class ExecutorConfig {
+
+    public static final String REPORT_JOB_EXECUTOR = "reportJobExecutor";
+    public static final String STOCKTAKING_EXECUTOR = "stocktakingExecutor";
+    public static final String INVENTORY_REBUILD_EXECUTOR = "inventoryRebuildExecutor";
+    public static final String STOCK_ALERT_EXECUTOR = "stockAlertExecutor";
+
+    /**
+     * 재무보고서 비동기 생성 작업
+     */
+    @Bean(name = REPORT_JOB_EXECUTOR)
+    public ThreadPoolTaskExecutor reportJobExecutor(@Value("${erp.report-job.pool-size:2}") int poolSize,
+                                                    @Value("${erp.report-job.queue-capacity:50}") int queueCapacity) {
+        return executor("report-job-", poolSize, queueCapacity, 30);
+    }
+
+    /**
+     * 재고 실사 파일 대사/반영
+     */
+    @Bean(name = STOCKTAKING_EXECUTOR)
+    public ThreadPoolTaskExecutor stocktakingExecutor(
+            @Value("${erp.inventory.stocktaking.pool-size:2}") int poolSize,
+            @Value("${erp.inventory.stocktaking.queue-capacity:10}") int queueCapacity) {
+        return executor("stocktaking-", poolSize, queueCapacity, 30);
+    }
+
+    /**
+     * 창고별 재고 재구성 (한 번에 모든 창고를 넣으므로 대기열 제한 없음)
+     */
+    @Bean(name = INVENTORY_REBUILD_EXECUTOR)
+    public ThreadPoolTaskExecutor inventoryRebuildExecutor(
+            @Value("${erp.inventory.rebuild.parallelism:4}") int parallelism) {
+        return executor("inventory-rebuild-", parallelism, Integer.MAX_VALUE, 30);
+    }
+
+    /**
+     * 재고 부족 알림 생성 (단일 스레드로 순서대로 처리)
+     */
+    @Bean(name = STOCK_ALERT_EXECUTOR)
+    public ThreadPoolTaskExecutor stockAlertExecutor(
+            @Value("${erp.inventory.alerts.queue-capacity:1000}") int queueCapacity) {
+        return executor("stock-alert-", 1, queueCapacity, 10);
+    }
+
+    private static ThreadPoolTaskExecutor executor(String threadNamePrefix, int poolSize, int queueCapacity,
+                                                   int awaitTerminationSeconds) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        return executor;
+    }
+}
@@ -0,0 +1,226 @@
+package com.erp.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.List;
+
+/**
+ * 거래 테이블 회계연도 파티션 관리자
+ * transactions 테이블을 회계연도(fiscal_year) 범위 파티션으로 생성하고,
+ * 다음 연도 파티션 사전 생성과 마감 연도 파티션 분리(보관)를 담당합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionPartitionManager {
+
+    /**
+     * 부트스트랩 시 미리 만드는 과거 연도 수
+     */
+    static final int PAST_YEARS = 5;
+
+    static final String PARENT_TABLE = "transactions";
+    static final String DEFAULT_PARTITION = "transactions_default";
+
+    /**
+     * 파티션 테이블 (기본키에 파티션 키 포함, 원거래 자기참조 FK는 파티션 테이블 제약으로 생략)
+     */
+    static final String CREATE_PARENT_TABLE =
+        "CREATE TABLE IF NOT EXISTS transactions (" +
+        "id BIGSERIAL, " +
+        "transaction_number VARCHAR(30) NOT NULL, " +
+        "company_id BIGINT NOT NULL, " +
+        "transaction_date DATE NOT NULL, " +
+        "transaction_type VARCHAR(20) NOT NULL, " +
+        "transaction_status VARCHAR(20) NOT NULL DEFAULT 'DRAFT', " +
+        "account_id BIGINT NOT NULL, " +
+        "debit_amount DECIMAL(15,2) NOT NULL DEFAULT 0, " +
+        "credit_amount DECIMAL(15,2) NOT NULL DEFAULT 0, " +
+        "description VARCHAR(500), " +
+        "memo VARCHAR(200), " +
+        "fiscal_year INTEGER NOT NULL, " +
+        "fiscal_month INTEGER NOT NULL, " +
+        "fiscal_quarter INTEGER, " +
+        "business_partner VARCHAR(100), " +
+        "department_info VARCHAR(100), " +
+        "project_code VARCHAR(50), " +
+        "tax_type VARCHAR(20), " +
+        "tax_amount DECIMAL(15,2) DEFAULT 0, " +
+        "tax_invoice_number VARCHAR(50), " +
+        "document_type VARCHAR(20), " +
+        "document_number VARCHAR(50), " +
+        "attachment_path VARCHAR(500), " +
+        "input_by BIGINT, " +
+        "approved_by BIGINT, " +
+        "approved_at TIMESTAMP, " +
+        "cancel_reason VARCHAR(200), " +
+        "cancelled_at TIMESTAMP, " +
+        "original_transaction_id BIGINT, " +
+        "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+        "updated_at TIMESTAMP, " +
+        "created_by BIGINT, " +
+        "updated_by BIGINT, " +
+        "is_deleted BOOLEAN NOT NULL DEFAULT FALSE, " +
+        "deleted_at TIMESTAMP, " +
+        "deleted_by BIGINT, " +
+        "PRIMARY KEY (id, fiscal_year), " +
+        "FOREIGN KEY (company_id) REFERENCES companies(id), " +
+        "FOREIGN KEY (account_id) REFERENCES accounts(id), " +
+        "FOREIGN KEY (input_by) REFERENCES employees(id), " +
+        "FOREIGN KEY (approved_by) REFERENCES employees(id)" +
+        ") PARTITION BY RANGE (fiscal_year)";
+
+    /**
+     * 파티션 인덱스 (상위 테이블에 정의하면 파티션마다 개별 인덱스로 생성)
+     */
+    static final String[] CREATE_INDEXES = {
+        "CREATE INDEX IF NOT EXISTS idx_transactions_company_date ON transactions (company_id, transaction_date)",
+        "CREATE INDEX IF NOT EXISTS idx_transactions_company_period ON transactions (company_id, fiscal_year, fiscal_month)",
+        "CREATE INDEX IF NOT EXISTS idx_transactions_account_date ON transactions (account_id, transaction_date)",
+        "CREATE INDEX IF NOT EXISTS idx_transactions_number ON transactions (transaction_number)",
+        "CREATE INDEX IF NOT EXISTS idx_transactions_status ON transactions (company_id, transaction_status)"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 파티션 테이블, 인덱스, 과거/당해/다음 연도 파티션 생성
+     */
+    public void initialize() {
+        int currentYear = Year.now().getValue();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute(CREATE_PARENT_TABLE);
+            for (String sql : CREATE_INDEXES) {
+                jdbcTemplate.execute(sql);
+            }
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + DEFAULT_PARTITION +
+                " PARTITION OF " + PARENT_TABLE + " DEFAULT");
+        });
+        for (int year = currentYear - PAST_YEARS; year <= currentYear + 1; year++) {
+            ensurePartition(year);
+        }
+        log.info("✅ 거래 테이블 회계연도 파티션 생성 완료: {} ~ {}", currentYear - PAST_YEARS, currentYear + 1);
+    }
+
+    /**
+     * 다음 연도 파티션 사전 생성 (매월 1일 새벽)
+     */
+    @Scheduled(cron = "0 0 3 1 * *")
+    public void createUpcomingPartitions() {
+        int currentYear = Year.now().getValue();
+        try {
+            ensurePartition(currentYear);
+            ensurePartition(currentYear + 1);
+        } catch (Exception e) {
+            log.warn("⚠️ 다음 연도 거래 파티션 생성 중 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 회계연도 파티션 생성 (기본 파티션에 해당 연도 거래가 있으면 새 파티션으로 이동)
+     */
+    public void ensurePartition(int fiscalYear) {
+        if (partitionExists(fiscalYear)) {
+            return;
+        }
+        String partition = partitionName(fiscalYear);
+        transactionTemplate.executeWithoutResult(status -> {
+            Integer stray = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + DEFAULT_PARTITION + " WHERE fiscal_year = ?", Integer.class, fiscalYear);
+            if (stray != null && stray > 0) {
+                // 기본 파티션에 같은 범위의 행이 있으면 파티션 생성이 거부되므로 분리 후 이동
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + DEFAULT_PARTITION);
+                jdbcTemplate.execute(createPartitionSql(fiscalYear));
+                jdbcTemplate.update("INSERT INTO " + partition +
+                    " SELECT * FROM " + DEFAULT_PARTITION + " WHERE fiscal_year = ?", fiscalYear);
+                jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE fiscal_year = ?", fiscalYear);
+                jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+                log.info("✅ 기본 파티션 거래 {}건을 {} 파티션으로 이동", stray, partition);
+            } else {
+                jdbcTemplate.execute(createPartitionSql(fiscalYear));
+            }
+        });
+        log.info("✅ 거래 파티션 생성: {}", partition);
+    }
+
+    /**
+     * 마감된 회계연도 파티션 분리 (보관용 독립 테이블로 남김)
+     * 해당 연도에 거래가 있는 모든 회사의 결산분개가 존재해야 합니다
+     */
+    public String detachPartition(int fiscalYear) {
+        if (fiscalYear >= Year.now().getValue()) {
+            throw new IllegalStateException("당해 연도 이후의 거래 파티션은 분리할 수 없습니다: " + fiscalYear);
+        }
+        if (!partitionExists(fiscalYear)) {
+            throw new IllegalStateException("분리할 거래 파티션이 없습니다: " + fiscalYear);
+        }
+        String partition = partitionName(fiscalYear);
+        Integer openCompanies = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM (SELECT company_id FROM " + partition + " GROUP BY company_id " +
+            "HAVING COUNT(*) FILTER (WHERE transaction_type = 'CLOSING' AND is_deleted = false) = 0) open_companies",
+            Integer.class);
+        if (openCompanies != null && openCompanies > 0) {
+            throw new IllegalStateException("연도 마감이 끝나지 않은 회사가 있어 파티션을 분리할 수 없습니다: " +
+                fiscalYear + " (" + openCompanies + "개 회사)");
+        }
+
+        String archive = archiveName(fiscalYear);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+            jdbcTemplate.execute("ALTER TABLE " + partition + " RENAME TO " + archive);
+        });
+        log.info("✅ 거래 파티션 분리 완료: {} -> {}", partition, archive);
+        return archive;
+    }
+
+    /**
+     * 보관된 회계연도 파티션 재연결
+     */
+    public void attachPartition(int fiscalYear) {
+        if (partitionExists(fiscalYear)) {
+            throw new IllegalStateException("이미 연결된 거래 파티션입니다: " + fiscalYear);
+        }
+        String partition = partitionName(fiscalYear);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + archiveName(fiscalYear) + " RENAME TO " + partition);
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + partition +
+                " FOR VALUES FROM (" + fiscalYear + ") TO (" + (fiscalYear + 1) + ")");
+        });
+        log.info("✅ 거래 파티션 재연결 완료: {}", partition);
+    }
+
+    /**
+     * 현재 연결된 회계연도 파티션 목록
+     */
+    public List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList(
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "WHERE p.relname = ? ORDER BY c.relname", String.class, PARENT_TABLE);
+    }
+
+    private boolean partitionExists(int fiscalYear) {
+        return attachedPartitions().contains(partitionName(fiscalYear));
+    }
+
+    static String partitionName(int fiscalYear) {
+        return PARENT_TABLE + "_y" + fiscalYear;
+    }
+
+    static String archiveName(int fiscalYear) {
+        return PARENT_TABLE + "_archive_y" + fiscalYear;
+    }
+
+    static String createPartitionSql(int fiscalYear) {
+        return "CREATE TABLE IF NOT EXISTS " + partitionName(fiscalYear) + " PARTITION OF " + PARENT_TABLE +
+            " FOR VALUES FROM (" + fiscalYear + ") TO (" + (fiscalYear + 1) + ")";
+    }
+}
@@ -1,6 +1,7 @@
 package com.erp.hr.controller;
 
 import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.hr.dto.EmployeeCreateDto;
 import com.erp.hr.dto.EmployeeDto;
 import com.erp.hr.dto.EmployeeUpdateDto;
@@ -340,6 +341,34 @@ public class EmployeeController {
         }
     }
 
+    /**
+     * 회사별 직원 목록/검색 슬라이스 조회 (COUNT 쿼리 없음)
+     * SUPER_ADMIN은 모든 회사 조회 가능, 나머지는 자사만 조회 가능
+     */
+    @GetMapping("/company/{companyId}/slice")
+    public ResponseEntity<ApiResponse<ApiResponse.SliceResponse<EmployeeDto>>> getEmployeeSlice(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(defaultValue = "NONE") CountMode count,
+            @PageableDefault(size = 20, sort = "employeeNumber") Pageable pageable,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        try {
+            log.info("회사별 직원 슬라이스 조회 요청: 회사 ID {}, 검색어 {}, 건수 {}", companyId, searchTerm, count);
+            
+            if (!userPrincipal.isSuperAdmin() && !userPrincipal.belongsToCompany(companyId)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("다른 회사의 직원을 조회할 수 없습니다"));
+            }
+            
+            ApiResponse.SliceResponse<EmployeeDto> employees =
+                    employeeService.getEmployeeSlice(companyId, searchTerm, pageable, count);
+            return ResponseEntity.ok(ApiResponse.success(employees));
+        } catch (Exception e) {
+            log.error("회사별 직원 슬라이스 조회 실패: 회사 ID {}, 오류: {}", companyId, e.getMessage(), e);
+            throw e;
+        }
+    }
+
     /**
      * 부서별 직원 목록 조회 (페이징)
      */
@@ -3,6 +3,7 @@ package com.erp.hr.repository;
 import com.erp.hr.entity.Employee;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -231,6 +232,39 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
            "WHERE e.company.id = :companyId AND e.isDeleted = false")
     Page<Employee> findByCompanyIdWithDetails(@Param("companyId") Long companyId, Pageable pageable);
 
+    /**
+     * 회사별 전체 직원 목록 조회 (슬라이스, COUNT 쿼리 없음)
+     */
+    @Query("SELECT e FROM Employee e " +
+           "JOIN FETCH e.company c " +
+           "JOIN FETCH e.department d " +
+           "JOIN FETCH e.position p " +
+           "WHERE e.company.id = :companyId AND e.isDeleted = false")
+    Slice<Employee> findSliceByCompanyIdWithDetails(@Param("companyId") Long companyId, Pageable pageable);
+
+    /**
+     * 회사별 직원 검색 (슬라이스, COUNT 쿼리 없음)
+     */
+    @Query("SELECT e FROM Employee e " +
+           "JOIN FETCH e.company c " +
+           "JOIN FETCH e.department d " +
+           "JOIN FETCH e.position p " +
+           "WHERE e.company.id = :companyId " +
+           "AND (e.name LIKE %:searchTerm% OR e.employeeNumber LIKE %:searchTerm% OR e.email LIKE %:searchTerm%) " +
+           "AND e.isDeleted = false")
+    Slice<Employee> searchEmployeeSliceByCompany(@Param("companyId") Long companyId,
+                                                 @Param("searchTerm") String searchTerm,
+                                                 Pageable pageable);
+
+    /**
+     * 회사별 직원 검색 결과 수
+     */
+    @Query("SELECT COUNT(e) FROM Employee e " +
+           "WHERE e.company.id = :companyId " +
+           "AND (e.name LIKE %:searchTerm% OR e.employeeNumber LIKE %:searchTerm% OR e.email LIKE %:searchTerm%) " +
+           "AND e.isDeleted = false")
+    long countSearchEmployeesByCompany(@Param("companyId") Long companyId, @Param("searchTerm") String searchTerm);
+
     /**
      * 회사별 직원 목록 조회 (페이징, 상태 필터)
      */
@@ -1,5 +1,7 @@
 package com.erp.hr.service;
 
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.hr.dto.EmployeeCreateDto;
 import com.erp.hr.dto.EmployeeDto;
 import com.erp.hr.dto.EmployeeUpdateDto;
@@ -80,6 +82,12 @@ public interface EmployeeService {
      */
     Page<EmployeeDto> searchEmployeesByCompany(Long companyId, String searchTerm, Pageable pageable);
 
+    /**
+     * 회사별 직원 목록/검색 (슬라이스, 건수는 요청 시에만 조회)
+     */
+    ApiResponse.SliceResponse<EmployeeDto> getEmployeeSlice(Long companyId, String searchTerm,
+                                                            Pageable pageable, CountMode countMode);
+
     /**
      * 입사일 범위로 직원 조회
      */
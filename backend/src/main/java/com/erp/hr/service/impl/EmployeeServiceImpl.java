@@ -1,7 +1,10 @@
 package com.erp.hr.service.impl;
 
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.common.entity.Company;
 import com.erp.common.repository.CompanyRepository;
+import com.erp.common.service.impl.ListCountCache;
 import com.erp.hr.entity.Department;
 import com.erp.hr.repository.DepartmentRepository;
 import com.erp.common.utils.ExceptionUtils;
@@ -23,6 +26,7 @@ import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -63,6 +67,9 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Autowired
     private PositionRepository positionRepository;
 
+    @Autowired
+    private ListCountCache listCountCache;
+
     @Override
     @Transactional
     public EmployeeDto createEmployee(EmployeeCreateDto createDto) {
@@ -286,6 +293,26 @@ public class EmployeeServiceImpl implements EmployeeService {
         return employees.map(EmployeeDto::from);
     }
 
+    @Override
+    public ApiResponse.SliceResponse<EmployeeDto> getEmployeeSlice(Long companyId, String searchTerm,
+                                                                   Pageable pageable, CountMode countMode) {
+        log.info("회사별 직원 슬라이스 조회: 회사 ID {}, 검색어 {}, 건수 {}", companyId, searchTerm, countMode);
+
+        boolean search = searchTerm != null && !searchTerm.isBlank();
+        Slice<EmployeeDto> employees = (search
+                ? employeeRepository.searchEmployeeSliceByCompany(companyId, searchTerm, pageable)
+                : employeeRepository.findSliceByCompanyIdWithDetails(companyId, pageable))
+                .map(EmployeeDto::from);
+
+        Long totalElements = listCountCache.count(countMode,
+                "employees:" + companyId + ":" + (search ? searchTerm : ""),
+                () -> search
+                        ? employeeRepository.countSearchEmployeesByCompany(companyId, searchTerm)
+                        : employeeRepository.countByCompanyIdAndIsDeletedFalse(companyId));
+
+        return ApiResponse.SliceResponse.of(employees, totalElements, countMode);
+    }
+
     @Override
     public List<EmployeeDto> getEmployeesByHireDateRange(LocalDate startDate, LocalDate endDate) {
         log.info("입사일 범위 직원 조회: {} ~ {}", startDate, endDate);
@@ -1,19 +1,34 @@
 package com.erp.inventory.controller;
 
 import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
+import com.erp.common.export.ExportFormat;
+import com.erp.inventory.dto.AvailableToPromiseDto;
 import com.erp.inventory.dto.InventoryDto;
+import com.erp.inventory.dto.InventorySnapshotDto;
+import com.erp.inventory.dto.StocktakingDto;
+import com.erp.inventory.service.AvailableToPromiseService;
 import com.erp.inventory.service.InventoryService;
+import com.erp.inventory.service.InventorySnapshotService;
+import com.erp.inventory.service.StocktakingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -28,6 +43,9 @@ import java.util.List;
 public class InventoryController {
 
     private final InventoryService inventoryService;
+    private final AvailableToPromiseService availableToPromiseService;
+    private final InventorySnapshotService inventorySnapshotService;
+    private final StocktakingService stocktakingService;
 
     /**
      * 재고 생성
@@ -197,6 +215,34 @@ public class InventoryController {
         }
     }
 
+    /**
+     * 회사별 재고 목록/검색 슬라이스 조회 (COUNT 쿼리 없음)
+     */
+    @GetMapping("/companies/{companyId}/slice")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<ApiResponse.SliceResponse<InventoryDto.InventorySummaryDto>>> getInventorySlice(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) String searchTerm,
+            @RequestParam(defaultValue = "NONE") CountMode count,
+            @PageableDefault(size = 20) Pageable pageable) {
+        try {
+            log.info("회사별 재고 슬라이스 조회 요청 - 회사: {}, 검색어: {}, 건수: {}", companyId, searchTerm, count);
+            
+            ApiResponse.SliceResponse<InventoryDto.InventorySummaryDto> result =
+                inventoryService.getInventorySlice(companyId, searchTerm, pageable, count);
+            
+            return ResponseEntity.ok(ApiResponse.successWithSlice(
+                "회사별 재고 목록을 성공적으로 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("회사별 재고 슬라이스 조회 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("회사별 재고 목록 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
     /**
      * 재고 검색
      */
@@ -326,6 +372,161 @@ public class InventoryController {
         }
     }
 
+    /**
+     * 임시 예약 생성 (장바구니/견적)
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<ApiResponse<InventoryDto.StockHoldDto>> holdStock(
+            @Valid @RequestBody InventoryDto.StockHoldRequestDto holdRequestDto) {
+        try {
+            InventoryDto.StockHoldDto result = inventoryService.holdStock(holdRequestDto);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "임시 예약이 생성되었습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.warn("임시 예약 실패 - 재고 ID: {}, 사유: {}", holdRequestDto.inventoryId(), e.getMessage());
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("임시 예약에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 임시 예약 확정
+     */
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<ApiResponse<InventoryDto.StockHoldDto>> confirmHold(@PathVariable String holdId) {
+        try {
+            InventoryDto.StockHoldDto result = inventoryService.confirmHold(holdId);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "임시 예약이 확정되었습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.warn("임시 예약 확정 실패 - 예약 ID: {}, 사유: {}", holdId, e.getMessage());
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("임시 예약 확정에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 임시 예약 해제
+     */
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<ApiResponse<InventoryDto.StockHoldDto>> releaseHold(@PathVariable String holdId) {
+        try {
+            InventoryDto.StockHoldDto result = inventoryService.releaseHold(holdId);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "임시 예약이 해제되었습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.warn("임시 예약 해제 실패 - 예약 ID: {}, 사유: {}", holdId, e.getMessage());
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("임시 예약 해제에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 납기 약속 가능 수량(ATP) 조회
+     */
+    @PostMapping("/companies/{companyId}/atp")
+    public ResponseEntity<ApiResponse<AvailableToPromiseDto.ResultDto>> checkAvailability(
+            @PathVariable Long companyId,
+            @Valid @RequestBody AvailableToPromiseDto.RequestDto requestDto) {
+        try {
+            AvailableToPromiseDto.ResultDto result = availableToPromiseService.checkAvailability(companyId, requestDto);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "납기 약속 가능 수량 조회가 완료되었습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("ATP 조회 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("납기 약속 가능 수량 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 일자 마감 기준 시점 재고 조회
+     */
+    @GetMapping("/companies/{companyId}/stock-as-of")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('USER')")
+    public ResponseEntity<ApiResponse<InventorySnapshotDto.StockAsOfResultDto>> getStockAsOf(
+            @PathVariable Long companyId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) Long warehouseId,
+            @RequestParam(required = false) Long productId) {
+        try {
+            InventorySnapshotDto.StockAsOfResultDto result =
+                inventorySnapshotService.getStockAsOf(companyId, date, warehouseId, productId);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "시점 재고 조회가 완료되었습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("시점 재고 조회 실패 - 회사: {}, 일자: {}", companyId, date, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("시점 재고 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 일자 마감 기준 재고 스냅샷 생성
+     */
+    @PostMapping("/companies/{companyId}/snapshots")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<InventorySnapshotDto.SnapshotResultDto>> createSnapshots(
+            @PathVariable Long companyId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            InventorySnapshotDto.SnapshotResultDto result = inventorySnapshotService.createSnapshots(companyId, date);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "재고 스냅샷이 생성되었습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("재고 스냅샷 생성 실패 - 회사: {}, 일자: {}", companyId, date, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("재고 스냅샷 생성에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 재고이동 기준 재고 재구성 (기본은 미리보기)
+     */
+    @PostMapping("/companies/{companyId}/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<InventorySnapshotDto.RebuildResultDto>> rebuildInventories(
+            @PathVariable Long companyId,
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+        try {
+            InventorySnapshotDto.RebuildResultDto result = inventorySnapshotService.rebuildInventories(companyId, dryRun);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                dryRun ? "재고 재구성 미리보기가 완료되었습니다" : "재고 재구성이 완료되었습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("재고 재구성 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("재고 재구성에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
     /**
      * 재고 실사 처리
      */
@@ -350,6 +551,129 @@ public class InventoryController {
         }
     }
 
+    /**
+     * 실사 파일(CSV/XLSX) 대사 시작 (비동기, 세션 ID로 진행 현황 조회)
+     */
+    @PostMapping("/warehouses/{warehouseId}/stocktaking")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<StocktakingDto.SessionDto>> startStocktaking(
+            @PathVariable Long warehouseId,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean fullCount) {
+        try {
+            log.info("실사 파일 대사 요청 - 창고: {}, 파일: {}, 전수 실사: {}", warehouseId, file.getOriginalFilename(), fullCount);
+
+            if (file.isEmpty()) {
+                return ResponseEntity.badRequest().body(ApiResponse.error("실사 파일이 비어 있습니다"));
+            }
+            String fileName = file.getOriginalFilename();
+            int dot = fileName == null ? -1 : fileName.lastIndexOf('.');
+            ExportFormat format = ExportFormat.from(dot < 0 ? null : fileName.substring(dot + 1));
+            StocktakingDto.SessionDto result;
+            try (InputStream inputStream = file.getInputStream()) {
+                result = stocktakingService.startReconciliation(warehouseId, fileName, format, inputStream, fullCount);
+            }
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "실사 파일 대사가 시작되었습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("실사 파일 대사 요청 실패 - 창고: {}", warehouseId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("실사 파일 대사 요청에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 실사 대사 세션 진행 현황
+     */
+    @GetMapping("/stocktaking/{sessionId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<StocktakingDto.SessionDto>> getStocktakingSession(@PathVariable String sessionId) {
+        try {
+            StocktakingDto.SessionDto result = stocktakingService.getSession(sessionId);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "실사 세션을 성공적으로 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("실사 세션 조회 실패 - 세션: {}", sessionId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("실사 세션 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 실사 대사 차이 목록
+     */
+    @GetMapping("/stocktaking/{sessionId}/variances")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<List<StocktakingDto.VarianceDto>>> getStocktakingVariances(
+            @PathVariable String sessionId) {
+        try {
+            List<StocktakingDto.VarianceDto> result = stocktakingService.getVariances(sessionId);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "실사 차이를 성공적으로 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("실사 차이 조회 실패 - 세션: {}", sessionId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("실사 차이 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 창고 재고와 대응되지 않는 실사 항목
+     */
+    @GetMapping("/stocktaking/{sessionId}/unmatched")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<List<StocktakingDto.UnmatchedDto>>> getStocktakingUnmatched(
+            @PathVariable String sessionId) {
+        try {
+            List<StocktakingDto.UnmatchedDto> result = stocktakingService.getUnmatched(sessionId);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "미대응 실사 항목을 성공적으로 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("미대응 실사 항목 조회 실패 - 세션: {}", sessionId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("미대응 실사 항목 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 승인한 실사 차이 반영 (비동기)
+     */
+    @PostMapping("/stocktaking/{sessionId}/apply")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<StocktakingDto.SessionDto>> applyStocktaking(
+            @PathVariable String sessionId,
+            @Valid @RequestBody StocktakingDto.ApplyRequestDto requestDto) {
+        try {
+            StocktakingDto.SessionDto result = stocktakingService.applyVariances(sessionId, requestDto);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "실사 차이 반영이 시작되었습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("실사 차이 반영 요청 실패 - 세션: {}", sessionId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("실사 차이 반영 요청에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
     /**
      * 재고 조정
      */
@@ -424,6 +748,76 @@ public class InventoryController {
         }
     }
 
+    /**
+     * 장기 체류 재고 조회 (마지막 출고 이후 경과일 기준)
+     */
+    @GetMapping("/companies/{companyId}/slow-moving")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<List<InventoryDto.SlowMovingInventoryDto>>> getSlowMovingInventory(
+            @PathVariable Long companyId,
+            @RequestParam(defaultValue = "90") int days) {
+        try {
+            List<InventoryDto.SlowMovingInventoryDto> result = inventoryService.getSlowMovingInventory(companyId, days);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "장기 체류 재고를 성공적으로 조회했습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("장기 체류 재고 조회 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("장기 체류 재고 조회에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 재고 체류 기간 구간 분석 (전체/창고별)
+     */
+    @GetMapping("/companies/{companyId}/aging")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<ApiResponse<InventoryDto.InventoryAgingDto>> getInventoryAging(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) Long warehouseId) {
+        try {
+            InventoryDto.InventoryAgingDto result = inventoryService.getInventoryAging(companyId, warehouseId);
+
+            return ResponseEntity.ok(ApiResponse.success(
+                "재고 체류 기간 분석이 완료되었습니다",
+                result
+            ));
+        } catch (Exception e) {
+            log.error("재고 체류 기간 분석 실패 - 회사: {}, 창고: {}", companyId, warehouseId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("재고 체류 기간 분석에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * 재고 체류 기간 내보내기 (CSV/XLSX 스트리밍)
+     */
+    @GetMapping("/companies/{companyId}/aging/export")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    public ResponseEntity<?> exportInventoryAging(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) Long warehouseId,
+            @RequestParam(defaultValue = "csv") String format) {
+        try {
+            log.info("재고 체류 기간 내보내기 요청 - 회사: {}, 창고: {}, 형식: {}", companyId, warehouseId, format);
+
+            ExportFormat exportFormat = ExportFormat.from(format);
+
+            return exportResponse("inventory_aging", exportFormat, outputStream ->
+                inventoryService.exportInventoryAging(companyId, warehouseId, exportFormat, outputStream));
+        } catch (Exception e) {
+            log.error("재고 체류 기간 내보내기 실패 - 회사: {}", companyId, e);
+            return ResponseEntity.badRequest().body(
+                ApiResponse.error("재고 체류 기간 내보내기에 실패했습니다: " + e.getMessage())
+            );
+        }
+    }
+
     /**
      * 안전재고 미달 재고 조회
      */
@@ -582,4 +976,16 @@ public class InventoryController {
             );
         }
     }
+
+    /**
+     * 내보내기 스트리밍 응답 생성 (응답 스트림에 바로 작성)
+     */
+    private ResponseEntity<StreamingResponseBody> exportResponse(String fileName, ExportFormat format,
+                                                                 StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=" + fileName + "_" + LocalDate.now() + "." + format.getExtension())
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .body(body);
+    }
 }
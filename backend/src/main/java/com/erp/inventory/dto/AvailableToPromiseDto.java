@@ -0,0 +1,81 @@
+package com.erp.inventory.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 납기 약속 가능 수량(ATP) DTO 클래스들
+ */
+public class AvailableToPromiseDto {
+
+    /**
+     * ATP 조회 요청 DTO
+     *
+     * @param preferredWarehouseId 우선 출고 창고 (없으면 가용 수량이 많은 창고부터)
+     */
+    public record RequestDto(
+            Long preferredWarehouseId,
+
+            @Valid
+            @NotEmpty(message = "조회 항목은 최소 1개 이상이어야 합니다")
+            @Size(max = 1000, message = "조회 항목은 1000개를 초과할 수 없습니다")
+            List<LineDto> lines
+    ) {}
+
+    /**
+     * ATP 조회 항목 DTO
+     */
+    public record LineDto(
+            @NotNull(message = "상품 ID는 필수입니다")
+            Long productId,
+
+            @NotNull(message = "수량은 필수입니다")
+            @DecimalMin(value = "0.0", inclusive = false, message = "수량은 0보다 커야 합니다")
+            Double quantity
+    ) {}
+
+    /**
+     * ATP 조회 결과 DTO
+     */
+    public record ResultDto(
+            Long companyId,
+            Boolean fulfillable,
+            Integer lineCount,
+            Integer shortLineCount,
+            List<LineResultDto> lines
+    ) {}
+
+    /**
+     * 항목별 ATP 결과 DTO
+     * 같은 상품이 여러 항목에 있으면 앞 항목에 배정한 수량을 뺀 나머지로 배정합니다
+     *
+     * @param allocatedQuantity 즉시 출고 가능한 수량
+     * @param promiseDate 전량 출고 가능 예정일 (부족분은 상품 리드타임 기준, 알 수 없으면 null)
+     */
+    public record LineResultDto(
+            Integer lineNumber,
+            Long productId,
+            Integer requestedQuantity,
+            Integer allocatedQuantity,
+            Integer shortageQuantity,
+            Boolean fulfillable,
+            LocalDate promiseDate,
+            List<AllocationDto> allocations,
+            String message
+    ) {}
+
+    /**
+     * 창고별 배정 DTO
+     */
+    public record AllocationDto(
+            Long warehouseId,
+            String warehouseName,
+            Integer quantity
+    ) {}
+}
@@ -171,6 +171,16 @@ public class InventoryDto {
                     null  // stockTurnoverRate - 별도 계산 필요
             );
         }
+
+        /**
+         * 수량만 바꾼 사본 (원자적 수량 변경 결과 반영용)
+         */
+        public InventoryResponseDto withStock(Integer quantity, Integer availableStock, Integer reservedStock) {
+            return new InventoryResponseDto(id, companyId, companyName, productId, productCode, productName,
+                    categoryName, warehouseId, warehouseName, locationCode, locationDescription, fullLocation,
+                    quantity, availableStock, reservedStock, maxStock, reorderPoint, createdAt, updatedAt,
+                    usageRate, daysInStock, isExpiringSoon, isExpired, stockTurnoverRate);
+        }
     }
 
     /**
@@ -295,6 +305,43 @@ public class InventoryDto {
         }
     }
 
+    /**
+     * 임시 예약 요청 DTO (장바구니/견적)
+     */
+    public record StockHoldRequestDto(
+            @NotNull(message = "재고 ID는 필수입니다")
+            Long inventoryId,
+
+            @NotNull(message = "예약 수량은 필수입니다")
+            @DecimalMin(value = "0.0", inclusive = false, message = "예약 수량은 0보다 커야 합니다")
+            Double quantity,
+
+            @DecimalMin(value = "1", message = "예약 유지 시간은 1초 이상이어야 합니다")
+            Long ttlSeconds,
+
+            @Size(max = 500, message = "참조 정보는 500자를 초과할 수 없습니다")
+            String reference
+    ) {
+        public StockHoldRequestDto {
+            if (ttlSeconds == null) ttlSeconds = 900L;
+        }
+    }
+
+    /**
+     * 임시 예약 DTO
+     *
+     * @param availableQuantity 예약 처리 후 가용 수량 (수량 - 확정 예약 - 임시 예약)
+     */
+    public record StockHoldDto(
+            String holdId,
+            Long inventoryId,
+            Integer quantity,
+            String status,
+            LocalDateTime expiresAt,
+            String reference,
+            Integer availableQuantity
+    ) {}
+
     /**
      * 재고 이동 요청 DTO
      */
@@ -381,15 +428,23 @@ public class InventoryDto {
     ) {}
 
     /**
-     * ABC 분석 결과 DTO
+     * ABC/XYZ 분석 결과 DTO
+     *
+     * @param annualUsageValue 분석 기간 소비 금액 (표준원가 기준)
+     * @param cumulativePercentage 소비 금액 큰 순 누적 비율 (%)
+     * @param coefficientOfVariation 월별 소비 수량 변동계수 (분석 기간이 3개월 미만이면 null)
+     * @param xyzClass 수요 변동성 등급 (X 안정, Y 변동, Z 불규칙, 분석 기간이 3개월 미만이면 null)
      */
     public record ABCAnalysisDto(
             Long productId,
             String productCode,
             String productName,
+            Double consumptionQuantity,
             BigDecimal annualUsageValue,
             Double cumulativePercentage,
             String abcClass,
+            Double coefficientOfVariation,
+            String xyzClass,
             String recommendation
     ) {}
 
@@ -514,4 +569,45 @@ public class InventoryDto {
             BigDecimal stockValue,
             String recommendation
     ) {}
+
+    /**
+     * 재고 체류 기간 분석 DTO
+     *
+     * @param buckets 체류 기간 구간별 합계 (0-30, 31-90, 91-180, 180+일)
+     */
+    public record InventoryAgingDto(
+            Long companyId,
+            LocalDate asOfDate,
+            Integer inventoryCount,
+            Long totalQuantity,
+            BigDecimal totalValue,
+            List<AgingBucketDto> buckets,
+            List<WarehouseAgingDto> warehouses
+    ) {}
+
+    /**
+     * 창고별 재고 체류 기간 DTO
+     */
+    public record WarehouseAgingDto(
+            Long warehouseId,
+            String warehouseName,
+            Integer inventoryCount,
+            Long totalQuantity,
+            BigDecimal totalValue,
+            List<AgingBucketDto> buckets
+    ) {}
+
+    /**
+     * 체류 기간 구간 합계 DTO
+     *
+     * @param bucket 구간 (0-30, 31-90, 91-180, 180+)
+     * @param valuePercentage 전체 재고 금액 대비 비율 (%)
+     */
+    public record AgingBucketDto(
+            String bucket,
+            Integer inventoryCount,
+            Long quantity,
+            BigDecimal stockValue,
+            Double valuePercentage
+    ) {}
 }
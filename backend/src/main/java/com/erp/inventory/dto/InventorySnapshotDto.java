@@ -0,0 +1,90 @@
+package com.erp.inventory.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 스냅샷/시점 재고 DTO 클래스들
+ */
+public class InventorySnapshotDto {
+
+    /**
+     * 시점 재고 조회 결과 DTO
+     *
+     * @param asOf 기준 시각 (이 시각 이전 재고이동까지 반영)
+     */
+    public record StockAsOfResultDto(
+            Long companyId,
+            LocalDateTime asOf,
+            Integer itemCount,
+            Long totalQuantity,
+            List<StockAsOfDto> items
+    ) {}
+
+    /**
+     * 재고별 시점 재고 DTO
+     *
+     * @param snapshotAt 기준으로 사용한 스냅샷 시각 (없으면 재고이동만으로 계산)
+     * @param replayedMovements 스냅샷 이후 재생한 재고이동 수
+     */
+    public record StockAsOfDto(
+            Long inventoryId,
+            Long productId,
+            String productCode,
+            String productName,
+            Long warehouseId,
+            String warehouseName,
+            Integer quantity,
+            LocalDateTime snapshotAt,
+            Integer replayedMovements
+    ) {}
+
+    /**
+     * 스냅샷 생성 결과 DTO
+     */
+    public record SnapshotResultDto(
+            LocalDateTime snapshotAt,
+            String snapshotType,
+            Integer companyCount,
+            Integer createdCount
+    ) {}
+
+    /**
+     * 재고 재구성 결과 DTO
+     *
+     * @param dryRun 미리보기 여부 (true면 재고를 변경하지 않음)
+     */
+    public record RebuildResultDto(
+            Long companyId,
+            Boolean dryRun,
+            Integer warehouseCount,
+            Integer failedWarehouseCount,
+            Integer changedCount,
+            Long chainBreakCount,
+            List<WarehouseRebuildDto> warehouses
+    ) {}
+
+    /**
+     * 창고별 재구성 결과 DTO
+     *
+     * @param chainBreakCount 앞 이동의 변경 후 수량과 변경 전 수량이 다른 재고이동 수 (이동 기록 없이 바뀐 재고)
+     * @param errorMessage 실패 사유 (실패한 창고만, 다른 창고 결과에는 영향 없음)
+     */
+    public record WarehouseRebuildDto(
+            Long warehouseId,
+            Integer changedCount,
+            Long chainBreakCount,
+            List<InventoryChangeDto> changes,
+            String errorMessage
+    ) {}
+
+    /**
+     * 재고별 재구성 내역 DTO
+     */
+    public record InventoryChangeDto(
+            Long inventoryId,
+            Long productId,
+            Integer previousQuantity,
+            Integer rebuiltQuantity
+    ) {}
+}
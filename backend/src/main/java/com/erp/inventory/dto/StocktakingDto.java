@@ -0,0 +1,84 @@
+package com.erp.inventory.dto;
+
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 실사 파일 대사 DTO 클래스들
+ */
+public class StocktakingDto {
+
+    /**
+     * 실사 대사 세션 진행 현황 DTO
+     *
+     * @param status 진행 상태 (READING, RECONCILED, APPLYING, APPLIED, FAILED)
+     * @param processedRows 읽은 실사 파일 행 수 (헤더 제외)
+     * @param scannedInventories 대조한 창고 재고 수
+     * @param progress 진행률 (0~100, 대사는 파일 읽기 완료 50, 재고 대조 완료 100 / 반영은 처리 건수 기준)
+     */
+    public record SessionDto(
+            String sessionId,
+            Long warehouseId,
+            String fileName,
+            String status,
+            Integer progress,
+            Integer processedRows,
+            Integer invalidRows,
+            Integer countedItems,
+            Integer scannedInventories,
+            Integer varianceCount,
+            Integer unmatchedCount,
+            Long increaseQuantity,
+            Long decreaseQuantity,
+            BigDecimal varianceValue,
+            Integer appliedCount,
+            Integer rejectedCount,
+            String errorMessage,
+            LocalDateTime startedAt,
+            LocalDateTime completedAt
+    ) {}
+
+    /**
+     * 재고별 실사 차이 DTO
+     *
+     * @param status 반영 상태 (PENDING, APPLIED, REJECTED)
+     */
+    public record VarianceDto(
+            Long inventoryId,
+            Long productId,
+            String productCode,
+            String productName,
+            Integer systemQuantity,
+            Integer countedQuantity,
+            Integer differenceQuantity,
+            BigDecimal unitCost,
+            BigDecimal differenceValue,
+            String status
+    ) {}
+
+    /**
+     * 창고 재고와 대응되지 않는 실사 항목 DTO
+     *
+     * @param lineNumber 해당 상품이 처음 나온 파일 행 번호
+     */
+    public record UnmatchedDto(
+            Integer lineNumber,
+            String productCode,
+            Integer countedQuantity
+    ) {}
+
+    /**
+     * 실사 차이 반영 요청 DTO
+     *
+     * @param inventoryIds 승인한 재고 ID (없으면 모든 차이 반영)
+     */
+    public record ApplyRequestDto(
+            List<Long> inventoryIds,
+
+            @Size(max = 200, message = "실사 사유는 200자를 초과할 수 없습니다")
+            String reason
+    ) {}
+}
@@ -10,7 +10,7 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 import java.math.BigDecimal;
-// import java.time.LocalDateTime; // 제거된 필드들로 인해 사용하지 않음
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -144,6 +144,12 @@ public class Inventory extends BaseEntity {
     @Column(name = "reorder_point")
     private Integer reorderPoint;
 
+    /**
+     * 마지막 출고 일시 (원장 엔진이 출고 시 갱신, 장기 체류 분석용)
+     */
+    @Column(name = "last_outbound_at")
+    private LocalDateTime lastOutboundAt;
+
     // DdlForcer 스키마에 없는 필드들 - 주석 처리
     // reorder_quantity, last_purchase_price, total_stock_value, stock_status, stock_grade
 
@@ -0,0 +1,112 @@
+package com.erp.inventory.entity;
+
+import com.erp.common.entity.BaseEntity;
+import com.erp.common.entity.Company;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 스냅샷 엔티티
+ * 기준 시각 직전까지 처리된 재고이동을 반영한 재고(상품-창고)별 수량을 보관합니다.
+ * 시점 재고 조회는 가장 가까운 이전 스냅샷에서 이후 재고이동만 재생합니다
+ */
+@Entity
+@Table(name = "inventory_snapshots",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_inventory_snapshot_inventory_at", columnNames = {"inventory_id", "snapshot_at"})
+    },
+    indexes = {
+        @Index(name = "idx_inventory_snapshot_company_at", columnList = "company_id, snapshot_at"),
+        @Index(name = "idx_inventory_snapshot_type_at", columnList = "snapshot_type, snapshot_at")
+    })
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventorySnapshot extends BaseEntity {
+
+    /**
+     * 소속 회사
+     */
+    @NotNull(message = "소속 회사는 필수입니다")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "company_id", nullable = false)
+    private Company company;
+
+    /**
+     * 재고
+     */
+    @NotNull(message = "재고는 필수입니다")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "inventory_id", nullable = false)
+    private Inventory inventory;
+
+    /**
+     * 상품
+     */
+    @NotNull(message = "상품은 필수입니다")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+
+    /**
+     * 창고
+     */
+    @NotNull(message = "창고는 필수입니다")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "warehouse_id", nullable = false)
+    private Warehouse warehouse;
+
+    /**
+     * 기준 시각 (이 시각 이전 재고이동까지 반영, 일별은 해당일 0시)
+     */
+    @NotNull(message = "기준 시각은 필수입니다")
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+
+    /**
+     * 스냅샷 유형
+     */
+    @NotNull(message = "스냅샷 유형은 필수입니다")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "snapshot_type", nullable = false, length = 20)
+    private SnapshotType snapshotType;
+
+    /**
+     * 재고 수량
+     */
+    @NotNull(message = "재고 수량은 필수입니다")
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    /**
+     * 이전 스냅샷 이후 재생한 재고이동 건수
+     */
+    @Column(name = "movement_count", nullable = false)
+    private Integer movementCount = 0;
+
+    /**
+     * 스냅샷 유형
+     */
+    public enum SnapshotType {
+        DAILY("일별"),
+        MONTHLY("월별"),
+        MANUAL("수동");
+
+        private final String description;
+
+        SnapshotType(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
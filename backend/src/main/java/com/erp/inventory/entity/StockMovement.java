@@ -26,7 +26,7 @@ import java.time.LocalDateTime;
         @Index(name = "idx_stock_movement_company", columnList = "company_id"),
         @Index(name = "idx_stock_movement_product", columnList = "product_id"),
         @Index(name = "idx_stock_movement_warehouse", columnList = "warehouse_id"),
-        @Index(name = "idx_stock_movement_inventory", columnList = "inventory_id"),
+        @Index(name = "idx_stock_movement_inventory", columnList = "inventory_id, movement_date"),
         @Index(name = "idx_stock_movement_type", columnList = "company_id, movement_type"),
         @Index(name = "idx_stock_movement_date", columnList = "company_id, movement_date"),
         @Index(name = "idx_stock_movement_reference", columnList = "reference_number"),
@@ -0,0 +1,25 @@
+package com.erp.inventory.event;
+
+import com.erp.inventory.entity.StockMovement;
+
+/**
+ * 재고 수량 변경 이벤트
+ * 재고 원장에 수량 변경이 기록되면 발행되어 메모리에 보관한 재고 수량을 증분 반영합니다
+ *
+ * @param delta 증감 수량 (입고 양수, 출고 음수)
+ * @param afterStock 변경 후 수량
+ * @param availableQuantity 변경 후 가용 수량 (수량 - 예약)
+ * @param reorderPoint 재주문점 (미설정이면 0, 재고 부족 진입 판단용)
+ */
+public record StockMovedEvent(
+        Long companyId,
+        Long inventoryId,
+        Long productId,
+        Long warehouseId,
+        StockMovement.MovementType movementType,
+        int delta,
+        int afterStock,
+        int availableQuantity,
+        int reorderPoint
+) {
+}
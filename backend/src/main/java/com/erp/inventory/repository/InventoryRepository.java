@@ -3,6 +3,7 @@ package com.erp.inventory.repository;
 import com.erp.inventory.entity.Inventory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,132 @@ import java.util.Optional;
 @Repository
 public interface InventoryRepository extends JpaRepository<Inventory, Long> {
 
+    /**
+     * 장기 체류 분석의 출고 유형 (재고가 창고를 떠나는 이동, 조정/실사/폐기는 제외)
+     */
+    String NATIVE_OUTBOUND_MOVEMENT_TYPES =
+        "('ISSUE', 'SALES_ISSUE', 'PRODUCTION_ISSUE', 'RETURN_ISSUE', 'TRANSFER_OUT')";
+
+    /**
+     * 재고 수량 변경과 재고이동 기록을 한 문장으로 처리 (입고/출고 조건부 UPDATE 확장)
+     * 감소는 가용 수량(수량 - 예약)이 충분할 때만 반영되고, 동시에 같은 재고를 갱신하면 행 잠금 뒤 조건을 다시 평가하므로
+     * 갱신 유실이나 음수 재고 없이 직렬화됩니다. 변경 전후 수량은 UPDATE의 RETURNING 값으로 기록하고,
+     * 출고 유형이면 마지막 출고 일시도 함께 갱신합니다. 결과에 재주문점을 함께 돌려 호출 측이 재고 부족 진입을 판단합니다
+     * 파라미터 순서: 재고 ID, 증감 수량, 처리 일시, 단가, 처리자, 이동 유형, 출발 창고, 도착 창고, 참조 번호, 참조 유형,
+     * LOT 번호, 시리얼 번호, 사유, 설명
+     */
+    String NATIVE_STOCK_LEDGER_ENTRY =
+        "WITH req AS (" +
+        "SELECT CAST(? AS BIGINT) AS inventory_id, CAST(? AS INTEGER) AS delta, CAST(? AS TIMESTAMP) AS moved_at, " +
+        "CAST(? AS NUMERIC) AS unit_price, CAST(? AS BIGINT) AS processed_by, " +
+        "CAST(? AS VARCHAR) AS movement_type), " +
+        "moved AS (" +
+        "UPDATE inventories i SET quantity = i.quantity + r.delta, " +
+        "available_quantity = i.quantity + r.delta - i.reserved_quantity, updated_at = r.moved_at, " +
+        "last_outbound_at = CASE WHEN r.movement_type IN " + NATIVE_OUTBOUND_MOVEMENT_TYPES + " " +
+        "THEN r.moved_at ELSE i.last_outbound_at END " +
+        "FROM req r " +
+        "WHERE i.id = r.inventory_id AND i.is_deleted = false " +
+        "AND (r.delta >= 0 OR i.quantity - i.reserved_quantity + r.delta >= 0) " +
+        "RETURNING i.id, i.company_id, i.product_id, i.warehouse_id, i.quantity, i.reserved_quantity, " +
+        "i.available_quantity, i.reorder_point, r.delta, r.moved_at, r.unit_price, r.processed_by, " +
+        "r.movement_type), " +
+        "entry AS (" +
+        "INSERT INTO stock_movements (id, movement_number, company_id, product_id, warehouse_id, inventory_id, " +
+        "movement_type, movement_status, movement_date, quantity, unit, unit_price, total_amount, " +
+        "before_stock, after_stock, from_warehouse_id, to_warehouse_id, reference_number, reference_type, " +
+        "lot_number, serial_number, reason, description, processed_by_id, processed_at, " +
+        "created_at, created_by, is_deleted) " +
+        "SELECT s.id, 'SM' || to_char(m.moved_at, 'YYYYMMDD') || '-' || lpad(s.id::text, 10, '0'), " +
+        "m.company_id, m.product_id, m.warehouse_id, m.id, " +
+        "m.movement_type, 'PROCESSED', m.moved_at, ABS(m.delta), p.base_unit, COALESCE(m.unit_price, 0), " +
+        "COALESCE(m.unit_price, 0) * ABS(m.delta), m.quantity - m.delta, m.quantity, " +
+        "?, ?, ?, ?, ?, ?, ?, ?, m.processed_by, m.moved_at, m.moved_at, m.processed_by, false " +
+        "FROM moved m " +
+        "JOIN products p ON p.id = m.product_id " +
+        "CROSS JOIN LATERAL (SELECT nextval(pg_get_serial_sequence('stock_movements', 'id')) AS id) s " +
+        "RETURNING id, movement_number) " +
+        "SELECT e.id, e.movement_number, m.id, m.company_id, m.product_id, m.warehouse_id, " +
+        "m.quantity - m.delta, m.quantity, m.reserved_quantity, m.available_quantity, " +
+        "COALESCE(m.reorder_point, 0) " +
+        "FROM moved m CROSS JOIN entry e";
+
+    /**
+     * 실사 대조용 창고 재고 커서 [재고ID, 상품ID, 상품코드, 상품명, 수량, 표준원가]
+     */
+    String NATIVE_STOCKTAKING_CURSOR =
+        "SELECT i.id, p.id, p.product_code, p.product_name, i.quantity, p.standard_cost " +
+        "FROM inventories i JOIN products p ON p.id = i.product_id " +
+        "WHERE i.warehouse_id = ? AND i.is_deleted = false";
+
+    /**
+     * 실사 차이 반영 전 재고 행 잠금 (원장 엔진과 같은 ID 순서)
+     */
+    String NATIVE_LOCK_INVENTORIES =
+        "SELECT id FROM inventories WHERE id = ANY(CAST(? AS BIGINT[])) ORDER BY id FOR UPDATE";
+
+    /**
+     * 실사 차이 일괄 반영 (재고 실사 처리의 집합 단위 버전)
+     * 여러 재고의 실사 차이를 한 문장으로 증감하고 실사증가/실사감소 재고이동을 같은 문장에서 기록합니다.
+     * 실사 이후 다른 입출고가 있어도 보존되도록 실사 수량으로 덮어쓰지 않고 차이만큼 증감하며, 음수가 되는 재고는 건너뜁니다
+     * 파라미터 순서: 처리 일시, 처리자, 재고 ID 배열(long[]), 증감 수량 배열(int[]), 창고 ID, 참조 번호, 사유, 설명
+     * 결과 열은 {@link #NATIVE_STOCK_LEDGER_ENTRY}와 같습니다
+     */
+    String NATIVE_STOCKTAKING_ADJUSTMENT =
+        "WITH req AS (" +
+        "SELECT r.inventory_id, r.delta, CAST(? AS TIMESTAMP) AS moved_at, CAST(? AS BIGINT) AS processed_by " +
+        "FROM unnest(CAST(? AS BIGINT[]), CAST(? AS INTEGER[])) AS r(inventory_id, delta)), " +
+        "moved AS (" +
+        "UPDATE inventories i SET quantity = i.quantity + r.delta, " +
+        "available_quantity = i.quantity + r.delta - i.reserved_quantity, updated_at = r.moved_at " +
+        "FROM req r " +
+        "WHERE i.id = r.inventory_id AND i.warehouse_id = ? AND i.is_deleted = false " +
+        "AND i.quantity + r.delta >= 0 " +
+        "RETURNING i.id, i.company_id, i.product_id, i.warehouse_id, i.quantity, i.reserved_quantity, " +
+        "i.available_quantity, i.reorder_point, r.delta, r.moved_at, r.processed_by), " +
+        "entry AS (" +
+        "INSERT INTO stock_movements (id, movement_number, company_id, product_id, warehouse_id, inventory_id, " +
+        "movement_type, movement_status, movement_date, quantity, unit, unit_price, total_amount, " +
+        "before_stock, after_stock, reference_number, reference_type, reason, description, processed_by_id, " +
+        "processed_at, created_at, created_by, is_deleted) " +
+        "SELECT s.id, 'SM' || to_char(m.moved_at, 'YYYYMMDD') || '-' || lpad(s.id::text, 10, '0'), " +
+        "m.company_id, m.product_id, m.warehouse_id, m.id, " +
+        "CASE WHEN m.delta > 0 THEN 'STOCKTAKING_INCREASE' ELSE 'STOCKTAKING_DECREASE' END, 'PROCESSED', " +
+        "m.moved_at, ABS(m.delta), p.base_unit, COALESCE(p.standard_cost, 0), " +
+        "COALESCE(p.standard_cost, 0) * ABS(m.delta), m.quantity - m.delta, m.quantity, " +
+        "?, 'STOCKTAKING', ?, ?, m.processed_by, m.moved_at, m.moved_at, m.processed_by, false " +
+        "FROM moved m " +
+        "JOIN products p ON p.id = m.product_id " +
+        "CROSS JOIN LATERAL (SELECT nextval(pg_get_serial_sequence('stock_movements', 'id')) AS id) s " +
+        "RETURNING id, movement_number, inventory_id) " +
+        "SELECT e.id, e.movement_number, m.id, m.company_id, m.product_id, m.warehouse_id, " +
+        "m.quantity - m.delta, m.quantity, m.reserved_quantity, m.available_quantity, " +
+        "COALESCE(m.reorder_point, 0) " +
+        "FROM moved m JOIN entry e ON e.inventory_id = m.id";
+
+    /**
+     * 재고 체류 기간 (마지막 출고 이후 경과일, 출고 이력이 없으면 재고 생성일 기준)
+     * 관리 컬럼이 비어 있는 재고만 재고이동에서 마지막 출고를 찾으므로 재고이동 전체를 상품마다 훑지 않습니다
+     * 경과일 하한은 마지막 출고일 상한(기준 일자 - 경과일)으로 받아 조건에 맞는 재고만 읽습니다
+     * 파라미터 순서: 기준 일자, 회사 ID, 창고 ID(선택), 창고 ID(선택), 마지막 출고일 상한(선택), 마지막 출고일 상한(선택)
+     * 결과: [재고ID, 상품ID, 상품코드, 상품명, 창고ID, 창고명, 수량, 재고 금액(표준원가), 마지막 출고 일시, 경과일]
+     */
+    String NATIVE_INVENTORY_AGING =
+        "SELECT i.id, p.id, p.product_code, p.product_name, w.id, w.warehouse_name, i.quantity, " +
+        "COALESCE(p.standard_cost, 0) * i.quantity, o.last_outbound_at, " +
+        "CAST(? AS DATE) - CAST(COALESCE(o.last_outbound_at, i.created_at) AS DATE) AS age_days " +
+        "FROM inventories i " +
+        "JOIN products p ON p.id = i.product_id " +
+        "JOIN warehouses w ON w.id = i.warehouse_id " +
+        "CROSS JOIN LATERAL (SELECT COALESCE(i.last_outbound_at, (" +
+        "SELECT MAX(m.movement_date) FROM stock_movements m " +
+        "WHERE m.inventory_id = i.id AND m.movement_type IN " + NATIVE_OUTBOUND_MOVEMENT_TYPES + " " +
+        "AND m.movement_status = 'PROCESSED' AND m.is_deleted = false)) AS last_outbound_at) o " +
+        "WHERE i.company_id = ? AND i.is_deleted = false AND i.quantity > 0 " +
+        "AND (CAST(? AS BIGINT) IS NULL OR i.warehouse_id = ?) " +
+        "AND (CAST(? AS DATE) IS NULL OR CAST(COALESCE(o.last_outbound_at, i.created_at) AS DATE) <= ?) " +
+        "ORDER BY w.id, age_days DESC, i.id";
+
     /**
      * 회사별 재고 조회
      */
@@ -45,6 +173,27 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     @EntityGraph(attributePaths = {"company", "product", "product.category", "warehouse"})
     Optional<Inventory> findByProductIdAndWarehouseId(Long productId, Long warehouseId);
 
+    /**
+     * 재고 상세 조회 (응답 변환에 필요한 연관 엔티티 포함)
+     */
+    @EntityGraph(attributePaths = {"company", "product", "product.category", "warehouse"})
+    @Query("SELECT i FROM Inventory i WHERE i.id = :inventoryId AND i.isDeleted = false")
+    Optional<Inventory> findDetailById(@Param("inventoryId") Long inventoryId);
+
+    /**
+     * 실사표 대상 재고 (창고/상품 조건은 all 플래그가 false일 때만 적용)
+     */
+    @EntityGraph(attributePaths = {"product", "warehouse"})
+    @Query("SELECT i FROM Inventory i WHERE i.company.id = :companyId AND i.isDeleted = false " +
+           "AND (:allWarehouses = true OR i.warehouse.id IN :warehouseIds) " +
+           "AND (:allProducts = true OR i.product.id IN :productIds) " +
+           "ORDER BY i.warehouse.id, i.product.productCode")
+    List<Inventory> findCountSheet(@Param("companyId") Long companyId,
+                                   @Param("allWarehouses") boolean allWarehouses,
+                                   @Param("warehouseIds") List<Long> warehouseIds,
+                                   @Param("allProducts") boolean allProducts,
+                                   @Param("productIds") List<Long> productIds);
+
     /**
      * 재고 검색
      */
@@ -54,6 +203,29 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
            "OR i.warehouse.warehouseName LIKE %:searchTerm%)")
     Page<Inventory> searchInventory(@Param("companyId") Long companyId, @Param("searchTerm") String searchTerm, Pageable pageable);
 
+    /**
+     * 회사별 재고 조회 (슬라이스, COUNT 쿼리 없음)
+     */
+    @EntityGraph(attributePaths = {"company", "product", "product.category", "warehouse"})
+    Slice<Inventory> findSliceByCompanyId(Long companyId, Pageable pageable);
+
+    /**
+     * 재고 검색 (슬라이스, COUNT 쿼리 없음)
+     */
+    @EntityGraph(attributePaths = {"company", "product", "product.category", "warehouse"})
+    @Query("SELECT i FROM Inventory i WHERE i.company.id = :companyId " +
+           "AND (i.product.productName LIKE %:searchTerm% OR i.product.productCode LIKE %:searchTerm% " +
+           "OR i.warehouse.warehouseName LIKE %:searchTerm%)")
+    Slice<Inventory> searchInventorySlice(@Param("companyId") Long companyId, @Param("searchTerm") String searchTerm, Pageable pageable);
+
+    /**
+     * 재고 검색 결과 수
+     */
+    @Query("SELECT COUNT(i) FROM Inventory i WHERE i.company.id = :companyId " +
+           "AND (i.product.productName LIKE %:searchTerm% OR i.product.productCode LIKE %:searchTerm% " +
+           "OR i.warehouse.warehouseName LIKE %:searchTerm%)")
+    long countSearchInventory(@Param("companyId") Long companyId, @Param("searchTerm") String searchTerm);
+
     /**
      * 고급 재고 검색
      */
@@ -75,6 +247,20 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     @Query("SELECT i FROM Inventory i WHERE i.company.id = :companyId AND i.quantity <= :threshold ORDER BY i.createdAt DESC")
     List<Inventory> findLowStockInventory(@Param("companyId") Long companyId, @Param("threshold") Integer threshold);
 
+    /**
+     * 재고 부족/재고없음 재고 [재고ID, 수량, 재주문점] (회사별 재고 부족 목록 최초 적재용)
+     */
+    @Query("SELECT i.id, i.quantity, i.reorderPoint FROM Inventory i WHERE i.company.id = :companyId " +
+           "AND i.isDeleted = false AND (i.quantity <= 0 OR (i.reorderPoint > 0 AND i.quantity <= i.reorderPoint))")
+    List<Object[]> findStockAlertLevels(@Param("companyId") Long companyId);
+
+    /**
+     * ID 목록으로 재고 조회 (상품, 분류, 창고 포함)
+     */
+    @EntityGraph(attributePaths = {"company", "product", "product.category", "warehouse"})
+    @Query("SELECT i FROM Inventory i WHERE i.id IN :inventoryIds AND i.isDeleted = false")
+    List<Inventory> findWithDetailsByIdIn(@Param("inventoryIds") Collection<Long> inventoryIds);
+
     /**
      * 재고없음 재고 조회
      */
@@ -175,12 +361,25 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
            "WHERE i.product.id IN :productIds GROUP BY i.product.id")
     List<Object[]> getAvailableStockByProducts(@Param("productIds") List<Long> productIds);
 
+    /**
+     * 회사 상품별/창고별 재고 수량 일괄 조회 (납기 약속 가능 수량 캐시 적재용)
+     * 재고가 없는 상품도 리드타임과 함께 한 행으로 반환합니다
+     */
+    @Query("SELECT p.id, p.leadTimeDays, i.id, w.id, w.warehouseName, i.quantity, i.reservedQuantity " +
+           "FROM Product p " +
+           "LEFT JOIN Inventory i ON i.product = p AND i.isDeleted = false " +
+           "LEFT JOIN i.warehouse w " +
+           "WHERE p.company.id = :companyId AND p.id IN :productIds AND p.isDeleted = false")
+    List<Object[]> getWarehouseStockByProducts(@Param("companyId") Long companyId,
+                                               @Param("productIds") Collection<Long> productIds);
+
     /**
      * 재고 입고 처리
      */
     @Modifying
     @Query("UPDATE Inventory i SET " +
-           "i.quantity = i.quantity + :quantity " +
+           "i.quantity = i.quantity + :quantity, " +
+           "i.availableQuantity = i.quantity + :quantity - i.reservedQuantity " +
            "WHERE i.id = :inventoryId")
     void receiveStock(@Param("inventoryId") Long inventoryId, 
                      @Param("quantity") Integer quantity);
@@ -190,8 +389,9 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
      */
     @Modifying
     @Query("UPDATE Inventory i SET " +
-           "i.quantity = i.quantity - :quantity " +
-           "WHERE i.id = :inventoryId AND i.quantity >= :quantity")
+           "i.quantity = i.quantity - :quantity, " +
+           "i.availableQuantity = i.quantity - :quantity - i.reservedQuantity " +
+           "WHERE i.id = :inventoryId AND i.quantity - i.reservedQuantity >= :quantity")
     int issueStock(@Param("inventoryId") Long inventoryId, 
                    @Param("quantity") Integer quantity);
 
@@ -200,8 +400,9 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
      */
     @Modifying
     @Query("UPDATE Inventory i SET " +
-           "i.reservedQuantity = i.reservedQuantity + :quantity " +
-           "WHERE i.id = :inventoryId AND i.quantity >= :quantity")
+           "i.reservedQuantity = i.reservedQuantity + :quantity, " +
+           "i.availableQuantity = i.quantity - i.reservedQuantity - :quantity " +
+           "WHERE i.id = :inventoryId AND i.quantity - i.reservedQuantity >= :quantity")
     int reserveStock(@Param("inventoryId") Long inventoryId, 
                      @Param("quantity") Integer quantity);
 
@@ -210,17 +411,19 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
      */
     @Modifying
     @Query("UPDATE Inventory i SET " +
-           "i.reservedQuantity = GREATEST(0, i.reservedQuantity - :quantity) " +
+           "i.reservedQuantity = GREATEST(0, i.reservedQuantity - :quantity), " +
+           "i.availableQuantity = i.quantity - GREATEST(0, i.reservedQuantity - :quantity) " +
            "WHERE i.id = :inventoryId")
     void unreserveStock(@Param("inventoryId") Long inventoryId, 
                         @Param("quantity") Integer quantity);
 
     /**
-     * 재고 실사 처리
+     * 재고 실사 처리 (가용 수량도 함께 갱신, 여러 재고는 {@link #NATIVE_STOCKTAKING_ADJUSTMENT} 사용)
      */
     @Modifying
     @Query("UPDATE Inventory i SET " +
-           "i.quantity = :actualQuantity " +
+           "i.quantity = :actualQuantity, " +
+           "i.availableQuantity = :actualQuantity - i.reservedQuantity " +
            "WHERE i.id = :inventoryId")
     void adjustStockByStocktaking(@Param("inventoryId") Long inventoryId, 
                                   @Param("actualQuantity") Integer actualQuantity);
@@ -283,13 +486,16 @@ public interface InventoryRepository extends JpaRepository<Inventory, Long> {
     List<Inventory> findTopQuantityInventory(@Param("companyId") Long companyId, Pageable pageable);
 
     /**
-     * 장기 재고 조회 (90일 이상 입출고 없음)
+     * 장기 재고 조회 (기준 일시 이후 출고 없음, 출고 이력이 없으면 재고 생성 일시 기준)
+     * 관리 컬럼만 보므로 컬럼 도입 전 출고 이력은 {@link #NATIVE_INVENTORY_AGING}으로 조회합니다
      */
     @EntityGraph(attributePaths = {"company", "product", "product.category", "warehouse"})
     @Query("SELECT i FROM Inventory i WHERE i.company.id = :companyId " +
-           "AND i.quantity > 0 " +
-           "ORDER BY i.createdAt ASC")
-    List<Inventory> findSlowMovingInventory(@Param("companyId") Long companyId);
+           "AND i.quantity > 0 AND i.isDeleted = false " +
+           "AND COALESCE(i.lastOutboundAt, i.createdAt) < :before " +
+           "ORDER BY COALESCE(i.lastOutboundAt, i.createdAt) ASC")
+    List<Inventory> findSlowMovingInventory(@Param("companyId") Long companyId,
+                                            @Param("before") LocalDateTime before);
 
     /**
      * 재고 회전율 분석
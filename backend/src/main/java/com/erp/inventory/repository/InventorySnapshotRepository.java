@@ -0,0 +1,163 @@
+package com.erp.inventory.repository;
+
+import com.erp.inventory.entity.InventorySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 스냅샷 Repository
+ */
+@Repository
+public interface InventorySnapshotRepository extends JpaRepository<InventorySnapshot, Long> {
+
+    /**
+     * 재고 수량을 바꾸는 재고이동 조건 (처리 완료, 전후 수량 기록, 예약 제외)
+     */
+    String NATIVE_QUANTITY_MOVEMENT_FILTER =
+        "m.movement_status = 'PROCESSED' AND m.is_deleted = false AND m.inventory_id IS NOT NULL " +
+        "AND m.movement_type NOT IN ('RESERVE', 'UNRESERVE') " +
+        "AND m.before_stock IS NOT NULL AND m.after_stock IS NOT NULL ";
+
+    /**
+     * 시점 재고 (기준 시각 이전)
+     * 재고별 가장 가까운 이전 스냅샷 수량에 이후 재고이동 증감(변경 후 - 변경 전)을 더하고,
+     * 스냅샷이 없으면 기준 시각 직전 재고이동의 변경 후 수량을 사용합니다
+     */
+    String NATIVE_STOCK_AS_OF =
+        "WITH base AS (" +
+        "SELECT DISTINCT ON (s.inventory_id) s.inventory_id, s.quantity, s.snapshot_at " +
+        "FROM inventory_snapshots s " +
+        "WHERE s.company_id = :companyId AND s.snapshot_at <= :asOf AND s.is_deleted = false " +
+        "AND (CAST(:warehouseId AS BIGINT) IS NULL OR s.warehouse_id = CAST(:warehouseId AS BIGINT)) " +
+        "AND (CAST(:productId AS BIGINT) IS NULL OR s.product_id = CAST(:productId AS BIGINT)) " +
+        "ORDER BY s.inventory_id, s.snapshot_at DESC), " +
+        "replay AS (" +
+        "SELECT m.inventory_id, COUNT(*) AS movement_count, SUM(m.after_stock - m.before_stock) AS delta, " +
+        "(ARRAY_AGG(m.after_stock ORDER BY m.id DESC))[1] AS last_after " +
+        "FROM stock_movements m " +
+        "LEFT JOIN base b ON b.inventory_id = m.inventory_id " +
+        "WHERE m.company_id = :companyId AND " + NATIVE_QUANTITY_MOVEMENT_FILTER +
+        "AND m.movement_date < :asOf AND (b.snapshot_at IS NULL OR m.movement_date >= b.snapshot_at) " +
+        "AND (CAST(:warehouseId AS BIGINT) IS NULL OR m.warehouse_id = CAST(:warehouseId AS BIGINT)) " +
+        "AND (CAST(:productId AS BIGINT) IS NULL OR m.product_id = CAST(:productId AS BIGINT)) " +
+        "GROUP BY m.inventory_id) " +
+        "SELECT i.id AS inventory_id, i.company_id, p.id AS product_id, p.product_code, p.product_name, " +
+        "w.id AS warehouse_id, w.warehouse_name, " +
+        "CAST(CASE WHEN b.inventory_id IS NOT NULL THEN b.quantity + COALESCE(r.delta, 0) ELSE r.last_after END " +
+        "AS INTEGER) AS quantity, " +
+        "b.snapshot_at, CAST(COALESCE(r.movement_count, 0) AS INTEGER) AS movement_count " +
+        "FROM inventories i " +
+        "JOIN products p ON p.id = i.product_id " +
+        "JOIN warehouses w ON w.id = i.warehouse_id " +
+        "LEFT JOIN base b ON b.inventory_id = i.id " +
+        "LEFT JOIN replay r ON r.inventory_id = i.id " +
+        "WHERE i.company_id = :companyId AND (b.inventory_id IS NOT NULL OR r.inventory_id IS NOT NULL) " +
+        "AND (CAST(:warehouseId AS BIGINT) IS NULL OR i.warehouse_id = CAST(:warehouseId AS BIGINT)) " +
+        "AND (CAST(:productId AS BIGINT) IS NULL OR i.product_id = CAST(:productId AS BIGINT)) ";
+
+    /**
+     * 창고 재고 행 잠금 (재구성 중 재고 변경 차단, 원장 엔진과 같은 ID 순서)
+     */
+    String NATIVE_LOCK_WAREHOUSE_INVENTORIES =
+        "SELECT id FROM inventories WHERE warehouse_id = ? AND is_deleted = false ORDER BY id FOR UPDATE";
+
+    /**
+     * 재고이동 기준 재고 수량과 다른 창고 재고 (재고별 마지막 재고이동의 변경 후 수량)
+     */
+    String NATIVE_REBUILD_DIFF =
+        "WITH latest AS (" +
+        "SELECT DISTINCT ON (m.inventory_id) m.inventory_id, CAST(m.after_stock AS INTEGER) AS quantity " +
+        "FROM stock_movements m " +
+        "WHERE m.warehouse_id = ? AND " + NATIVE_QUANTITY_MOVEMENT_FILTER +
+        "ORDER BY m.inventory_id, m.id DESC), " +
+        "diff AS (" +
+        "SELECT i.id, i.company_id, i.product_id, i.quantity AS previous_quantity, l.quantity " +
+        "FROM inventories i JOIN latest l ON l.inventory_id = i.id " +
+        "WHERE i.warehouse_id = ? AND i.is_deleted = false AND i.quantity <> l.quantity) ";
+
+    /**
+     * 재구성 결과 미리보기 [재고ID, 회사ID, 상품ID, 기존 수량, 재구성 수량, 가용 수량, 재주문점]
+     */
+    String NATIVE_REBUILD_PREVIEW = NATIVE_REBUILD_DIFF +
+        "SELECT d.id, d.company_id, d.product_id, d.previous_quantity, d.quantity, " +
+        "d.quantity - i.reserved_quantity, COALESCE(i.reorder_point, 0) " +
+        "FROM diff d JOIN inventories i ON i.id = d.id ORDER BY d.id";
+
+    /**
+     * 재구성 적용 [재고ID, 회사ID, 상품ID, 기존 수량, 재구성 수량, 가용 수량, 재주문점]
+     */
+    String NATIVE_REBUILD_APPLY = NATIVE_REBUILD_DIFF +
+        "UPDATE inventories i SET quantity = d.quantity, available_quantity = d.quantity - i.reserved_quantity, " +
+        "updated_at = ? " +
+        "FROM diff d WHERE i.id = d.id " +
+        "RETURNING i.id, d.company_id, d.product_id, d.previous_quantity, i.quantity, i.available_quantity, " +
+        "COALESCE(i.reorder_point, 0)";
+
+    /**
+     * 전후 수량이 이어지지 않는 재고이동 수 (이동 기록 없이 바뀐 재고)
+     */
+    String NATIVE_CHAIN_BREAKS =
+        "SELECT COUNT(*) FROM (" +
+        "SELECT m.before_stock, LAG(m.after_stock) OVER (PARTITION BY m.inventory_id ORDER BY m.id) AS previous_after " +
+        "FROM stock_movements m " +
+        "WHERE m.warehouse_id = ? AND " + NATIVE_QUANTITY_MOVEMENT_FILTER + ") c " +
+        "WHERE c.previous_after IS NOT NULL AND c.before_stock <> c.previous_after";
+
+    /**
+     * 시점 재고 조회
+     * [재고ID, 회사ID, 상품ID, 상품코드, 상품명, 창고ID, 창고명, 수량, 기준 스냅샷 시각, 재생한 재고이동 수]
+     */
+    @Query(value = NATIVE_STOCK_AS_OF + "ORDER BY w.id, p.product_code", nativeQuery = true)
+    List<Object[]> findStockAsOf(@Param("companyId") Long companyId,
+                                 @Param("asOf") LocalDateTime asOf,
+                                 @Param("warehouseId") Long warehouseId,
+                                 @Param("productId") Long productId);
+
+    /**
+     * 기준 시각 스냅샷 생성 (이미 있는 재고는 건너뜀)
+     *
+     * @return 생성된 스냅샷 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO inventory_snapshots (company_id, inventory_id, product_id, warehouse_id, " +
+                   "snapshot_at, snapshot_type, quantity, movement_count, created_at, is_deleted) " +
+                   "SELECT a.company_id, a.inventory_id, a.product_id, a.warehouse_id, :asOf, :snapshotType, " +
+                   "a.quantity, a.movement_count, CURRENT_TIMESTAMP, false " +
+                   "FROM (" + NATIVE_STOCK_AS_OF + ") a " +
+                   "WHERE a.quantity IS NOT NULL " +
+                   "ON CONFLICT (inventory_id, snapshot_at) DO NOTHING", nativeQuery = true)
+    int createSnapshots(@Param("companyId") Long companyId,
+                        @Param("asOf") LocalDateTime asOf,
+                        @Param("snapshotType") String snapshotType,
+                        @Param("warehouseId") Long warehouseId,
+                        @Param("productId") Long productId);
+
+    /**
+     * 재고가 있는 회사 ID 목록
+     */
+    @Query(value = "SELECT DISTINCT company_id FROM inventories WHERE is_deleted = false ORDER BY company_id",
+           nativeQuery = true)
+    List<Long> findCompanyIdsWithInventory();
+
+    /**
+     * 회사의 재고가 있는 창고 ID 목록
+     */
+    @Query(value = "SELECT DISTINCT warehouse_id FROM inventories " +
+                   "WHERE company_id = :companyId AND is_deleted = false ORDER BY warehouse_id",
+           nativeQuery = true)
+    List<Long> findWarehouseIdsWithInventory(@Param("companyId") Long companyId);
+
+    /**
+     * 보관 기간이 지난 스냅샷 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM InventorySnapshot s WHERE s.snapshotType = :snapshotType AND s.snapshotAt < :before")
+    int deleteByTypeBefore(@Param("snapshotType") InventorySnapshot.SnapshotType snapshotType,
+                           @Param("before") LocalDateTime before);
+}
@@ -21,6 +21,24 @@ import java.util.Optional;
 @Repository
 public interface StockMovementRepository extends JpaRepository<StockMovement, Long> {
 
+    /**
+     * 상품별 월별 소비 수량/금액 (ABC/XYZ 분류용, 상품 ID/월 순)
+     * 소비는 출고/매출출고/생산출고만 집계하고(창고 이동, 조정, 실사, 예약은 수요가 아님),
+     * 금액은 판매가/매입가가 섞이지 않도록 표준원가로 평가합니다
+     * 파라미터 순서: 회사 ID, 시작 일시, 종료 일시(미포함)
+     * 결과: [상품ID, 상품코드, 상품명, 월 번호(연도*12+월-1), 소비 수량, 소비 금액]
+     */
+    String NATIVE_CONSUMPTION_BY_MONTH =
+        "SELECT p.id, p.product_code, p.product_name, " +
+        "CAST(EXTRACT(YEAR FROM m.movement_date) * 12 + EXTRACT(MONTH FROM m.movement_date) - 1 AS INTEGER) AS month_index, " +
+        "SUM(m.quantity), SUM(m.quantity * COALESCE(p.standard_cost, 0)) " +
+        "FROM stock_movements m JOIN products p ON p.id = m.product_id " +
+        "WHERE m.company_id = ? AND m.movement_date >= ? AND m.movement_date < ? " +
+        "AND m.movement_status = 'PROCESSED' AND m.is_deleted = false " +
+        "AND m.movement_type IN ('ISSUE', 'SALES_ISSUE', 'PRODUCTION_ISSUE') " +
+        "GROUP BY p.id, month_index " +
+        "ORDER BY p.id, month_index";
+
     /**
      * 회사별 재고이동 조회 (최신순)
      */
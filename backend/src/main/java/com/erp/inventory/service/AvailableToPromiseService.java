@@ -0,0 +1,15 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dto.AvailableToPromiseDto;
+
+/**
+ * 납기 약속 가능 수량(ATP) 서비스 인터페이스
+ * 여러 (상품, 수량) 항목을 한 번에 받아 출고 가능 여부, 창고별 배정, 전량 출고 예정일을 제공합니다
+ */
+public interface AvailableToPromiseService {
+
+    /**
+     * 주문 항목별 ATP 조회
+     */
+    AvailableToPromiseDto.ResultDto checkAvailability(Long companyId, AvailableToPromiseDto.RequestDto requestDto);
+}
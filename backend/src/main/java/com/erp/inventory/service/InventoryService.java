@@ -1,9 +1,14 @@
 package com.erp.inventory.service;
 
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
+import com.erp.common.export.ExportFormat;
 import com.erp.inventory.dto.InventoryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -64,6 +69,12 @@ public interface InventoryService {
      */
     Page<InventoryDto.InventorySummaryDto> searchInventories(Long companyId, String searchTerm, Pageable pageable);
 
+    /**
+     * 회사별 재고 목록/검색 (슬라이스, 건수는 요청 시에만 조회)
+     */
+    ApiResponse.SliceResponse<InventoryDto.InventorySummaryDto> getInventorySlice(Long companyId, String searchTerm,
+                                                                                 Pageable pageable, CountMode countMode);
+
     /**
      * 재고 부족 목록 조회
      */
@@ -135,10 +146,21 @@ public interface InventoryService {
     List<InventoryDto.ABCAnalysisDto> performABCAnalysis(Long companyId, LocalDate startDate, LocalDate endDate);
 
     /**
-     * 장기 체류 재고 조회
+     * 장기 체류 재고 조회 (마지막 출고 이후 days일 이상 경과)
      */
     List<InventoryDto.SlowMovingInventoryDto> getSlowMovingInventory(Long companyId, int days);
 
+    /**
+     * 재고 체류 기간 구간 분석 (창고는 선택)
+     */
+    InventoryDto.InventoryAgingDto getInventoryAging(Long companyId, Long warehouseId);
+
+    /**
+     * 재고 체류 기간 내보내기 (CSV/XLSX 스트리밍)
+     */
+    void exportInventoryAging(Long companyId, Long warehouseId, ExportFormat format, OutputStream outputStream)
+            throws IOException;
+
     /**
      * 창고별 재고 수 통계
      */
@@ -190,6 +212,21 @@ public interface InventoryService {
      * 재고 예약 해제
      */
     InventoryDto.InventoryResponseDto unreserveStock(Long inventoryId, Double quantity, String remarks);
+
+    /**
+     * 임시 예약 생성 (장바구니/견적, 만료 시 자동 해제)
+     */
+    InventoryDto.StockHoldDto holdStock(InventoryDto.StockHoldRequestDto holdRequestDto);
+
+    /**
+     * 임시 예약 확정
+     */
+    InventoryDto.StockHoldDto confirmHold(String holdId);
+
+    /**
+     * 임시 예약 해제
+     */
+    InventoryDto.StockHoldDto releaseHold(String holdId);
     
     /**
      * 재고 실사
@@ -0,0 +1,30 @@
+package com.erp.inventory.service;
+
+import com.erp.inventory.dto.InventorySnapshotDto;
+
+import java.time.LocalDate;
+
+/**
+ * 재고 스냅샷 서비스 인터페이스
+ * 주기적 재고 스냅샷, 특정 일자의 시점 재고 조회, 재고이동 기준 재고 재구성을 제공합니다
+ */
+public interface InventorySnapshotService {
+
+    /**
+     * 일자 마감 기준 시점 재고 조회 (창고/상품 조건은 선택)
+     */
+    InventorySnapshotDto.StockAsOfResultDto getStockAsOf(Long companyId, LocalDate date, Long warehouseId,
+                                                        Long productId);
+
+    /**
+     * 일자 마감 기준 회사 재고 스냅샷 생성 (이미 있는 재고는 건너뜀)
+     */
+    InventorySnapshotDto.SnapshotResultDto createSnapshots(Long companyId, LocalDate date);
+
+    /**
+     * 재고이동 기준 회사 재고 재구성 (창고별 병렬)
+     *
+     * @param dryRun true면 재고를 변경하지 않고 달라질 재고만 조회
+     */
+    InventorySnapshotDto.RebuildResultDto rebuildInventories(Long companyId, boolean dryRun);
+}
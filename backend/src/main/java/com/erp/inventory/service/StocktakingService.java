@@ -0,0 +1,42 @@
+package com.erp.inventory.service;
+
+import com.erp.common.export.ExportFormat;
+import com.erp.inventory.dto.StocktakingDto;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 재고 실사 파일 대사 서비스 인터페이스
+ * 실사 파일(CSV/XLSX)을 창고 재고와 비동기로 대사하고, 승인한 차이를 재고에 반영합니다
+ */
+public interface StocktakingService {
+
+    /**
+     * 실사 파일 대사 시작
+     *
+     * @param fullCount true면 파일에 없는 창고 재고를 0개로 보고 차이로 계산 (전수 실사)
+     */
+    StocktakingDto.SessionDto startReconciliation(Long warehouseId, String fileName, ExportFormat format,
+                                                  InputStream content, boolean fullCount);
+
+    /**
+     * 대사 세션 진행 현황 조회
+     */
+    StocktakingDto.SessionDto getSession(String sessionId);
+
+    /**
+     * 재고별 실사 차이 조회 (차이 금액 절대값 큰 순)
+     */
+    List<StocktakingDto.VarianceDto> getVariances(String sessionId);
+
+    /**
+     * 창고 재고와 대응되지 않는 실사 항목 조회
+     */
+    List<StocktakingDto.UnmatchedDto> getUnmatched(String sessionId);
+
+    /**
+     * 승인한 실사 차이 반영 시작 (세션당 한 번)
+     */
+    StocktakingDto.SessionDto applyVariances(String sessionId, StocktakingDto.ApplyRequestDto request);
+}
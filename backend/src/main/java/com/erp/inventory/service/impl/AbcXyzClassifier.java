@@ -0,0 +1,191 @@
+package com.erp.inventory.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ABC/XYZ 분류기
+ * 상품별 기간 소비 행을 기본형 배열에 모은 뒤 소비 금액 큰 순으로 색인만 정렬해 누적 비율로 ABC 등급을,
+ * 월별 소비 수량의 변동계수로 XYZ 등급을 매깁니다. 계산 중에는 BigDecimal이나 박싱 값을 만들지 않습니다
+ */
+final class AbcXyzClassifier {
+
+    /**
+     * A 등급 누적 비율 상한 (직전 상품까지의 누적 비율이 이 값 미만이면 A)
+     */
+    static final double A_SHARE = 0.80;
+
+    /**
+     * B 등급 누적 비율 상한
+     */
+    static final double B_SHARE = 0.95;
+
+    /**
+     * X 등급 변동계수 상한
+     */
+    static final double X_VARIATION = 0.5;
+
+    /**
+     * Y 등급 변동계수 상한
+     */
+    static final double Y_VARIATION = 1.0;
+
+    /**
+     * XYZ 분류에 필요한 최소 기간 수
+     */
+    static final int MIN_PERIODS = 3;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int periods;
+    private int size;
+    private long[] productIds = new long[INITIAL_CAPACITY];
+    private String[] productCodes = new String[INITIAL_CAPACITY];
+    private String[] productNames = new String[INITIAL_CAPACITY];
+    private double[] quantities = new double[INITIAL_CAPACITY];
+    private double[] values = new double[INITIAL_CAPACITY];
+    private double[] periodQuantities;
+
+    /**
+     * @param periods 분석 기간의 월 수
+     */
+    AbcXyzClassifier(int periods) {
+        if (periods < 1) {
+            throw new IllegalArgumentException("분석 기간은 1개월 이상이어야 합니다");
+        }
+        this.periods = periods;
+        this.periodQuantities = new double[INITIAL_CAPACITY * periods];
+    }
+
+    /**
+     * 상품의 한 기간 소비 추가 (같은 상품 행은 연속으로 들어와야 함)
+     *
+     * @param period 분석 시작 월부터의 기간 번호 (0부터)
+     */
+    void add(long productId, String productCode, String productName, int period, double quantity, double value) {
+        if (period < 0 || period >= periods) {
+            throw new IllegalArgumentException("분석 기간을 벗어난 기간 번호입니다: " + period);
+        }
+        if (size == 0 || productIds[size - 1] != productId) {
+            if (size == productIds.length) {
+                grow();
+            }
+            productIds[size] = productId;
+            productCodes[size] = productCode;
+            productNames[size] = productName;
+            size++;
+        }
+        int index = size - 1;
+        quantities[index] += quantity;
+        values[index] += value;
+        periodQuantities[index * periods + period] += quantity;
+    }
+
+    /**
+     * 분류 결과 (소비 금액 큰 순, 같은 금액은 추가 순서)
+     */
+    List<Item> classify() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += values[i];
+        }
+        int[] order = sortByValueDesc(values, size);
+        List<Item> items = new ArrayList<>(size);
+        double cumulative = 0;
+        for (int rank = 0; rank < size; rank++) {
+            int index = order[rank];
+            double before = total > 0 ? cumulative / total : 0;
+            cumulative += values[index];
+            double share = total > 0 ? cumulative / total : 1;
+            char abc = before < A_SHARE ? 'A' : before < B_SHARE ? 'B' : 'C';
+            double variation = periods < MIN_PERIODS ? Double.NaN : variation(index);
+            items.add(new Item(productIds[index], productCodes[index], productNames[index], quantities[index],
+                values[index], share, abc, variation, xyzOf(variation)));
+        }
+        return items;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 기간별 소비 수량의 변동계수 (표준편차 / 평균, 소비가 없으면 무한대)
+     */
+    private double variation(int index) {
+        int offset = index * periods;
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (int p = 0; p < periods; p++) {
+            double quantity = periodQuantities[offset + p];
+            sum += quantity;
+            sumOfSquares += quantity * quantity;
+        }
+        double mean = sum / periods;
+        if (mean <= 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double variance = Math.max(0, sumOfSquares / periods - mean * mean);
+        return Math.sqrt(variance) / mean;
+    }
+
+    private static char xyzOf(double variation) {
+        if (Double.isNaN(variation)) {
+            return 0;
+        }
+        return variation <= X_VARIATION ? 'X' : variation <= Y_VARIATION ? 'Y' : 'Z';
+    }
+
+    /**
+     * 금액 큰 순 색인 정렬 (상향식 병합 정렬, 안정 정렬)
+     */
+    static int[] sortByValueDesc(double[] values, int size) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        int[] buffer = new int[size];
+        for (int width = 1; width < size; width <<= 1) {
+            for (int from = 0; from < size - width; from += width << 1) {
+                int mid = from + width;
+                int to = Math.min(from + (width << 1), size);
+                int left = from;
+                int right = mid;
+                int out = from;
+                while (left < mid && right < to) {
+                    buffer[out++] = values[order[right]] > values[order[left]] ? order[right++] : order[left++];
+                }
+                while (left < mid) {
+                    buffer[out++] = order[left++];
+                }
+                while (right < to) {
+                    buffer[out++] = order[right++];
+                }
+                System.arraycopy(buffer, from, order, from, to - from);
+            }
+        }
+        return order;
+    }
+
+    private void grow() {
+        int capacity = productIds.length << 1;
+        productIds = Arrays.copyOf(productIds, capacity);
+        productCodes = Arrays.copyOf(productCodes, capacity);
+        productNames = Arrays.copyOf(productNames, capacity);
+        quantities = Arrays.copyOf(quantities, capacity);
+        values = Arrays.copyOf(values, capacity);
+        periodQuantities = Arrays.copyOf(periodQuantities, capacity * periods);
+    }
+
+    /**
+     * 상품별 분류 결과
+     *
+     * @param cumulativeShare 이 상품까지의 소비 금액 누적 비율 (0~1)
+     * @param variation 변동계수 (기간이 부족하면 NaN)
+     * @param xyzClass XYZ 등급 (기간이 부족하면 0)
+     */
+    record Item(long productId, String productCode, String productName, double quantity, double value,
+                double cumulativeShare, char abcClass, double variation, char xyzClass) {
+    }
+}
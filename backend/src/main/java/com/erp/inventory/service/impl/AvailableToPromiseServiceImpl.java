@@ -0,0 +1,141 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.common.utils.ExceptionUtils;
+import com.erp.inventory.dto.AvailableToPromiseDto;
+import com.erp.inventory.service.AvailableToPromiseService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 납기 약속 가능 수량(ATP) 서비스 구현체
+ * 요청 항목의 상품을 모아 회사별 재고 캐시에서 한 번에 조회하므로 항목 수와 관계없이 조회 쿼리는 최대 한 번입니다.
+ * 가용 수량은 예약 원장이 관리 중인 재고면 임시 예약까지 뺀 원장 값을, 아니면 캐시의 (수량 - 확정 예약)을 사용합니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AvailableToPromiseServiceImpl implements AvailableToPromiseService {
+
+    private final StockAvailabilityCache stockAvailabilityCache;
+    private final StockReservationManager stockReservationManager;
+
+    @Override
+    public AvailableToPromiseDto.ResultDto checkAvailability(Long companyId, AvailableToPromiseDto.RequestDto requestDto) {
+        if (companyId == null) {
+            throw ExceptionUtils.businessException("회사 ID는 필수입니다");
+        }
+        List<AvailableToPromiseDto.LineDto> lines = requestDto.lines();
+        List<Long> productIds = new ArrayList<>(lines.size());
+        for (AvailableToPromiseDto.LineDto line : lines) {
+            productIds.add(line.productId());
+        }
+        Map<Long, StockAvailabilityCache.ProductStock> stocks = stockAvailabilityCache.get(companyId, productIds);
+
+        // 같은 상품의 여러 항목이 같은 재고를 중복 배정하지 않도록 남은 가용 수량을 재고별로 관리
+        Map<Long, int[]> remaining = new HashMap<>();
+        LocalDate today = LocalDate.now();
+        List<AvailableToPromiseDto.LineResultDto> results = new ArrayList<>(lines.size());
+        int shortLines = 0;
+        for (int index = 0; index < lines.size(); index++) {
+            AvailableToPromiseDto.LineDto line = lines.get(index);
+            int requested = InventoryServiceImpl.toStockQuantity(line.quantity());
+            StockAvailabilityCache.ProductStock stock = stocks.get(line.productId());
+            if (stock == null) {
+                shortLines++;
+                results.add(new AvailableToPromiseDto.LineResultDto(index + 1, line.productId(), requested, 0,
+                    requested, false, null, List.of(), "상품을 찾을 수 없습니다"));
+                continue;
+            }
+
+            List<StockAvailabilityCache.WarehouseStock> warehouses = stock.warehouses();
+            int[] available = new int[warehouses.size()];
+            int preferred = -1;
+            for (int i = 0; i < available.length; i++) {
+                StockAvailabilityCache.WarehouseStock warehouse = warehouses.get(i);
+                available[i] = remaining.computeIfAbsent(warehouse.inventoryId(),
+                    id -> new int[] {availableOf(warehouse)})[0];
+                if (warehouse.warehouseId().equals(requestDto.preferredWarehouseId())) {
+                    preferred = i;
+                }
+            }
+            int[] allocated = allocate(available, requested, preferred);
+
+            List<AvailableToPromiseDto.AllocationDto> allocations = new ArrayList<>();
+            int allocatedTotal = 0;
+            for (int i = 0; i < allocated.length; i++) {
+                if (allocated[i] > 0) {
+                    StockAvailabilityCache.WarehouseStock warehouse = warehouses.get(i);
+                    remaining.get(warehouse.inventoryId())[0] -= allocated[i];
+                    allocatedTotal += allocated[i];
+                    allocations.add(new AvailableToPromiseDto.AllocationDto(warehouse.warehouseId(),
+                        warehouse.warehouseName(), allocated[i]));
+                }
+            }
+            int shortage = requested - allocatedTotal;
+            if (shortage > 0) {
+                shortLines++;
+            }
+            results.add(new AvailableToPromiseDto.LineResultDto(index + 1, line.productId(), requested,
+                allocatedTotal, shortage, shortage == 0, promiseDate(today, shortage, stock.leadTimeDays()),
+                allocations, shortage == 0 ? null : "가용 재고 부족"));
+        }
+
+        log.debug("ATP 조회 - 회사: {}, 항목: {}, 부족 항목: {}", companyId, lines.size(), shortLines);
+        return new AvailableToPromiseDto.ResultDto(companyId, shortLines == 0, lines.size(), shortLines, results);
+    }
+
+    private int availableOf(StockAvailabilityCache.WarehouseStock warehouse) {
+        Integer tracked = stockReservationManager.trackedAvailable(warehouse.inventoryId());
+        int available = tracked != null ? tracked : warehouse.quantity().get() - warehouse.reservedQuantity();
+        return Math.max(0, available);
+    }
+
+    /**
+     * 창고별 배정 수량
+     * 우선 창고에서 먼저 배정하고, 나머지는 가용 수량이 많은 창고부터 배정해 분할 출고 창고 수를 줄입니다
+     *
+     * @param preferred 우선 창고 위치 (없으면 -1)
+     */
+    static int[] allocate(int[] available, int quantity, int preferred) {
+        int[] allocated = new int[available.length];
+        int left = quantity;
+        if (preferred >= 0) {
+            allocated[preferred] = Math.min(left, Math.max(0, available[preferred]));
+            left -= allocated[preferred];
+        }
+        while (left > 0) {
+            int best = -1;
+            for (int i = 0; i < available.length; i++) {
+                if (i != preferred && allocated[i] == 0 && available[i] > 0
+                        && (best < 0 || available[i] > available[best])) {
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            allocated[best] = Math.min(left, available[best]);
+            left -= allocated[best];
+        }
+        return allocated;
+    }
+
+    /**
+     * 전량 출고 예정일 (부족분은 리드타임 후 입고 가정, 리드타임이 없으면 알 수 없음)
+     */
+    static LocalDate promiseDate(LocalDate today, int shortage, int leadTimeDays) {
+        if (shortage <= 0) {
+            return today;
+        }
+        return leadTimeDays > 0 ? today.plusDays(leadTimeDays) : null;
+    }
+}
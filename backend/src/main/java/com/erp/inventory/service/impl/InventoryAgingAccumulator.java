@@ -0,0 +1,107 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.inventory.dto.InventoryDto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 체류 기간 구간 집계
+ * 재고 행을 마지막 출고 이후 경과일로 구간에 나눠 전체/창고별 건수, 수량, 금액을 누적합니다
+ */
+final class InventoryAgingAccumulator {
+
+    /**
+     * 구간 상한 경과일 (마지막 구간은 상한 없음)
+     */
+    static final int[] BUCKET_UPPER_DAYS = {30, 90, 180};
+
+    static final String[] BUCKET_LABELS = {"0-30", "31-90", "91-180", "180+"};
+
+    private final Totals total = new Totals(null, null);
+    private final Map<Long, Totals> warehouses = new LinkedHashMap<>();
+
+    /**
+     * 경과일의 구간 번호 (음수 경과일은 첫 구간)
+     */
+    static int bucketOf(int ageDays) {
+        for (int i = 0; i < BUCKET_UPPER_DAYS.length; i++) {
+            if (ageDays <= BUCKET_UPPER_DAYS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_DAYS.length;
+    }
+
+    void add(long warehouseId, String warehouseName, int ageDays, int quantity, BigDecimal value) {
+        int bucket = bucketOf(ageDays);
+        BigDecimal amount = value != null ? value : BigDecimal.ZERO;
+        total.add(bucket, quantity, amount);
+        warehouses.computeIfAbsent(warehouseId, id -> new Totals(id, warehouseName)).add(bucket, quantity, amount);
+    }
+
+    InventoryDto.InventoryAgingDto toDto(Long companyId, LocalDate asOfDate) {
+        List<InventoryDto.WarehouseAgingDto> warehouseDtos = new ArrayList<>(warehouses.size());
+        for (Totals warehouse : warehouses.values()) {
+            warehouseDtos.add(new InventoryDto.WarehouseAgingDto(warehouse.warehouseId, warehouse.warehouseName,
+                warehouse.count(), warehouse.quantity(), warehouse.value(), warehouse.buckets()));
+        }
+        return new InventoryDto.InventoryAgingDto(companyId, asOfDate, total.count(), total.quantity(), total.value(),
+            total.buckets(), warehouseDtos);
+    }
+
+    private static final class Totals {
+        final Long warehouseId;
+        final String warehouseName;
+        final int[] counts = new int[BUCKET_LABELS.length];
+        final long[] quantities = new long[BUCKET_LABELS.length];
+        final BigDecimal[] values = new BigDecimal[BUCKET_LABELS.length];
+
+        Totals(Long warehouseId, String warehouseName) {
+            this.warehouseId = warehouseId;
+            this.warehouseName = warehouseName;
+            Arrays.fill(values, BigDecimal.ZERO);
+        }
+
+        void add(int bucket, int quantity, BigDecimal value) {
+            counts[bucket]++;
+            quantities[bucket] += quantity;
+            values[bucket] = values[bucket].add(value);
+        }
+
+        int count() {
+            return Arrays.stream(counts).sum();
+        }
+
+        long quantity() {
+            return Arrays.stream(quantities).sum();
+        }
+
+        BigDecimal value() {
+            BigDecimal sum = BigDecimal.ZERO;
+            for (BigDecimal value : values) {
+                sum = sum.add(value);
+            }
+            return sum;
+        }
+
+        List<InventoryDto.AgingBucketDto> buckets() {
+            BigDecimal totalValue = value();
+            List<InventoryDto.AgingBucketDto> buckets = new ArrayList<>(BUCKET_LABELS.length);
+            for (int i = 0; i < BUCKET_LABELS.length; i++) {
+                Double percentage = totalValue.signum() == 0 ? 0.0
+                    : values[i].multiply(BigDecimal.valueOf(100)).divide(totalValue, 2, RoundingMode.HALF_UP)
+                        .doubleValue();
+                buckets.add(new InventoryDto.AgingBucketDto(BUCKET_LABELS[i], counts[i], quantities[i], values[i],
+                    percentage));
+            }
+            return buckets;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.common.export.ExportFormat;
+import com.erp.common.export.ExportWriter;
+import com.erp.common.utils.ExceptionUtils;
+import com.erp.inventory.dto.InventoryDto;
+import com.erp.inventory.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 재고 체류 기간 분석기
+ * 재고 행별 마지막 출고 이후 경과일을 커서로 한 번 읽어 구간 집계, 장기 체류 목록, 내보내기를 만듭니다.
+ * 호출 측 읽기 전용 트랜잭션 안에서 실행되어야 fetch 크기 단위로 스트리밍됩니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryAgingAnalyzer {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String[] RECOMMENDATIONS = {
+        "정상 회전",
+        "판매 촉진 검토",
+        "할인 판매 또는 창고 간 이동 검토",
+        "반품/처분 및 평가손실 검토"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 체류 기간 구간 집계 (전체/창고별)
+     */
+    public InventoryDto.InventoryAgingDto analyze(Long companyId, Long warehouseId) {
+        LocalDate asOf = LocalDate.now();
+        InventoryAgingAccumulator accumulator = new InventoryAgingAccumulator();
+        scan(companyId, warehouseId, asOf, null, rs -> accumulator.add(rs.getLong(5), rs.getString(6), rs.getInt(10),
+            rs.getInt(7), rs.getBigDecimal(8)));
+        InventoryDto.InventoryAgingDto result = accumulator.toDto(companyId, asOf);
+        log.debug("재고 체류 기간 분석 - 회사: {}, 창고: {}, 재고: {}건", companyId, warehouseId, result.inventoryCount());
+        return result;
+    }
+
+    /**
+     * 장기 체류 재고 (경과일 긴 순)
+     */
+    public List<InventoryDto.SlowMovingInventoryDto> findSlowMoving(Long companyId, int days) {
+        if (days < 0) {
+            throw ExceptionUtils.businessException("경과일은 0 이상이어야 합니다");
+        }
+        LocalDate asOf = LocalDate.now();
+        List<InventoryDto.SlowMovingInventoryDto> items = new ArrayList<>();
+        scan(companyId, null, asOf, asOf.minusDays(days), rs -> {
+            int ageDays = rs.getInt(10);
+            items.add(new InventoryDto.SlowMovingInventoryDto(rs.getLong(1), rs.getLong(2), rs.getString(3),
+                rs.getString(4), rs.getLong(5), rs.getString(6), rs.getInt(7), toDateTime(rs.getTimestamp(9)),
+                ageDays, rs.getBigDecimal(8), RECOMMENDATIONS[InventoryAgingAccumulator.bucketOf(ageDays)]));
+        });
+        items.sort(Comparator.comparing(InventoryDto.SlowMovingInventoryDto::daysSinceLastMovement).reversed()
+            .thenComparing(InventoryDto.SlowMovingInventoryDto::inventoryId));
+        return items;
+    }
+
+    /**
+     * 재고 행별 체류 기간 내보내기 (창고, 경과일 긴 순)
+     */
+    public void export(Long companyId, Long warehouseId, ExportFormat format, OutputStream outputStream)
+            throws IOException {
+        LocalDate asOf = LocalDate.now();
+        ExportWriter.write(format, outputStream, "재고 체류 기간", writer -> {
+            writer.writeHeader("창고", "상품코드", "상품명", "수량", "재고금액", "마지막 출고일시", "경과일", "구간");
+            try {
+                scan(companyId, warehouseId, asOf, null, rs -> {
+                    int ageDays = rs.getInt(10);
+                    LocalDateTime lastOutboundAt = toDateTime(rs.getTimestamp(9));
+                    try {
+                        writer.writeRow(rs.getString(6), rs.getString(3), rs.getString(4), rs.getInt(7),
+                            rs.getBigDecimal(8), lastOutboundAt != null ? lastOutboundAt.toString() : null, ageDays,
+                            InventoryAgingAccumulator.BUCKET_LABELS[InventoryAgingAccumulator.bucketOf(ageDays)]);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            log.info("재고 체류 기간 내보내기 완료 - 회사: {}, 창고: {}, 행 수: {}", companyId, warehouseId,
+                writer.getRowCount());
+        });
+    }
+
+    /**
+     * 재고 체류 기간 커서 조회
+     *
+     * @param lastOutboundOnOrBefore 마지막 출고일 상한 (지정하면 그 이전에 출고된 재고만 읽음)
+     */
+    private void scan(Long companyId, Long warehouseId, LocalDate asOf, LocalDate lastOutboundOnOrBefore,
+                      RowCallbackHandler handler) {
+        if (companyId == null) {
+            throw ExceptionUtils.businessException("회사 ID는 필수입니다");
+        }
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(InventoryRepository.NATIVE_INVENTORY_AGING,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setDate(1, Date.valueOf(asOf));
+            ps.setLong(2, companyId);
+            if (warehouseId == null) {
+                ps.setNull(3, Types.BIGINT);
+                ps.setNull(4, Types.BIGINT);
+            } else {
+                ps.setLong(3, warehouseId);
+                ps.setLong(4, warehouseId);
+            }
+            if (lastOutboundOnOrBefore == null) {
+                ps.setNull(5, Types.DATE);
+                ps.setNull(6, Types.DATE);
+            } else {
+                ps.setDate(5, Date.valueOf(lastOutboundOnOrBefore));
+                ps.setDate(6, Date.valueOf(lastOutboundOnOrBefore));
+            }
+            return ps;
+        }, handler);
+    }
+
+    private static LocalDateTime toDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,112 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.config.ExecutorConfig;
+import com.erp.inventory.dto.InventorySnapshotDto;
+import com.erp.inventory.entity.StockMovement;
+import com.erp.inventory.event.StockMovedEvent;
+import com.erp.inventory.repository.InventorySnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 재고이동 기준 재고 재구성기
+ * 창고마다 별도 트랜잭션으로 재고 행을 잠근 뒤 재고별 마지막 재고이동의 변경 후 수량으로 재고 수량을 맞춥니다.
+ * 창고끼리는 잠그는 행이 겹치지 않으므로 작업 스레드 풀에서 병렬로 처리하고, 한 창고의 실패는 다른 창고에 영향을 주지 않습니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryRebuilder {
+
+    private static final RowMapper<Rebuilt> REBUILT_MAPPER = (rs, rowNum) -> new Rebuilt(
+        rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getInt(4), rs.getInt(5), rs.getInt(6), rs.getInt(7));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    @Qualifier(ExecutorConfig.INVENTORY_REBUILD_EXECUTOR)
+    private final ThreadPoolTaskExecutor executor;
+
+    /**
+     * 창고별 병렬 재구성
+     *
+     * @param dryRun true면 잠금/변경 없이 달라질 재고만 조회
+     */
+    public List<InventorySnapshotDto.WarehouseRebuildDto> rebuild(List<Long> warehouseIds, boolean dryRun) {
+        List<CompletableFuture<InventorySnapshotDto.WarehouseRebuildDto>> futures = new ArrayList<>(warehouseIds.size());
+        for (Long warehouseId : warehouseIds) {
+            futures.add(CompletableFuture.supplyAsync(() -> rebuildWarehouse(warehouseId, dryRun), executor)
+                .exceptionally(e -> failed(warehouseId, e)));
+        }
+        List<InventorySnapshotDto.WarehouseRebuildDto> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<InventorySnapshotDto.WarehouseRebuildDto> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    private InventorySnapshotDto.WarehouseRebuildDto rebuildWarehouse(Long warehouseId, boolean dryRun) {
+        InventorySnapshotDto.WarehouseRebuildDto result = transactionTemplate.execute(status -> {
+            List<Rebuilt> rebuilt;
+            if (dryRun) {
+                rebuilt = jdbcTemplate.query(InventorySnapshotRepository.NATIVE_REBUILD_PREVIEW, REBUILT_MAPPER,
+                    warehouseId, warehouseId);
+            } else {
+                // 재구성 문장이 잠금 이후 커밋된 재고이동까지 보도록 잠금을 별도 문장으로 먼저 획득
+                jdbcTemplate.queryForList(InventorySnapshotRepository.NATIVE_LOCK_WAREHOUSE_INVENTORIES, Long.class,
+                    warehouseId);
+                rebuilt = jdbcTemplate.query(InventorySnapshotRepository.NATIVE_REBUILD_APPLY, REBUILT_MAPPER,
+                    warehouseId, warehouseId, Timestamp.valueOf(LocalDateTime.now()));
+            }
+            Long chainBreaks = jdbcTemplate.queryForObject(InventorySnapshotRepository.NATIVE_CHAIN_BREAKS, Long.class,
+                warehouseId);
+
+            List<InventorySnapshotDto.InventoryChangeDto> changes = new ArrayList<>(rebuilt.size());
+            for (Rebuilt row : rebuilt) {
+                changes.add(new InventorySnapshotDto.InventoryChangeDto(row.inventoryId(), row.productId(),
+                    row.previousQuantity(), row.quantity()));
+            }
+            if (!dryRun) {
+                for (Rebuilt row : rebuilt) {
+                    int delta = row.quantity() - row.previousQuantity();
+                    eventPublisher.publishEvent(new StockMovedEvent(row.companyId(), row.inventoryId(),
+                        row.productId(), warehouseId,
+                        delta > 0 ? StockMovement.MovementType.ADJUSTMENT_IN : StockMovement.MovementType.ADJUSTMENT_OUT,
+                        delta, row.quantity(), row.availableQuantity(), row.reorderPoint()));
+                }
+            }
+            return new InventorySnapshotDto.WarehouseRebuildDto(warehouseId, changes.size(),
+                chainBreaks == null ? 0L : chainBreaks, changes, null);
+        });
+        log.info("창고 재고 재구성{} - 창고: {}, 변경: {}건, 이동 기록 불일치: {}건",
+            dryRun ? " 미리보기" : "", warehouseId, result.changedCount(), result.chainBreakCount());
+        return result;
+    }
+
+    private static InventorySnapshotDto.WarehouseRebuildDto failed(Long warehouseId, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        log.error("창고 재고 재구성 실패 - 창고: {}, 오류: {}", warehouseId, cause.getMessage(), cause);
+        return new InventorySnapshotDto.WarehouseRebuildDto(warehouseId, 0, 0L, List.of(), cause.getMessage());
+    }
+
+    /**
+     * 재구성 행 [재고ID, 회사ID, 상품ID, 기존 수량, 재구성 수량, 가용 수량, 재주문점]
+     */
+    record Rebuilt(Long inventoryId, Long companyId, Long productId, int previousQuantity, int quantity,
+                   int availableQuantity, int reorderPoint) {
+    }
+}
@@ -1,20 +1,43 @@
 package com.erp.inventory.service.impl;
 
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
+import com.erp.common.export.ExportFormat;
+import com.erp.common.security.JwtAuthenticationFilter;
+import com.erp.common.security.UserPrincipal;
+import com.erp.common.service.impl.ListCountCache;
+import com.erp.common.utils.ExceptionUtils;
+import com.erp.common.utils.PageableUtils;
 import com.erp.inventory.dto.InventoryDto;
+import com.erp.inventory.entity.Inventory;
+import com.erp.inventory.entity.StockMovement;
+import com.erp.inventory.entity.Warehouse;
+import com.erp.inventory.event.StockMovedEvent;
 import com.erp.inventory.repository.InventoryRepository;
+import com.erp.inventory.repository.WarehouseRepository;
 import com.erp.inventory.service.InventoryService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * 재고 서비스 구현체 (기본 구현)
@@ -26,7 +49,20 @@ import java.util.ArrayList;
 @Transactional(readOnly = true)
 public class InventoryServiceImpl implements InventoryService {
 
+    /**
+     * 재고 슬라이스 기본 정렬 (등록 최신순)
+     */
+    static final Sort DEFAULT_SLICE_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
     private final InventoryRepository inventoryRepository;
+    private final WarehouseRepository warehouseRepository;
+    private final ListCountCache listCountCache;
+    private final StockLedgerEngine stockLedgerEngine;
+    private final StockReservationManager stockReservationManager;
+    private final InventoryClassificationAnalyzer classificationAnalyzer;
+    private final InventoryAgingAnalyzer agingAnalyzer;
+    private final LowStockMonitor lowStockMonitor;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -81,14 +117,33 @@ public class InventoryServiceImpl implements InventoryService {
         return new PageImpl<>(new ArrayList<>(), pageable, 0);
     }
 
+    @Override
+    public ApiResponse.SliceResponse<InventoryDto.InventorySummaryDto> getInventorySlice(Long companyId, String searchTerm,
+                                                                                        Pageable pageable, CountMode countMode) {
+        boolean search = searchTerm != null && !searchTerm.isBlank();
+        Pageable ordered = PageableUtils.withStableOrder(pageable, DEFAULT_SLICE_SORT);
+        Slice<InventoryDto.InventorySummaryDto> inventories = (search
+                ? inventoryRepository.searchInventorySlice(companyId, searchTerm, ordered)
+                : inventoryRepository.findSliceByCompanyId(companyId, ordered))
+                .map(InventoryDto.InventorySummaryDto::from);
+
+        Long totalElements = listCountCache.count(countMode,
+                "inventories:" + companyId + ":" + (search ? searchTerm : ""),
+                () -> search
+                        ? inventoryRepository.countSearchInventory(companyId, searchTerm)
+                        : inventoryRepository.countByCompanyId(companyId));
+
+        return ApiResponse.SliceResponse.of(inventories, totalElements, countMode);
+    }
+
     @Override
     public List<InventoryDto.InventorySummaryDto> getLowStockInventories(Long companyId) {
-        return new ArrayList<>();
+        return findStockAlerts(companyId, EnumSet.of(LowStockMonitor.Level.LOW_STOCK));
     }
 
     @Override
     public List<InventoryDto.InventorySummaryDto> getOutOfStockInventories(Long companyId) {
-        return new ArrayList<>();
+        return findStockAlerts(companyId, EnumSet.of(LowStockMonitor.Level.OUT_OF_STOCK));
     }
 
     @Override
@@ -99,52 +154,164 @@ public class InventoryServiceImpl implements InventoryService {
     @Override
     @Transactional
     public InventoryDto.InventoryResponseDto stockIn(Long inventoryId, InventoryDto.StockInDto stockInDto) {
-        throw new UnsupportedOperationException("구현 예정");
+        InventoryDto.InventoryResponseDto inventory = InventoryDto.InventoryResponseDto.from(findInventory(inventoryId));
+        int quantity = toStockQuantity(stockInDto.quantity());
+        StockLedgerEngine.Change change = new StockLedgerEngine.Change(inventoryId, StockMovement.MovementType.RECEIPT,
+            quantity, stockInDto.unitCost(), null, null, null, null, stockInDto.lotNumber(),
+            stockInDto.serialNumber(), stockInDto.reason(), stockInDto.remarks(), JwtAuthenticationFilter.getCurrentUserId());
+        return applyChange(inventory, change);
     }
 
     @Override
     @Transactional
     public InventoryDto.InventoryResponseDto stockOut(Long inventoryId, InventoryDto.StockOutDto stockOutDto) {
-        throw new UnsupportedOperationException("구현 예정");
+        InventoryDto.InventoryResponseDto inventory = InventoryDto.InventoryResponseDto.from(findInventory(inventoryId));
+        int quantity = toStockQuantity(stockOutDto.quantity());
+        StockLedgerEngine.Change change = new StockLedgerEngine.Change(inventoryId, StockMovement.MovementType.ISSUE,
+            -quantity, null, null, null, stockOutDto.referenceNumber(), null, null, null,
+            stockOutDto.reason(), stockOutDto.remarks(), JwtAuthenticationFilter.getCurrentUserId());
+        claimOutbound(change, inventory.productName());
+        return applyChange(inventory, change);
     }
 
     @Override
     @Transactional
     public InventoryDto.InventoryResponseDto adjustStock(Long inventoryId, InventoryDto.StockAdjustmentDto adjustmentDto) {
-        throw new UnsupportedOperationException("구현 예정");
+        InventoryDto.InventoryResponseDto inventory = InventoryDto.InventoryResponseDto.from(findInventory(inventoryId));
+        Double adjustment = adjustmentDto.adjustmentQuantity();
+        int quantity = toStockQuantity(adjustment == null ? null : Math.abs(adjustment));
+        boolean increase = adjustment > 0;
+        StockLedgerEngine.Change change = StockLedgerEngine.Change.of(inventoryId,
+            increase ? StockMovement.MovementType.ADJUSTMENT_IN : StockMovement.MovementType.ADJUSTMENT_OUT,
+            increase ? quantity : -quantity, adjustmentDto.reason(), adjustmentDto.remarks(),
+            JwtAuthenticationFilter.getCurrentUserId());
+        return applyChange(inventory, change);
     }
 
     @Override
     @Transactional
     public InventoryDto.InventoryResponseDto transferStock(Long fromInventoryId, Long toWarehouseId, InventoryDto.StockTransferDto transferDto) {
-        throw new UnsupportedOperationException("구현 예정");
-    }
-
+        Inventory source = findInventory(fromInventoryId);
+        if (source.getWarehouse().getId().equals(toWarehouseId)) {
+            throw ExceptionUtils.businessException("같은 창고로는 재고를 이동할 수 없습니다");
+        }
+        int quantity = toStockQuantity(transferDto.quantity());
+        Inventory target = findOrCreateInventory(source, toWarehouseId);
+        Long processedBy = JwtAuthenticationFilter.getCurrentUserId();
+        Long fromWarehouseId = source.getWarehouse().getId();
+        InventoryDto.InventoryResponseDto response = InventoryDto.InventoryResponseDto.from(source);
+
+        StockLedgerEngine.Change out = new StockLedgerEngine.Change(source.getId(),
+            StockMovement.MovementType.TRANSFER_OUT, -quantity, null, fromWarehouseId, toWarehouseId, null,
+            "TRANSFER", null, null, transferDto.reason(), transferDto.remarks(), processedBy);
+        StockLedgerEngine.Change in = new StockLedgerEngine.Change(target.getId(),
+            StockMovement.MovementType.TRANSFER_IN, quantity, null, fromWarehouseId, toWarehouseId, null,
+            "TRANSFER", null, null, transferDto.reason(), transferDto.remarks(), processedBy);
+        claimOutbound(out, response.productName());
+
+        // 반대 방향 이동이 동시에 들어와도 교착되지 않도록 재고 ID 순서로 잠금
+        if (source.getId() < target.getId()) {
+            InventoryDto.InventoryResponseDto result = applyChange(response, out);
+            applyLedger(in, response.productName());
+            return result;
+        }
+        applyLedger(in, response.productName());
+        return applyChange(response, out);
+    }
+
+    /**
+     * 실사표 생성 (장부 수량만 채우고 실사 수량은 비워 둠)
+     */
     @Override
-    @Transactional
     public List<InventoryDto.PhysicalInventoryResultDto> conductPhysicalInventory(Long companyId, InventoryDto.PhysicalInventoryDto physicalInventoryDto) {
-        throw new UnsupportedOperationException("구현 예정");
-    }
-
+        List<Long> warehouseIds = physicalInventoryDto.warehouseIds();
+        List<Long> productIds = physicalInventoryDto.productIds();
+        boolean allWarehouses = warehouseIds == null || warehouseIds.isEmpty();
+        boolean allProducts = productIds == null || productIds.isEmpty();
+        List<Inventory> inventories = inventoryRepository.findCountSheet(companyId,
+                allWarehouses, allWarehouses ? List.of(-1L) : warehouseIds,
+                allProducts, allProducts ? List.of(-1L) : productIds);
+        List<InventoryDto.PhysicalInventoryResultDto> sheet = new ArrayList<>(inventories.size());
+        for (Inventory inventory : inventories) {
+            sheet.add(new InventoryDto.PhysicalInventoryResultDto(inventory.getId(), inventory.getProduct().getId(),
+                    inventory.getProduct().getProductCode(), inventory.getProduct().getProductName(),
+                    inventory.getWarehouse().getId(), inventory.getWarehouse().getWarehouseName(),
+                    inventory.getQuantity().doubleValue(), null, null, inventory.getProduct().getStandardCost(), null,
+                    physicalInventoryDto.remarks()));
+        }
+        log.info("실사표 생성 - 회사: {}, 실사일: {}, 재고: {}건", companyId, physicalInventoryDto.inventoryDate(), sheet.size());
+        return sheet;
+    }
+
+    /**
+     * 실사 결과 반영
+     * 실사표의 장부 수량 대비 차이만큼 증감하므로 실사표 작성 이후의 입출고는 보존되고,
+     * 창고별로 한 문장씩 반영하며 하나라도 반영할 수 없으면 전체를 취소합니다
+     */
     @Override
     @Transactional
     public void applyPhysicalInventoryResults(List<InventoryDto.PhysicalInventoryResultDto> results, String reason) {
-        throw new UnsupportedOperationException("구현 예정");
+        if (results == null || results.isEmpty()) {
+            return;
+        }
+        Map<Long, List<InventoryDto.PhysicalInventoryResultDto>> byWarehouse = new LinkedHashMap<>();
+        for (InventoryDto.PhysicalInventoryResultDto result : results) {
+            if (result.actualQuantity() == null) {
+                continue;
+            }
+            if (result.inventoryId() == null || result.warehouseId() == null || result.systemQuantity() == null) {
+                throw ExceptionUtils.businessException("실사 결과에 재고/창고/장부 수량이 없습니다");
+            }
+            if (countedQuantity(result.actualQuantity()) != countedQuantity(result.systemQuantity())) {
+                byWarehouse.computeIfAbsent(result.warehouseId(), id -> new ArrayList<>()).add(result);
+            }
+        }
+        Long processedBy = JwtAuthenticationFilter.getCurrentUserId();
+        int applied = 0;
+        for (Map.Entry<Long, List<InventoryDto.PhysicalInventoryResultDto>> warehouse : byWarehouse.entrySet()) {
+            List<InventoryDto.PhysicalInventoryResultDto> items = warehouse.getValue();
+            long[] inventoryIds = new long[items.size()];
+            int[] deltas = new int[items.size()];
+            for (int i = 0; i < items.size(); i++) {
+                inventoryIds[i] = items.get(i).inventoryId();
+                deltas[i] = countedQuantity(items.get(i).actualQuantity()) - countedQuantity(items.get(i).systemQuantity());
+            }
+            List<StockLedgerEngine.Entry> entries = stockLedgerEngine.applyStocktaking(warehouse.getKey(),
+                    inventoryIds, deltas, null, reason, "재고 실사 결과 반영", processedBy);
+            if (entries.size() != items.size()) {
+                throw ExceptionUtils.businessException("실사 결과를 반영할 수 없는 재고가 있습니다 (재고 없음 또는 음수 재고) - 창고: "
+                        + warehouse.getKey());
+            }
+            entries.forEach(this::publishStocktaking);
+            applied += entries.size();
+        }
+        log.info("실사 결과 반영 - 결과: {}건, 반영: {}건", results.size(), applied);
     }
 
     @Override
     public BigDecimal getCurrentStock(Long productId, Long warehouseId) {
-        return BigDecimal.ZERO;
+        return inventoryRepository.findByProductIdAndWarehouseId(productId, warehouseId)
+                .map(inventory -> BigDecimal.valueOf(inventory.getQuantity()))
+                .orElse(BigDecimal.ZERO);
     }
 
     @Override
     public BigDecimal getAvailableStock(Long productId, Long warehouseId) {
-        return BigDecimal.ZERO;
+        return inventoryRepository.findByProductIdAndWarehouseId(productId, warehouseId)
+                .map(inventory -> {
+                    // 예약 원장이 관리 중인 재고는 임시 예약까지 뺀 가용 수량
+                    Integer tracked = stockReservationManager.trackedAvailable(inventory.getId());
+                    int available = tracked != null ? tracked : inventory.getQuantity() - inventory.getReservedQuantity();
+                    return BigDecimal.valueOf(Math.max(0, available));
+                })
+                .orElse(BigDecimal.ZERO);
     }
 
     @Override
     public BigDecimal getReservedStock(Long productId, Long warehouseId) {
-        return BigDecimal.ZERO;
+        return inventoryRepository.findByProductIdAndWarehouseId(productId, warehouseId)
+                .map(inventory -> BigDecimal.valueOf(inventory.getReservedQuantity()))
+                .orElse(BigDecimal.ZERO);
     }
 
     @Override
@@ -154,12 +321,23 @@ public class InventoryServiceImpl implements InventoryService {
 
     @Override
     public List<InventoryDto.ABCAnalysisDto> performABCAnalysis(Long companyId, LocalDate startDate, LocalDate endDate) {
-        return new ArrayList<>();
+        return classificationAnalyzer.analyze(companyId, startDate, endDate);
     }
 
     @Override
     public List<InventoryDto.SlowMovingInventoryDto> getSlowMovingInventory(Long companyId, int days) {
-        return new ArrayList<>();
+        return agingAnalyzer.findSlowMoving(companyId, days);
+    }
+
+    @Override
+    public InventoryDto.InventoryAgingDto getInventoryAging(Long companyId, Long warehouseId) {
+        return agingAnalyzer.analyze(companyId, warehouseId);
+    }
+
+    @Override
+    public void exportInventoryAging(Long companyId, Long warehouseId, ExportFormat format, OutputStream outputStream)
+            throws IOException {
+        agingAnalyzer.export(companyId, warehouseId, format, outputStream);
     }
 
     @Override
@@ -195,28 +373,114 @@ public class InventoryServiceImpl implements InventoryService {
     }
     
     @Override
+    @Transactional
     public InventoryDto.InventoryResponseDto receiveStock(Long inventoryId, Double quantity, java.math.BigDecimal unitCost, String remarks) {
-        throw new UnsupportedOperationException("구현 예정");
+        InventoryDto.InventoryResponseDto inventory = InventoryDto.InventoryResponseDto.from(findInventory(inventoryId));
+        StockLedgerEngine.Change change = new StockLedgerEngine.Change(inventoryId, StockMovement.MovementType.RECEIPT,
+            toStockQuantity(quantity), unitCost, null, null, null, null, null, null, "입고", remarks,
+            JwtAuthenticationFilter.getCurrentUserId());
+        return applyChange(inventory, change);
     }
     
     @Override
+    @Transactional
     public InventoryDto.InventoryResponseDto issueStock(Long inventoryId, Double quantity, String remarks) {
-        throw new UnsupportedOperationException("구현 예정");
+        InventoryDto.InventoryResponseDto inventory = InventoryDto.InventoryResponseDto.from(findInventory(inventoryId));
+        StockLedgerEngine.Change change = StockLedgerEngine.Change.of(inventoryId, StockMovement.MovementType.ISSUE,
+            -toStockQuantity(quantity), "출고", remarks, JwtAuthenticationFilter.getCurrentUserId());
+        claimOutbound(change, inventory.productName());
+        return applyChange(inventory, change);
     }
     
     @Override
     public InventoryDto.InventoryResponseDto reserveStock(InventoryDto.StockReservationDto reservationDto) {
-        throw new UnsupportedOperationException("구현 예정");
+        InventoryDto.InventoryResponseDto inventory = InventoryDto.InventoryResponseDto.from(findInventory(reservationDto.inventoryId()));
+        int quantity = toStockQuantity(reservationDto.reservationQuantity());
+        LocalDateTime expiresAt = reservationDto.expiryDate();
+        // 만료일이 있으면 만료 시 자동 해제되는 임시 예약, 없으면 바로 확정 예약
+        boolean temporary = expiresAt != null;
+        InventoryDto.StockHoldDto hold = stockReservationManager.hold(reservationDto.inventoryId(), quantity,
+                temporary ? expiresAt : LocalDateTime.now().plusDays(1), reservationDto.referenceNumber(),
+                JwtAuthenticationFilter.getCurrentUserId());
+        if (hold == null) {
+            throw ExceptionUtils.insufficientStock(inventory.productName(),
+                    stockReservationManager.view(reservationDto.inventoryId())[3], quantity);
+        }
+        if (!temporary) {
+            stockReservationManager.confirm(hold.holdId());
+        }
+        return withReservationView(inventory);
     }
     
     @Override
     public InventoryDto.InventoryResponseDto unreserveStock(Long inventoryId, Double quantity, String remarks) {
-        throw new UnsupportedOperationException("구현 예정");
+        InventoryDto.InventoryResponseDto inventory = InventoryDto.InventoryResponseDto.from(findInventory(inventoryId));
+        if (!stockReservationManager.unreserve(inventoryId, toStockQuantity(quantity))) {
+            throw ExceptionUtils.businessException("확정 예약 수량보다 많이 해제할 수 없습니다: " + quantity);
+        }
+        return withReservationView(inventory);
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public InventoryDto.StockHoldDto holdStock(InventoryDto.StockHoldRequestDto holdRequestDto) {
+        int quantity = toStockQuantity(holdRequestDto.quantity());
+        InventoryDto.StockHoldDto hold = stockReservationManager.hold(holdRequestDto.inventoryId(), quantity,
+                LocalDateTime.now().plusSeconds(holdRequestDto.ttlSeconds()), holdRequestDto.reference(),
+                JwtAuthenticationFilter.getCurrentUserId());
+        if (hold == null) {
+            throw ExceptionUtils.businessException(String.format("가용 재고가 부족합니다. 재고 ID: %d, 가용: %d개, 요청: %d개",
+                    holdRequestDto.inventoryId(), stockReservationManager.view(holdRequestDto.inventoryId())[3], quantity));
+        }
+        return hold;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public InventoryDto.StockHoldDto confirmHold(String holdId) {
+        InventoryDto.StockHoldDto hold = stockReservationManager.confirm(holdId);
+        if (hold == null) {
+            throw ExceptionUtils.businessException("예약을 찾을 수 없거나 이미 처리되었습니다: " + holdId);
+        }
+        return hold;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public InventoryDto.StockHoldDto releaseHold(String holdId) {
+        InventoryDto.StockHoldDto hold = stockReservationManager.release(holdId);
+        if (hold == null) {
+            throw ExceptionUtils.businessException("예약을 찾을 수 없거나 이미 처리되었습니다: " + holdId);
+        }
+        return hold;
+    }
+
+    /**
+     * 재고 실사 (단건)
+     * 실사 수량으로 덮어쓰지 않고 장부 수량과의 차이를 원장 엔진으로 증감합니다
+     */
+    @Override
+    @Transactional
     public InventoryDto.StocktakingResultDto performStocktaking(InventoryDto.StocktakingRequestDto requestDto) {
-        throw new UnsupportedOperationException("구현 예정");
+        Inventory inventory = findInventory(requestDto.inventoryId());
+        int actual = countedQuantity(requestDto.actualQuantity());
+        int system = inventory.getQuantity();
+        int difference = actual - system;
+        if (difference != 0) {
+            StockLedgerEngine.Change change = new StockLedgerEngine.Change(inventory.getId(),
+                    difference > 0 ? StockMovement.MovementType.STOCKTAKING_INCREASE : StockMovement.MovementType.STOCKTAKING_DECREASE,
+                    difference, null, null, null, null, "STOCKTAKING", null, null, requestDto.reason(),
+                    requestDto.remarks(), JwtAuthenticationFilter.getCurrentUserId());
+            applyLedger(change, inventory.getProduct().getProductName());
+        }
+        BigDecimal unitCost = inventory.getProduct().getStandardCost() != null
+                ? inventory.getProduct().getStandardCost() : BigDecimal.ZERO;
+        UserPrincipal processor = JwtAuthenticationFilter.getCurrentUser();
+        return new InventoryDto.StocktakingResultDto(inventory.getId(), inventory.getProduct().getProductCode(),
+                inventory.getProduct().getProductName(), inventory.getWarehouse().getWarehouseName(), null,
+                (double) system, (double) actual, (double) difference, unitCost.multiply(BigDecimal.valueOf(difference)),
+                requestDto.reason(), requestDto.remarks(), requestDto.stocktakingDate(),
+                processor != null ? processor.getFullName() : null);
     }
     
     @Override
@@ -241,12 +505,15 @@ public class InventoryServiceImpl implements InventoryService {
     
     @Override
     public List<InventoryDto.ABCAnalysisDto> performAbcAnalysis(Long companyId) {
-        throw new UnsupportedOperationException("구현 예정");
+        // 이번 달을 포함한 최근 12개월
+        LocalDate endDate = LocalDate.now();
+        return classificationAnalyzer.analyze(companyId, endDate.minusMonths(11).withDayOfMonth(1), endDate);
     }
     
     @Override
     public List<InventoryDto.InventorySummaryDto> getInventoryAlerts(Long companyId) {
-        throw new UnsupportedOperationException("구현 예정");
+        return findStockAlerts(companyId,
+                EnumSet.of(LowStockMonitor.Level.LOW_STOCK, LowStockMonitor.Level.OUT_OF_STOCK));
     }
     
     @Override
@@ -258,4 +525,118 @@ public class InventoryServiceImpl implements InventoryService {
     public void updateInventoryValues(Long companyId) {
         throw new UnsupportedOperationException("구현 예정");
     }
-}
\ No newline at end of file
+
+    // ==================== 재고 원장 처리 ====================
+
+    private Inventory findInventory(Long inventoryId) {
+        return inventoryRepository.findDetailById(inventoryId)
+                .orElseThrow(() -> ExceptionUtils.entityNotFoundException("재고를 찾을 수 없습니다: " + inventoryId));
+    }
+
+    /**
+     * 이동 대상 창고의 같은 상품 재고 (없으면 0 수량으로 생성)
+     */
+    private Inventory findOrCreateInventory(Inventory source, Long warehouseId) {
+        return inventoryRepository.findByProductIdAndWarehouseId(source.getProduct().getId(), warehouseId)
+                .orElseGet(() -> {
+                    Warehouse warehouse = warehouseRepository.findById(warehouseId)
+                            .filter(found -> found.getCompany().getId().equals(source.getCompany().getId()))
+                            .orElseThrow(() -> ExceptionUtils.entityNotFoundException("창고를 찾을 수 없습니다: " + warehouseId));
+                    Inventory inventory = new Inventory();
+                    inventory.setCompany(source.getCompany());
+                    inventory.setProduct(source.getProduct());
+                    inventory.setWarehouse(warehouse);
+                    inventory.setReorderPoint(source.getReorderPoint());
+                    inventory.setMaxStock(source.getMaxStock());
+                    return inventoryRepository.saveAndFlush(inventory);
+                });
+    }
+
+    /**
+     * 수량 변경을 적용하고 응답 수량을 변경 후 값으로 교체
+     * 응답의 나머지 항목은 잠금 없이 미리 조회해 두어 행 잠금 보유 시간을 줄입니다
+     */
+    private InventoryDto.InventoryResponseDto applyChange(InventoryDto.InventoryResponseDto inventory,
+                                                          StockLedgerEngine.Change change) {
+        StockLedgerEngine.Entry entry = applyLedger(change, inventory.productName());
+        return inventory.withStock(entry.afterStock(), entry.availableQuantity(), entry.reservedQuantity());
+    }
+
+    /**
+     * 출고 전 임시/확정 예약분을 뺀 원장 가용 수량 확인 (DB 출고 조건은 메모리에만 있는 예약을 보지 못함)
+     */
+    private void claimOutbound(StockLedgerEngine.Change change, String productName) {
+        int quantity = -change.delta();
+        if (!stockReservationManager.claimOutbound(change.inventoryId(), quantity)) {
+            throw ExceptionUtils.insufficientStock(productName, stockReservationManager.view(change.inventoryId())[3],
+                    quantity);
+        }
+    }
+
+    private StockLedgerEngine.Entry applyLedger(StockLedgerEngine.Change change, String productName) {
+        StockLedgerEngine.Entry entry = stockLedgerEngine.apply(change).orElseThrow(() -> {
+            int available = stockLedgerEngine.availableQuantity(change.inventoryId());
+            return change.delta() < 0
+                    ? ExceptionUtils.insufficientStock(productName, available, -change.delta())
+                    : ExceptionUtils.entityNotFoundException("재고를 찾을 수 없습니다: " + change.inventoryId());
+        });
+        eventPublisher.publishEvent(new StockMovedEvent(entry.companyId(), entry.inventoryId(), entry.productId(),
+                entry.warehouseId(), change.movementType(), change.delta(), entry.afterStock(), entry.availableQuantity(),
+                entry.reorderPoint()));
+        log.info("재고 수량 변경 - 재고: {}, 유형: {}, 이동번호: {}, 수량: {} -> {}", entry.inventoryId(),
+                change.movementType(), entry.movementNumber(), entry.beforeStock(), entry.afterStock());
+        return entry;
+    }
+
+    /**
+     * 재고 부족 감시기가 유지하는 목록의 재고 (재고없음 먼저)
+     */
+    private List<InventoryDto.InventorySummaryDto> findStockAlerts(Long companyId,
+                                                                   EnumSet<LowStockMonitor.Level> levels) {
+        if (companyId == null) {
+            throw ExceptionUtils.businessException("회사 ID는 필수입니다");
+        }
+        return lowStockMonitor.find(companyId, levels).stream()
+                .map(InventoryDto.InventorySummaryDto::from)
+                .toList();
+    }
+
+    private void publishStocktaking(StockLedgerEngine.Entry entry) {
+        int delta = entry.afterStock() - entry.beforeStock();
+        eventPublisher.publishEvent(new StockMovedEvent(entry.companyId(), entry.inventoryId(), entry.productId(),
+                entry.warehouseId(), delta > 0 ? StockMovement.MovementType.STOCKTAKING_INCREASE
+                        : StockMovement.MovementType.STOCKTAKING_DECREASE,
+                delta, entry.afterStock(), entry.availableQuantity(), entry.reorderPoint()));
+    }
+
+    /**
+     * 응답 수량을 예약 원장 현황으로 교체 (가용 수량은 임시 예약까지 차감)
+     */
+    private InventoryDto.InventoryResponseDto withReservationView(InventoryDto.InventoryResponseDto inventory) {
+        int[] view = stockReservationManager.view(inventory.id());
+        return inventory.withStock(view[0], view[3], view[1]);
+    }
+
+    /**
+     * 실사 수량 (0 허용, 정수 단위)
+     */
+    static int countedQuantity(Double quantity) {
+        if (quantity != null && quantity == 0) {
+            return 0;
+        }
+        return toStockQuantity(quantity);
+    }
+
+    /**
+     * 요청 수량을 재고 단위 정수로 변환 (재고 수량 컬럼은 정수)
+     */
+    static int toStockQuantity(Double quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw ExceptionUtils.businessException("수량은 0보다 커야 합니다");
+        }
+        if (quantity != Math.rint(quantity) || quantity > Integer.MAX_VALUE) {
+            throw ExceptionUtils.businessException("재고 수량은 정수 단위로 처리됩니다: " + quantity);
+        }
+        return quantity.intValue();
+    }
+}
@@ -0,0 +1,140 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.common.utils.ExceptionUtils;
+import com.erp.inventory.dto.InventorySnapshotDto;
+import com.erp.inventory.entity.InventorySnapshot;
+import com.erp.inventory.repository.InventorySnapshotRepository;
+import com.erp.inventory.service.InventorySnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재고 스냅샷 서비스 구현체
+ * 매일 0시 기준(전일 마감) 재고를 스냅샷으로 남기고, 매월 1일 스냅샷은 월별로 구분해 보관 기간 없이 유지합니다.
+ * 스냅샷도 시점 재고 쿼리로 만들므로 재고 행이 아닌 재고이동 기록과 항상 일치합니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class InventorySnapshotServiceImpl implements InventorySnapshotService {
+
+    private final InventorySnapshotRepository snapshotRepository;
+    private final InventoryRebuilder inventoryRebuilder;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${erp.inventory.snapshot.daily-retention-days:90}")
+    private int dailyRetentionDays;
+
+    @Override
+    public InventorySnapshotDto.StockAsOfResultDto getStockAsOf(Long companyId, LocalDate date, Long warehouseId,
+                                                               Long productId) {
+        if (companyId == null || date == null) {
+            throw ExceptionUtils.businessException("회사 ID와 조회 일자는 필수입니다");
+        }
+        LocalDateTime asOf = closingOf(date);
+        List<InventorySnapshotDto.StockAsOfDto> items = new ArrayList<>();
+        long totalQuantity = 0;
+        for (Object[] row : snapshotRepository.findStockAsOf(companyId, asOf, warehouseId, productId)) {
+            int quantity = row[7] == null ? 0 : ((Number) row[7]).intValue();
+            totalQuantity += quantity;
+            items.add(new InventorySnapshotDto.StockAsOfDto(
+                ((Number) row[0]).longValue(), ((Number) row[2]).longValue(), (String) row[3], (String) row[4],
+                ((Number) row[5]).longValue(), (String) row[6], quantity, toDateTime(row[8]),
+                ((Number) row[9]).intValue()));
+        }
+        log.debug("시점 재고 조회 - 회사: {}, 기준: {}, 재고: {}건", companyId, asOf, items.size());
+        return new InventorySnapshotDto.StockAsOfResultDto(companyId, asOf, items.size(), totalQuantity, items);
+    }
+
+    @Override
+    @Transactional
+    public InventorySnapshotDto.SnapshotResultDto createSnapshots(Long companyId, LocalDate date) {
+        if (date == null || !date.isBefore(LocalDate.now())) {
+            throw ExceptionUtils.businessException("스냅샷은 마감된 일자(오늘 이전)만 생성할 수 있습니다");
+        }
+        LocalDateTime asOf = closingOf(date);
+        int created = snapshotRepository.createSnapshots(companyId, asOf,
+            InventorySnapshot.SnapshotType.MANUAL.name(), null, null);
+        log.info("재고 스냅샷 생성 - 회사: {}, 기준: {}, 생성: {}건", companyId, asOf, created);
+        return new InventorySnapshotDto.SnapshotResultDto(asOf, InventorySnapshot.SnapshotType.MANUAL.name(), 1, created);
+    }
+
+    /**
+     * 전일 마감 재고 스냅샷 생성 (매일 0시 10분, 마감 직전 재고이동이 커밋될 여유를 둠)
+     * 회사별로 트랜잭션을 나눠 한 회사의 실패가 다른 회사 스냅샷을 막지 않도록 합니다
+     */
+    @Scheduled(cron = "${erp.inventory.snapshot.cron:0 10 0 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void createDailySnapshots() {
+        LocalDateTime asOf = LocalDate.now().atStartOfDay();
+        InventorySnapshot.SnapshotType type = asOf.getDayOfMonth() == 1
+            ? InventorySnapshot.SnapshotType.MONTHLY : InventorySnapshot.SnapshotType.DAILY;
+        int companies = 0;
+        int created = 0;
+        for (Long companyId : snapshotRepository.findCompanyIdsWithInventory()) {
+            try {
+                Integer count = transactionTemplate.execute(status ->
+                    snapshotRepository.createSnapshots(companyId, asOf, type.name(), null, null));
+                created += count == null ? 0 : count;
+                companies++;
+            } catch (Exception e) {
+                log.warn("재고 스냅샷 생성 실패 - 회사: {}, 기준: {}, 오류: {}", companyId, asOf, e.getMessage());
+            }
+        }
+        Integer purged = transactionTemplate.execute(status -> snapshotRepository.deleteByTypeBefore(
+            InventorySnapshot.SnapshotType.DAILY, asOf.minusDays(dailyRetentionDays)));
+        log.info("일별 재고 스냅샷 생성 - 기준: {}, 유형: {}, 회사: {}, 생성: {}건, 보관 기간 만료 삭제: {}건",
+            asOf, type, companies, created, purged);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public InventorySnapshotDto.RebuildResultDto rebuildInventories(Long companyId, boolean dryRun) {
+        List<Long> warehouseIds = snapshotRepository.findWarehouseIdsWithInventory(companyId);
+        if (warehouseIds.isEmpty()) {
+            throw ExceptionUtils.businessException("재구성할 재고가 없습니다");
+        }
+        List<InventorySnapshotDto.WarehouseRebuildDto> warehouses = inventoryRebuilder.rebuild(warehouseIds, dryRun);
+        int failed = 0;
+        int changed = 0;
+        long chainBreaks = 0;
+        for (InventorySnapshotDto.WarehouseRebuildDto warehouse : warehouses) {
+            if (warehouse.errorMessage() != null) {
+                failed++;
+            }
+            changed += warehouse.changedCount();
+            chainBreaks += warehouse.chainBreakCount();
+        }
+        log.info("재고 재구성{} - 회사: {}, 창고: {}개(실패 {}), 변경: {}건, 이동 기록 불일치: {}건",
+            dryRun ? " 미리보기" : "", companyId, warehouses.size(), failed, changed, chainBreaks);
+        return new InventorySnapshotDto.RebuildResultDto(companyId, dryRun, warehouses.size(), failed, changed,
+            chainBreaks, warehouses);
+    }
+
+    /**
+     * 일자 마감 기준 시각 (다음 날 0시 이전 재고이동까지)
+     */
+    static LocalDateTime closingOf(LocalDate date) {
+        return date.plusDays(1).atStartOfDay();
+    }
+
+    private static LocalDateTime toDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
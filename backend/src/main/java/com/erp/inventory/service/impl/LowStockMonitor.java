@@ -0,0 +1,281 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.common.entity.User;
+import com.erp.common.repository.UserRepository;
+import com.erp.common.service.NotificationService;
+import com.erp.config.ExecutorConfig;
+import com.erp.inventory.entity.Inventory;
+import com.erp.inventory.event.StockMovedEvent;
+import com.erp.inventory.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 재고 부족 감시기
+ * 커밋된 재고 수량 변경마다 재주문점/재고없음 경계를 넘었는지 보고 회사별 재고 부족 목록을 증분 갱신하며,
+ * 상태가 나빠지면 재고(상품/창고)별로 일정 시간 안의 중복 알림을 걸러 별도 스레드에서 알림을 생성합니다.
+ * 회사 목록은 처음 조회할 때 DB에서 적재하고 갱신 주기마다 다시 적재하므로 그 사이 조회는 결과 건수만큼만 읽습니다.
+ * 적재 중에 들어온 수량 변경은 모아 두었다가 적재 결과 위에 다시 반영합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LowStockMonitor {
+
+    static final int MAX_ALERT_HISTORY = 10_000;
+
+    private final InventoryRepository inventoryRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    @Qualifier(ExecutorConfig.STOCK_ALERT_EXECUTOR)
+    private final ThreadPoolTaskExecutor executor;
+
+    private final ConcurrentMap<Long, CompanyLevels> companies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Alerted> alerted = new ConcurrentHashMap<>();
+
+    @Value("${erp.inventory.alerts.debounce-minutes:60}")
+    private long debounceMinutes;
+
+    /**
+     * 회사 목록 재적재 주기 (재고 원장을 거치지 않은 재주문점/재고 변경 반영)
+     */
+    @Value("${erp.inventory.alerts.refresh-minutes:10}")
+    private long refreshMinutes;
+
+    /**
+     * 재고 부족 단계의 재고 목록 (재고없음 먼저, 같은 단계는 재고 ID 순)
+     *
+     * @param levels 포함할 단계
+     */
+    public List<Inventory> find(Long companyId, EnumSet<Level> levels) {
+        List<Map.Entry<Long, Level>> matched = new ArrayList<>();
+        for (Map.Entry<Long, Level> entry : levels(companyId).entrySet()) {
+            if (levels.contains(entry.getValue())) {
+                matched.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (matched.isEmpty()) {
+            return List.of();
+        }
+        matched.sort(Map.Entry.<Long, Level>comparingByValue().reversed()
+            .thenComparing(Map.Entry.comparingByKey()));
+        Map<Long, Integer> order = new HashMap<>();
+        List<Long> inventoryIds = new ArrayList<>(matched.size());
+        for (Map.Entry<Long, Level> entry : matched) {
+            order.put(entry.getKey(), inventoryIds.size());
+            inventoryIds.add(entry.getKey());
+        }
+        List<Inventory> inventories = new ArrayList<>(inventoryRepository.findWithDetailsByIdIn(inventoryIds));
+        inventories.sort(Comparator.comparing(inventory -> order.get(inventory.getId())));
+        return inventories;
+    }
+
+    /**
+     * 커밋된 재고 수량 변경의 재고 부족 경계 판단
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockMoved(StockMovedEvent event) {
+        Level before = Level.of(event.afterStock() - event.delta(), event.reorderPoint());
+        Level after = Level.of(event.afterStock(), event.reorderPoint());
+        if (before == after) {
+            return;
+        }
+        CompanyLevels company = companies.get(event.companyId());
+        if (company != null) {
+            company.apply(event.inventoryId(), after);
+        }
+        if (after.compareTo(before) > 0 && shouldAlert(event.inventoryId(), after, System.nanoTime())) {
+            try {
+                executor.execute(() -> notifyUsers(event, after));
+            } catch (TaskRejectedException e) {
+                log.warn("재고 부족 알림 대기열 초과 - 재고: {}, 단계: {}", event.inventoryId(), after);
+            }
+        }
+    }
+
+    /**
+     * 알림 여부 (같은 재고는 직전 알림보다 나빠진 단계이거나 중복 억제 시간이 지났을 때만 알림)
+     * 알림 이력이 상한을 넘으면 억제 시간이 지난 이력을 먼저 지우고, 그래도 넘으면 오래된 이력부터 지웁니다
+     */
+    boolean shouldAlert(Long inventoryId, Level level, long now) {
+        long window = TimeUnit.MINUTES.toNanos(debounceMinutes);
+        boolean[] alert = new boolean[1];
+        alerted.compute(inventoryId, (id, previous) -> {
+            if (previous == null || level.compareTo(previous.level()) > 0 || now - previous.at() >= window) {
+                alert[0] = true;
+                return new Alerted(level, now);
+            }
+            return previous;
+        });
+        if (alert[0] && alerted.size() > MAX_ALERT_HISTORY) {
+            trimAlertHistory(now, window);
+        }
+        return alert[0];
+    }
+
+    private synchronized void trimAlertHistory(long now, long window) {
+        alerted.values().removeIf(entry -> now - entry.at() >= window);
+        int excess = alerted.size() - MAX_ALERT_HISTORY * 9 / 10;
+        if (excess <= 0) {
+            return;
+        }
+        // 매 알림마다 정렬하지 않도록 상한의 90%까지 줄임
+        List<Map.Entry<Long, Alerted>> oldest = new ArrayList<>(alerted.entrySet());
+        oldest.sort(Comparator.comparingLong(entry -> entry.getValue().at()));
+        for (Map.Entry<Long, Alerted> entry : oldest.subList(0, Math.min(excess, oldest.size()))) {
+            alerted.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * 회사 목록 (없거나 갱신 주기가 지났으면 적재 중 표시를 먼저 등록한 뒤 적재)
+     */
+    private Map<Long, Level> levels(Long companyId) {
+        long now = System.nanoTime();
+        CompanyLevels company = companies.compute(companyId, (id, current) -> current == null || current.expired(now)
+            ? new CompanyLevels(now + TimeUnit.MINUTES.toNanos(refreshMinutes)) : current);
+        try {
+            company.loadOnce(() -> load(companyId));
+        } catch (RuntimeException e) {
+            companies.remove(companyId, company);
+            throw e;
+        }
+        return company.levels;
+    }
+
+    private Map<Long, Level> load(Long companyId) {
+        Map<Long, Level> levels = new HashMap<>();
+        for (Object[] row : inventoryRepository.findStockAlertLevels(companyId)) {
+            Level level = Level.of(row[1] == null ? 0 : (Integer) row[1], row[2] == null ? 0 : (Integer) row[2]);
+            if (level != Level.NORMAL) {
+                levels.put((Long) row[0], level);
+            }
+        }
+        log.debug("재고 부족 목록 적재 - 회사: {}, 재고: {}건", companyId, levels.size());
+        return levels;
+    }
+
+    private void notifyUsers(StockMovedEvent event, Level level) {
+        try {
+            Inventory inventory = inventoryRepository.findWithDetailsByIdIn(List.of(event.inventoryId())).stream()
+                .findFirst().orElse(null);
+            if (inventory == null) {
+                return;
+            }
+            boolean out = level == Level.OUT_OF_STOCK;
+            String title = out ? "재고 없음" : "재고 부족";
+            String message = out
+                ? String.format("%s(%s) 재고가 %s 창고에서 모두 소진되었습니다",
+                    inventory.getProduct().getProductName(), inventory.getProduct().getProductCode(),
+                    inventory.getWarehouse().getWarehouseName())
+                : String.format("%s(%s) 재고가 %s 창고에서 %d개로 재주문점 %d개 이하입니다",
+                    inventory.getProduct().getProductName(), inventory.getProduct().getProductCode(),
+                    inventory.getWarehouse().getWarehouseName(), event.afterStock(), event.reorderPoint());
+            List<User> recipients = userRepository.findActiveByCompanyIdAndRoleIn(event.companyId(),
+                EnumSet.of(User.UserRole.ADMIN, User.UserRole.MANAGER));
+            for (User user : recipients) {
+                notificationService.createInventoryNotification(user, title, message, "/inventory/stock");
+            }
+            log.info("재고 부족 알림 - 재고: {}, 단계: {}, 수량: {}, 수신자: {}",
+                event.inventoryId(), level, event.afterStock(), recipients.size());
+        } catch (RuntimeException e) {
+            log.error("재고 부족 알림 생성 실패 - 재고: {}", event.inventoryId(), e);
+        }
+    }
+
+    /**
+     * 재고 부족 단계
+     */
+    public enum Level {
+        NORMAL, LOW_STOCK, OUT_OF_STOCK;
+
+        /**
+         * 수량의 재고 부족 단계 (재주문점이 0 이하이면 재고없음만 판단)
+         */
+        static Level of(int quantity, int reorderPoint) {
+            if (quantity <= 0) {
+                return OUT_OF_STOCK;
+            }
+            return reorderPoint > 0 && quantity <= reorderPoint ? LOW_STOCK : NORMAL;
+        }
+    }
+
+    private record Alerted(Level level, long at) {
+    }
+
+    /**
+     * 회사별 재고 부족 목록
+     * 적재가 끝나기 전에 들어온 단계 변경은 모아 두었다가 적재 결과 위에 순서대로 다시 반영합니다
+     */
+    private static final class CompanyLevels {
+        private final ConcurrentMap<Long, Level> levels = new ConcurrentHashMap<>();
+        private final List<Map.Entry<Long, Level>> pending = new ArrayList<>();
+        private final Object loadLock = new Object();
+        private final long expiresAt;
+        private volatile boolean loaded;
+
+        CompanyLevels(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        boolean expired(long now) {
+            return loaded && now - expiresAt >= 0;
+        }
+
+        void loadOnce(Supplier<Map<Long, Level>> loader) {
+            if (loaded) {
+                return;
+            }
+            synchronized (loadLock) {
+                if (loaded) {
+                    return;
+                }
+                Map<Long, Level> rows = loader.get();
+                synchronized (this) {
+                    levels.putAll(rows);
+                    pending.forEach(entry -> put(entry.getKey(), entry.getValue()));
+                    pending.clear();
+                    loaded = true;
+                }
+            }
+        }
+
+        void apply(Long inventoryId, Level level) {
+            if (!loaded) {
+                synchronized (this) {
+                    if (!loaded) {
+                        pending.add(Map.entry(inventoryId, level));
+                        return;
+                    }
+                }
+            }
+            put(inventoryId, level);
+        }
+
+        private void put(Long inventoryId, Level level) {
+            if (level == Level.NORMAL) {
+                levels.remove(inventoryId);
+            } else {
+                levels.put(inventoryId, level);
+            }
+        }
+    }
+}
@@ -0,0 +1,535 @@
+package com.erp.inventory.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * 재고 예약 원장 (메모리)
+ * 재고(상품-창고)별 수량/확정 예약/임시 예약을 잠금 분할(stripe)로 보호하며 보관해 예약과 해제를 DB 왕복 없이 O(1)로 처리합니다.
+ * 만료 시각이 있는 임시 예약은 타이밍 휠에 넣어 틱마다 해당 칸만 확인해 만료시키고,
+ * 변경된 예약과 재고별 확정 예약 증감은 배치 저장용으로 모아 두었다가 {@link #drain()}으로 넘깁니다.
+ * 재고 칸은 적재 전에 먼저 등록해 적재 쿼리 중에 커밋된 수량 변경도 놓치지 않고 감지하며,
+ * 놓친 변경으로 생긴 차이는 {@link #refresh(Function)}로 DB 값에 맞춥니다
+ */
+final class ReservationLedger {
+
+    /**
+     * 예약 상태
+     */
+    enum HoldState { HELD, CONFIRMED, RELEASED, EXPIRED }
+
+    /**
+     * 적재 중에 수량 변경이 들어오면 다시 적재하는 최대 횟수 (넘으면 마지막 값을 쓰고 다음 보정에 맡김)
+     */
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final Object[] stripes;
+    private final int stripeMask;
+    private final long tickMillis;
+    private final Queue<Hold>[] wheel;
+    private final int wheelMask;
+    private final LongFunction<int[]> stockLoader;
+
+    private final ConcurrentMap<Long, Slot> slots = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Hold> holds = new ConcurrentHashMap<>();
+    private final Queue<Hold> changedHolds = new ConcurrentLinkedQueue<>();
+    private final Queue<Slot> changedSlots = new ConcurrentLinkedQueue<>();
+
+    private volatile long processedTick = -1;
+
+    /**
+     * @param stockLoader 재고 ID로 {수량, 확정 예약 수량}을 조회 (처음 접근할 때, 적재 중 수량 변경이 있으면 다시)
+     */
+    @SuppressWarnings("unchecked")
+    ReservationLedger(int stripeCount, long tickMillis, int wheelSize, LongFunction<int[]> stockLoader) {
+        this.stripes = new Object[powerOfTwo(stripeCount)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Object();
+        }
+        this.stripeMask = stripes.length - 1;
+        this.tickMillis = Math.max(1, tickMillis);
+        this.wheel = new Queue[powerOfTwo(wheelSize)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.wheelMask = wheel.length - 1;
+        this.stockLoader = stockLoader;
+    }
+
+    /**
+     * 임시 예약 생성
+     *
+     * @return 생성된 예약 (가용 수량이 부족하면 null)
+     */
+    Hold hold(long inventoryId, int quantity, long expiresAt, String reference, Long holderId) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("예약 수량은 0보다 커야 합니다");
+        }
+        Slot slot = slot(inventoryId);
+        Hold hold;
+        synchronized (lock(inventoryId)) {
+            if (slot.available() < quantity) {
+                return null;
+            }
+            slot.held += quantity;
+            hold = new Hold(UUID.randomUUID().toString(), inventoryId, quantity, expiresAt, reference, holderId);
+            markChanged(hold);
+        }
+        holds.put(hold.id, hold);
+        schedule(hold);
+        return hold;
+    }
+
+    /**
+     * 임시 예약 확정 (확정 예약 수량으로 옮기고 저장 대상에 추가)
+     *
+     * @return 확정된 예약 (이미 해제/만료/확정되었으면 null)
+     */
+    Hold confirm(String holdId) {
+        return transition(holdId, HoldState.CONFIRMED);
+    }
+
+    /**
+     * 임시 예약 해제
+     *
+     * @return 해제된 예약 (이미 해제/만료/확정되었으면 null)
+     */
+    Hold release(String holdId) {
+        return transition(holdId, HoldState.RELEASED);
+    }
+
+    /**
+     * 확정 예약 해제
+     *
+     * @return 확정 예약 수량이 부족하면 false
+     */
+    boolean unreserve(long inventoryId, int quantity) {
+        Slot slot = slot(inventoryId);
+        synchronized (lock(inventoryId)) {
+            if (quantity <= 0 || slot.reserved < quantity) {
+                return false;
+            }
+            slot.reserved -= quantity;
+            slot.pendingReserved -= quantity;
+            slot.reservedChanges++;
+            markChanged(slot);
+            return true;
+        }
+    }
+
+    /**
+     * 출고할 수량을 출고 트랜잭션이 끝날 때까지 가용 수량에서 잡아 둠 (임시/확정 예약분을 출고하지 않도록)
+     *
+     * @return 가용 수량이 부족하면 false
+     */
+    boolean claim(long inventoryId, int quantity) {
+        Slot slot = slot(inventoryId);
+        synchronized (lock(inventoryId)) {
+            if (slot.available() < quantity) {
+                return false;
+            }
+            slot.claimed += quantity;
+            return true;
+        }
+    }
+
+    /**
+     * 출고 트랜잭션 종료 후 잡아 둔 수량 반환 (커밋된 출고는 수량 변경으로 따로 반영)
+     */
+    void unclaim(long inventoryId, int quantity) {
+        Slot slot = slots.get(inventoryId);
+        if (slot == null) {
+            return;
+        }
+        synchronized (lock(inventoryId)) {
+            slot.claimed -= quantity;
+        }
+    }
+
+    /**
+     * 커밋된 재고 수량 변경 반영 (등록되지 않은 재고는 무시)
+     * 적재 중인 재고는 변경 횟수만 올려 적재가 다시 읽도록 합니다
+     */
+    void applyStockChange(long inventoryId, int delta) {
+        Slot slot = slots.get(inventoryId);
+        if (slot == null) {
+            return;
+        }
+        synchronized (lock(inventoryId)) {
+            slot.moves++;
+            if (slot.loaded) {
+                slot.quantity += delta;
+            }
+        }
+    }
+
+    /**
+     * 적재된 재고의 수량/확정 예약을 DB 값으로 보정 (놓친 수량 변경이나 외부 변경으로 생긴 차이 복구)
+     * 조회 중에 수량 변경이 들어온 재고의 수량, 저장 전이거나 저장 중인 확정 예약 증감이 있는 재고의 확정 예약은
+     * 어느 쪽이 최신인지 알 수 없으므로 건너뛰고 다음 보정에 맡깁니다
+     *
+     * @param stockLoader 재고 ID 목록으로 재고별 {수량, 확정 예약 수량}을 조회 (삭제된 재고는 빠짐)
+     * @return 값을 바꾼 재고 수
+     */
+    int refresh(Function<List<Long>, Map<Long, int[]>> stockLoader) {
+        List<Slot> tracked = new ArrayList<>();
+        List<long[]> marks = new ArrayList<>();
+        for (Slot slot : slots.values()) {
+            if (!slot.loaded) {
+                continue;
+            }
+            synchronized (lock(slot.inventoryId)) {
+                tracked.add(slot);
+                marks.add(new long[] {slot.moves, slot.reservedChanges});
+            }
+        }
+        if (tracked.isEmpty()) {
+            return 0;
+        }
+        Map<Long, int[]> stocks = stockLoader.apply(tracked.stream().map(slot -> slot.inventoryId).toList());
+        int corrected = 0;
+        for (int i = 0; i < tracked.size(); i++) {
+            Slot slot = tracked.get(i);
+            int[] stock = stocks.get(slot.inventoryId);
+            if (stock == null) {
+                continue;
+            }
+            synchronized (lock(slot.inventoryId)) {
+                boolean changed = false;
+                if (slot.moves == marks.get(i)[0] && slot.quantity != stock[0]) {
+                    slot.quantity = stock[0];
+                    changed = true;
+                }
+                if (slot.reservedChanges == marks.get(i)[1] && slot.pendingReserved == 0 && slot.flushingReserved == 0
+                        && slot.reserved != stock[1]) {
+                    slot.reserved = stock[1];
+                    changed = true;
+                }
+                if (changed) {
+                    corrected++;
+                }
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * 재고 현황 {수량, 확정 예약, 임시 예약, 가용}
+     */
+    int[] view(long inventoryId) {
+        Slot slot = slot(inventoryId);
+        synchronized (lock(inventoryId)) {
+            return new int[] {slot.quantity, slot.reserved, slot.held, slot.available()};
+        }
+    }
+
+    /**
+     * 이미 적재된 재고의 현황 (적재되지 않았으면 DB 조회 없이 null)
+     */
+    int[] peek(long inventoryId) {
+        Slot slot = slots.get(inventoryId);
+        if (slot == null || !slot.loaded) {
+            return null;
+        }
+        synchronized (lock(inventoryId)) {
+            return new int[] {slot.quantity, slot.reserved, slot.held, slot.available()};
+        }
+    }
+
+    /**
+     * 재시작 전 저장된 임시 예약 복원
+     */
+    void restore(String holdId, long inventoryId, int quantity, long expiresAt, String reference, Long holderId) {
+        Slot slot = slot(inventoryId);
+        Hold hold = new Hold(holdId, inventoryId, quantity, expiresAt, reference, holderId);
+        synchronized (lock(inventoryId)) {
+            slot.held += quantity;
+            hold.persisted = true;
+        }
+        holds.put(holdId, hold);
+        schedule(hold);
+    }
+
+    /**
+     * 타이밍 휠을 현재 시각까지 진행하며 만료된 임시 예약 해제 (단일 스레드에서 호출)
+     */
+    List<Hold> expire(long now) {
+        long nowTick = now / tickMillis;
+        long from = processedTick < 0 ? nowTick - wheel.length + 1 : processedTick + 1;
+        from = Math.max(from, nowTick - wheel.length + 1);
+        List<Hold> expired = new ArrayList<>();
+        for (long tick = from; tick <= nowTick; tick++) {
+            processedTick = tick;
+            Queue<Hold> bucket = wheel[(int) (tick & wheelMask)];
+            List<Hold> later = new ArrayList<>();
+            for (Hold hold = bucket.poll(); hold != null; hold = bucket.poll()) {
+                if (hold.state != HoldState.HELD) {
+                    continue;
+                }
+                if (hold.expiresAt > now) {
+                    later.add(hold);
+                } else if (transition(hold.id, HoldState.EXPIRED) != null) {
+                    expired.add(hold);
+                }
+            }
+            bucket.addAll(later);
+        }
+        return expired;
+    }
+
+    /**
+     * 저장할 변경분 인계
+     * 저장 전에 해제/만료된 임시 예약은 DB에 남기지 않고 버립니다
+     */
+    Drain drain() {
+        List<Hold> inserts = new ArrayList<>();
+        List<Hold> updates = new ArrayList<>();
+        for (Hold hold = changedHolds.poll(); hold != null; hold = changedHolds.poll()) {
+            synchronized (lock(hold.inventoryId)) {
+                hold.queued = false;
+                if (!hold.persisted) {
+                    if (hold.state == HoldState.HELD || hold.state == HoldState.CONFIRMED) {
+                        hold.persisted = true;
+                        inserts.add(hold);
+                    }
+                } else {
+                    updates.add(hold);
+                }
+            }
+        }
+        Map<Long, Integer> reservedDeltas = new HashMap<>();
+        for (Slot slot = changedSlots.poll(); slot != null; slot = changedSlots.poll()) {
+            synchronized (lock(slot.inventoryId)) {
+                slot.queued = false;
+                if (slot.pendingReserved != 0) {
+                    reservedDeltas.merge(slot.inventoryId, slot.pendingReserved, Integer::sum);
+                    slot.flushingReserved += slot.pendingReserved;
+                    slot.pendingReserved = 0;
+                    slot.reservedChanges++;
+                }
+            }
+        }
+        return new Drain(inserts, updates, reservedDeltas);
+    }
+
+    /**
+     * 인계한 변경분의 저장 완료 (커밋 후 호출)
+     */
+    void flushed(Drain drain) {
+        drain.reservedDeltas().forEach((inventoryId, delta) -> {
+            Slot slot = slots.get(inventoryId);
+            synchronized (lock(inventoryId)) {
+                slot.flushingReserved -= delta;
+                slot.reservedChanges++;
+            }
+        });
+    }
+
+    /**
+     * 저장 실패 시 인계한 변경분을 되돌려 다음 저장 때 다시 인계
+     */
+    void requeue(Drain drain) {
+        for (Hold hold : drain.inserts()) {
+            synchronized (lock(hold.inventoryId)) {
+                hold.persisted = false;
+                markChanged(hold);
+            }
+        }
+        for (Hold hold : drain.updates()) {
+            synchronized (lock(hold.inventoryId)) {
+                markChanged(hold);
+            }
+        }
+        drain.reservedDeltas().forEach((inventoryId, delta) -> {
+            Slot slot = slot(inventoryId);
+            synchronized (lock(inventoryId)) {
+                slot.flushingReserved -= delta;
+                slot.pendingReserved += delta;
+                slot.reservedChanges++;
+                markChanged(slot);
+            }
+        });
+    }
+
+    int outstandingHolds() {
+        return holds.size();
+    }
+
+    private Hold transition(String holdId, HoldState target) {
+        Hold hold = holds.get(holdId);
+        if (hold == null) {
+            return null;
+        }
+        Slot slot = slot(hold.inventoryId);
+        synchronized (lock(hold.inventoryId)) {
+            if (hold.state != HoldState.HELD) {
+                return null;
+            }
+            hold.state = target;
+            slot.held -= hold.quantity;
+            if (target == HoldState.CONFIRMED) {
+                slot.reserved += hold.quantity;
+                slot.pendingReserved += hold.quantity;
+                slot.reservedChanges++;
+                markChanged(slot);
+            }
+            markChanged(hold);
+        }
+        holds.remove(holdId, hold);
+        return hold;
+    }
+
+    private void schedule(Hold hold) {
+        long tick = Math.max(hold.expiresAt / tickMillis, processedTick + 1);
+        wheel[(int) (tick & wheelMask)].add(hold);
+    }
+
+    /**
+     * 재고 칸 (처음 접근 시 적재)
+     */
+    private Slot slot(long inventoryId) {
+        Slot slot = slots.computeIfAbsent(inventoryId, Slot::new);
+        if (!slot.loaded) {
+            load(slot);
+        }
+        return slot;
+    }
+
+    /**
+     * 칸을 먼저 등록한 뒤 적재해 적재 쿼리 중에 커밋된 수량 변경도 변경 횟수로 감지하고,
+     * 변경이 들어왔으면 적재 값이 변경 전인지 후인지 알 수 없으므로 다시 적재
+     * 같은 재고의 적재는 한 스레드만 하고 나머지는 적재가 끝날 때까지 기다립니다
+     */
+    private void load(Slot slot) {
+        synchronized (slot) {
+            if (slot.loaded) {
+                return;
+            }
+            try {
+                for (int attempt = 1; ; attempt++) {
+                    long moves;
+                    synchronized (lock(slot.inventoryId)) {
+                        moves = slot.moves;
+                    }
+                    int[] stock = stockLoader.apply(slot.inventoryId);
+                    synchronized (lock(slot.inventoryId)) {
+                        if (slot.moves == moves || attempt >= MAX_LOAD_ATTEMPTS) {
+                            slot.quantity = stock[0];
+                            slot.reserved = stock[1];
+                            slot.loaded = true;
+                            return;
+                        }
+                    }
+                }
+            } catch (RuntimeException e) {
+                slots.remove(slot.inventoryId, slot);
+                throw e;
+            }
+        }
+    }
+
+    private Object lock(long inventoryId) {
+        int hash = (int) (inventoryId ^ (inventoryId >>> 32)) * 0x9E3779B9;
+        return stripes[(hash >>> 16) & stripeMask];
+    }
+
+    /**
+     * 잠금 안에서 호출
+     */
+    private void markChanged(Hold hold) {
+        if (!hold.queued) {
+            hold.queued = true;
+            changedHolds.add(hold);
+        }
+    }
+
+    /**
+     * 잠금 안에서 호출
+     */
+    private void markChanged(Slot slot) {
+        if (!slot.queued) {
+            slot.queued = true;
+            changedSlots.add(slot);
+        }
+    }
+
+    private static int powerOfTwo(int value) {
+        int size = 1;
+        while (size < value) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * 재고별 수량 (해당 stripe 잠금 안에서만 변경)
+     */
+    private static final class Slot {
+        final long inventoryId;
+        volatile boolean loaded;
+        int quantity;
+        int reserved;
+        int held;
+        int pendingReserved;
+        int flushingReserved;
+        int claimed;
+        long moves;
+        long reservedChanges;
+        boolean queued;
+
+        Slot(long inventoryId) {
+            this.inventoryId = inventoryId;
+        }
+
+        int available() {
+            return quantity - reserved - held - claimed;
+        }
+    }
+
+    /**
+     * 예약 (상태는 해당 재고 stripe 잠금 안에서만 변경)
+     */
+    static final class Hold {
+        final String id;
+        final long inventoryId;
+        final int quantity;
+        final long expiresAt;
+        final String reference;
+        final Long holderId;
+        volatile HoldState state = HoldState.HELD;
+        boolean persisted;
+        boolean queued;
+
+        Hold(String id, long inventoryId, int quantity, long expiresAt, String reference, Long holderId) {
+            this.id = id;
+            this.inventoryId = inventoryId;
+            this.quantity = quantity;
+            this.expiresAt = expiresAt;
+            this.reference = reference;
+            this.holderId = holderId;
+        }
+    }
+
+    /**
+     * 배치 저장 대상
+     *
+     * @param inserts 새로 저장할 예약
+     * @param updates 저장된 예약 중 상태가 바뀐 예약
+     * @param reservedDeltas 재고별 확정 예약 수량 증감
+     */
+    record Drain(List<Hold> inserts, List<Hold> updates, Map<Long, Integer> reservedDeltas) {
+
+        boolean isEmpty() {
+            return inserts.isEmpty() && updates.isEmpty() && reservedDeltas.isEmpty();
+        }
+    }
+}
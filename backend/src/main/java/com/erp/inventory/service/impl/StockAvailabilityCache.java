@@ -0,0 +1,161 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.inventory.event.StockMovedEvent;
+import com.erp.inventory.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회사별 상품/창고 재고 캐시
+ * 요청한 상품 중 캐시에 없거나 보관 시간이 지난 상품만 한 번의 쿼리로 적재하고, 이후 재고 수량 변경은 커밋 후 증분 반영합니다.
+ * 캐시에 없던 창고에 재고가 생기거나 적재 중에 수량 변경이 들어온 상품은 버려 다음 조회 때 다시 적재합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockAvailabilityCache {
+
+    private final InventoryRepository inventoryRepository;
+
+    private final ConcurrentMap<Long, CompanyStock> companies = new ConcurrentHashMap<>();
+
+    /**
+     * 적재 후 보관 시간 (확정 예약 수량을 다시 읽는 주기)
+     */
+    @Value("${erp.inventory.availability.cache-ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    /**
+     * 상품별 창고 재고 (회사에 없는 상품은 결과에서 빠짐)
+     */
+    Map<Long, ProductStock> get(Long companyId, Collection<Long> productIds) {
+        CompanyStock company = companies.computeIfAbsent(companyId, id -> new CompanyStock());
+        long now = System.nanoTime();
+        Map<Long, ProductStock> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long productId : new LinkedHashSet<>(productIds)) {
+            Cached cached = company.products.get(productId);
+            if (cached != null && cached.expiresAt() - now > 0) {
+                result.put(productId, cached.stock());
+            } else {
+                missing.add(productId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            // 적재 쿼리 전 순번보다 뒤에 수량 변경이 들어온 상품은 적재 값이 변경 전일 수 있어 캐시하지 않음
+            long loadSequence = company.sequence.get();
+            long expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(cacheTtlSeconds);
+            load(companyId, missing).forEach((productId, stock) -> {
+                result.put(productId, stock);
+                Cached cached = new Cached(stock, expiresAt);
+                company.products.put(productId, cached);
+                if (company.movedSince(productId, loadSequence)) {
+                    company.products.remove(productId, cached);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 회사별 캐시 무효화
+     */
+    public void evict(Long companyId) {
+        companies.remove(companyId);
+    }
+
+    /**
+     * 커밋된 재고 수량 변경 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockMoved(StockMovedEvent event) {
+        CompanyStock company = companies.get(event.companyId());
+        if (company == null) {
+            return;
+        }
+        // 변경 순번을 먼저 남겨 진행 중인 적재가 변경 전 값을 캐시하지 않게 함
+        company.moved.put(event.productId(), company.sequence.incrementAndGet());
+        Cached cached = company.products.get(event.productId());
+        if (cached != null && !cached.stock().apply(event.inventoryId(), event.delta())) {
+            company.products.remove(event.productId(), cached);
+        }
+    }
+
+    private Map<Long, ProductStock> load(Long companyId, List<Long> productIds) {
+        Map<Long, Integer> leadTimes = new HashMap<>();
+        Map<Long, List<WarehouseStock>> warehouses = new HashMap<>();
+        for (Object[] row : inventoryRepository.getWarehouseStockByProducts(companyId, productIds)) {
+            Long productId = (Long) row[0];
+            leadTimes.put(productId, row[1] == null ? 0 : (Integer) row[1]);
+            List<WarehouseStock> stocks = warehouses.computeIfAbsent(productId, id -> new ArrayList<>(2));
+            if (row[2] != null) {
+                stocks.add(new WarehouseStock((Long) row[2], (Long) row[3], (String) row[4],
+                    new AtomicInteger(row[5] == null ? 0 : (Integer) row[5]), row[6] == null ? 0 : (Integer) row[6]));
+            }
+        }
+        Map<Long, ProductStock> loaded = new HashMap<>();
+        leadTimes.forEach((productId, leadTime) ->
+            loaded.put(productId, new ProductStock(leadTime, List.copyOf(warehouses.get(productId)))));
+        log.debug("재고 캐시 적재 - 회사: {}, 요청 상품: {}, 적재 상품: {}", companyId, productIds.size(), loaded.size());
+        return loaded;
+    }
+
+    /**
+     * 회사별 캐시 상태 (상품별 적재 값과 마지막 수량 변경 순번)
+     */
+    private static final class CompanyStock {
+        private final ConcurrentMap<Long, Cached> products = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Long, Long> moved = new ConcurrentHashMap<>();
+        private final AtomicLong sequence = new AtomicLong();
+
+        boolean movedSince(Long productId, long loadSequence) {
+            Long last = moved.get(productId);
+            return last != null && last > loadSequence;
+        }
+    }
+
+    private record Cached(ProductStock stock, long expiresAt) {
+    }
+
+    /**
+     * 상품 재고 (창고 목록은 적재 후 바뀌지 않고 수량만 증분 반영)
+     */
+    record ProductStock(int leadTimeDays, List<WarehouseStock> warehouses) {
+
+        /**
+         * @return 캐시에 없는 재고이면 false
+         */
+        boolean apply(Long inventoryId, int delta) {
+            for (WarehouseStock warehouse : warehouses) {
+                if (warehouse.inventoryId().equals(inventoryId)) {
+                    warehouse.quantity().addAndGet(delta);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 창고별 재고 (확정 예약은 적재 시점 값으로 보관 시간마다 다시 읽고, 그 사이 예약 변경은 예약 원장 기준)
+     */
+    record WarehouseStock(Long inventoryId, Long warehouseId, String warehouseName, AtomicInteger quantity,
+                          int reservedQuantity) {
+    }
+}
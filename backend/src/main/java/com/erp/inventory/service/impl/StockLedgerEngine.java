@@ -0,0 +1,149 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.inventory.entity.StockMovement;
+import com.erp.inventory.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 재고 원장 엔진
+ * 재고 수량 변경을 엔티티 읽기-수정-쓰기 없이 조건부 원자적 UPDATE 한 문장으로 처리하고,
+ * 같은 문장에서 변경 전후 수량을 담은 재고이동(처리 완료)을 기록합니다.
+ * 행 잠금은 이 문장부터 커밋까지만 잡히므로 호출 측은 응답 조회 등 다른 작업을 먼저 끝낸 뒤 호출합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockLedgerEngine {
+
+    private static final RowMapper<Entry> ENTRY_MAPPER = (rs, rowNum) -> new Entry(
+        rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6),
+        rs.getInt(7), rs.getInt(8), rs.getInt(9), rs.getInt(10), rs.getInt(11));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재고 수량 변경 적용
+     *
+     * @return 적용된 원장 기록 (재고가 없거나 가용 수량이 부족하면 빈 값)
+     */
+    public Optional<Entry> apply(Change change) {
+        List<Entry> entries = jdbcTemplate.query(InventoryRepository.NATIVE_STOCK_LEDGER_ENTRY, ENTRY_MAPPER,
+            change.inventoryId(), change.delta(), Timestamp.valueOf(LocalDateTime.now()), change.unitPrice(),
+            change.processedBy(), change.movementType().name(), change.fromWarehouseId(), change.toWarehouseId(),
+            change.referenceNumber(), change.referenceType(), change.lotNumber(), change.serialNumber(),
+            change.reason(), change.description());
+        if (entries.isEmpty()) {
+            log.debug("재고 수량 변경 거부 - 재고: {}, 유형: {}, 수량: {}",
+                change.inventoryId(), change.movementType(), change.delta());
+            return Optional.empty();
+        }
+        return Optional.of(entries.get(0));
+    }
+
+    /**
+     * 실사 차이 일괄 적용 (한 창고의 여러 재고)
+     * 원장 단건 적용과 같은 재고 ID 순서로 먼저 잠근 뒤 한 문장으로 증감하므로 호출 측 트랜잭션 안에서 호출합니다
+     *
+     * @param deltas 재고별 증감 수량 (실사 수량 - 장부 수량)
+     * @return 적용된 원장 기록 (재고가 없거나 음수가 되는 차이는 빠짐)
+     */
+    public List<Entry> applyStocktaking(Long warehouseId, long[] inventoryIds, int[] deltas, String referenceNumber,
+                                       String reason, String description, Long processedBy) {
+        if (inventoryIds.length != deltas.length) {
+            throw new IllegalArgumentException("재고 ID와 증감 수량 개수가 다릅니다");
+        }
+        if (inventoryIds.length == 0) {
+            return List.of();
+        }
+        jdbcTemplate.queryForList(InventoryRepository.NATIVE_LOCK_INVENTORIES, Long.class, (Object) inventoryIds);
+        List<Entry> entries = jdbcTemplate.query(InventoryRepository.NATIVE_STOCKTAKING_ADJUSTMENT, ENTRY_MAPPER,
+            Timestamp.valueOf(LocalDateTime.now()), processedBy, inventoryIds, deltas, warehouseId,
+            referenceNumber, reason, description);
+        if (entries.size() < inventoryIds.length) {
+            log.debug("실사 차이 일부 미반영 - 창고: {}, 요청: {}건, 반영: {}건",
+                warehouseId, inventoryIds.length, entries.size());
+        }
+        return entries;
+    }
+
+    /**
+     * 현재 가용 수량 (거부 사유 안내용)
+     */
+    public int availableQuantity(Long inventoryId) {
+        List<Integer> available = jdbcTemplate.queryForList(
+            "SELECT quantity - reserved_quantity FROM inventories WHERE id = ? AND is_deleted = false",
+            Integer.class, inventoryId);
+        return available.isEmpty() || available.get(0) == null ? 0 : available.get(0);
+    }
+
+    /**
+     * 재고 수량 변경 요청
+     *
+     * @param delta 증감 수량 (입고 양수, 출고 음수)
+     */
+    public record Change(
+            Long inventoryId,
+            StockMovement.MovementType movementType,
+            int delta,
+            BigDecimal unitPrice,
+            Long fromWarehouseId,
+            Long toWarehouseId,
+            String referenceNumber,
+            String referenceType,
+            String lotNumber,
+            String serialNumber,
+            String reason,
+            String description,
+            Long processedBy
+    ) {
+        public Change {
+            if (inventoryId == null) {
+                throw new IllegalArgumentException("재고 ID는 필수입니다");
+            }
+            if (movementType == null) {
+                throw new IllegalArgumentException("이동 유형은 필수입니다");
+            }
+            if (delta == 0) {
+                throw new IllegalArgumentException("변경 수량은 0일 수 없습니다");
+            }
+        }
+
+        public static Change of(Long inventoryId, StockMovement.MovementType movementType, int delta,
+                                String reason, String description, Long processedBy) {
+            return new Change(inventoryId, movementType, delta, null, null, null, null, null, null, null,
+                reason, description, processedBy);
+        }
+    }
+
+    /**
+     * 적용된 원장 기록
+     *
+     * @param beforeStock 변경 전 수량
+     * @param afterStock 변경 후 수량
+     * @param reorderPoint 재주문점 (미설정이면 0)
+     */
+    public record Entry(
+            Long movementId,
+            String movementNumber,
+            Long inventoryId,
+            Long companyId,
+            Long productId,
+            Long warehouseId,
+            int beforeStock,
+            int afterStock,
+            int reservedQuantity,
+            int availableQuantity,
+            int reorderPoint
+    ) {
+    }
+}
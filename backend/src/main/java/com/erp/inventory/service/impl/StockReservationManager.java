@@ -0,0 +1,353 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.common.utils.ExceptionUtils;
+import com.erp.inventory.dto.InventoryDto;
+import com.erp.inventory.event.StockMovedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 예약 관리자
+ * 장바구니/견적의 짧은 임시 예약을 메모리 예약 원장에서 DB 왕복 없이 처리하고,
+ * 예약 변경과 확정 예약 수량은 주기적으로 한 트랜잭션에 배치 저장합니다.
+ * 임시 예약은 예약(RESERVE) 재고이동으로 저장해 두었다가 서버 재시작 시 만료되지 않은 예약을 복원합니다 (단일 인스턴스 기준).
+ * 원장의 수량/확정 예약은 주기적으로 DB 값과 맞춰 놓친 변경으로 생긴 차이를 복구합니다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationManager {
+
+    /**
+     * 임시 예약 재고이동 참조 유형 (참조 번호 = 예약 ID)
+     */
+    static final String HOLD_REFERENCE_TYPE = "HOLD";
+
+    private static final String INSERT_HOLD_SQL =
+        "INSERT INTO stock_movements (id, movement_number, company_id, product_id, warehouse_id, inventory_id, " +
+        "movement_type, movement_status, movement_date, quantity, unit, expiry_date, reference_number, " +
+        "reference_type, description, processed_by_id, processed_at, created_at, created_by, is_deleted) " +
+        "SELECT s.id, 'SM' || to_char(CAST(? AS TIMESTAMP), 'YYYYMMDD') || '-' || lpad(s.id::text, 10, '0'), " +
+        "i.company_id, i.product_id, i.warehouse_id, i.id, 'RESERVE', ?, CAST(? AS TIMESTAMP), ?, p.base_unit, " +
+        "CAST(? AS TIMESTAMP), ?, '" + HOLD_REFERENCE_TYPE + "', ?, CAST(? AS BIGINT), CAST(? AS TIMESTAMP), " +
+        "CAST(? AS TIMESTAMP), CAST(? AS BIGINT), false " +
+        "FROM inventories i " +
+        "JOIN products p ON p.id = i.product_id " +
+        "CROSS JOIN LATERAL (SELECT nextval(pg_get_serial_sequence('stock_movements', 'id')) AS id) s " +
+        "WHERE i.id = ?";
+
+    private static final String UPDATE_HOLD_SQL =
+        "UPDATE stock_movements SET movement_status = ?, processed_at = ?, cancelled_at = ?, cancel_reason = ?, " +
+        "updated_at = ? " +
+        "WHERE reference_type = '" + HOLD_REFERENCE_TYPE + "' AND reference_number = ? AND movement_status = 'PENDING'";
+
+    private static final String UPDATE_RESERVED_SQL =
+        "UPDATE inventories SET " +
+        "reserved_quantity = GREATEST(0, LEAST(quantity, reserved_quantity + ?)), " +
+        "available_quantity = quantity - GREATEST(0, LEAST(quantity, reserved_quantity + ?)), " +
+        "updated_at = ? " +
+        "WHERE id = ?";
+
+    private static final String STOCK_SQL =
+        "SELECT id, quantity, reserved_quantity FROM inventories WHERE id = ANY(CAST(? AS BIGINT[])) AND is_deleted = false";
+
+    private static final String OUTSTANDING_HOLDS_SQL =
+        "SELECT reference_number, inventory_id, quantity, expiry_date, description, processed_by_id " +
+        "FROM stock_movements " +
+        "WHERE movement_type = 'RESERVE' AND reference_type = '" + HOLD_REFERENCE_TYPE + "' " +
+        "AND movement_status = 'PENDING' AND is_deleted = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private ReservationLedger ledger;
+
+    @Value("${erp.inventory.reservation.stripes:64}")
+    private int stripes;
+
+    @Value("${erp.inventory.reservation.tick-ms:1000}")
+    private long tickMillis;
+
+    @Value("${erp.inventory.reservation.wheel-size:512}")
+    private int wheelSize;
+
+    @PostConstruct
+    void createLedger() {
+        ledger = new ReservationLedger(stripes, tickMillis, wheelSize, this::loadStock);
+    }
+
+    /**
+     * 임시 예약 생성
+     *
+     * @return 생성된 예약 (가용 수량이 부족하면 null)
+     */
+    public InventoryDto.StockHoldDto hold(Long inventoryId, int quantity, LocalDateTime expiresAt, String reference,
+                                         Long holderId) {
+        return toDto(ledger.hold(inventoryId, quantity, toMillis(expiresAt), reference, holderId));
+    }
+
+    /**
+     * 임시 예약 확정 (확정 예약 수량은 다음 배치 저장 때 재고에 반영)
+     *
+     * @return 확정된 예약 (없거나 이미 해제/만료/확정되었으면 null)
+     */
+    public InventoryDto.StockHoldDto confirm(String holdId) {
+        return toDto(ledger.confirm(holdId));
+    }
+
+    /**
+     * 임시 예약 해제
+     *
+     * @return 해제된 예약 (없거나 이미 해제/만료/확정되었으면 null)
+     */
+    public InventoryDto.StockHoldDto release(String holdId) {
+        return toDto(ledger.release(holdId));
+    }
+
+    /**
+     * 확정 예약 해제
+     *
+     * @return 확정 예약 수량이 부족하면 false
+     */
+    public boolean unreserve(Long inventoryId, int quantity) {
+        return ledger.unreserve(inventoryId, quantity);
+    }
+
+    /**
+     * 재고 현황 {수량, 확정 예약, 임시 예약, 가용}
+     */
+    public int[] view(Long inventoryId) {
+        return ledger.view(inventoryId);
+    }
+
+    /**
+     * 예약 원장이 관리 중인 재고의 가용 수량 (관리 중이 아니면 null, DB 조회 없음)
+     */
+    public Integer trackedAvailable(Long inventoryId) {
+        int[] view = ledger.peek(inventoryId);
+        return view == null ? null : view[3];
+    }
+
+    /**
+     * 출고 수량을 현재 트랜잭션이 끝날 때까지 원장 가용 수량에서 잡아 둠
+     * 임시 예약과 아직 저장되지 않은 확정 예약은 DB 출고 조건에 보이지 않으므로 출고 전에 원장으로 먼저 확인합니다
+     *
+     * @return 가용 수량이 부족하면 false
+     */
+    public boolean claimOutbound(Long inventoryId, int quantity) {
+        if (!ledger.claim(inventoryId, quantity)) {
+            return false;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ledger.unclaim(inventoryId, quantity);
+            return true;
+        }
+        // 커밋된 출고는 커밋 직후 수량 변경으로 반영되고, 잡아 둔 수량은 트랜잭션이 끝나면 커밋/롤백과 관계없이 반환
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                ledger.unclaim(inventoryId, quantity);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * 커밋된 재고 수량 변경 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockMoved(StockMovedEvent event) {
+        ledger.applyStockChange(event.inventoryId(), event.delta());
+    }
+
+    /**
+     * 타이밍 휠 진행 (만료된 임시 예약 해제)
+     */
+    @Scheduled(fixedDelayString = "${erp.inventory.reservation.tick-ms:1000}")
+    public void expireHolds() {
+        List<ReservationLedger.Hold> expired = ledger.expire(System.currentTimeMillis());
+        if (!expired.isEmpty()) {
+            log.debug("임시 예약 만료 - {}건", expired.size());
+        }
+    }
+
+    /**
+     * 예약 변경분 배치 저장 (실패 시 변경분을 되돌려 다음 주기에 다시 저장)
+     */
+    @Scheduled(fixedDelayString = "${erp.inventory.reservation.flush-interval-ms:1000}")
+    public void flush() {
+        ReservationLedger.Drain drain = ledger.drain();
+        if (drain.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(drain));
+            ledger.flushed(drain);
+            log.debug("예약 변경 저장 - 신규: {}, 상태 변경: {}, 재고: {}",
+                drain.inserts().size(), drain.updates().size(), drain.reservedDeltas().size());
+        } catch (RuntimeException e) {
+            ledger.requeue(drain);
+            log.error("예약 변경 저장 실패 - 다음 주기에 재시도합니다", e);
+        }
+    }
+
+    /**
+     * 예약 원장 수량/확정 예약 보정
+     */
+    @Scheduled(fixedDelayString = "${erp.inventory.reservation.refresh-interval-ms:300000}",
+        initialDelayString = "${erp.inventory.reservation.refresh-interval-ms:300000}")
+    public void refreshStock() {
+        try {
+            int corrected = ledger.refresh(this::loadStocks);
+            if (corrected > 0) {
+                log.warn("예약 원장 보정 - DB와 다른 재고 {}건", corrected);
+            }
+        } catch (RuntimeException e) {
+            log.error("예약 원장 보정 실패 - 다음 주기에 재시도합니다", e);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 서버 재시작 전 임시 예약 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverHolds() {
+        long now = System.currentTimeMillis();
+        List<Object[]> outstanding = jdbcTemplate.query(OUTSTANDING_HOLDS_SQL, (rs, rowNum) -> new Object[] {
+            rs.getString(1), rs.getLong(2), rs.getInt(3), rs.getTimestamp(4), rs.getString(5),
+            rs.getObject(6) == null ? null : rs.getLong(6)});
+        List<String> expiredIds = new ArrayList<>();
+        int restored = 0;
+        for (Object[] row : outstanding) {
+            Timestamp expiresAt = (Timestamp) row[3];
+            if (expiresAt == null || expiresAt.getTime() <= now) {
+                expiredIds.add((String) row[0]);
+                continue;
+            }
+            ledger.restore((String) row[0], (Long) row[1], (Integer) row[2], expiresAt.getTime(), (String) row[4],
+                (Long) row[5]);
+            restored++;
+        }
+        if (!expiredIds.isEmpty()) {
+            Timestamp at = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(UPDATE_HOLD_SQL, expiredIds, expiredIds.size(), (ps, holdId) -> {
+                ps.setString(1, "CANCELLED");
+                ps.setTimestamp(2, null);
+                ps.setTimestamp(3, at);
+                ps.setString(4, "예약 만료");
+                ps.setTimestamp(5, at);
+                ps.setString(6, holdId);
+            });
+        }
+        log.info("임시 예약 복원 완료 - 복원: {}건, 만료: {}건", restored, expiredIds.size());
+    }
+
+    private void persist(ReservationLedger.Drain drain) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (!drain.inserts().isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_HOLD_SQL, drain.inserts(), drain.inserts().size(), (ps, hold) -> {
+                boolean confirmed = hold.state == ReservationLedger.HoldState.CONFIRMED;
+                ps.setTimestamp(1, now);
+                ps.setString(2, confirmed ? "PROCESSED" : "PENDING");
+                ps.setTimestamp(3, now);
+                ps.setInt(4, hold.quantity);
+                ps.setTimestamp(5, new Timestamp(hold.expiresAt));
+                ps.setString(6, hold.id);
+                ps.setString(7, hold.reference);
+                ps.setObject(8, hold.holderId);
+                ps.setTimestamp(9, confirmed ? now : null);
+                ps.setTimestamp(10, now);
+                ps.setObject(11, hold.holderId);
+                ps.setLong(12, hold.inventoryId);
+            });
+        }
+        if (!drain.updates().isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_HOLD_SQL, drain.updates(), drain.updates().size(), (ps, hold) -> {
+                boolean confirmed = hold.state == ReservationLedger.HoldState.CONFIRMED;
+                ps.setString(1, confirmed ? "PROCESSED" : "CANCELLED");
+                ps.setTimestamp(2, confirmed ? now : null);
+                ps.setTimestamp(3, confirmed ? null : now);
+                ps.setString(4, switch (hold.state) {
+                    case EXPIRED -> "예약 만료";
+                    case RELEASED -> "예약 해제";
+                    default -> null;
+                });
+                ps.setTimestamp(5, now);
+                ps.setString(6, hold.id);
+            });
+        }
+        if (!drain.reservedDeltas().isEmpty()) {
+            List<Map.Entry<Long, Integer>> deltas = new ArrayList<>(drain.reservedDeltas().entrySet());
+            jdbcTemplate.batchUpdate(UPDATE_RESERVED_SQL, deltas, deltas.size(), (ps, delta) -> {
+                ps.setInt(1, delta.getValue());
+                ps.setInt(2, delta.getValue());
+                ps.setTimestamp(3, now);
+                ps.setLong(4, delta.getKey());
+            });
+        }
+    }
+
+    /**
+     * 재고 {수량, 확정 예약 수량} 적재 (재고별 처음 접근 시)
+     */
+    private int[] loadStock(long inventoryId) {
+        List<int[]> rows = jdbcTemplate.query(
+            "SELECT quantity, reserved_quantity FROM inventories WHERE id = ? AND is_deleted = false",
+            (rs, rowNum) -> new int[] {rs.getInt(1), rs.getInt(2)}, inventoryId);
+        if (rows.isEmpty()) {
+            throw ExceptionUtils.entityNotFoundException("재고를 찾을 수 없습니다: " + inventoryId);
+        }
+        return rows.get(0);
+    }
+
+    /**
+     * 재고별 {수량, 확정 예약 수량} 일괄 조회 (보정용)
+     */
+    private Map<Long, int[]> loadStocks(List<Long> inventoryIds) {
+        Map<Long, int[]> stocks = new HashMap<>();
+        jdbcTemplate.query(STOCK_SQL, rs -> {
+            stocks.put(rs.getLong(1), new int[] {rs.getInt(2), rs.getInt(3)});
+        }, (Object) inventoryIds.toArray(Long[]::new));
+        return stocks;
+    }
+
+    private InventoryDto.StockHoldDto toDto(ReservationLedger.Hold hold) {
+        if (hold == null) {
+            return null;
+        }
+        return new InventoryDto.StockHoldDto(hold.id, hold.inventoryId, hold.quantity, hold.state.name(),
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(hold.expiresAt), ZoneId.systemDefault()), hold.reference,
+            ledger.view(hold.inventoryId)[3]);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,238 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.common.export.ExportFormat;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvValidationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 재고 실사 파일 스트리밍 리더
+ * CSV는 opencsv로 한 행씩, XLSX는 첫 시트를 POI SAX 이벤트 모델로 읽어 파일 전체를 메모리에 올리지 않습니다.
+ * 첫 행의 헤더에서 상품코드/실사수량 열을 찾고, 형식이 잘못된 행은 건너뛰고 건수만 집계합니다
+ */
+final class StocktakingCountReader {
+
+    private static final List<String> PRODUCT_CODE_HEADERS =
+        List.of("product_code", "productcode", "sku", "상품코드", "품목코드", "상품 코드");
+    private static final List<String> QUANTITY_HEADERS =
+        List.of("counted_quantity", "counted", "quantity", "qty", "실사수량", "실사 수량", "수량");
+
+    private int productCodeColumn = -1;
+    private int quantityColumn = -1;
+    private int lineNumber;
+    private int rowCount;
+    private int invalidCount;
+    private final CountHandler handler;
+
+    private StocktakingCountReader(CountHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * 실사 파일을 읽어 유효 행마다 처리기 호출
+     */
+    static Result read(Path file, ExportFormat format, CountHandler handler) throws IOException {
+        StocktakingCountReader reader = new StocktakingCountReader(handler);
+        if (format == ExportFormat.XLSX) {
+            reader.readXlsx(file);
+        } else {
+            reader.readCsv(file);
+        }
+        if (reader.productCodeColumn < 0) {
+            throw new IllegalArgumentException("실사 파일에 상품코드/실사수량 헤더가 없습니다");
+        }
+        return new Result(reader.rowCount, reader.invalidCount);
+    }
+
+    private void readCsv(Path file) throws IOException {
+        try (Reader source = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             CSVReader csvReader = new CSVReaderBuilder(source).build()) {
+            String[] row;
+            while ((row = csvReader.readNext()) != null) {
+                accept(row);
+            }
+        } catch (CsvValidationException e) {
+            throw new IllegalArgumentException("CSV 파일 형식 오류: " + e.getMessage(), e);
+        }
+    }
+
+    private void readXlsx(Path file) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("실사 파일에 시트가 없습니다");
+            }
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(xssfReader.getStylesTable(), null,
+                new ReadOnlySharedStringsTable(pkg), new RowCollector(), new DataFormatter(), false));
+            try (InputStream sheet = sheets.next()) {
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IllegalArgumentException("XLSX 파일 형식 오류: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 행 처리 (헤더 전까지의 빈 행은 무시)
+     */
+    private void accept(String[] row) {
+        if (productCodeColumn < 0) {
+            if (!isBlank(row)) {
+                resolveHeader(row);
+            }
+            return;
+        }
+        lineNumber++;
+        if (isBlank(row)) {
+            return;
+        }
+        rowCount++;
+        String productCode = cell(row, productCodeColumn);
+        Integer quantity = parseQuantity(cell(row, quantityColumn));
+        if (productCode == null || quantity == null) {
+            invalidCount++;
+            return;
+        }
+        handler.accept(new CountLine(lineNumber, productCode, quantity));
+    }
+
+    private void resolveHeader(String[] header) {
+        if (header[0] != null && !header[0].isEmpty() && header[0].charAt(0) == '\uFEFF') {
+            header[0] = header[0].substring(1);
+        }
+        int codeColumn = column(header, PRODUCT_CODE_HEADERS);
+        int qtyColumn = column(header, QUANTITY_HEADERS);
+        if (codeColumn < 0 || qtyColumn < 0) {
+            throw new IllegalArgumentException("실사 파일에 상품코드/실사수량 헤더가 없습니다");
+        }
+        productCodeColumn = codeColumn;
+        quantityColumn = qtyColumn;
+    }
+
+    /**
+     * 실사 수량 (0 이상 정수만 유효, 천 단위 구분 기호 허용)
+     */
+    static Integer parseQuantity(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            BigDecimal quantity = new BigDecimal(value.replace(",", "").trim());
+            if (quantity.signum() < 0 || quantity.stripTrailingZeros().scale() > 0) {
+                return null;
+            }
+            return quantity.intValueExact();
+        } catch (NumberFormatException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    private static boolean isBlank(String[] row) {
+        for (String value : row) {
+            if (value != null && !value.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String cell(String[] row, int column) {
+        if (column < 0 || column >= row.length || row[column] == null) {
+            return null;
+        }
+        String value = row[column].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 열 위치 조회 (먼저 나열된 별칭 우선)
+     */
+    private static int column(String[] header, List<String> aliases) {
+        for (String alias : aliases) {
+            for (int i = 0; i < header.length; i++) {
+                if (header[i] != null && alias.equals(header[i].trim().toLowerCase(Locale.ROOT))) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * XLSX 시트 이벤트를 행 단위 배열로 모음 (빈 셀은 건너뛰므로 열 위치로 채움)
+     */
+    private final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final List<String> cells = new ArrayList<>();
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            accept(cells.toArray(new String[0]));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = new CellReference(cellReference).getCol();
+            while (cells.size() < column) {
+                cells.add(null);
+            }
+            cells.add(formattedValue);
+        }
+    }
+
+    /**
+     * 실사 행 처리기
+     */
+    @FunctionalInterface
+    interface CountHandler {
+        void accept(CountLine line);
+    }
+
+    /**
+     * 실사 행 (행 번호는 헤더 다음 행부터 1)
+     */
+    record CountLine(int lineNumber, String productCode, int quantity) {
+    }
+
+    /**
+     * 읽기 결과
+     *
+     * @param rows 읽은 데이터 행 수 (빈 행 제외)
+     * @param invalidRows 형식 오류로 건너뛴 행 수
+     */
+    record Result(int rows, int invalidRows) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.erp.inventory.service.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실사 수량과 창고 재고 해시 조인
+ * 실사 파일은 상품코드별 합계로 해시 맵에 모으고(여러 위치에서 센 같은 상품은 합산),
+ * 창고 재고는 커서로 한 번만 훑으며 맵을 조회해 차이를 계산합니다.
+ * 전수 실사면 파일에 없는 재고는 0개로 세고, 같은 상품 재고가 여러 행이면 실사 수량은 처음 조회한 행에 배정합니다
+ */
+final class StocktakingReconciler {
+
+    private final Map<String, Count> counts = new HashMap<>();
+    private final boolean fullCount;
+
+    StocktakingReconciler(boolean fullCount) {
+        this.fullCount = fullCount;
+    }
+
+    /**
+     * 실사 행 추가 (빌드 단계)
+     */
+    void count(StocktakingCountReader.CountLine line) {
+        Count count = counts.get(line.productCode());
+        if (count == null) {
+            counts.put(line.productCode(), new Count(line.lineNumber(), line.quantity()));
+        } else {
+            count.quantity = Math.addExact(count.quantity, line.quantity());
+        }
+    }
+
+    /**
+     * 창고 재고 한 행 대조 (조회 단계)
+     *
+     * @return 실사 차이 (차이가 없거나 세지 않은 재고를 부분 실사에서 조회하면 null)
+     */
+    Variance probe(long inventoryId, long productId, String productCode, String productName, int systemQuantity,
+                   BigDecimal unitCost) {
+        Count count = productCode == null ? null : counts.get(productCode);
+        int counted;
+        if (count != null && !count.matched) {
+            count.matched = true;
+            counted = count.quantity;
+        } else if (fullCount) {
+            counted = 0;
+        } else {
+            return null;
+        }
+        if (counted == systemQuantity) {
+            return null;
+        }
+        return new Variance(inventoryId, productId, productCode, productName, systemQuantity, counted,
+            unitCost != null ? unitCost : BigDecimal.ZERO);
+    }
+
+    /**
+     * 창고 재고와 대응되지 않은 실사 항목 (파일 행 순서)
+     */
+    List<Unmatched> unmatched() {
+        List<Unmatched> unmatched = new ArrayList<>();
+        counts.forEach((productCode, count) -> {
+            if (!count.matched) {
+                unmatched.add(new Unmatched(count.firstLine, productCode, count.quantity));
+            }
+        });
+        unmatched.sort((a, b) -> Integer.compare(a.lineNumber(), b.lineNumber()));
+        return unmatched;
+    }
+
+    /**
+     * 실사한 상품 수
+     */
+    int countedItems() {
+        return counts.size();
+    }
+
+    private static final class Count {
+        final int firstLine;
+        int quantity;
+        boolean matched;
+
+        Count(int firstLine, int quantity) {
+            this.firstLine = firstLine;
+            this.quantity = quantity;
+        }
+    }
+
+    /**
+     * 재고별 실사 차이
+     */
+    record Variance(long inventoryId, long productId, String productCode, String productName, int systemQuantity,
+                    int countedQuantity, BigDecimal unitCost) {
+
+        int difference() {
+            return countedQuantity - systemQuantity;
+        }
+
+        BigDecimal differenceValue() {
+            return unitCost.multiply(BigDecimal.valueOf(difference()));
+        }
+    }
+
+    /**
+     * 대응되지 않은 실사 항목 (창고에 재고 행이 없거나 없는 상품코드)
+     */
+    record Unmatched(int lineNumber, String productCode, int quantity) {
+    }
+}
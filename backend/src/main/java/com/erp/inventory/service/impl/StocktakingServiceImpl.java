@@ -0,0 +1,418 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.common.export.ExportFormat;
+import com.erp.common.security.JwtAuthenticationFilter;
+import com.erp.common.utils.ExceptionUtils;
+import com.erp.config.ExecutorConfig;
+import com.erp.inventory.dto.StocktakingDto;
+import com.erp.inventory.entity.StockMovement;
+import com.erp.inventory.entity.Warehouse;
+import com.erp.inventory.event.StockMovedEvent;
+import com.erp.inventory.repository.InventoryRepository;
+import com.erp.inventory.repository.WarehouseRepository;
+import com.erp.inventory.service.StocktakingService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재고 실사 파일 대사 서비스 구현체
+ * 업로드한 실사 파일을 임시 파일로 받아 작업 스레드에서 스트리밍으로 읽고, 창고 재고는 커서로 한 번만 훑어 차이를 계산합니다.
+ * 승인한 차이는 묶음 단위 트랜잭션으로 원장 엔진에 반영하며, 대사 세션은 메모리에만 두고 보관 시간이 지나면 정리합니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StocktakingServiceImpl implements StocktakingService {
+
+    private static final int ERROR_MESSAGE_LENGTH = 500;
+    private static final String DEFAULT_REASON = "재고 실사";
+
+    private final WarehouseRepository warehouseRepository;
+    private final StockLedgerEngine stockLedgerEngine;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    @Qualifier(ExecutorConfig.STOCKTAKING_EXECUTOR)
+    private final ThreadPoolTaskExecutor executor;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    @Value("${erp.inventory.stocktaking.batch-size:500}")
+    private int batchSize;
+
+    @Value("${erp.inventory.stocktaking.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${erp.inventory.stocktaking.session-ttl-hours:24}")
+    private int sessionTtlHours;
+
+    @PostConstruct
+    void createReadOnlyTemplate() {
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public StocktakingDto.SessionDto startReconciliation(Long warehouseId, String fileName, ExportFormat format,
+                                                         InputStream content, boolean fullCount) {
+        Warehouse warehouse = warehouseRepository.findById(warehouseId)
+            .orElseThrow(() -> ExceptionUtils.entityNotFoundException("창고를 찾을 수 없습니다: " + warehouseId));
+        evictExpiredSessions();
+
+        Path file;
+        try {
+            file = Files.createTempFile("stocktaking-", "." + format.getExtension());
+            Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw ExceptionUtils.businessException("실사 파일을 저장할 수 없습니다: " + e.getMessage());
+        }
+
+        Session session = new Session(UUID.randomUUID().toString(), warehouse.getId(), fileName, fullCount);
+        sessions.put(session.id, session);
+        try {
+            executor.execute(() -> reconcile(session, file, format));
+        } catch (TaskRejectedException e) {
+            sessions.remove(session.id);
+            deleteQuietly(file);
+            throw ExceptionUtils.businessException("실사 대사 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요");
+        }
+        log.info("실사 대사 접수 - 세션: {}, 창고: {}, 파일: {}, 전수 실사: {}",
+            session.id, warehouseId, fileName, fullCount);
+        return session.toDto();
+    }
+
+    @Override
+    public StocktakingDto.SessionDto getSession(String sessionId) {
+        return findSession(sessionId).toDto();
+    }
+
+    @Override
+    public List<StocktakingDto.VarianceDto> getVariances(String sessionId) {
+        Session session = findSession(sessionId);
+        List<StocktakingDto.VarianceDto> variances = new ArrayList<>(session.variances.size());
+        for (VarianceRow row : session.variances.values()) {
+            variances.add(row.toDto());
+        }
+        return variances;
+    }
+
+    @Override
+    public List<StocktakingDto.UnmatchedDto> getUnmatched(String sessionId) {
+        Session session = findSession(sessionId);
+        List<StocktakingDto.UnmatchedDto> unmatched = new ArrayList<>(session.unmatched.size());
+        for (StocktakingReconciler.Unmatched item : session.unmatched) {
+            unmatched.add(new StocktakingDto.UnmatchedDto(item.lineNumber(), item.productCode(), item.quantity()));
+        }
+        return unmatched;
+    }
+
+    @Override
+    public StocktakingDto.SessionDto applyVariances(String sessionId, StocktakingDto.ApplyRequestDto request) {
+        Session session = findSession(sessionId);
+        List<VarianceRow> targets;
+        synchronized (session) {
+            switch (session.status) {
+                case RECONCILED -> { }
+                case READING -> throw ExceptionUtils.businessException("대사가 끝나지 않은 실사 세션입니다");
+                case FAILED -> throw ExceptionUtils.businessException("실패한 실사 세션은 반영할 수 없습니다");
+                default -> throw ExceptionUtils.businessException("이미 반영한 실사 세션입니다");
+            }
+            targets = selectTargets(session, request.inventoryIds());
+            session.status = Status.APPLYING;
+            session.progress = 0;
+        }
+        String reason = request.reason() == null || request.reason().isBlank() ? DEFAULT_REASON : request.reason();
+        Long processedBy = JwtAuthenticationFilter.getCurrentUserId();
+        try {
+            executor.execute(() -> apply(session, targets, reason, processedBy));
+        } catch (TaskRejectedException e) {
+            session.status = Status.RECONCILED;
+            throw ExceptionUtils.businessException("실사 반영 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요");
+        }
+        log.info("실사 차이 반영 접수 - 세션: {}, 창고: {}, 대상: {}건", sessionId, session.warehouseId, targets.size());
+        return session.toDto();
+    }
+
+    /**
+     * 대사 실행 (작업 스레드)
+     * 실사 파일로 상품코드별 합계 맵을 만든 뒤 창고 재고 커서를 한 번 훑으며 맵을 조회합니다
+     */
+    void reconcile(Session session, Path file, ExportFormat format) {
+        try {
+            StocktakingReconciler reconciler = new StocktakingReconciler(session.fullCount);
+            StocktakingCountReader.Result read = StocktakingCountReader.read(file, format, line -> {
+                reconciler.count(line);
+                session.processedRows = line.lineNumber();
+            });
+            session.processedRows = read.rows();
+            session.invalidRows = read.invalidRows();
+            session.countedItems = reconciler.countedItems();
+            session.progress = 50;
+
+            List<StocktakingReconciler.Variance> variances = new ArrayList<>();
+            readOnlyTransactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(InventoryRepository.NATIVE_STOCKTAKING_CURSOR,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                ps.setLong(1, session.warehouseId);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                session.scannedInventories++;
+                StocktakingReconciler.Variance variance = reconciler.probe(rs.getLong(1), rs.getLong(2),
+                    rs.getString(3), rs.getString(4), rs.getInt(5), rs.getBigDecimal(6));
+                if (variance != null) {
+                    variances.add(variance);
+                }
+            }));
+
+            variances.sort(Comparator.comparing((StocktakingReconciler.Variance v) -> v.differenceValue().abs())
+                .reversed().thenComparing(StocktakingReconciler.Variance::inventoryId));
+            session.complete(variances, reconciler.unmatched());
+            log.info("실사 대사 완료 - 세션: {}, 파일 행: {}(오류 {}), 재고: {}건, 차이: {}건, 미대응: {}건",
+                session.id, session.processedRows, session.invalidRows, session.scannedInventories,
+                session.variances.size(), session.unmatched.size());
+        } catch (Exception e) {
+            session.fail(e);
+            log.warn("실사 대사 실패 - 세션: {}, 오류: {}", session.id, e.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * 승인한 차이 반영 (작업 스레드)
+     * 묶음마다 트랜잭션을 나눠 잠금 시간을 줄이고, 재고 변경 이벤트는 커밋 후 처리되도록 트랜잭션 안에서 발행합니다
+     */
+    void apply(Session session, List<VarianceRow> targets, String reason, Long processedBy) {
+        String referenceNumber = "ST-" + session.id.substring(0, 8);
+        String description = "실사 파일: " + session.fileName;
+        int done = 0;
+        try {
+            for (int from = 0; from < targets.size(); from += batchSize) {
+                List<VarianceRow> chunk = targets.subList(from, Math.min(from + batchSize, targets.size()));
+                long[] inventoryIds = new long[chunk.size()];
+                int[] deltas = new int[chunk.size()];
+                for (int i = 0; i < chunk.size(); i++) {
+                    inventoryIds[i] = chunk.get(i).variance.inventoryId();
+                    deltas[i] = chunk.get(i).variance.difference();
+                }
+                List<StockLedgerEngine.Entry> entries = transactionTemplate.execute(status -> {
+                    List<StockLedgerEngine.Entry> applied = stockLedgerEngine.applyStocktaking(session.warehouseId,
+                        inventoryIds, deltas, referenceNumber, reason, description, processedBy);
+                    for (StockLedgerEngine.Entry entry : applied) {
+                        int delta = entry.afterStock() - entry.beforeStock();
+                        eventPublisher.publishEvent(new StockMovedEvent(entry.companyId(), entry.inventoryId(),
+                            entry.productId(), entry.warehouseId(), delta > 0
+                                ? StockMovement.MovementType.STOCKTAKING_INCREASE
+                                : StockMovement.MovementType.STOCKTAKING_DECREASE,
+                            delta, entry.afterStock(), entry.availableQuantity(), entry.reorderPoint()));
+                    }
+                    return applied;
+                });
+                Set<Long> appliedIds = new HashSet<>();
+                for (StockLedgerEngine.Entry entry : entries) {
+                    appliedIds.add(entry.inventoryId());
+                }
+                for (VarianceRow row : chunk) {
+                    if (appliedIds.contains(row.variance.inventoryId())) {
+                        row.status = VarianceStatus.APPLIED;
+                        session.appliedCount++;
+                    } else {
+                        row.status = VarianceStatus.REJECTED;
+                        session.rejectedCount++;
+                    }
+                }
+                done += chunk.size();
+                session.progress = done * 100 / targets.size();
+            }
+            session.status = Status.APPLIED;
+            session.progress = 100;
+            session.completedAt = LocalDateTime.now();
+            log.info("실사 차이 반영 완료 - 세션: {}, 창고: {}, 반영: {}건, 거부: {}건",
+                session.id, session.warehouseId, session.appliedCount, session.rejectedCount);
+        } catch (Exception e) {
+            session.fail(e);
+            log.warn("실사 차이 반영 실패 - 세션: {}, 반영: {}건 이후 오류: {}", session.id, done, e.getMessage());
+        }
+    }
+
+    /**
+     * 반영 대상 (요청한 재고가 없으면 모든 차이)
+     */
+    private static List<VarianceRow> selectTargets(Session session, List<Long> inventoryIds) {
+        if (inventoryIds == null || inventoryIds.isEmpty()) {
+            return new ArrayList<>(session.variances.values());
+        }
+        List<VarianceRow> targets = new ArrayList<>(inventoryIds.size());
+        for (Long inventoryId : new LinkedHashSet<>(inventoryIds)) {
+            VarianceRow row = session.variances.get(inventoryId);
+            if (row == null) {
+                throw ExceptionUtils.businessException("실사 차이가 없는 재고입니다: " + inventoryId);
+            }
+            targets.add(row);
+        }
+        return targets;
+    }
+
+    private Session findSession(String sessionId) {
+        Session session = sessionId == null ? null : sessions.get(sessionId);
+        if (session == null) {
+            throw ExceptionUtils.entityNotFoundException("실사 세션을 찾을 수 없습니다: " + sessionId);
+        }
+        return session;
+    }
+
+    /**
+     * 보관 시간이 지난 종료 세션 정리
+     */
+    private void evictExpiredSessions() {
+        LocalDateTime expiry = LocalDateTime.now().minusHours(sessionTtlHours);
+        sessions.values().removeIf(session -> session.status.finished() && session.startedAt.isBefore(expiry));
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("실사 임시 파일 삭제 실패 - {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 대사 세션 상태
+     */
+    enum Status {
+        READING, RECONCILED, APPLYING, APPLIED, FAILED;
+
+        boolean finished() {
+            return this == RECONCILED || this == APPLIED || this == FAILED;
+        }
+    }
+
+    /**
+     * 실사 차이 반영 상태
+     */
+    enum VarianceStatus {
+        PENDING, APPLIED, REJECTED
+    }
+
+    /**
+     * 대사 세션 (작업 스레드 하나가 갱신하고 조회 요청은 volatile 값만 읽음)
+     */
+    static final class Session {
+        final String id;
+        final Long warehouseId;
+        final String fileName;
+        final boolean fullCount;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        volatile Status status = Status.READING;
+        volatile int progress;
+        volatile int processedRows;
+        volatile int invalidRows;
+        volatile int countedItems;
+        volatile int scannedInventories;
+        volatile int appliedCount;
+        volatile int rejectedCount;
+        volatile long increaseQuantity;
+        volatile long decreaseQuantity;
+        volatile BigDecimal varianceValue = BigDecimal.ZERO;
+        volatile Map<Long, VarianceRow> variances = Map.of();
+        volatile List<StocktakingReconciler.Unmatched> unmatched = List.of();
+        volatile String errorMessage;
+        volatile LocalDateTime completedAt;
+
+        Session(String id, Long warehouseId, String fileName, boolean fullCount) {
+            this.id = id;
+            this.warehouseId = warehouseId;
+            this.fileName = fileName;
+            this.fullCount = fullCount;
+        }
+
+        void complete(List<StocktakingReconciler.Variance> found, List<StocktakingReconciler.Unmatched> notFound) {
+            Map<Long, VarianceRow> rows = new LinkedHashMap<>();
+            long increase = 0;
+            long decrease = 0;
+            BigDecimal value = BigDecimal.ZERO;
+            for (StocktakingReconciler.Variance variance : found) {
+                rows.put(variance.inventoryId(), new VarianceRow(variance));
+                if (variance.difference() > 0) {
+                    increase += variance.difference();
+                } else {
+                    decrease -= variance.difference();
+                }
+                value = value.add(variance.differenceValue());
+            }
+            increaseQuantity = increase;
+            decreaseQuantity = decrease;
+            varianceValue = value;
+            variances = rows;
+            unmatched = notFound;
+            progress = 100;
+            completedAt = LocalDateTime.now();
+            status = Status.RECONCILED;
+        }
+
+        void fail(Exception e) {
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            errorMessage = message.length() > ERROR_MESSAGE_LENGTH ? message.substring(0, ERROR_MESSAGE_LENGTH) : message;
+            completedAt = LocalDateTime.now();
+            status = Status.FAILED;
+        }
+
+        StocktakingDto.SessionDto toDto() {
+            return new StocktakingDto.SessionDto(id, warehouseId, fileName, status.name(), progress, processedRows,
+                invalidRows, countedItems, scannedInventories, variances.size(), unmatched.size(), increaseQuantity,
+                decreaseQuantity, varianceValue, appliedCount, rejectedCount, errorMessage, startedAt, completedAt);
+        }
+    }
+
+    /**
+     * 세션에 보관하는 실사 차이
+     */
+    static final class VarianceRow {
+        final StocktakingReconciler.Variance variance;
+        volatile VarianceStatus status = VarianceStatus.PENDING;
+
+        VarianceRow(StocktakingReconciler.Variance variance) {
+            this.variance = variance;
+        }
+
+        StocktakingDto.VarianceDto toDto() {
+            return new StocktakingDto.VarianceDto(variance.inventoryId(), variance.productId(),
+                variance.productCode(), variance.productName(), variance.systemQuantity(),
+                variance.countedQuantity(), variance.difference(), variance.unitCost(), variance.differenceValue(),
+                status.name());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.erp.sales.controller;
 
 import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.sales.dto.CustomerDto;
 import com.erp.sales.entity.Customer;
 import com.erp.sales.service.CustomerService;
@@ -152,6 +153,26 @@ public class CustomerController {
         }
     }
 
+    @GetMapping("/company/{companyId}/slice")
+    @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "회사별 고객 슬라이스 조회", description = "COUNT 쿼리 없이 고객 목록/검색 결과를 조회합니다 (건수는 count 파라미터로 요청)")
+    public ResponseEntity<ApiResponse<ApiResponse.SliceResponse<CustomerDto.CustomerSummaryDto>>> getCustomerSlice(
+            @Parameter(description = "회사 ID") @PathVariable Long companyId,
+            @Parameter(description = "검색어") @RequestParam(required = false) String searchTerm,
+            @Parameter(description = "건수 조회 방식") @RequestParam(defaultValue = "NONE") CountMode count,
+            @PageableDefault(size = 20) Pageable pageable) {
+        try {
+            log.info("고객 슬라이스 조회 API 호출: companyId={}, searchTerm={}, count={}", companyId, searchTerm, count);
+            ApiResponse.SliceResponse<CustomerDto.CustomerSummaryDto> response =
+                    customerService.getCustomerSlice(companyId, searchTerm, pageable, count);
+            return ResponseEntity.ok(ApiResponse.successWithSlice("고객 목록 조회 성공", response));
+        } catch (Exception e) {
+            log.error("고객 슬라이스 조회 실패: companyId={}, {}", companyId, e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("고객 목록 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/company/{companyId}/search")
     @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
     @Operation(summary = "고객 검색", description = "고객명, 코드, 이메일, 전화번호로 고객을 검색합니다")
@@ -1,6 +1,7 @@
 package com.erp.sales.controller;
 
 import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.sales.dto.OrderDto;
 import com.erp.sales.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -53,6 +54,30 @@ public class OrderController {
         }
     }
 
+    /**
+     * 주문 목록/검색 슬라이스 조회 (COUNT 쿼리 없음)
+     */
+    @GetMapping("/company/{companyId}/slice")
+    @PreAuthorize("hasRole('USER') or hasRole('MANAGER') or hasRole('ADMIN')")
+    @Operation(summary = "주문 슬라이스 조회", description = "COUNT 쿼리 없이 주문 목록/검색 결과를 조회합니다 (건수는 count 파라미터로 요청)")
+    public ResponseEntity<ApiResponse<ApiResponse.SliceResponse<OrderDto.OrderResponseDto>>> getOrderSlice(
+            @Parameter(description = "회사 ID") @PathVariable Long companyId,
+            @Parameter(description = "주문번호 검색어") @RequestParam(required = false) String searchTerm,
+            @Parameter(description = "건수 조회 방식") @RequestParam(defaultValue = "NONE") CountMode count,
+            @PageableDefault(size = 20) Pageable pageable) {
+        try {
+            log.info("주문 슬라이스 조회 API 호출: companyId={}, searchTerm={}, page={}, size={}, count={}",
+                    companyId, searchTerm, pageable.getPageNumber(), pageable.getPageSize(), count);
+            ApiResponse.SliceResponse<OrderDto.OrderResponseDto> response =
+                    orderService.getOrderSlice(companyId, searchTerm, pageable, count);
+            return ResponseEntity.ok(ApiResponse.successWithSlice("주문 목록 조회 성공", response));
+        } catch (Exception e) {
+            log.error("주문 슬라이스 조회 실패: companyId={}, {}", companyId, e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("주문 목록 조회에 실패했습니다: " + e.getMessage()));
+        }
+    }
+
     /**
      * 주문 상세 조회
      */
@@ -3,6 +3,7 @@ package com.erp.sales.repository;
 import com.erp.sales.entity.Customer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -26,6 +27,12 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     @EntityGraph(attributePaths = {"company"})
     Page<Customer> findByCompanyIdAndIsDeletedFalse(Long companyId, Pageable pageable);
 
+    /**
+     * 회사별 고객 조회 (슬라이스, COUNT 쿼리 없음)
+     */
+    @EntityGraph(attributePaths = {"company"})
+    Slice<Customer> findSliceByCompanyIdAndIsDeletedFalse(Long companyId, Pageable pageable);
+
     /**
      * 회사별 모든 고객 조회 (페이징 없음)
      */
@@ -100,6 +107,27 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
            "OR c.phoneNumber LIKE CONCAT('%', :searchTerm, '%'))")
     Page<Customer> searchCustomers(@Param("companyId") Long companyId, @Param("searchTerm") String searchTerm, Pageable pageable);
 
+    /**
+     * 고객 검색 (슬라이스, COUNT 쿼리 없음)
+     */
+    @EntityGraph(attributePaths = {"company"})
+    @Query("SELECT c FROM Customer c WHERE c.company.id = :companyId AND c.isDeleted = false " +
+           "AND (LOWER(c.customerName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "OR LOWER(c.customerCode) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "OR LOWER(c.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "OR c.phoneNumber LIKE CONCAT('%', :searchTerm, '%'))")
+    Slice<Customer> searchCustomerSlice(@Param("companyId") Long companyId, @Param("searchTerm") String searchTerm, Pageable pageable);
+
+    /**
+     * 고객 검색 결과 수
+     */
+    @Query("SELECT COUNT(c) FROM Customer c WHERE c.company.id = :companyId AND c.isDeleted = false " +
+           "AND (LOWER(c.customerName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "OR LOWER(c.customerCode) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "OR LOWER(c.email) LIKE LOWER(CONCAT('%', :searchTerm, '%')) " +
+           "OR c.phoneNumber LIKE CONCAT('%', :searchTerm, '%'))")
+    long countSearchCustomers(@Param("companyId") Long companyId, @Param("searchTerm") String searchTerm);
+
     /**
      * 고급 검색
      */
@@ -3,6 +3,7 @@ package com.erp.sales.repository;
 import com.erp.sales.entity.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -35,6 +36,22 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Page<Order> findByCompanyIdAndOrderNumberContainingIgnoreCaseAndIsDeletedFalse(
             Long companyId, String orderNumber, Pageable pageable);
 
+    /**
+     * 회사별 주문 목록 조회 (슬라이스, COUNT 쿼리 없음)
+     */
+    Slice<Order> findSliceByCompanyIdAndIsDeletedFalse(Long companyId, Pageable pageable);
+
+    /**
+     * 주문번호로 검색 (슬라이스, COUNT 쿼리 없음)
+     */
+    Slice<Order> findSliceByCompanyIdAndOrderNumberContainingIgnoreCaseAndIsDeletedFalse(
+            Long companyId, String orderNumber, Pageable pageable);
+
+    /**
+     * 주문번호 검색 결과 수
+     */
+    long countByCompanyIdAndOrderNumberContainingIgnoreCaseAndIsDeletedFalse(Long companyId, String orderNumber);
+
     /**
      * 주문번호로 검색 (삭제되지 않은 것만) - List
      */
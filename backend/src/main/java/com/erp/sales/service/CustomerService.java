@@ -1,5 +1,7 @@
 package com.erp.sales.service;
 
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.sales.dto.CustomerDto;
 import com.erp.sales.entity.Customer;
 import org.springframework.data.domain.Page;
@@ -55,6 +57,12 @@ public interface CustomerService {
      */
     Page<CustomerDto.CustomerSummaryDto> searchCustomers(Long companyId, String searchTerm, Pageable pageable);
 
+    /**
+     * 회사별 고객 목록/검색 (슬라이스, 건수는 요청 시에만 조회)
+     */
+    ApiResponse.SliceResponse<CustomerDto.CustomerSummaryDto> getCustomerSlice(Long companyId, String searchTerm,
+                                                                              Pageable pageable, CountMode countMode);
+
     /**
      * 고급 검색
      */
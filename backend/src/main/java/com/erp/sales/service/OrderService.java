@@ -1,5 +1,7 @@
 package com.erp.sales.service;
 
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.sales.dto.OrderDto;
 import com.erp.sales.entity.Order;
 import org.springframework.data.domain.Page;
@@ -45,6 +47,12 @@ public interface OrderService {
      */
     Page<OrderDto.OrderResponseDto> searchOrders(Long companyId, String searchTerm, Pageable pageable);
 
+    /**
+     * 주문 목록/검색 (슬라이스, 건수는 요청 시에만 조회)
+     */
+    ApiResponse.SliceResponse<OrderDto.OrderResponseDto> getOrderSlice(Long companyId, String searchTerm,
+                                                                       Pageable pageable, CountMode countMode);
+
     /**
      * 상태별 주문 조회
      */
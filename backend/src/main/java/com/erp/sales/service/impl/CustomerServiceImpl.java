@@ -1,8 +1,12 @@
 package com.erp.sales.service.impl;
 
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.common.entity.Company;
 import com.erp.common.repository.CompanyRepository;
+import com.erp.common.service.impl.ListCountCache;
 import com.erp.common.utils.ExceptionUtils;
+import com.erp.common.utils.PageableUtils;
 import com.erp.hr.entity.Employee;
 import com.erp.hr.repository.EmployeeRepository;
 import com.erp.sales.dto.CustomerDto;
@@ -13,6 +17,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,9 +38,15 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CustomerServiceImpl implements CustomerService {
 
+    /**
+     * 고객 슬라이스 기본 정렬 (고객 코드순)
+     */
+    static final Sort DEFAULT_SLICE_SORT = Sort.by(Sort.Direction.ASC, "customerCode");
+
     private final CustomerRepository customerRepository;
     private final CompanyRepository companyRepository;
     private final EmployeeRepository employeeRepository;
+    private final ListCountCache listCountCache;
 
     @Override
     @Transactional
@@ -130,6 +142,25 @@ public class CustomerServiceImpl implements CustomerService {
                 .map(this::mapToSummaryDto);
     }
 
+    @Override
+    public ApiResponse.SliceResponse<CustomerDto.CustomerSummaryDto> getCustomerSlice(Long companyId, String searchTerm,
+                                                                                     Pageable pageable, CountMode countMode) {
+        boolean search = searchTerm != null && !searchTerm.isBlank();
+        Pageable ordered = PageableUtils.withStableOrder(pageable, DEFAULT_SLICE_SORT);
+        Slice<CustomerDto.CustomerSummaryDto> customers = (search
+                ? customerRepository.searchCustomerSlice(companyId, searchTerm, ordered)
+                : customerRepository.findSliceByCompanyIdAndIsDeletedFalse(companyId, ordered))
+                .map(this::mapToSummaryDto);
+
+        Long totalElements = listCountCache.count(countMode,
+                "customers:" + companyId + ":" + (search ? searchTerm : ""),
+                () -> search
+                        ? customerRepository.countSearchCustomers(companyId, searchTerm)
+                        : customerRepository.countByCompanyIdAndIsDeletedFalse(companyId));
+
+        return ApiResponse.SliceResponse.of(customers, totalElements, countMode);
+    }
+
     @Override
     public Page<CustomerDto.CustomerSummaryDto> searchCustomersAdvanced(Long companyId, CustomerDto.CustomerSearchDto searchDto, Pageable pageable) {
         return customerRepository.searchCustomersAdvanced(
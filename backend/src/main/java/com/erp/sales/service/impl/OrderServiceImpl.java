@@ -2,7 +2,11 @@ package com.erp.sales.service.impl;
 
 import com.erp.common.entity.Company;
 import com.erp.common.entity.User;
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
 import com.erp.common.service.NotificationService;
+import com.erp.common.service.impl.ListCountCache;
+import com.erp.common.utils.PageableUtils;
 import com.erp.sales.entity.Customer;
 import com.erp.sales.entity.Order;
 import com.erp.sales.dto.OrderDto;
@@ -14,6 +18,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +36,11 @@ import java.util.Optional;
 @Transactional
 public class OrderServiceImpl implements OrderService {
 
+    /**
+     * 주문 슬라이스 기본 정렬 (주문일 최신순)
+     */
+    static final Sort DEFAULT_SLICE_SORT = Sort.by(Sort.Direction.DESC, "orderDate");
+
     @Autowired
     private OrderRepository orderRepository;
 
@@ -42,6 +53,9 @@ public class OrderServiceImpl implements OrderService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private ListCountCache listCountCache;
+
 
     @Override
     @Transactional(readOnly = true)
@@ -162,6 +176,31 @@ public class OrderServiceImpl implements OrderService {
         return orders.map(OrderDto.OrderResponseDto::from);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse.SliceResponse<OrderDto.OrderResponseDto> getOrderSlice(Long companyId, String searchTerm,
+                                                                              Pageable pageable, CountMode countMode) {
+        log.info("주문 슬라이스 조회 요청: companyId={}, searchTerm={}, page={}, size={}, count={}",
+                companyId, searchTerm, pageable.getPageNumber(), pageable.getPageSize(), countMode);
+
+        boolean search = searchTerm != null && !searchTerm.isBlank();
+        Pageable ordered = PageableUtils.withStableOrder(pageable, DEFAULT_SLICE_SORT);
+        Slice<OrderDto.OrderResponseDto> orders = (search
+                ? orderRepository.findSliceByCompanyIdAndOrderNumberContainingIgnoreCaseAndIsDeletedFalse(
+                        companyId, searchTerm, ordered)
+                : orderRepository.findSliceByCompanyIdAndIsDeletedFalse(companyId, ordered))
+                .map(OrderDto.OrderResponseDto::from);
+
+        Long totalElements = listCountCache.count(countMode,
+                "orders:" + companyId + ":" + (search ? searchTerm : ""),
+                () -> search
+                        ? orderRepository.countByCompanyIdAndOrderNumberContainingIgnoreCaseAndIsDeletedFalse(
+                                companyId, searchTerm)
+                        : orderRepository.countByCompanyIdAndIsDeletedFalse(companyId));
+
+        return ApiResponse.SliceResponse.of(orders, totalElements, countMode);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<OrderDto.OrderSummaryDto> getOrdersByStatus(Long companyId, Order.OrderStatus status) {
@@ -0,0 +1,91 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.ReportSnapshotLineDto;
+import com.erp.accounting.entity.Account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재무상태 변동 조립기 테스트
+ * 계정 분류별 기간 증감으로 간접법 현금흐름과 자본 변동을 계산하는지 확인합니다
+ */
+class BalanceChangeAssemblerTest {
+
+    private static final Account.AccountType ASSET = Account.AccountType.ASSET;
+    private static final Account.AccountType LIABILITY = Account.AccountType.LIABILITY;
+    private static final Account.AccountType EQUITY = Account.AccountType.EQUITY;
+
+    @Test
+    @DisplayName("당기순이익에서 출발해 활동별 현금흐름을 계산하고 현금 증감과 대사")
+    void cashFlowReconcilesWithCashBalance() {
+        // Given: 기초 현금 1,000 / 자본금 1,000, 기간 중 매출 500(외상 200), 비용 100, 설비 300 취득,
+        // 감가상각 50, 차입 400, 매입채무 80 증가
+        BalanceChangeAssembler assembler = new BalanceChangeAssembler();
+        assembler.accept(ASSET, Account.AccountCategory.CURRENT_ASSET, true, "보통예금",
+            900_00L, 150_00L, 50_00L, 700_00L, 320_00L);
+        assembler.accept(ASSET, Account.AccountCategory.CURRENT_ASSET, true, "외상매출금",
+            0, 0, 0, 200_00L, 0);
+        assembler.accept(ASSET, Account.AccountCategory.FIXED_ASSET, true, "기계장치",
+            0, 0, 0, 300_00L, 0);
+        assembler.accept(ASSET, Account.AccountCategory.FIXED_ASSET, false, "감가상각누계액",
+            0, 0, 0, 0, 50_00L);
+        assembler.accept(LIABILITY, Account.AccountCategory.CURRENT_LIABILITY, false, "매입채무",
+            0, 0, 0, 0, 80_00L);
+        assembler.accept(LIABILITY, Account.AccountCategory.LONG_TERM_LIABILITY, false, "장기차입금",
+            0, 0, 0, 0, 400_00L);
+        assembler.accept(EQUITY, Account.AccountCategory.CAPITAL, false, "자본금",
+            900_00L, 50_00L, 150_00L, 0, 0);
+        assembler.accept(Account.AccountType.REVENUE, Account.AccountCategory.OPERATING_REVENUE, false, "매출",
+            0, 0, 0, 0, 500_00L);
+        assembler.accept(Account.AccountType.EXPENSE, Account.AccountCategory.OPERATING_EXPENSE, true, "급여",
+            0, 0, 0, 100_00L, 0);
+        assembler.accept(Account.AccountType.EXPENSE, Account.AccountCategory.OPERATING_EXPENSE, true,
+            "감가상각비", 0, 0, 0, 50_00L, 0);
+
+        // Then: 순이익 350 + 감가상각 50 - 매출채권 200 + 매입채무 80 = 영업 280, 투자 -300, 재무 400
+        assertThat(assembler.netIncome()).isEqualTo(350_00L);
+        assertThat(assembler.sectionTotal(BalanceChangeAssembler.Section.OPERATING)).isEqualTo(280_00L);
+        assertThat(assembler.sectionTotal(BalanceChangeAssembler.Section.INVESTING)).isEqualTo(-300_00L);
+        assertThat(assembler.sectionTotal(BalanceChangeAssembler.Section.FINANCING)).isEqualTo(400_00L);
+        assertThat(assembler.cashOpening()).isEqualTo(1_000_00L);
+        assertThat(assembler.cashClosing()).isEqualTo(1_380_00L);
+        assertThat(assembler.netCashChange()).isEqualTo(assembler.cashClosing() - assembler.cashOpening());
+
+        List<ReportSnapshotLineDto> lines = assembler.cashFlowLines();
+        assertThat(lines).extracting(ReportSnapshotLineDto::lineNumber)
+            .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14);
+        assertThat(lines.get(lines.size() - 1).itemCode()).isEqualTo("UNRECONCILED");
+        assertThat(lines.get(lines.size() - 1).balance()).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("자본 구성요소별 기초잔액과 증감을 나누고 당기순이익은 이익잉여금에 반영")
+    void equityStatementByComponent() {
+        BalanceChangeAssembler assembler = new BalanceChangeAssembler();
+        assembler.accept(EQUITY, Account.AccountCategory.CAPITAL, false, "자본금",
+            5_000_00L, 0, 0, 0, 1_000_00L);
+        assembler.accept(EQUITY, Account.AccountCategory.CAPITAL, false, "이익잉여금",
+            2_000_00L, 0, 0, 300_00L, 0);
+        assembler.accept(EQUITY, Account.AccountCategory.CAPITAL, true, "자기주식",
+            100_00L, 0, 0, 0, 0);
+        assembler.accept(Account.AccountType.REVENUE, Account.AccountCategory.NON_OPERATING_REVENUE, false,
+            "이자수익", 0, 0, 0, 0, 700_00L);
+
+        assertThat(assembler.equityClosing(BalanceChangeAssembler.EquityComponent.CAPITAL_STOCK))
+            .isEqualTo(6_000_00L);
+        assertThat(assembler.equityClosing(BalanceChangeAssembler.EquityComponent.RETAINED_EARNINGS))
+            .isEqualTo(2_400_00L);
+        assertThat(assembler.equityClosing(BalanceChangeAssembler.EquityComponent.OTHER_EQUITY))
+            .isEqualTo(-100_00L);
+        assertThat(assembler.totalEquityClosing()).isEqualTo(8_300_00L);
+        assertThat(assembler.equityLines())
+            .filteredOn(line -> "TOTAL_CLOSING".equals(line.itemCode()))
+            .singleElement()
+            .extracting(ReportSnapshotLineDto::balance)
+            .satisfies(balance -> assertThat(balance).isEqualByComparingTo("8300"));
+    }
+}
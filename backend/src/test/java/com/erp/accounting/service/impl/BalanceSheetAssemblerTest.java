@@ -0,0 +1,82 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.entity.Account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재무상태표 조립기 테스트
+ * 계정과목별 잔액 분류와 대규모 계정과목 체계의 처리 시간을 확인합니다
+ */
+class BalanceSheetAssemblerTest {
+
+    @Test
+    @DisplayName("잔액 집계 행을 유동/비유동, 현금성 자산으로 분류")
+    void classifiesBalances() {
+        // Given
+        List<Object[]> rows = List.of(
+            row(1L, Account.AccountType.ASSET, Account.AccountCategory.CURRENT_ASSET, true, "보통예금", "100", "50", "30"),
+            row(2L, Account.AccountType.ASSET, Account.AccountCategory.CURRENT_ASSET, true, "외상매출금", "0", "200", "0"),
+            row(3L, Account.AccountType.ASSET, Account.AccountCategory.FIXED_ASSET, true, "건물", "1000", "0", "0"),
+            row(4L, Account.AccountType.LIABILITY, Account.AccountCategory.CURRENT_LIABILITY, false, "외상매입금", "0", "10", "90"),
+            row(5L, Account.AccountType.LIABILITY, Account.AccountCategory.LONG_TERM_LIABILITY, false, "장기차입금", "500", "0", "0"),
+            row(6L, Account.AccountType.EQUITY, Account.AccountCategory.CAPITAL, false, "자본금", "720", "0", "0"));
+
+        // When
+        long[] totals = BalanceSheetAssembler.assemble(rows);
+
+        // Then (1/100 단위)
+        assertThat(totals[BalanceSheetAssembler.CASH_AND_EQUIVALENTS]).isEqualTo(120_00L);
+        assertThat(totals[BalanceSheetAssembler.CURRENT_ASSETS]).isEqualTo(320_00L);
+        assertThat(totals[BalanceSheetAssembler.NON_CURRENT_ASSETS]).isEqualTo(1_000_00L);
+        assertThat(totals[BalanceSheetAssembler.TOTAL_ASSETS]).isEqualTo(1_320_00L);
+        assertThat(totals[BalanceSheetAssembler.CURRENT_LIABILITIES]).isEqualTo(80_00L);
+        assertThat(totals[BalanceSheetAssembler.NON_CURRENT_LIABILITIES]).isEqualTo(500_00L);
+        assertThat(totals[BalanceSheetAssembler.TOTAL_LIABILITIES]).isEqualTo(580_00L);
+        assertThat(totals[BalanceSheetAssembler.TOTAL_EQUITY]).isEqualTo(720_00L);
+    }
+
+    @Test
+    @DisplayName("계정과목 20만 개 분류가 1초 이내 (계정과목 수와 무관하게 쿼리 1회 결과만 순회)")
+    void classifiesLargeChartQuickly() {
+        // Given
+        int accountCount = 200_000;
+        Account.AccountType[] types = {Account.AccountType.ASSET, Account.AccountType.LIABILITY, Account.AccountType.EQUITY};
+        Account.AccountCategory[] categories = {
+            Account.AccountCategory.CURRENT_ASSET, Account.AccountCategory.CURRENT_LIABILITY, Account.AccountCategory.CAPITAL
+        };
+        List<Object[]> rows = new ArrayList<>(accountCount);
+        for (int i = 0; i < accountCount; i++) {
+            int t = i % 3;
+            rows.add(row((long) i, types[t], categories[t], t == 0, i % 7 == 0 ? "예금" + i : "계정" + i,
+                "0", t == 0 ? "1.00" : "0", t == 0 ? "0" : "1.00"));
+        }
+
+        // When
+        long started = System.nanoTime();
+        long[] totals = BalanceSheetAssembler.assemble(rows);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Then
+        long assetAccounts = (accountCount + 2) / 3;
+        assertThat(totals[BalanceSheetAssembler.TOTAL_ASSETS]).isEqualTo(assetAccounts * 100L);
+        assertThat(totals[BalanceSheetAssembler.TOTAL_LIABILITIES] + totals[BalanceSheetAssembler.TOTAL_EQUITY])
+            .isEqualTo((accountCount - assetAccounts) * 100L);
+        assertThat(elapsedMillis).isLessThan(1_000);
+    }
+
+    private static Object[] row(Long id, Account.AccountType type, Account.AccountCategory category, boolean debitNormal,
+                                String name, String opening, String debit, String credit) {
+        return new Object[]{
+            id, type.name(), category.name(),
+            debitNormal ? Account.DebitCreditType.DEBIT.name() : Account.DebitCreditType.CREDIT.name(),
+            name, new BigDecimal(opening), new BigDecimal(debit), new BigDecimal(credit)
+        };
+    }
+}
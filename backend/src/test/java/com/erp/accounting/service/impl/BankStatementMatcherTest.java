@@ -0,0 +1,147 @@
+package com.erp.accounting.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 은행 거래내역 대사 매처 테스트
+ * 정확 일치, 유사 일치, 미대사 처리와 대량 거래내역 처리 시간을 확인합니다
+ */
+class BankStatementMatcherTest {
+
+    private static final LocalDate BASE = LocalDate.of(2024, 3, 1);
+
+    @Test
+    @DisplayName("같은 금액/거래처는 가장 가까운 날짜와 정확 일치, 한 번 일치한 거래는 재사용하지 않음")
+    void exactMatchPicksNearestDateOnce() {
+        // Given
+        BankStatementMatcher matcher = new BankStatementMatcher(4);
+        matcher.add(10L, BASE, 150_000_00L, "(주)한빛상사");
+        matcher.add(11L, BASE.plusDays(2), 150_000_00L, "한빛상사");
+        matcher.add(12L, BASE.plusDays(1), -30_000_00L, "전력공사");
+
+        // When
+        int first = matcher.matchExact(BASE.plusDays(2), 150_000_00L, "한빛 상사 주식회사");
+        int second = matcher.matchExact(BASE.plusDays(2), 150_000_00L, "한빛상사");
+        int third = matcher.matchExact(BASE.plusDays(2), 150_000_00L, "한빛상사");
+
+        // Then
+        assertThat(matcher.transactionId(first)).isEqualTo(11L);
+        assertThat(matcher.transactionId(second)).isEqualTo(10L);
+        assertThat(third).isEqualTo(BankStatementMatcher.NO_MATCH);
+        assertThat(matcher.matchExact(BASE.plusDays(5), -30_000_00L, "전력공사"))
+            .isEqualTo(BankStatementMatcher.NO_MATCH);
+        assertThat(matcher.unmatchedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정확 일치하지 않는 행은 날짜/거래처 점수로 유사 일치, 기준 미달은 미대사")
+    void fuzzyMatchScoresDateAndName() {
+        // Given
+        BankStatementMatcher matcher = new BankStatementMatcher(4);
+        matcher.add(20L, BASE, 52_000_00L, "대한물류센터");
+        matcher.add(21L, BASE, 52_000_00L, "서울식당");
+        matcher.add(22L, BASE, 99_000_00L, null);
+
+        // When
+        int byName = matcher.matchFuzzy(BASE.plusDays(4), 52_000_00L, "대한물류");
+        double byNameScore = matcher.lastScore();
+        int noName = matcher.matchFuzzy(BASE.plusDays(1), 99_000_00L, "");
+        int tooFar = matcher.matchFuzzy(BASE.plusDays(10), 52_000_00L, "서울식당");
+        int wrongAmount = matcher.matchFuzzy(BASE, 52_001_00L, "서울식당");
+
+        // Then
+        assertThat(matcher.transactionId(byName)).isEqualTo(20L);
+        assertThat(byNameScore).isGreaterThanOrEqualTo(BankStatementMatcher.FUZZY_THRESHOLD);
+        assertThat(matcher.transactionId(noName)).isEqualTo(22L);
+        assertThat(tooFar).isEqualTo(BankStatementMatcher.NO_MATCH);
+        assertThat(wrongAmount).isEqualTo(BankStatementMatcher.NO_MATCH);
+    }
+
+    @Test
+    @DisplayName("거래내역서 CSV의 입금/출금 열과 날짜 형식, 오류 행 처리")
+    void readerParsesDepositWithdrawalColumns() throws Exception {
+        // Given
+        String csv = "\uFEFF거래일자,적요,입금액,출금액,메모\n" +
+            "2024.03.01,한빛상사,\"1,500,000\",,3월 대금\n" +
+            "20240302,전력공사,,30000,\n" +
+            "잘못된날짜,오류,100,,\n" +
+            "\n";
+
+        // When
+        List<BankStatementReader.StatementLine> lines = new ArrayList<>();
+        int invalid;
+        try (BankStatementReader reader = new BankStatementReader(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            BankStatementReader.StatementLine line;
+            while ((line = reader.next()) != null) {
+                lines.add(line);
+            }
+            invalid = reader.getInvalidCount();
+        }
+
+        // Then
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).date()).isEqualTo(BASE);
+        assertThat(lines.get(0).amountCents()).isEqualTo(1_500_000_00L);
+        assertThat(lines.get(0).counterparty()).isEqualTo("한빛상사");
+        assertThat(lines.get(0).description()).isEqualTo("3월 대금");
+        assertThat(lines.get(1).amountCents()).isEqualTo(-30_000_00L);
+        assertThat(invalid).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("거래내역 10만 행 대사가 수 초 이내에 완료")
+    void reconcilesHundredThousandLinesQuickly() {
+        // Given: 장부 거래 10만 건 (9만 건은 거래처 일치, 1만 건은 거래처 표기가 다름)
+        int count = 100_000;
+        String[] partners = new String[500];
+        for (int i = 0; i < partners.length; i++) {
+            partners[i] = "거래처" + i + "상사";
+        }
+        BankStatementMatcher matcher = new BankStatementMatcher(count);
+        for (int i = 0; i < count; i++) {
+            matcher.add(i, BASE.plusDays(i % 365), amountOf(i), partners[i % partners.length]);
+        }
+
+        // When
+        long started = System.nanoTime();
+        int exact = 0;
+        int fuzzy = 0;
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String counterparty = i % 10 == 0 ? "(주)거래처" + (i % partners.length) : partners[i % partners.length];
+            LocalDate date = BASE.plusDays(i % 365 + (i % 3 == 0 ? 1 : 0));
+            if (matcher.matchExact(date, amountOf(i), counterparty) != BankStatementMatcher.NO_MATCH) {
+                exact++;
+            } else {
+                pending.add(i);
+            }
+        }
+        for (int i : pending) {
+            LocalDate date = BASE.plusDays(i % 365 + (i % 3 == 0 ? 1 : 0));
+            if (matcher.matchFuzzy(date, amountOf(i), "거래처" + (i % partners.length)) != BankStatementMatcher.NO_MATCH) {
+                fuzzy++;
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // Then
+        assertThat(exact).isEqualTo(90_000);
+        assertThat(fuzzy).isEqualTo(10_000);
+        assertThat(matcher.unmatchedCount()).isZero();
+        assertThat(elapsedMillis).isLessThan(5_000);
+    }
+
+    private static long amountOf(int i) {
+        return (10_000L + (i % 997) * 100L) * 100L;
+    }
+}
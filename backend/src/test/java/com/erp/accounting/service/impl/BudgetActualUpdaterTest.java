@@ -0,0 +1,125 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.entity.Account;
+import com.erp.accounting.entity.Budget;
+import com.erp.accounting.entity.Transaction;
+import com.erp.accounting.repository.BudgetRepository;
+import com.erp.common.entity.Company;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 예산 실적 증분 반영 테스트
+ * 거래와 활성 예산의 대응 규칙, 알림 기준선 도달 판정, 역분개 전기의 실적 차감을 확인합니다
+ */
+class BudgetActualUpdaterTest {
+
+    private static final int[] THRESHOLDS = {90, 100};
+
+    @Test
+    @DisplayName("갱신 전후 실적으로 처음 넘은 기준선만 반환")
+    void crossedThresholdsOnlyOnce() {
+        BigDecimal budget = new BigDecimal("1000000");
+
+        assertThat(BudgetActualUpdater.crossedThresholds(
+            new BigDecimal("850000"), new BigDecimal("950000"), budget, THRESHOLDS)).containsExactly(90);
+        assertThat(BudgetActualUpdater.crossedThresholds(
+            new BigDecimal("850000"), new BigDecimal("1000000"), budget, THRESHOLDS)).containsExactly(90, 100);
+        // 이미 넘은 기준선은 다시 알리지 않음
+        assertThat(BudgetActualUpdater.crossedThresholds(
+            new BigDecimal("950000"), new BigDecimal("990000"), budget, THRESHOLDS)).isEmpty();
+        // 역분개로 실적이 줄어드는 경우와 예산 0원은 제외
+        assertThat(BudgetActualUpdater.crossedThresholds(
+            new BigDecimal("1100000"), new BigDecimal("800000"), budget, THRESHOLDS)).isEmpty();
+        assertThat(BudgetActualUpdater.crossedThresholds(
+            BigDecimal.ZERO, new BigDecimal("100"), BigDecimal.ZERO, THRESHOLDS)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("연도/기간/부서/프로젝트 조건으로 거래에 해당하는 예산 판정")
+    void targetMatching() {
+        BudgetActualIndex.Target annual = new BudgetActualIndex.Target(
+            1L, 2024, Budget.BudgetPeriod.ANNUAL, 1, null, null);
+        BudgetActualIndex.Target secondQuarter = new BudgetActualIndex.Target(
+            2L, 2024, Budget.BudgetPeriod.QUARTERLY, 2, "SALES", null);
+        BudgetActualIndex.Target march = new BudgetActualIndex.Target(
+            3L, 2024, Budget.BudgetPeriod.MONTHLY, 3, null, "PRJ-1");
+
+        assertThat(annual.matches(2024, 11, "ANY", null)).isTrue();
+        assertThat(annual.matches(2023, 11, null, null)).isFalse();
+        assertThat(secondQuarter.matches(2024, 5, "SALES", "PRJ-9")).isTrue();
+        assertThat(secondQuarter.matches(2024, 7, "SALES", null)).isFalse();
+        assertThat(secondQuarter.matches(2024, 5, "HR", null)).isFalse();
+        assertThat(march.matches(2024, 3, null, "PRJ-1")).isTrue();
+        assertThat(march.matches(2024, 3, null, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("부서/프로젝트 거래의 역분개를 전기하면 같은 부서 예산 실적에서 차감")
+    void reversalReducesDepartmentBudget() {
+        // Given: 영업부 2분기 예산 7번, 영업부 5월 비용 300,000원 거래
+        Company company = new Company();
+        company.setId(1L);
+        Account expense = new Account();
+        expense.setId(10L);
+        expense.setDebitCreditType(Account.DebitCreditType.DEBIT);
+        Transaction original = new Transaction();
+        original.setId(100L);
+        original.setCompany(company);
+        original.setAccount(expense);
+        original.setDebitAmount(new BigDecimal("300000"));
+        original.setCreditAmount(BigDecimal.ZERO);
+        original.setDescription("출장비");
+        original.setFiscalYear(2024);
+        original.setFiscalMonth(5);
+        original.setDepartmentInfo("SALES");
+        original.setProjectCode("PRJ-1");
+
+        BudgetRepository budgetRepository = mock(BudgetRepository.class);
+        when(budgetRepository.findActiveBudgetTargets(1L)).thenReturn(List.<Object[]>of(
+            new Object[] {7L, 10L, 2024, Budget.BudgetPeriod.QUARTERLY, 2, "SALES", null}));
+        UpdateJdbcTemplate jdbc = new UpdateJdbcTemplate();
+        BudgetActualUpdater updater = new BudgetActualUpdater(jdbc, new BudgetActualIndex(budgetRepository),
+            mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(updater, "alertThresholds", THRESHOLDS);
+
+        // When
+        Transaction reversal = original.createReversingEntry();
+        reversal.setId(101L);
+        updater.onTransactionPosted(AccountingServiceImpl.postedEvent(reversal));
+
+        // Then: [금액 x4, 일시, 예산 ID...]
+        assertThat(reversal.getDepartmentInfo()).isEqualTo("SALES");
+        assertThat(reversal.getProjectCode()).isEqualTo("PRJ-1");
+        assertThat(jdbc.updates).hasSize(1);
+        Object[] args = jdbc.updates.get(0);
+        assertThat((BigDecimal) args[0]).isEqualByComparingTo("-300000");
+        assertThat(args[5]).isEqualTo(7L);
+        assertThat(args).hasSize(6);
+    }
+
+    /**
+     * 실적 UPDATE 파라미터만 기록하는 JdbcTemplate
+     */
+    private static final class UpdateJdbcTemplate extends JdbcTemplate {
+
+        private final List<Object[]> updates = new ArrayList<>();
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            updates.add(args);
+        }
+    }
+}
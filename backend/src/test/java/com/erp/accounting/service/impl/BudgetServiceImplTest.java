@@ -0,0 +1,49 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.BudgetVarianceReportDto;
+import com.erp.accounting.entity.Budget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예산 서비스 테스트
+ * 차이 조회 행을 예산별 차이/실적률과 재계산 필요 여부로 변환하는지 확인합니다
+ */
+class BudgetServiceImplTest {
+
+    @Test
+    @DisplayName("집계 실적으로 차이와 실적률을 계산하고 저장된 실적과 다르면 재계산 필요로 표시")
+    void toLineComputesVariance() {
+        Object[] row = {7L, "5110", "급여", "EXPENSE", "QUARTERLY", 2, "SALES", null, "ACTIVE",
+            new BigDecimal("1000000.00"), new BigDecimal("1250000.00"), new BigDecimal("1200000.00")};
+
+        BudgetVarianceReportDto.Line line = BudgetServiceImpl.toLine(row);
+
+        assertThat(line.budgetId()).isEqualTo(7L);
+        assertThat(line.budgetPeriod()).isEqualTo(Budget.BudgetPeriod.QUARTERLY);
+        assertThat(line.periodNumber()).isEqualTo(2);
+        assertThat(line.varianceAmount()).isEqualByComparingTo("250000");
+        assertThat(line.varianceRate()).isEqualByComparingTo("25.00");
+        assertThat(line.achievementRate()).isEqualByComparingTo("125.00");
+        assertThat(line.overBudget()).isTrue();
+        assertThat(line.outOfSync()).isTrue();
+    }
+
+    @Test
+    @DisplayName("예산 금액이 0이면 비율은 0")
+    void zeroBudgetHasZeroRates() {
+        Object[] row = {8L, "4110", "매출", "REVENUE", "ANNUAL", null, null, null, "CLOSED",
+            new BigDecimal("0.00"), new BigDecimal("500.00"), new BigDecimal("500.00")};
+
+        BudgetVarianceReportDto.Line line = BudgetServiceImpl.toLine(row);
+
+        assertThat(line.periodNumber()).isNull();
+        assertThat(line.varianceRate()).isEqualByComparingTo("0");
+        assertThat(line.achievementRate()).isEqualByComparingTo("0");
+        assertThat(line.outOfSync()).isFalse();
+    }
+}
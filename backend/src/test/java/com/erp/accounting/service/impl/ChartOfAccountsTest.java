@@ -0,0 +1,88 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.entity.Account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계정과목 체계 테스트
+ * 계정과목 트리 구성과 상위 계정 누적을 확인합니다
+ */
+class ChartOfAccountsTest {
+
+    @Test
+    @DisplayName("말단 계정 금액이 모든 상위 계정에 누적")
+    void rollUpAccumulatesToAllAncestors() {
+        // Given: 자산(1) > 유동자산(11) > 현금(111), 보통예금(112) / 부채(2)
+        Account assets = account(1L, "1", 1, null, Account.AccountType.ASSET, Account.DebitCreditType.DEBIT);
+        Account liabilities = account(2L, "2", 1, null, Account.AccountType.LIABILITY, Account.DebitCreditType.CREDIT);
+        Account current = account(11L, "11", 2, assets, Account.AccountType.ASSET, Account.DebitCreditType.DEBIT);
+        Account cash = account(111L, "111", 3, current, Account.AccountType.ASSET, Account.DebitCreditType.DEBIT);
+        Account deposit = account(112L, "112", 3, current, Account.AccountType.ASSET, Account.DebitCreditType.DEBIT);
+        ChartOfAccounts chart = ChartOfAccounts.of(1L, 1L, List.of(assets, liabilities, current, cash, deposit));
+
+        long[] values = new long[chart.size()];
+        values[chart.indexOf(111L)] = 1_000;
+        values[chart.indexOf(112L)] = 250;
+        values[chart.indexOf(2L)] = 70;
+
+        // When
+        chart.rollUp(values);
+
+        // Then
+        assertThat(values[chart.indexOf(11L)]).isEqualTo(1_250);
+        assertThat(values[chart.indexOf(1L)]).isEqualTo(1_250);
+        assertThat(values[chart.indexOf(2L)]).isEqualTo(70);
+        assertThat(chart.isLeaf(chart.indexOf(11L))).isFalse();
+        assertThat(chart.isLeaf(chart.indexOfCode("111"))).isTrue();
+        assertThat(chart.code(chart.parent(chart.indexOf(112L)))).isEqualTo("11");
+        assertThat(chart.isDebitNormal(chart.indexOf(2L))).isFalse();
+
+        // 전위 순회: 1, 11, 111, 112, 2
+        String[] order = new String[chart.size()];
+        for (int position = 0; position < chart.size(); position++) {
+            order[position] = chart.code(chart.preOrderAt(position));
+        }
+        assertThat(order).containsExactly("1", "11", "111", "112", "2");
+    }
+
+    @Test
+    @DisplayName("잔액 변경은 구조 일치, 상위 계정 변경은 구조 불일치로 판단")
+    void matchesDetectsStructuralChangesOnly() {
+        // Given
+        Account assets = account(1L, "1", 1, null, Account.AccountType.ASSET, Account.DebitCreditType.DEBIT);
+        Account current = account(11L, "11", 2, assets, Account.AccountType.ASSET, Account.DebitCreditType.DEBIT);
+        Account cash = account(111L, "111", 3, current, Account.AccountType.ASSET, Account.DebitCreditType.DEBIT);
+        ChartOfAccounts chart = ChartOfAccounts.of(1L, 7L, List.of(assets, current, cash));
+
+        // When & Then
+        assertThat(chart.getVersion()).isEqualTo(7L);
+        assertThat(chart.parentChain(chart.indexOf(111L)))
+            .containsExactly(chart.indexOf(11L), chart.indexOf(1L));
+        assertThat(chart.indexesOf(Account.AccountType.ASSET)).hasSize(3);
+
+        cash.setCurrentBalance(new BigDecimal("1000.00"));
+        assertThat(chart.matches(cash)).isTrue();
+
+        cash.setParentAccount(assets);
+        assertThat(chart.matches(cash)).isFalse();
+    }
+
+    private Account account(Long id, String code, int level, Account parent,
+                            Account.AccountType type, Account.DebitCreditType debitCreditType) {
+        Account account = new Account();
+        account.setId(id);
+        account.setAccountCode(code);
+        account.setName("계정" + code);
+        account.setAccountLevel(level);
+        account.setParentAccount(parent);
+        account.setAccountType(type);
+        account.setDebitCreditType(debitCreditType);
+        return account;
+    }
+}
@@ -0,0 +1,62 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.ReportSnapshotDiffDto;
+import com.erp.accounting.dto.TrialBalanceDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재무보고서 스냅샷 변환 테스트
+ * 시산표 행의 항목 저장 파라미터 변환과 버전 비교 행 해석을 확인합니다
+ */
+class FinancialReportSnapshotServiceImplTest {
+
+    @Test
+    @DisplayName("시산표 상위 계정은 굵게 표시되는 소계 항목, 말단 계정은 계정과목 항목으로 저장")
+    void convertsTrialBalanceLinesToItemRows() {
+        // Given
+        Timestamp now = Timestamp.valueOf("2024-12-31 18:00:00");
+        TrialBalanceDto parent = new TrialBalanceDto("1000", "유동자산", "ASSET",
+            new BigDecimal("500.00"), new BigDecimal("200.00"), new BigDecimal("300.00"), 1, null, false);
+        TrialBalanceDto leaf = new TrialBalanceDto("1010", "현금", "ASSET",
+            new BigDecimal("500.00"), new BigDecimal("200.00"), new BigDecimal("300.00"), 2, "1000", true);
+
+        // When
+        Object[] parentRow = FinancialReportSnapshotServiceImpl.toInsertArgs(7L, 3, 1, parent, now);
+        Object[] leafRow = FinancialReportSnapshotServiceImpl.toInsertArgs(7L, 3, 2, leaf, now);
+
+        // Then
+        assertThat(parentRow).containsExactly(7L, 3, "유동자산", "1000", 1, 1, "ASSET", null, "SUBTOTAL",
+            new BigDecimal("500.00"), new BigDecimal("200.00"), new BigDecimal("300.00"), true, 0, now);
+        assertThat(leafRow[7]).isEqualTo("1000");
+        assertThat(leafRow[8]).isEqualTo("ACCOUNT");
+        assertThat(leafRow[12]).isEqualTo(false);
+        assertThat(leafRow[13]).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버전 비교 행은 양쪽 존재 여부로 추가/삭제/변경을 구분하고 잔액 증감을 계산")
+    void interpretsDifferenceRows() {
+        // When
+        ReportSnapshotDiffDto.Line added = FinancialReportSnapshotServiceImpl.toDiffLine(new Object[]{
+            "4010", "상품매출", 0, 1, null, BigDecimal.ZERO, null, new BigDecimal("90.00"), null, new BigDecimal("90.00")});
+        ReportSnapshotDiffDto.Line removed = FinancialReportSnapshotServiceImpl.toDiffLine(new Object[]{
+            "5010", "급여", 1, 0, new BigDecimal("40.00"), null, BigDecimal.ZERO, null, new BigDecimal("40.00"), null});
+        ReportSnapshotDiffDto.Line changed = FinancialReportSnapshotServiceImpl.toDiffLine(new Object[]{
+            "1010", "현금", 1, 1, new BigDecimal("100.00"), new BigDecimal("150.00"),
+            BigDecimal.ZERO, BigDecimal.ZERO, new BigDecimal("100.00"), new BigDecimal("150.00")});
+
+        // Then
+        assertThat(added.changeType()).isEqualTo(ReportSnapshotDiffDto.ChangeType.ADDED);
+        assertThat(added.balanceChange()).isEqualByComparingTo("90");
+        assertThat(removed.changeType()).isEqualTo(ReportSnapshotDiffDto.ChangeType.REMOVED);
+        assertThat(removed.balanceChange()).isEqualByComparingTo("-40");
+        assertThat(changed.changeType()).isEqualTo(ReportSnapshotDiffDto.ChangeType.CHANGED);
+        assertThat(changed.balanceChange()).isEqualByComparingTo("50");
+    }
+}
@@ -0,0 +1,124 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.TrialBalanceDto;
+import com.erp.accounting.repository.FinancialReportItemRepository;
+import com.erp.accounting.repository.FinancialReportRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 재무보고서 스냅샷 버전 동시성 테스트
+ * 로컬 PostgreSQL에서 같은 보고서를 동시에 다시 생성해도 버전이 겹치지 않고 버전별 항목이 섞이지 않는지 확인합니다
+ * 실행: -Dpostgres.url=jdbc:postgresql://localhost:5432/erp_test -Dpostgres.username=... -Dpostgres.password=...
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "postgres.url", matches = ".+")
+class FinancialReportSnapshotVersionTest {
+
+    private static final String SCHEMA = "report_version_test";
+    private static final long REPORT_ID = 1L;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private FinancialReportSnapshotServiceImpl snapshotService;
+
+    @BeforeAll
+    void setUp() {
+        dataSource = new DriverManagerDataSource(System.getProperty("postgres.url") + (
+            System.getProperty("postgres.url").contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA,
+            System.getProperty("postgres.username", "postgres"), System.getProperty("postgres.password", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("CREATE TABLE financial_reports (id BIGINT PRIMARY KEY, " +
+            "snapshot_version INTEGER NOT NULL DEFAULT 0)");
+        jdbcTemplate.execute("CREATE TABLE financial_report_items (id BIGSERIAL PRIMARY KEY, report_id BIGINT, " +
+            "report_version INTEGER, item_name VARCHAR(200), item_code VARCHAR(50), line_number INTEGER, " +
+            "item_level INTEGER, account_type VARCHAR(50), parent_item_code VARCHAR(50), item_type VARCHAR(50), " +
+            "debit_amount NUMERIC(19, 2), credit_amount NUMERIC(19, 2), current_amount NUMERIC(19, 2), " +
+            "previous_amount NUMERIC(19, 2), change_amount NUMERIC(19, 2), change_rate NUMERIC(19, 4), " +
+            "composition_ratio NUMERIC(19, 4), is_visible BOOLEAN, is_bold BOOLEAN, indent_level INTEGER, " +
+            "created_at TIMESTAMP, is_deleted BOOLEAN)");
+        jdbcTemplate.update("INSERT INTO financial_reports (id) VALUES (?)", REPORT_ID);
+
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        snapshotService = new FinancialReportSnapshotServiceImpl(mock(FinancialReportRepository.class),
+            mock(FinancialReportItemRepository.class), jdbcTemplate);
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+    }
+
+    @Test
+    @DisplayName("동시에 다시 생성하면 나중 생성은 먼저 생성이 커밋될 때까지 기다렸다가 다음 버전을 받음")
+    void concurrentRegenerationsGetDistinctVersions() throws Exception {
+        CountDownLatch firstBumped = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> first = executor.submit(() -> regenerate("1010", firstBumped, releaseFirst));
+            assertThat(firstBumped.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Integer> second = executor.submit(() -> regenerate("2010", null, null));
+
+            // 먼저 생성한 트랜잭션이 보고서 행을 잠그고 있으므로 나중 생성은 버전을 받지 못하고 대기
+            Thread.sleep(500);
+            assertThat(second.isDone()).isFalse();
+            releaseFirst.countDown();
+
+            assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+            assertThat(second.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT snapshot_version FROM financial_reports WHERE id = ?",
+            Integer.class, REPORT_ID)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT item_code FROM financial_report_items " +
+            "WHERE report_id = ? AND report_version = 1", String.class, REPORT_ID)).containsExactly("1010");
+        assertThat(jdbcTemplate.queryForList("SELECT DISTINCT item_code FROM financial_report_items " +
+            "WHERE report_id = ? AND report_version = 2", String.class, REPORT_ID)).containsExactly("2010");
+    }
+
+    /**
+     * 보고서 생성과 같은 순서로 한 트랜잭션에서 버전을 할당받고 항목 저장
+     */
+    private Integer regenerate(String accountCode, CountDownLatch bumped, CountDownLatch release) {
+        return transactionTemplate.execute(status -> {
+            int version = snapshotService.nextVersion(REPORT_ID);
+            if (bumped != null) {
+                bumped.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            snapshotService.saveTrialBalanceSnapshot(REPORT_ID, version, List.of(new TrialBalanceDto(
+                accountCode, "계정" + accountCode, "ASSET", new BigDecimal("100.00"), BigDecimal.ZERO,
+                new BigDecimal("100.00"), 1, null, true)));
+            return version;
+        });
+    }
+}
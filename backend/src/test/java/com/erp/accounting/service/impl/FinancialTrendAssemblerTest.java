@@ -0,0 +1,82 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.FinancialTrendDto;
+import com.erp.accounting.entity.Account;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재무 트렌드 조립기 테스트
+ * 월별 스냅샷을 기간별 잔액/발생액으로 누적하고 재무비율과 증감률을 계산하는지 확인합니다
+ */
+class FinancialTrendAssemblerTest {
+
+    private static final Account.AccountType ASSET = Account.AccountType.ASSET;
+    private static final Account.AccountType LIABILITY = Account.AccountType.LIABILITY;
+    private static final Account.AccountType EQUITY = Account.AccountType.EQUITY;
+    private static final Account.AccountType REVENUE = Account.AccountType.REVENUE;
+    private static final Account.AccountType EXPENSE = Account.AccountType.EXPENSE;
+
+    @Test
+    @DisplayName("분기 단위는 분기 말 월 잔액과 분기 내 발생액 합계, 자본에는 당기 누적 손익 포함")
+    void accumulatesQuarterBalancesAndFlows() {
+        // Given: 마지막 마감 월 2024-12, 분기 2개 (2024 Q3, Q4) + 증감률용 Q2
+        int lastClosed = 2024 * 12 + 11;
+        FinancialTrendAssembler assembler = new FinancialTrendAssembler(lastClosed, 3, 2);
+        assertThat(assembler.firstMonthIndex()).isEqualTo(2024 * 12 + 3);
+
+        // Q2 (6월말): 매출 누적 300, 비용 누적 200
+        assembler.accept(2024, 6, REVENUE, Account.AccountCategory.OPERATING_REVENUE, 0, 100_00, 300_00);
+        assembler.accept(2024, 6, EXPENSE, Account.AccountCategory.OPERATING_EXPENSE, 80_00, 0, 200_00);
+        assembler.accept(2024, 6, ASSET, Account.AccountCategory.CURRENT_ASSET, 0, 0, 1_000_00);
+        // Q3: 9월 잔액만 기간 말 값으로 사용
+        assembler.accept(2024, 8, ASSET, Account.AccountCategory.CURRENT_ASSET, 0, 0, 9_999_00);
+        assembler.accept(2024, 9, ASSET, Account.AccountCategory.CURRENT_ASSET, 0, 0, 1_200_00);
+        assembler.accept(2024, 9, ASSET, Account.AccountCategory.FIXED_ASSET, 0, 0, 800_00);
+        assembler.accept(2024, 9, LIABILITY, Account.AccountCategory.CURRENT_LIABILITY, 0, 0, 600_00);
+        assembler.accept(2024, 9, EQUITY, Account.AccountCategory.CAPITAL, 0, 0, 1_000_00);
+        assembler.accept(2024, 7, REVENUE, Account.AccountCategory.OPERATING_REVENUE, 0, 200_00, 500_00);
+        assembler.accept(2024, 9, REVENUE, Account.AccountCategory.OPERATING_REVENUE, 0, 200_00, 700_00);
+        assembler.accept(2024, 9, REVENUE, Account.AccountCategory.NON_OPERATING_REVENUE, 0, 0, 0);
+        assembler.accept(2024, 8, EXPENSE, Account.AccountCategory.OPERATING_EXPENSE, 100_00, 0, 300_00);
+        assembler.accept(2024, 9, EXPENSE, Account.AccountCategory.OPERATING_EXPENSE, 0, 0, 300_00);
+        // 범위 밖 월은 무시
+        assembler.accept(2024, 3, REVENUE, Account.AccountCategory.OPERATING_REVENUE, 0, 5_000_00, 5_000_00);
+        assembler.accept(2025, 1, REVENUE, Account.AccountCategory.OPERATING_REVENUE, 0, 5_000_00, 5_000_00);
+
+        // When
+        List<FinancialTrendDto.Point> points = assembler.points(assembler.labels());
+
+        // Then
+        assertThat(points).extracting(FinancialTrendDto.Point::period)
+            .containsExactly("2024-07~2024-09", "2024-10~2024-12");
+        FinancialTrendDto.Point q3 = points.get(0);
+        assertThat(q3.totalAssets()).isEqualByComparingTo("2000");
+        assertThat(q3.currentAssets()).isEqualByComparingTo("1200");
+        assertThat(q3.totalEquity()).isEqualByComparingTo("1400");
+        assertThat(q3.revenue()).isEqualByComparingTo("400");
+        assertThat(q3.netIncome()).isEqualByComparingTo("300");
+        assertThat(q3.currentRatio()).isEqualByComparingTo("2.00");
+        assertThat(q3.debtRatio()).isEqualByComparingTo("30.00");
+        assertThat(q3.netMargin()).isEqualByComparingTo("75.00");
+        assertThat(q3.revenueGrowth()).isEqualByComparingTo("300.00");
+        assertThat(q3.assetGrowth()).isEqualByComparingTo("100.00");
+
+        FinancialTrendDto.Point q4 = points.get(1);
+        assertThat(q4.totalAssets()).isEqualByComparingTo("0");
+        assertThat(q4.debtRatio()).isEqualByComparingTo("0");
+        assertThat(q4.revenueGrowth()).isEqualByComparingTo("-100.00");
+    }
+
+    @Test
+    @DisplayName("이전 값이 음수면 절대값 기준으로 증감률 계산, 분모가 0이면 0")
+    void growthUsesAbsolutePreviousValue() {
+        assertThat(FinancialTrendAssembler.growth(50_00, -100_00)).isEqualByComparingTo("150.00");
+        assertThat(FinancialTrendAssembler.growth(50_00, 0)).isEqualByComparingTo("0");
+        assertThat(FinancialTrendAssembler.ratio(150_00, 100_00, false)).isEqualByComparingTo("1.50");
+    }
+}
@@ -0,0 +1,178 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.FiscalYearCloseResultDto;
+import com.erp.accounting.entity.Account;
+import com.erp.accounting.repository.AccountPeriodBalanceRepository;
+import com.erp.accounting.repository.AccountRepository;
+import com.erp.accounting.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 회계연도 마감 엔진 테스트
+ * 직전 연도 마감 결과에서 이어지는 월별 잔액, 손익계정 마감분개와 이익잉여금 대체, 실질계정 잔액 갱신을 확인합니다
+ */
+class FiscalYearCloseEngineTest {
+
+    private static final Long COMPANY_ID = 1L;
+    private static final long CASH = 1L;
+    private static final long REVENUE = 2L;
+    private static final long EXPENSE = 3L;
+    private static final long RETAINED_EARNINGS = 4L;
+
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final AccountPeriodBalanceRepository periodBalanceRepository = mock(AccountPeriodBalanceRepository.class);
+    private final BatchJdbcTemplate jdbc = new BatchJdbcTemplate();
+    private FiscalYearCloseEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new FiscalYearCloseEngine(transactionRepository, accountRepository, periodBalanceRepository, jdbc);
+        ReflectionTestUtils.setField(engine, "entityManager", mock(EntityManager.class));
+
+        Account retainedEarnings = account(RETAINED_EARNINGS, Account.AccountType.EQUITY,
+            Account.DebitCreditType.CREDIT, "0");
+        when(accountRepository.findTrackingBalanceAccountsByCompanyId(COMPANY_ID)).thenReturn(List.of(
+            account(CASH, Account.AccountType.ASSET, Account.DebitCreditType.DEBIT, "1000"),
+            account(REVENUE, Account.AccountType.REVENUE, Account.DebitCreditType.CREDIT, "0"),
+            account(EXPENSE, Account.AccountType.EXPENSE, Account.DebitCreditType.DEBIT, "0"),
+            retainedEarnings));
+        when(accountRepository.findRetainedEarningsAccountsByCompanyId(COMPANY_ID))
+            .thenReturn(List.of(retainedEarnings));
+        when(accountRepository.resetBalancesByCompanyIdAndAccountTypes(any(), any())).thenReturn(2);
+
+        // 2025년 거래: 1월 현금 매출 400, 6월 현금 비용 100
+        when(transactionRepository.getFiscalYearTotalsByAccountAndMonth(COMPANY_ID, 2025)).thenReturn(List.of(
+            row(CASH, 1, "400", "0"), row(CASH, 6, "0", "100"),
+            row(REVENUE, 1, "0", "400"), row(EXPENSE, 6, "100", "0")));
+    }
+
+    @Test
+    @DisplayName("직전 연도 12월 말 잔액과 마감분개에서 시작해 월별 잔액, 마감분개, 이익잉여금을 계산")
+    void closesFromPreviousYearSnapshot() {
+        // 2024년 마감 결과: 현금 1500, 수익 800/비용 300 (마감 전), 순이익 500을 이익잉여금으로 대체
+        when(periodBalanceRepository.existsByCompanyIdAndFiscalYear(COMPANY_ID, 2024)).thenReturn(true);
+        when(periodBalanceRepository.getClosingBalancesByAccount(COMPANY_ID, 2024, 12)).thenReturn(List.of(
+            new Object[] {CASH, new BigDecimal("1500")}, new Object[] {REVENUE, new BigDecimal("800")},
+            new Object[] {EXPENSE, new BigDecimal("300")}, new Object[] {RETAINED_EARNINGS, BigDecimal.ZERO}));
+        when(transactionRepository.getClosingEntryTotalsByAccount(COMPANY_ID, 2024)).thenReturn(List.of(
+            new Object[] {REVENUE, new BigDecimal("800"), BigDecimal.ZERO},
+            new Object[] {EXPENSE, BigDecimal.ZERO, new BigDecimal("300")},
+            new Object[] {RETAINED_EARNINGS, BigDecimal.ZERO, new BigDecimal("500")}));
+
+        FiscalYearCloseResultDto result = engine.close(COMPANY_ID, 2025, null);
+
+        assertThat(result.accountCount()).isEqualTo(4);
+        assertThat(result.snapshotCount()).isEqualTo(48);
+        assertThat(result.closingEntryCount()).isEqualTo(3);
+        assertThat(result.netIncome()).isEqualByComparingTo("300");
+
+        assertThat(snapshot(CASH, 1)).isEqualByComparingTo("1900");
+        assertThat(snapshot(CASH, 12)).isEqualByComparingTo("1800");
+        // 손익계정은 마감분개로 0에서 시작
+        assertThat(snapshot(REVENUE, 12)).isEqualByComparingTo("400");
+        assertThat(snapshot(EXPENSE, 12)).isEqualByComparingTo("100");
+        assertThat(snapshot(RETAINED_EARNINGS, 12)).isEqualByComparingTo("500");
+
+        // 마감분개 [번호, 회사, 일자, 계정, 차변, 대변, ...]
+        List<Object[]> entries = jdbc.batches("INSERT INTO transactions");
+        assertThat(entries).extracting(entry -> entry[0])
+            .containsExactly("CL202512310001", "CL202512310002", "CL202512310003");
+        assertEntry(entries.get(0), REVENUE, "400", "0");
+        assertEntry(entries.get(1), EXPENSE, "0", "100");
+        assertEntry(entries.get(2), RETAINED_EARNINGS, "0", "300");
+
+        // 실질계정 잔액 [현재 잔액, 차변 증가, 대변 증가, 일시, 계정]
+        List<Object[]> balances = jdbc.batches("UPDATE accounts");
+        assertThat(balances).extracting(balance -> balance[4]).containsExactly(CASH, RETAINED_EARNINGS);
+        assertThat((BigDecimal) balances.get(0)[0]).isEqualByComparingTo("1800");
+        assertThat((BigDecimal) balances.get(1)[0]).isEqualByComparingTo("800");
+        assertThat((BigDecimal) balances.get(1)[2]).isEqualByComparingTo("300");
+        verify(transactionRepository, never()).getTotalsByAccountBeforeFiscalYear(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("직전 연도 스냅샷이 없으면 계정 기초잔액에 이전 연도 거래 누계를 더해 시작")
+    void closesFromOpeningBalanceAndPriorActivity() {
+        when(periodBalanceRepository.existsByCompanyIdAndFiscalYear(COMPANY_ID, 2024)).thenReturn(false);
+        when(transactionRepository.getTotalsByAccountBeforeFiscalYear(COMPANY_ID, 2025)).thenReturn(List.<Object[]>of(
+            new Object[] {CASH, new BigDecimal("700"), new BigDecimal("200")}));
+
+        engine.close(COMPANY_ID, 2025, null);
+
+        assertThat(snapshot(CASH, 12)).isEqualByComparingTo("1800");
+        assertThat((BigDecimal) jdbc.batches("UPDATE accounts").get(0)[0]).isEqualByComparingTo("1800");
+    }
+
+    private BigDecimal snapshot(long accountId, int month) {
+        // [회사, 계정, 연도, 월, 차변, 대변, 월말 잔액, ...]
+        return jdbc.batches("INSERT INTO account_period_balances").stream()
+            .filter(values -> values[1].equals(accountId) && values[3].equals(month))
+            .map(values -> (BigDecimal) values[6])
+            .findFirst().orElseThrow();
+    }
+
+    private static void assertEntry(Object[] entry, long accountId, String debit, String credit) {
+        assertThat(entry[3]).isEqualTo(accountId);
+        assertThat((BigDecimal) entry[4]).isEqualByComparingTo(debit);
+        assertThat((BigDecimal) entry[5]).isEqualByComparingTo(credit);
+    }
+
+    private static Object[] row(long accountId, int month, String debit, String credit) {
+        return new Object[] {accountId, month, new BigDecimal(debit), new BigDecimal(credit)};
+    }
+
+    private static Account account(long id, Account.AccountType type, Account.DebitCreditType side, String opening) {
+        Account account = new Account();
+        account.setId(id);
+        account.setAccountType(type);
+        account.setDebitCreditType(side);
+        account.setOpeningBalance(new BigDecimal(opening));
+        return account;
+    }
+
+    /**
+     * 배치 문장별 파라미터를 기록하는 JdbcTemplate (엔진이 배치 목록을 재사용하므로 복사해 보관)
+     */
+    private static final class BatchJdbcTemplate extends JdbcTemplate {
+
+        private final List<String> sqls = new ArrayList<>();
+        private final List<Object[]> args = new ArrayList<>();
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            for (Object[] values : batchArgs) {
+                sqls.add(sql);
+                args.add(values.clone());
+            }
+            return new int[batchArgs.size()];
+        }
+
+        List<Object[]> batches(String prefix) {
+            List<Object[]> matched = new ArrayList<>();
+            for (int i = 0; i < sqls.size(); i++) {
+                if (sqls.get(i).startsWith(prefix)) {
+                    matched.add(args.get(i));
+                }
+            }
+            return matched;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.common.export.ExportFormat;
+import com.erp.common.export.ExportWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 총계정원장 내보내기 테스트
+ * 계정과목별 누적 잔액과 행 수에 무관한 힙 사용량 상한을 확인합니다
+ * XLSX 500만 행 테스트는 -Dbenchmark=true 로 실행합니다
+ */
+class GeneralLedgerExporterTest {
+
+    private static final int LEDGER_LINES = 5_000_000;
+    private static final int ACCOUNTS = 200;
+    private static final long HEAP_UPPER_BOUND = 64L * 1024 * 1024;
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("계정과목이 바뀌면 기초잔액부터 잔액을 다시 누적")
+    void runningBalanceResetsPerAccount() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        try (ExportWriter writer = ExportWriter.open(ExportFormat.CSV, output, "총계정원장")) {
+            GeneralLedgerExporter exporter = new GeneralLedgerExporter(writer);
+            exporter.accept(1L, "111", "현금", true, new BigDecimal("100.00"), START_DATE, "JE1", "입금",
+                new BigDecimal("50.00"), BigDecimal.ZERO);
+            exporter.accept(1L, "111", "현금", true, new BigDecimal("100.00"), START_DATE, "JE2", "출금",
+                BigDecimal.ZERO, new BigDecimal("30.00"));
+            exporter.accept(2L, "251", "미지급금", false, new BigDecimal("10.00"), START_DATE, "JE3", "발생",
+                BigDecimal.ZERO, new BigDecimal("5.00"));
+        }
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(4);
+        assertThat(lines[1]).endsWith(",150.00");
+        assertThat(lines[2]).endsWith(",120.00");
+        assertThat(lines[3]).endsWith(",15.00");
+    }
+
+    @Test
+    @DisplayName("CSV 500만 행 내보내기 힙 사용량 상한")
+    void csvExportHeapStaysBounded() throws IOException {
+        assertHeapBounded(ExportFormat.CSV);
+    }
+
+    @Test
+    @DisplayName("XLSX 500만 행 내보내기 힙 사용량 상한")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void xlsxExportHeapStaysBounded() throws IOException {
+        assertHeapBounded(ExportFormat.XLSX);
+    }
+
+    @Test
+    @DisplayName("XLSX 작성 중 커서가 실패하면 통합문서를 쓰지 않고 예외를 전달")
+    void abortedXlsxWritesNothing() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> ExportWriter.write(ExportFormat.XLSX, output, "총계정원장", writer -> {
+            writer.writeHeader("계정코드", "금액");
+            writer.writeRow("101", 1000);
+            throw new IllegalStateException("커서 중단");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("커서 중단");
+
+        assertThat(output.size()).isZero();
+    }
+
+    /**
+     * 커서에서 읽은 것과 같은 순서의 합성 원장 행을 버리는 스트림으로 내보내며 힙 사용량 측정
+     */
+    private void assertHeapBounded(ExportFormat format) throws IOException {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long baseline = runtime.totalMemory() - runtime.freeMemory();
+        long peak = 0L;
+        long started = System.nanoTime();
+
+        CountingOutputStream output = new CountingOutputStream();
+        long rowCount;
+        try (ExportWriter writer = ExportWriter.open(format, output, "총계정원장")) {
+            GeneralLedgerExporter exporter = new GeneralLedgerExporter(writer);
+            BigDecimal opening = new BigDecimal("1000000.00");
+            int linesPerAccount = LEDGER_LINES / ACCOUNTS;
+            for (int i = 0; i < LEDGER_LINES; i++) {
+                int account = i / linesPerAccount;
+                BigDecimal amount = BigDecimal.valueOf(10_000L + (i % 997) * 100L, 2);
+                boolean debit = i % 2 == 0;
+                exporter.accept(account, "1" + account, "계정" + account, account % 3 != 0, opening,
+                    START_DATE.plusDays(i % 365), "JE" + i, "원장 적요",
+                    debit ? amount : BigDecimal.ZERO, debit ? BigDecimal.ZERO : amount);
+
+                if (i % 500_000 == 0) {
+                    System.gc();
+                    peak = Math.max(peak, runtime.totalMemory() - runtime.freeMemory() - baseline);
+                }
+            }
+            rowCount = writer.getRowCount();
+        }
+        System.gc();
+        peak = Math.max(peak, runtime.totalMemory() - runtime.freeMemory() - baseline);
+
+        System.out.printf("[총계정원장 내보내기] 형식: %s, 행 수: %,d, 출력: %,d MB, 힙 증가 최대: %,d KB, %,d ms%n",
+            format, rowCount, output.count / (1024 * 1024), peak / 1024, (System.nanoTime() - started) / 1_000_000);
+
+        assertThat(rowCount).isEqualTo(LEDGER_LINES);
+        assertThat(peak).isLessThan(HEAP_UPPER_BOUND);
+    }
+
+    /**
+     * 바이트 수만 세는 출력 스트림
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
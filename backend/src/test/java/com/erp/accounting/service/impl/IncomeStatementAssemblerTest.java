@@ -0,0 +1,73 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.ComparativeIncomeStatementDto;
+import com.erp.accounting.entity.Account;
+import com.erp.accounting.entity.FinancialReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 손익계산서 조립기 테스트
+ * 계정 분류별 손익 항목 계산과 월/분기별 기간 배치를 확인합니다
+ */
+class IncomeStatementAssemblerTest {
+
+    private static final Account.AccountType REVENUE = Account.AccountType.REVENUE;
+    private static final Account.AccountType EXPENSE = Account.AccountType.EXPENSE;
+
+    @Test
+    @DisplayName("영업/영업외 수익·비용과 법인세를 분류해 손익계산서 금액을 설정")
+    void appliesSinglePeriodTotals() {
+        // Given
+        IncomeStatementAssembler assembler = new IncomeStatementAssembler(YearMonth.of(2024, 1), Integer.MAX_VALUE, 1);
+        assembler.accept(List.<Object[]>of(
+            new Object[]{"REVENUE", "OPERATING_REVENUE", 0, 2024, 1, new BigDecimal("10000"), new BigDecimal("1010000")},
+            new Object[]{"REVENUE", "NON_OPERATING_REVENUE", 0, 2024, 6, BigDecimal.ZERO, new BigDecimal("50000")},
+            new Object[]{"EXPENSE", "OPERATING_EXPENSE", 0, 2024, 3, new BigDecimal("600000"), BigDecimal.ZERO},
+            new Object[]{"EXPENSE", "NON_OPERATING_EXPENSE", 0, 2024, 12, new BigDecimal("30000"), BigDecimal.ZERO},
+            new Object[]{"EXPENSE", "NON_OPERATING_EXPENSE", 1, 2024, 12, new BigDecimal("42000"), BigDecimal.ZERO}
+        ));
+        FinancialReport report = new FinancialReport();
+
+        // When
+        assembler.applyTo(report);
+
+        // Then
+        assertThat(report.getTotalRevenue()).isEqualByComparingTo("1050000");
+        assertThat(report.getTotalExpenses()).isEqualByComparingTo("672000");
+        assertThat(report.getOperatingIncome()).isEqualByComparingTo("400000");
+        assertThat(report.getIncomeBeforeTax()).isEqualByComparingTo("420000");
+        assertThat(report.getNetIncome()).isEqualByComparingTo("378000");
+    }
+
+    @Test
+    @DisplayName("분기 단위 비교 손익계산서는 월별 집계를 분기 열에 누적하고 범위 밖 월은 제외")
+    void placesMonthsIntoQuarterColumns() {
+        // Given: 2024년 4월부터 3개 분기
+        IncomeStatementAssembler assembler = new IncomeStatementAssembler(YearMonth.of(2024, 4), 3, 3);
+        assembler.accept(REVENUE, Account.AccountCategory.OPERATING_REVENUE, false, 2024, 4, 0, 100_00L);
+        assembler.accept(REVENUE, Account.AccountCategory.OPERATING_REVENUE, false, 2024, 6, 0, 200_00L);
+        assembler.accept(REVENUE, Account.AccountCategory.OPERATING_REVENUE, false, 2024, 12, 0, 400_00L);
+        assembler.accept(EXPENSE, Account.AccountCategory.OPERATING_EXPENSE, false, 2024, 8, 50_00L, 0);
+        assembler.accept(REVENUE, Account.AccountCategory.OPERATING_REVENUE, false, 2024, 3, 0, 999_00L);
+        assembler.accept(REVENUE, Account.AccountCategory.OPERATING_REVENUE, false, 2025, 1, 0, 999_00L);
+
+        // When
+        List<ComparativeIncomeStatementDto.Line> lines = assembler.lines();
+
+        // Then
+        assertThat(lines).extracting(ComparativeIncomeStatementDto.Line::item)
+            .containsExactly("OPERATING_REVENUE", "OPERATING_EXPENSE", "OPERATING_INCOME", "NON_OPERATING_REVENUE",
+                "NON_OPERATING_EXPENSE", "INCOME_BEFORE_TAX", "INCOME_TAX", "NET_INCOME");
+        assertThat(lines.get(0).amounts()).containsExactly(
+            new BigDecimal("300.00"), new BigDecimal("0.00"), new BigDecimal("400.00"));
+        assertThat(lines.get(7).amounts()).containsExactly(
+            new BigDecimal("300.00"), new BigDecimal("-50.00"), new BigDecimal("400.00"));
+    }
+}
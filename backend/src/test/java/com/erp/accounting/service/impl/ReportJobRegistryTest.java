@@ -0,0 +1,76 @@
+package com.erp.accounting.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보고서 작업 레지스트리 테스트
+ * 같은 키의 동시 요청이 하나의 작업으로 합쳐지는지와 해제 후 재생성을 확인합니다
+ */
+class ReportJobRegistryTest {
+
+    @Test
+    @DisplayName("같은 회사/유형/기간의 동시 요청 32건은 작업 1건만 생성")
+    void concurrentClaimsCollapseIntoOneJob() throws Exception {
+        // Given
+        ReportJobRegistry registry = new ReportJobRegistry();
+        AtomicLong sequence = new AtomicLong();
+        int threads = 32;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<ReportJobRegistry.Claim>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return registry.claim("1:BALANCE_SHEET:2024:FY", sequence::incrementAndGet);
+            }));
+        }
+        start.countDown();
+        List<ReportJobRegistry.Claim> claims = new ArrayList<>();
+        for (Future<ReportJobRegistry.Claim> future : futures) {
+            claims.add(future.get(5, TimeUnit.SECONDS));
+        }
+        pool.shutdown();
+
+        // Then
+        assertThat(sequence).hasValue(1);
+        assertThat(claims).extracting(ReportJobRegistry.Claim::jobId).containsOnly(1L);
+        assertThat(claims).filteredOn(ReportJobRegistry.Claim::created).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("완료된 작업을 해제하면 다음 요청은 새 작업 생성, 다른 작업 ID로는 해제되지 않음")
+    void releaseAllowsNewJob() {
+        // Given
+        ReportJobRegistry registry = new ReportJobRegistry();
+        AtomicLong sequence = new AtomicLong(100);
+        String key = "1:TRIAL_BALANCE:2024:Q4";
+        ReportJobRegistry.Claim first = registry.claim(key, sequence::incrementAndGet);
+
+        // When
+        registry.release(key, 999L);
+        ReportJobRegistry.Claim duplicate = registry.claim(key, sequence::incrementAndGet);
+        registry.release(key, first.jobId());
+        ReportJobRegistry.Claim next = registry.claim(key, sequence::incrementAndGet);
+        ReportJobRegistry.Claim otherPeriod = registry.claim("1:TRIAL_BALANCE:2024:Q3", sequence::incrementAndGet);
+
+        // Then
+        assertThat(duplicate).isEqualTo(new ReportJobRegistry.Claim(101L, false));
+        assertThat(next).isEqualTo(new ReportJobRegistry.Claim(102L, true));
+        assertThat(otherPeriod.created()).isTrue();
+        assertThat(registry.inFlightCount()).isEqualTo(2);
+    }
+}
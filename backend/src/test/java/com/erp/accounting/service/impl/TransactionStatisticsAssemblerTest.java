@@ -0,0 +1,214 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.TransactionStatisticsDto;
+import com.erp.accounting.entity.Transaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 통계 조립 테스트
+ * GROUPING SETS 집계 결과 조립이 기존 엔티티 스트림 방식과 같은 결과를 내는지 확인합니다
+ * 벤치마크는 -Dbenchmark=true 로 실행합니다
+ */
+class TransactionStatisticsAssemblerTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END_DATE = LocalDate.of(2024, 3, 30);
+    private static final int DAYS = 90;
+
+    private static final Transaction.TransactionType[] TYPES = Transaction.TransactionType.values();
+    private static final Transaction.TransactionStatus[] STATUSES = Transaction.TransactionStatus.values();
+
+    @Test
+    @DisplayName("GROUPING SETS 결과 조립이 기존 통계와 일치")
+    void assembleMatchesLegacyStatistics() {
+        // Given
+        List<Transaction> transactions = syntheticTransactions(10_000);
+
+        // When
+        TransactionStatisticsDto legacy = legacyStatistics(transactions);
+        TransactionStatisticsDto assembled = TransactionStatisticsAssembler.assemble(
+            START_DATE, END_DATE, groupingSetRows(10_000));
+
+        // Then
+        assertThat(assembled.totalTransactionCount()).isEqualTo(legacy.totalTransactionCount());
+        assertThat(assembled.totalTransactionAmount()).isEqualByComparingTo(legacy.totalTransactionAmount());
+        assertThat(assembled.totalDebitAmount()).isEqualByComparingTo(legacy.totalDebitAmount());
+        assertThat(assembled.totalCreditAmount()).isEqualByComparingTo(legacy.totalCreditAmount());
+        assertThat(assembled.transactionCountByType()).isEqualTo(legacy.transactionCountByType());
+        assertThat(assembled.transactionAmountByType()).isEqualTo(legacy.transactionAmountByType());
+        assertThat(assembled.transactionCountByStatus()).isEqualTo(legacy.transactionCountByStatus());
+        assertThat(assembled.dailyTransactionCounts()).isEqualTo(legacy.dailyTransactionCounts());
+        assertThat(assembled.dailyTransactionAmounts()).isEqualTo(legacy.dailyTransactionAmounts());
+    }
+
+    @Test
+    @DisplayName("거래 통계 벤치마크 (100만 건)")
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkOneMillionTransactions() {
+        int size = 1_000_000;
+
+        // 집계는 데이터베이스가 수행하므로 집계 행은 측정 전에 준비
+        List<Object[]> rows = groupingSetRows(size);
+
+        Measurement before = measure(() -> legacyStatistics(syntheticTransactions(size)));
+        Measurement after = measure(() -> TransactionStatisticsAssembler.assemble(START_DATE, END_DATE, rows));
+
+        System.out.printf("[거래 통계 벤치마크] 건수: %,d%n", size);
+        System.out.printf("  기존 (엔티티 적재 + 6회 스트림): %,d ms, 할당 %,d MB%n",
+            before.millis(), before.allocatedBytes() / (1024 * 1024));
+        System.out.printf("  개선 (GROUPING SETS 행 조립):   %,d ms, 할당 %,d KB%n",
+            after.millis(), after.allocatedBytes() / 1024);
+
+        assertThat(after.result().totalTransactionCount()).isEqualTo(before.result().totalTransactionCount());
+        assertThat(after.allocatedBytes()).isLessThan(before.allocatedBytes());
+    }
+
+    /**
+     * 기존 구현: 엔티티 목록을 6회 순회하여 통계 생성
+     */
+    private TransactionStatisticsDto legacyStatistics(List<Transaction> transactions) {
+        Long totalCount = (long) transactions.size();
+        BigDecimal totalAmount = transactions.stream()
+            .map(t -> t.getDebitAmount().add(t.getCreditAmount()))
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalDebit = transactions.stream()
+            .map(Transaction::getDebitAmount)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalCredit = transactions.stream()
+            .map(Transaction::getCreditAmount)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        Map<String, Long> countByType = transactions.stream()
+            .collect(Collectors.groupingBy(t -> t.getTransactionType().name(), Collectors.counting()));
+        Map<String, BigDecimal> amountByType = transactions.stream()
+            .collect(Collectors.groupingBy(t -> t.getTransactionType().name(),
+                Collectors.reducing(BigDecimal.ZERO, t -> t.getDebitAmount().add(t.getCreditAmount()),
+                    BigDecimal::add)));
+        Map<String, Long> countByStatus = transactions.stream()
+            .collect(Collectors.groupingBy(t -> t.getTransactionStatus().name(), Collectors.counting()));
+        Map<String, Long> dailyCounts = transactions.stream()
+            .collect(Collectors.groupingBy(t -> t.getTransactionDate().toString(), Collectors.counting()));
+        Map<String, BigDecimal> dailyAmounts = transactions.stream()
+            .collect(Collectors.groupingBy(t -> t.getTransactionDate().toString(),
+                Collectors.reducing(BigDecimal.ZERO, t -> t.getDebitAmount().add(t.getCreditAmount()),
+                    BigDecimal::add)));
+
+        return new TransactionStatisticsDto(START_DATE, END_DATE, totalCount, totalAmount, totalDebit,
+            totalCredit, countByType, amountByType, countByStatus, dailyCounts, dailyAmounts);
+    }
+
+    /**
+     * 합성 거래 엔티티 생성
+     */
+    private List<Transaction> syntheticTransactions(int size) {
+        List<Transaction> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setTransactionNumber("JE" + i);
+            transaction.setTransactionType(TYPES[i % TYPES.length]);
+            transaction.setTransactionStatus(STATUSES[(i / TYPES.length) % STATUSES.length]);
+            transaction.setTransactionDate(START_DATE.plusDays(i % DAYS));
+            transaction.setDebitAmount(i % 2 == 0 ? amount(i) : BigDecimal.ZERO);
+            transaction.setCreditAmount(i % 2 == 0 ? BigDecimal.ZERO : amount(i));
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+
+    /**
+     * 데이터베이스 GROUPING SETS 결과와 동일한 형태의 집계 행 생성
+     */
+    private List<Object[]> groupingSetRows(int size) {
+        long[] typeCounts = new long[TYPES.length];
+        BigDecimal[][] typeAmounts = new BigDecimal[TYPES.length][2];
+        long[] statusCounts = new long[STATUSES.length];
+        long[] dayCounts = new long[DAYS];
+        BigDecimal[][] dayAmounts = new BigDecimal[DAYS][2];
+        BigDecimal[] totals = {BigDecimal.ZERO, BigDecimal.ZERO};
+
+        for (int i = 0; i < size; i++) {
+            int side = i % 2;
+            BigDecimal amount = amount(i);
+            int type = i % TYPES.length;
+            int day = i % DAYS;
+            typeCounts[type]++;
+            typeAmounts[type][side] = add(typeAmounts[type][side], amount);
+            statusCounts[(i / TYPES.length) % STATUSES.length]++;
+            dayCounts[day]++;
+            dayAmounts[day][side] = add(dayAmounts[day][side], amount);
+            totals[side] = totals[side].add(amount);
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{TransactionStatisticsAssembler.GROUPING_TOTAL, null, null, null,
+            (long) size, totals[0], totals[1]});
+        for (int t = 0; t < TYPES.length; t++) {
+            if (typeCounts[t] > 0) {
+                rows.add(new Object[]{TransactionStatisticsAssembler.GROUPING_BY_TYPE, TYPES[t].name(), null, null,
+                    typeCounts[t], zeroIfNull(typeAmounts[t][0]), zeroIfNull(typeAmounts[t][1])});
+            }
+        }
+        for (int s = 0; s < STATUSES.length; s++) {
+            if (statusCounts[s] > 0) {
+                rows.add(new Object[]{TransactionStatisticsAssembler.GROUPING_BY_STATUS, null, STATUSES[s].name(),
+                    null, statusCounts[s], BigDecimal.ZERO, BigDecimal.ZERO});
+            }
+        }
+        Map<LocalDate, Integer> orderedDays = new TreeMap<>();
+        for (int d = 0; d < DAYS; d++) {
+            orderedDays.put(START_DATE.plusDays(d), d);
+        }
+        orderedDays.forEach((date, d) -> {
+            if (dayCounts[d] > 0) {
+                rows.add(new Object[]{TransactionStatisticsAssembler.GROUPING_BY_DATE, null, null,
+                    java.sql.Date.valueOf(date), dayCounts[d], zeroIfNull(dayAmounts[d][0]),
+                    zeroIfNull(dayAmounts[d][1])});
+            }
+        });
+        return rows;
+    }
+
+    private static BigDecimal amount(int i) {
+        return BigDecimal.valueOf(100_000L + (i % 997) * 1_000L, 2);
+    }
+
+    private static BigDecimal add(BigDecimal sum, BigDecimal amount) {
+        return sum == null ? amount : sum.add(amount);
+    }
+
+    private static BigDecimal zeroIfNull(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    private Measurement measure(Supplier<TransactionStatisticsDto> task) {
+        com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        System.gc();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        TransactionStatisticsDto result = task.get();
+        long elapsed = System.nanoTime() - started;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Measurement(result, elapsed / 1_000_000, allocated);
+    }
+
+    private record Measurement(TransactionStatisticsDto result, long millis, long allocatedBytes) {
+    }
+}
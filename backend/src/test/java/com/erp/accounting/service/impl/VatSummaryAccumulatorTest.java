@@ -0,0 +1,69 @@
+package com.erp.accounting.service.impl;
+
+import com.erp.accounting.dto.VatSummaryDto;
+import com.erp.accounting.entity.Transaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부가가치세 요약 누적기 테스트
+ * 세금유형/거래처/세금계산서 집계와 매출·매입 세액 대사를 확인합니다
+ */
+class VatSummaryAccumulatorTest {
+
+    @Test
+    @DisplayName("매출/매입 집계 행을 세금유형, 거래처, 세금계산서별로 누적하고 세액을 대사")
+    void accumulatesAndReconciles() {
+        // Given: 매출 1,000,000 (부가세 100,000) 두 건, 매입 500,000 (부가세 49,000 - 오기재)
+        VatSummaryAccumulator accumulator = new VatSummaryAccumulator();
+        Transaction.TransactionType sales = Transaction.TransactionType.SALES;
+        Transaction.TransactionType purchase = Transaction.TransactionType.PURCHASE;
+
+        accumulator.accept(sales, Transaction.TaxType.VAT_10, "한빛상사", "S-001", 1, 0, 600_000_00L, 60_000_00L);
+        accumulator.accept(sales, Transaction.TaxType.VAT_10, "한빛상사", "S-002", 1, 0, 400_000_00L, 40_000_00L);
+        accumulator.accept(sales, null, null, null, 4, 1_100_000_00L, 100_000_00L, 0);
+        accumulator.accept(purchase, Transaction.TaxType.VAT_10, "대한물류", null, 1, 500_000_00L, 0, 49_000_00L);
+        accumulator.accept(purchase, null, null, null, 2, 50_000_00L, 550_000_00L, 0);
+        accumulator.accept(Transaction.TransactionType.JOURNAL, Transaction.TaxType.WITHHOLDING, "홍길동", null,
+            1, 3_000_000_00L, 0, 99_000_00L);
+
+        // When
+        VatSummaryDto summary = accumulator.toDto(1L, 2024, VatSummaryDto.FilingPeriod.FIRST_PRELIMINARY,
+            LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31));
+
+        // Then
+        assertThat(summary.taxTypes()).extracting(VatSummaryDto.TaxTypeSummary::supplyAmount)
+            .containsExactly(new BigDecimal("1000000.00"), new BigDecimal("500000.00"), new BigDecimal("3000000.00"));
+        assertThat(summary.partners()).extracting(VatSummaryDto.PartnerSummary::businessPartner)
+            .containsExactly("한빛상사", "대한물류", "홍길동");
+        assertThat(summary.partners().get(0).invoiceCount()).isEqualTo(2);
+        assertThat(summary.invoices()).extracting(VatSummaryDto.InvoiceSummary::taxInvoiceNumber)
+            .containsExactly("S-001", "S-002");
+
+        VatSummaryDto.Reconciliation salesReconciliation = summary.reconciliations().get(0);
+        assertThat(salesReconciliation.declaredTax()).isEqualByComparingTo("100000");
+        assertThat(salesReconciliation.expectedTax()).isEqualByComparingTo("100000");
+        assertThat(salesReconciliation.postedTax()).isEqualByComparingTo("100000");
+        assertThat(salesReconciliation.balanced()).isTrue();
+
+        VatSummaryDto.Reconciliation purchaseReconciliation = summary.reconciliations().get(1);
+        assertThat(purchaseReconciliation.expectedTax()).isEqualByComparingTo("50000");
+        assertThat(purchaseReconciliation.expectedDifference()).isEqualByComparingTo("-1000");
+        assertThat(purchaseReconciliation.postedTax()).isEqualByComparingTo("50000");
+        assertThat(purchaseReconciliation.missingInvoiceLineCount()).isEqualTo(1L);
+        assertThat(purchaseReconciliation.balanced()).isFalse();
+    }
+
+    @Test
+    @DisplayName("신고 기간별 시작일/종료일")
+    void filingPeriodDates() {
+        assertThat(VatSummaryDto.FilingPeriod.FIRST_FINAL.startDate(2024)).isEqualTo(LocalDate.of(2024, 4, 1));
+        assertThat(VatSummaryDto.FilingPeriod.FIRST_FINAL.endDate(2024)).isEqualTo(LocalDate.of(2024, 6, 30));
+        assertThat(VatSummaryDto.FilingPeriod.SECOND_HALF.endDate(2024)).isEqualTo(LocalDate.of(2024, 12, 31));
+    }
+}
@@ -0,0 +1,60 @@
+package com.erp.common.service.impl;
+
+import com.erp.common.dto.ApiResponse;
+import com.erp.common.dto.CountMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 건수 캐시 테스트
+ * 건수 조회 방식별 COUNT 실행 여부와 슬라이스 응답 구성을 확인합니다
+ */
+class ListCountCacheTest {
+
+    @Test
+    @DisplayName("NONE은 COUNT 미실행, APPROXIMATE는 TTL 동안 재사용, EXACT는 항상 실행")
+    void countRunsOnlyWhenRequested() {
+        // Given
+        ListCountCache cache = new ListCountCache();
+        AtomicInteger executions = new AtomicInteger();
+
+        // When & Then
+        assertThat(cache.count(CountMode.NONE, "orders:1:", () -> executions.incrementAndGet())).isNull();
+        assertThat(executions).hasValue(0);
+
+        assertThat(cache.count(CountMode.APPROXIMATE, "orders:1:", () -> 10L + executions.incrementAndGet())).isEqualTo(11L);
+        assertThat(cache.count(CountMode.APPROXIMATE, "orders:1:", () -> 10L + executions.incrementAndGet())).isEqualTo(11L);
+        assertThat(executions).hasValue(1);
+
+        assertThat(cache.count(CountMode.EXACT, "orders:1:", () -> 10L + executions.incrementAndGet())).isEqualTo(12L);
+        assertThat(executions).hasValue(2);
+
+        cache.evictByPrefix("orders:1");
+        assertThat(cache.count(CountMode.APPROXIMATE, "orders:1:", () -> 10L + executions.incrementAndGet())).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("슬라이스 응답은 요청한 경우에만 전체 건수 포함")
+    void sliceResponseIncludesCountOnlyWhenRequested() {
+        // Given
+        SliceImpl<String> slice = new SliceImpl<>(List.of("a", "b"), PageRequest.of(0, 2), true);
+
+        // When
+        ApiResponse.SliceResponse<String> withoutCount = ApiResponse.SliceResponse.of(slice, null, CountMode.NONE);
+        ApiResponse.SliceResponse<String> approximate = ApiResponse.SliceResponse.of(slice, 42L, CountMode.APPROXIMATE);
+
+        // Then
+        assertThat(withoutCount.isHasNext()).isTrue();
+        assertThat(withoutCount.getTotalElements()).isNull();
+        assertThat(withoutCount.getTotalElementsApproximate()).isNull();
+        assertThat(approximate.getTotalElements()).isEqualTo(42L);
+        assertThat(approximate.getTotalElementsApproximate()).isTrue();
+    }
+}
@@ -0,0 +1,35 @@
+package com.erp.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 페이지 요청 유틸리티 테스트
+ * 슬라이스 조회 정렬이 페이지 경계에서 흔들리지 않도록 고정되는지 확인합니다
+ */
+class PageableUtilsTest {
+
+    private static final Sort BY_DATE = Sort.by(Sort.Direction.DESC, "transactionDate");
+
+    @Test
+    @DisplayName("정렬이 없으면 기본 정렬/ID 내림차순, 요청 정렬에는 ID를 마지막 기준으로 추가")
+    void stableOrder() {
+        Pageable unsorted = PageableUtils.withStableOrder(PageRequest.of(2, 20), BY_DATE);
+        assertThat(unsorted.getPageNumber()).isEqualTo(2);
+        assertThat(unsorted.getPageSize()).isEqualTo(20);
+        assertThat(unsorted.getSort()).containsExactly(
+            Sort.Order.desc("transactionDate"), Sort.Order.desc("id"));
+
+        Pageable byAmount = PageableUtils.withStableOrder(
+            PageRequest.of(0, 20, Sort.by(Sort.Order.asc("debitAmount"))), BY_DATE);
+        assertThat(byAmount.getSort()).containsExactly(Sort.Order.asc("debitAmount"), Sort.Order.desc("id"));
+
+        Pageable byId = PageableUtils.withStableOrder(PageRequest.of(0, 20, Sort.by(Sort.Order.asc("id"))), BY_DATE);
+        assertThat(byId.getSort()).containsExactly(Sort.Order.asc("id"));
+    }
+}
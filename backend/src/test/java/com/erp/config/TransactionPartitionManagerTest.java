@@ -0,0 +1,153 @@
+package com.erp.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 거래 테이블 회계연도 파티션 테스트
+ * 로컬 PostgreSQL에서 파티션 생성, 실행계획의 파티션 프루닝, 마감 연도 분리를 확인합니다
+ * 실행: -Dpostgres.url=jdbc:postgresql://localhost:5432/erp_test -Dpostgres.username=... -Dpostgres.password=...
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "postgres.url", matches = ".+")
+class TransactionPartitionManagerTest {
+
+    private static final String SCHEMA = "partition_test";
+
+    private final int currentYear = Year.now().getValue();
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionPartitionManager partitionManager;
+
+    @BeforeAll
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(System.getProperty("postgres.url"),
+            System.getProperty("postgres.username", "postgres"), System.getProperty("postgres.password", ""), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("SET search_path TO " + SCHEMA);
+        jdbcTemplate.execute("CREATE TABLE companies (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE accounts (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE employees (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("INSERT INTO companies VALUES (1), (2)");
+        jdbcTemplate.execute("INSERT INTO accounts VALUES (1)");
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        partitionManager = new TransactionPartitionManager(jdbcTemplate, transactionTemplate);
+        partitionManager.initialize();
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.destroy();
+    }
+
+    @Test
+    @DisplayName("과거/당해/다음 연도 파티션과 파티션별 인덱스 생성")
+    void initializeCreatesYearlyPartitionsWithIndexes() {
+        assertThat(partitionManager.attachedPartitions())
+            .contains(TransactionPartitionManager.partitionName(currentYear - TransactionPartitionManager.PAST_YEARS),
+                TransactionPartitionManager.partitionName(currentYear),
+                TransactionPartitionManager.partitionName(currentYear + 1),
+                TransactionPartitionManager.DEFAULT_PARTITION);
+
+        Integer indexCount = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM pg_indexes WHERE schemaname = ? AND tablename = ?", Integer.class,
+            SCHEMA, TransactionPartitionManager.partitionName(currentYear));
+        assertThat(indexCount).isEqualTo(TransactionPartitionManager.CREATE_INDEXES.length + 1);
+    }
+
+    @Test
+    @DisplayName("회계연도 조건 조회는 해당 연도 파티션만 탐색")
+    void fiscalYearQueryPrunesToSinglePartition() {
+        String plan = explain("SELECT * FROM transactions t WHERE t.company_id = 1 AND t.fiscal_year = " + currentYear);
+
+        assertThat(plan).contains(TransactionPartitionManager.partitionName(currentYear));
+        assertThat(plan).doesNotContain(TransactionPartitionManager.partitionName(currentYear - 1));
+        assertThat(plan).doesNotContain(TransactionPartitionManager.DEFAULT_PARTITION);
+    }
+
+    @Test
+    @DisplayName("기간 조회는 기간에 걸친 연도 파티션만 탐색")
+    void periodQueryPrunesToOverlappingPartitions() {
+        String startDate = "'" + (currentYear - 1) + "-07-01'";
+        String endDate = "'" + currentYear + "-06-30'";
+        String plan = explain("SELECT * FROM transactions t WHERE t.company_id = 1 " +
+            "AND t.transaction_date BETWEEN " + startDate + " AND " + endDate + " " +
+            "AND t.fiscal_year BETWEEN CAST(EXTRACT(YEAR FROM CAST(" + startDate + " AS date)) AS integer) " +
+            "AND CAST(EXTRACT(YEAR FROM CAST(" + endDate + " AS date)) AS integer)");
+
+        assertThat(plan).contains(TransactionPartitionManager.partitionName(currentYear - 1),
+            TransactionPartitionManager.partitionName(currentYear));
+        assertThat(plan).doesNotContain(TransactionPartitionManager.partitionName(currentYear - 2),
+            TransactionPartitionManager.partitionName(currentYear + 1),
+            TransactionPartitionManager.DEFAULT_PARTITION);
+    }
+
+    @Test
+    @DisplayName("기본 파티션에 쌓인 연도 거래는 새 파티션 생성 시 이동")
+    void ensurePartitionMovesRowsFromDefaultPartition() {
+        int futureYear = currentYear + 3;
+        insertTransaction(1L, futureYear, "JOURNAL");
+
+        partitionManager.ensurePartition(futureYear);
+
+        assertThat(count(TransactionPartitionManager.partitionName(futureYear))).isEqualTo(1);
+        assertThat(count(TransactionPartitionManager.DEFAULT_PARTITION)).isZero();
+    }
+
+    @Test
+    @DisplayName("결산분개가 없는 회사가 있으면 분리 거부, 마감 후 분리하면 조회 대상에서 제외")
+    void detachRequiresClosedYear() {
+        int closedYear = currentYear - 2;
+        insertTransaction(1L, closedYear, "JOURNAL");
+        insertTransaction(2L, closedYear, "JOURNAL");
+        insertTransaction(1L, closedYear, "CLOSING");
+
+        assertThatThrownBy(() -> partitionManager.detachPartition(closedYear))
+            .isInstanceOf(IllegalStateException.class);
+
+        insertTransaction(2L, closedYear, "CLOSING");
+        String archive = partitionManager.detachPartition(closedYear);
+
+        assertThat(archive).isEqualTo(TransactionPartitionManager.archiveName(closedYear));
+        assertThat(count(archive)).isEqualTo(4);
+        assertThat(explain("SELECT * FROM transactions t WHERE t.fiscal_year = " + closedYear))
+            .doesNotContain(archive);
+
+        partitionManager.attachPartition(closedYear);
+        assertThat(count("transactions WHERE fiscal_year = " + closedYear)).isEqualTo(4);
+    }
+
+    private void insertTransaction(Long companyId, int fiscalYear, String transactionType) {
+        jdbcTemplate.update("INSERT INTO transactions (transaction_number, company_id, transaction_date, " +
+            "transaction_type, transaction_status, account_id, debit_amount, credit_amount, fiscal_year, fiscal_month) " +
+            "VALUES (?, ?, make_date(?, 12, 31), ?, 'POSTED', 1, 100, 0, ?, 12)",
+            "T" + fiscalYear + transactionType + companyId, companyId, fiscalYear, transactionType, fiscalYear);
+    }
+
+    private int count(String table) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+        return count != null ? count : 0;
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (COSTS OFF) " + sql, String.class));
+    }
+}
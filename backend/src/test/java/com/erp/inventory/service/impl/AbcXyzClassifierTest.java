@@ -0,0 +1,86 @@
+package com.erp.inventory.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * ABC/XYZ 분류기 테스트
+ * 누적 비율 경계, 같은 금액의 순서, 월별 수량 변동계수 등급과 대량 상품 정렬을 확인합니다
+ */
+class AbcXyzClassifierTest {
+
+    @Test
+    @DisplayName("직전 누적 비율로 ABC 등급을 매기고 월별 수량 변동계수로 XYZ 등급을 매김")
+    void classifiesAbcAndXyz() {
+        AbcXyzClassifier classifier = new AbcXyzClassifier(4);
+        // 1번: 매월 10개 (변동 없음), 금액 700
+        for (int period = 0; period < 4; period++) {
+            classifier.add(1L, "P-001", "볼트", period, 10, 175);
+        }
+        // 2번: 2개월만 소비, 금액 150
+        classifier.add(2L, "P-002", "너트", 0, 3, 75);
+        classifier.add(2L, "P-002", "너트", 2, 3, 75);
+        classifier.add(3L, "P-003", "와셔", 1, 8, 110);
+        // 4번, 5번: 같은 금액이면 추가 순서 유지
+        classifier.add(4L, "P-004", "핀", 3, 1, 20);
+        classifier.add(5L, "P-005", "링", 0, 1, 20);
+
+        List<AbcXyzClassifier.Item> items = classifier.classify();
+
+        assertThat(items).extracting(AbcXyzClassifier.Item::productId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(items).extracting(AbcXyzClassifier.Item::abcClass).containsExactly('A', 'A', 'B', 'C', 'C');
+        assertThat(items.get(0).cumulativeShare()).isCloseTo(0.7, within(1e-9));
+        assertThat(items.get(4).cumulativeShare()).isCloseTo(1.0, within(1e-9));
+        assertThat(items.get(0).quantity()).isEqualTo(40);
+
+        assertThat(items.get(0).variation()).isZero();
+        assertThat(items.get(0).xyzClass()).isEqualTo('X');
+        // 3, 0, 3, 0 -> 평균 1.5, 표준편차 1.5
+        assertThat(items.get(1).variation()).isCloseTo(1.0, within(1e-9));
+        assertThat(items.get(1).xyzClass()).isEqualTo('Y');
+        assertThat(items.get(2).xyzClass()).isEqualTo('Z');
+    }
+
+    @Test
+    @DisplayName("기간이 3개월 미만이면 XYZ 등급 없음")
+    void skipsXyzForShortPeriods() {
+        AbcXyzClassifier classifier = new AbcXyzClassifier(2);
+        classifier.add(1L, "P-001", "볼트", 0, 5, 50);
+        classifier.add(1L, "P-001", "볼트", 1, 5, 50);
+
+        AbcXyzClassifier.Item item = classifier.classify().get(0);
+
+        assertThat(item.variation()).isNaN();
+        assertThat(item.xyzClass()).isEqualTo((char) 0);
+        assertThat(item.abcClass()).isEqualTo('A');
+    }
+
+    @Test
+    @DisplayName("대량 상품도 배열을 늘려 모으고 금액 큰 순으로 정렬")
+    void sortsManyProducts() {
+        int count = 200_000;
+        AbcXyzClassifier classifier = new AbcXyzClassifier(12);
+        Random random = new Random(42);
+        for (int i = 0; i < count; i++) {
+            classifier.add(i, "P-" + i, null, random.nextInt(12), 1 + random.nextInt(100),
+                random.nextInt(1_000_000) / 100.0);
+        }
+
+        List<AbcXyzClassifier.Item> items = classifier.classify();
+
+        assertThat(classifier.size()).isEqualTo(count);
+        assertThat(items).hasSize(count);
+        for (int i = 1; i < count; i++) {
+            assertThat(items.get(i - 1).value() >= items.get(i).value()).isTrue();
+        }
+        assertThat(items.get(0).abcClass()).isEqualTo('A');
+        assertThat(items.get(count - 1).abcClass()).isEqualTo('C');
+        assertThat(items.get(count - 1).cumulativeShare()).isCloseTo(1.0, within(1e-9));
+    }
+}
@@ -0,0 +1,79 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.inventory.dto.AvailableToPromiseDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * ATP 서비스 테스트
+ * 창고 배정 순서, 같은 상품 여러 항목의 중복 배정 방지, 출고 예정일 계산을 확인합니다
+ */
+class AvailableToPromiseServiceImplTest {
+
+    @Test
+    @DisplayName("우선 창고 먼저, 나머지는 가용 수량이 많은 창고부터 배정")
+    void allocatePreferredThenLargest() {
+        assertThat(AvailableToPromiseServiceImpl.allocate(new int[] {5, 30, 10}, 12, -1)).containsExactly(0, 12, 0);
+        assertThat(AvailableToPromiseServiceImpl.allocate(new int[] {5, 30, 10}, 12, 0)).containsExactly(5, 7, 0);
+        assertThat(AvailableToPromiseServiceImpl.allocate(new int[] {5, 30, 10}, 50, 2)).containsExactly(5, 30, 10);
+        assertThat(AvailableToPromiseServiceImpl.allocate(new int[] {0, -3}, 4, -1)).containsExactly(0, 0);
+
+        LocalDate today = LocalDate.of(2024, 3, 1);
+        assertThat(AvailableToPromiseServiceImpl.promiseDate(today, 0, 7)).isEqualTo(today);
+        assertThat(AvailableToPromiseServiceImpl.promiseDate(today, 3, 7)).isEqualTo(LocalDate.of(2024, 3, 8));
+        assertThat(AvailableToPromiseServiceImpl.promiseDate(today, 3, 0)).isNull();
+    }
+
+    @Test
+    @DisplayName("여러 항목을 한 번의 캐시 조회로 처리하고 같은 상품은 남은 수량으로 배정")
+    void checksAllLinesWithOneLookup() {
+        StockAvailabilityCache cache = mock(StockAvailabilityCache.class);
+        StockReservationManager reservations = mock(StockReservationManager.class);
+        StockAvailabilityCache.ProductStock mouse = new StockAvailabilityCache.ProductStock(5, List.of(
+            new StockAvailabilityCache.WarehouseStock(11L, 1L, "본사 창고", new AtomicInteger(20), 5),
+            new StockAvailabilityCache.WarehouseStock(12L, 2L, "물류센터", new AtomicInteger(8), 0)));
+        when(cache.get(eq(1L), any())).thenReturn(Map.of(2L, mouse));
+        // 예약 원장이 관리 중인 재고는 임시 예약을 뺀 원장 가용 수량 사용
+        when(reservations.trackedAvailable(11L)).thenReturn(12);
+        when(reservations.trackedAvailable(12L)).thenReturn(null);
+
+        AvailableToPromiseDto.ResultDto result = new AvailableToPromiseServiceImpl(cache, reservations)
+            .checkAvailability(1L, new AvailableToPromiseDto.RequestDto(null, List.of(
+                new AvailableToPromiseDto.LineDto(2L, 10.0),
+                new AvailableToPromiseDto.LineDto(2L, 11.0),
+                new AvailableToPromiseDto.LineDto(99L, 1.0))));
+
+        verify(cache, times(1)).get(eq(1L), any());
+        assertThat(result.fulfillable()).isFalse();
+        assertThat(result.shortLineCount()).isEqualTo(2);
+
+        AvailableToPromiseDto.LineResultDto first = result.lines().get(0);
+        assertThat(first.fulfillable()).isTrue();
+        assertThat(first.allocations()).containsExactly(new AvailableToPromiseDto.AllocationDto(1L, "본사 창고", 10));
+
+        AvailableToPromiseDto.LineResultDto second = result.lines().get(1);
+        assertThat(second.allocatedQuantity()).isEqualTo(10);
+        assertThat(second.shortageQuantity()).isEqualTo(1);
+        assertThat(second.promiseDate()).isEqualTo(LocalDate.now().plusDays(5));
+        assertThat(second.allocations()).containsExactlyInAnyOrder(
+            new AvailableToPromiseDto.AllocationDto(2L, "물류센터", 8),
+            new AvailableToPromiseDto.AllocationDto(1L, "본사 창고", 2));
+
+        AvailableToPromiseDto.LineResultDto unknown = result.lines().get(2);
+        assertThat(unknown.fulfillable()).isFalse();
+        assertThat(unknown.promiseDate()).isNull();
+    }
+}
@@ -0,0 +1,56 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.inventory.dto.InventoryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 체류 기간 구간 집계 테스트
+ * 구간 경계와 전체/창고별 수량, 금액, 금액 비율 집계를 확인합니다
+ */
+class InventoryAgingAccumulatorTest {
+
+    @Test
+    @DisplayName("경과일 구간 경계는 상한 포함")
+    void bucketBoundaries() {
+        assertThat(InventoryAgingAccumulator.bucketOf(-1)).isZero();
+        assertThat(InventoryAgingAccumulator.bucketOf(30)).isZero();
+        assertThat(InventoryAgingAccumulator.bucketOf(31)).isEqualTo(1);
+        assertThat(InventoryAgingAccumulator.bucketOf(90)).isEqualTo(1);
+        assertThat(InventoryAgingAccumulator.bucketOf(180)).isEqualTo(2);
+        assertThat(InventoryAgingAccumulator.bucketOf(181)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전체와 창고별로 구간 건수, 수량, 금액을 누적하고 금액 비율을 계산")
+    void accumulatesByWarehouse() {
+        InventoryAgingAccumulator accumulator = new InventoryAgingAccumulator();
+        accumulator.add(1L, "본사 창고", 10, 5, new BigDecimal("500"));
+        accumulator.add(1L, "본사 창고", 200, 2, new BigDecimal("1500"));
+        accumulator.add(2L, "지점 창고", 45, 8, new BigDecimal("2000"));
+        accumulator.add(2L, "지점 창고", 365, 1, null);
+
+        InventoryDto.InventoryAgingDto result = accumulator.toDto(7L, LocalDate.of(2026, 10, 1));
+
+        assertThat(result.inventoryCount()).isEqualTo(4);
+        assertThat(result.totalQuantity()).isEqualTo(16L);
+        assertThat(result.totalValue()).isEqualByComparingTo("4000");
+        assertThat(result.buckets()).extracting(InventoryDto.AgingBucketDto::inventoryCount)
+            .containsExactly(1, 1, 0, 2);
+        assertThat(result.buckets()).extracting(InventoryDto.AgingBucketDto::valuePercentage)
+            .containsExactly(12.5, 50.0, 0.0, 37.5);
+
+        assertThat(result.warehouses()).extracting(InventoryDto.WarehouseAgingDto::warehouseName)
+            .containsExactly("본사 창고", "지점 창고");
+        InventoryDto.WarehouseAgingDto branch = result.warehouses().get(1);
+        assertThat(branch.totalQuantity()).isEqualTo(9L);
+        assertThat(branch.buckets().get(1).stockValue()).isEqualByComparingTo("2000");
+        assertThat(branch.buckets().get(3).quantity()).isEqualTo(1L);
+        assertThat(branch.buckets().get(3).valuePercentage()).isZero();
+    }
+}
@@ -0,0 +1,177 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.config.ExecutorConfig;
+import com.erp.inventory.dto.InventorySnapshotDto;
+import com.erp.inventory.entity.StockMovement;
+import com.erp.inventory.event.StockMovedEvent;
+import com.erp.inventory.repository.InventorySnapshotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 재고 재구성기 테스트
+ * 테스트 환경에 DB가 없어 창고별 재구성 문장을 메모리 결과로 흉내 내고,
+ * 창고별 병렬 처리, 잠금 후 적용 순서, 미리보기/실패 격리 규칙을 확인합니다
+ */
+class InventoryRebuilderTest {
+
+    private RebuildJdbcTemplate jdbc;
+    private List<Object> events;
+    private ThreadPoolTaskExecutor executor;
+    private InventoryRebuilder rebuilder;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new RebuildJdbcTemplate();
+        events = new CopyOnWriteArrayList<>();
+        executor = new ExecutorConfig().inventoryRebuildExecutor(3);
+        executor.initialize();
+        rebuilder = new InventoryRebuilder(jdbc, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            events::add, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("창고별로 병렬 재구성하고 잠금 후 적용한 변경만 재고 변경 이벤트로 발행")
+    void rebuildsWarehousesInParallel() {
+        jdbc.rows.put(1L, List.<Object[]>of(new Object[] {11L, 1L, 101L, 30, 25, 20, 0}));
+        jdbc.rows.put(2L, List.of(new Object[] {21L, 1L, 101L, 5, 9, 9, 10}, new Object[] {22L, 1L, 102L, 0, 4, 4, 0}));
+        jdbc.rows.put(3L, List.of());
+        jdbc.chainBreaks.put(2L, 1L);
+        jdbc.barrier = new CountDownLatch(3);
+
+        List<InventorySnapshotDto.WarehouseRebuildDto> results = rebuilder.rebuild(List.of(1L, 2L, 3L), false);
+
+        assertThat(results).extracting(InventorySnapshotDto.WarehouseRebuildDto::warehouseId).containsExactly(1L, 2L, 3L);
+        assertThat(results).extracting(InventorySnapshotDto.WarehouseRebuildDto::changedCount).containsExactly(1, 2, 0);
+        assertThat(results.get(1).chainBreakCount()).isEqualTo(1L);
+        assertThat(results.get(0).changes()).containsExactly(new InventorySnapshotDto.InventoryChangeDto(11L, 101L, 30, 25));
+        // 세 창고가 서로를 기다린 뒤 진행했으므로 동시에 실행됨
+        assertThat(jdbc.threads).hasSize(3);
+        assertThat(jdbc.lockedBeforeApply).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+        assertThat(events).hasSize(3).allSatisfy(event -> assertThat(event).isInstanceOf(StockMovedEvent.class));
+        assertThat(events).contains(new StockMovedEvent(1L, 11L, 101L, 1L, StockMovement.MovementType.ADJUSTMENT_OUT,
+            -5, 25, 20, 0));
+        assertThat(events).contains(new StockMovedEvent(1L, 22L, 102L, 2L, StockMovement.MovementType.ADJUSTMENT_IN,
+            4, 4, 4, 0));
+    }
+
+    @Test
+    @DisplayName("미리보기는 잠그지 않고 이벤트도 없으며 실패한 창고는 다른 창고 결과에 영향 없음")
+    void dryRunAndFailureIsolation() {
+        jdbc.rows.put(1L, List.<Object[]>of(new Object[] {11L, 1L, 101L, 30, 25, 20, 0}));
+        jdbc.failing.add(2L);
+
+        List<InventorySnapshotDto.WarehouseRebuildDto> results = rebuilder.rebuild(List.of(1L, 2L), true);
+
+        assertThat(results.get(0).changedCount()).isEqualTo(1);
+        assertThat(results.get(0).errorMessage()).isNull();
+        assertThat(results.get(1).changedCount()).isZero();
+        assertThat(results.get(1).errorMessage()).contains("창고 2");
+        assertThat(jdbc.locked).isEmpty();
+        assertThat(events).isEmpty();
+    }
+
+    /**
+     * 창고별 재구성 문장을 흉내 내는 JdbcTemplate
+     */
+    private static final class RebuildJdbcTemplate extends JdbcTemplate {
+
+        final Map<Long, List<Object[]>> rows = new ConcurrentHashMap<>();
+        final Map<Long, Long> chainBreaks = new ConcurrentHashMap<>();
+        final Set<Long> failing = ConcurrentHashMap.newKeySet();
+        final Set<Long> locked = ConcurrentHashMap.newKeySet();
+        final Set<Long> lockedBeforeApply = ConcurrentHashMap.newKeySet();
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        volatile CountDownLatch barrier;
+
+        @Override
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            assertThat(sql).isEqualTo(InventorySnapshotRepository.NATIVE_LOCK_WAREHOUSE_INVENTORIES);
+            locked.add((Long) args[0]);
+            return List.of();
+        }
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            Long warehouseId = (Long) args[0];
+            if (failing.contains(warehouseId)) {
+                throw new IllegalStateException("창고 " + warehouseId + " 재구성 오류");
+            }
+            if (sql.equals(InventorySnapshotRepository.NATIVE_REBUILD_APPLY) && locked.contains(warehouseId)) {
+                lockedBeforeApply.add(warehouseId);
+            }
+            threads.add(Thread.currentThread().getName());
+            awaitOthers();
+            List<T> mapped = new ArrayList<>();
+            for (Object[] values : rows.getOrDefault(warehouseId, Collections.emptyList())) {
+                try {
+                    mapped.add(rowMapper.mapRow(resultSet(values), mapped.size()));
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return mapped;
+        }
+
+        @Override
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            assertThat(sql).isEqualTo(InventorySnapshotRepository.NATIVE_CHAIN_BREAKS);
+            return requiredType.cast(chainBreaks.getOrDefault((Long) args[0], 0L));
+        }
+
+        private void awaitOthers() {
+            CountDownLatch latch = barrier;
+            if (latch == null) {
+                return;
+            }
+            latch.countDown();
+            try {
+                assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static ResultSet resultSet(Object[] values) {
+            return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class},
+                (proxy, method, methodArgs) -> {
+                    Object value = values[(Integer) methodArgs[0] - 1];
+                    return switch (method.getName()) {
+                        case "getLong" -> ((Number) value).longValue();
+                        case "getInt" -> ((Number) value).intValue();
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+        }
+    }
+}
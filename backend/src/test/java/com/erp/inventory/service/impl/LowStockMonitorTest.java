@@ -0,0 +1,194 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.common.entity.User;
+import com.erp.common.repository.UserRepository;
+import com.erp.common.service.NotificationService;
+import com.erp.config.ExecutorConfig;
+import com.erp.inventory.entity.Inventory;
+import com.erp.inventory.entity.Product;
+import com.erp.inventory.entity.StockMovement;
+import com.erp.inventory.entity.Warehouse;
+import com.erp.inventory.event.StockMovedEvent;
+import com.erp.inventory.repository.InventoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재고 부족 감시기 테스트
+ * 재고 부족 단계 경계, 커밋된 수량 변경에 따른 회사별 목록 갱신(적재 중 변경 포함), 재고별 알림 중복 억제와
+ * 알림 이력 상한을 확인합니다
+ */
+class LowStockMonitorTest {
+
+    private final InventoryRepository inventoryRepository = mock(InventoryRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private ThreadPoolTaskExecutor executor;
+    private LowStockMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ExecutorConfig().stockAlertExecutor(100);
+        executor.initialize();
+        monitor = new LowStockMonitor(inventoryRepository, userRepository, notificationService, executor);
+        ReflectionTestUtils.setField(monitor, "debounceMinutes", 60L);
+        ReflectionTestUtils.setField(monitor, "refreshMinutes", 10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("재주문점 이하는 재고 부족, 0 이하는 재고없음, 재주문점이 없으면 재고없음만 판단")
+    void levelBoundaries() {
+        assertThat(LowStockMonitor.Level.of(6, 5)).isEqualTo(LowStockMonitor.Level.NORMAL);
+        assertThat(LowStockMonitor.Level.of(5, 5)).isEqualTo(LowStockMonitor.Level.LOW_STOCK);
+        assertThat(LowStockMonitor.Level.of(1, 5)).isEqualTo(LowStockMonitor.Level.LOW_STOCK);
+        assertThat(LowStockMonitor.Level.of(0, 5)).isEqualTo(LowStockMonitor.Level.OUT_OF_STOCK);
+        assertThat(LowStockMonitor.Level.of(1, 0)).isEqualTo(LowStockMonitor.Level.NORMAL);
+        assertThat(LowStockMonitor.Level.of(0, 0)).isEqualTo(LowStockMonitor.Level.OUT_OF_STOCK);
+    }
+
+    @Test
+    @DisplayName("처음 조회 때 한 번 적재한 뒤 커밋된 수량 변경으로 목록을 증분 갱신")
+    void maintainsCompanySet() {
+        when(inventoryRepository.findStockAlertLevels(1L)).thenReturn(List.of(
+            new Object[] {11L, 3, 5}, new Object[] {12L, 0, 0}));
+        when(inventoryRepository.findWithDetailsByIdIn(any())).thenReturn(List.of());
+
+        monitor.find(1L, EnumSet.of(LowStockMonitor.Level.LOW_STOCK));
+        verify(inventoryRepository).findWithDetailsByIdIn(eq(List.of(11L)));
+
+        // 13번 재주문점 진입, 11번 재주문점 위로 회복, 다른 회사는 목록에 영향 없음
+        monitor.onStockMoved(event(1L, 13L, -6, 4, 5));
+        monitor.onStockMoved(event(1L, 11L, 5, 8, 5));
+        monitor.onStockMoved(event(2L, 21L, -3, 0, 5));
+
+        monitor.find(1L, EnumSet.allOf(LowStockMonitor.Level.class));
+        verify(inventoryRepository).findWithDetailsByIdIn(eq(List.of(12L, 13L)));
+        verify(inventoryRepository, times(1)).findStockAlertLevels(1L);
+    }
+
+    @Test
+    @DisplayName("목록 적재 쿼리 중에 커밋된 경계 변경은 적재 결과 위에 다시 반영")
+    void replaysMovesDuringLoad() {
+        // 적재 쿼리가 변경 전 상태를 읽는 동안 13번 재주문점 진입, 11번 회복이 커밋되어 이벤트가 먼저 도착
+        when(inventoryRepository.findStockAlertLevels(1L)).thenAnswer(invocation -> {
+            monitor.onStockMoved(event(1L, 13L, -6, 4, 5));
+            monitor.onStockMoved(event(1L, 11L, 5, 8, 5));
+            return List.of(new Object[] {11L, 3, 5}, new Object[] {12L, 0, 0});
+        });
+        when(inventoryRepository.findWithDetailsByIdIn(any())).thenReturn(List.of());
+
+        monitor.find(1L, EnumSet.allOf(LowStockMonitor.Level.class));
+
+        verify(inventoryRepository).findWithDetailsByIdIn(eq(List.of(12L, 13L)));
+    }
+
+    @Test
+    @DisplayName("재적재 주기가 지나면 다음 조회 때 회사 목록을 다시 적재")
+    void reloadsAfterRefreshInterval() {
+        ReflectionTestUtils.setField(monitor, "refreshMinutes", 0L);
+        when(inventoryRepository.findStockAlertLevels(1L))
+            .thenReturn(List.<Object[]>of(new Object[] {11L, 3, 5}))
+            .thenReturn(List.<Object[]>of(new Object[] {11L, 3, 2}));
+        when(inventoryRepository.findWithDetailsByIdIn(any())).thenReturn(List.of());
+
+        monitor.find(1L, EnumSet.of(LowStockMonitor.Level.LOW_STOCK));
+        monitor.find(1L, EnumSet.of(LowStockMonitor.Level.LOW_STOCK));
+
+        verify(inventoryRepository, times(2)).findStockAlertLevels(1L);
+        verify(inventoryRepository, times(1)).findWithDetailsByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("같은 재고는 억제 시간 안에 같은 단계 이하로 다시 알리지 않고 더 나빠지면 바로 알림")
+    void debouncesPerInventory() {
+        long minute = TimeUnit.MINUTES.toNanos(1);
+        assertThat(monitor.shouldAlert(11L, LowStockMonitor.Level.LOW_STOCK, 0)).isTrue();
+        assertThat(monitor.shouldAlert(11L, LowStockMonitor.Level.LOW_STOCK, 10 * minute)).isFalse();
+        assertThat(monitor.shouldAlert(12L, LowStockMonitor.Level.LOW_STOCK, 10 * minute)).isTrue();
+        assertThat(monitor.shouldAlert(11L, LowStockMonitor.Level.OUT_OF_STOCK, 20 * minute)).isTrue();
+        assertThat(monitor.shouldAlert(11L, LowStockMonitor.Level.LOW_STOCK, 30 * minute)).isFalse();
+        assertThat(monitor.shouldAlert(11L, LowStockMonitor.Level.LOW_STOCK, 80 * minute)).isTrue();
+    }
+
+    @Test
+    @DisplayName("알림 이력이 상한을 넘으면 억제 시간 안이라도 오래된 이력부터 삭제")
+    void boundsAlertHistory() {
+        for (long id = 0; id <= LowStockMonitor.MAX_ALERT_HISTORY; id++) {
+            assertThat(monitor.shouldAlert(id, LowStockMonitor.Level.LOW_STOCK, id)).isTrue();
+        }
+
+        Map<?, ?> history = (Map<?, ?>) ReflectionTestUtils.getField(monitor, "alerted");
+        assertThat(history).hasSizeLessThanOrEqualTo(LowStockMonitor.MAX_ALERT_HISTORY);
+        long now = LowStockMonitor.MAX_ALERT_HISTORY + 1L;
+        assertThat(monitor.shouldAlert(0L, LowStockMonitor.Level.LOW_STOCK, now)).isTrue();
+        assertThat(monitor.shouldAlert((long) LowStockMonitor.MAX_ALERT_HISTORY, LowStockMonitor.Level.LOW_STOCK, now))
+            .isFalse();
+    }
+
+    @Test
+    @DisplayName("재주문점을 오르내리는 재고는 처음 진입 때만 관리자/매니저에게 비동기로 알림")
+    void notifiesOnceForFlappingItem() {
+        Inventory inventory = inventory(11L, "P-001", "볼트", "본사 창고");
+        when(inventoryRepository.findWithDetailsByIdIn(List.of(11L))).thenReturn(List.of(inventory));
+        User admin = mock(User.class);
+        User manager = mock(User.class);
+        when(userRepository.findActiveByCompanyIdAndRoleIn(eq(1L), any())).thenReturn(List.of(admin, manager));
+
+        for (int i = 0; i < 5; i++) {
+            monitor.onStockMoved(event(1L, 11L, -2, 4, 5));
+            monitor.onStockMoved(event(1L, 11L, 2, 6, 5));
+        }
+
+        verify(notificationService, timeout(2000)).createInventoryNotification(eq(admin), eq("재고 부족"),
+            anyString(), eq("/inventory/stock"));
+        verify(notificationService, timeout(2000)).createInventoryNotification(eq(manager), eq("재고 부족"),
+            anyString(), eq("/inventory/stock"));
+        executor.shutdown();
+        verify(notificationService, times(2)).createInventoryNotification(any(), anyString(), anyString(),
+            anyString());
+    }
+
+    private static StockMovedEvent event(Long companyId, Long inventoryId, int delta, int afterStock,
+                                         int reorderPoint) {
+        return new StockMovedEvent(companyId, inventoryId, 1L, 1L,
+            delta > 0 ? StockMovement.MovementType.RECEIPT : StockMovement.MovementType.ISSUE,
+            delta, afterStock, afterStock, reorderPoint);
+    }
+
+    private static Inventory inventory(Long id, String productCode, String productName, String warehouseName) {
+        Product product = new Product();
+        product.setProductCode(productCode);
+        product.setProductName(productName);
+        Warehouse warehouse = new Warehouse();
+        warehouse.setWarehouseName(warehouseName);
+        Inventory inventory = new Inventory();
+        inventory.setId(id);
+        inventory.setProduct(product);
+        inventory.setWarehouse(warehouse);
+        return inventory;
+    }
+}
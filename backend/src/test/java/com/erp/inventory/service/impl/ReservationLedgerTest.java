@@ -0,0 +1,188 @@
+package com.erp.inventory.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 예약 원장 테스트
+ * 동시 예약 시 초과 예약 방지, 타이밍 휠 만료, 배치 저장 인계 규칙, 적재 중 수량 변경과 DB 값 보정, 예약분 출고 차단을 확인합니다
+ */
+class ReservationLedgerTest {
+
+    private static final long INVENTORY_ID = 7L;
+
+    private ReservationLedger ledger;
+
+    @Test
+    @DisplayName("64개 스레드 동시 임시 예약 시 가용 수량을 넘겨 예약하지 않음")
+    void concurrentHoldsNeverOverReserve() throws Exception {
+        ReservationLedger ledger = new ReservationLedger(64, 100, 64, id -> new int[] {1000, 100});
+        AtomicInteger granted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int picker = 0; picker < 64; picker++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 20; i++) {
+                        ReservationLedger.Hold hold = ledger.hold(INVENTORY_ID, 1, Long.MAX_VALUE / 2, null, null);
+                        if (hold != null) {
+                            granted.incrementAndGet();
+                            if (i % 4 == 0) {
+                                ledger.release(hold.id);
+                                granted.decrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int[] view = ledger.view(INVENTORY_ID);
+        assertThat(view[2]).isEqualTo(granted.get()).isLessThanOrEqualTo(900);
+        assertThat(view[3]).isEqualTo(900 - granted.get()).isGreaterThanOrEqualTo(0);
+        assertThat(ledger.outstandingHolds()).isEqualTo(granted.get());
+    }
+
+    @Test
+    @DisplayName("타이밍 휠이 만료 시각이 지난 임시 예약만 해제하고 한 바퀴 넘는 예약은 다음 바퀴에 만료")
+    void wheelExpiresDueHolds() {
+        ReservationLedger ledger = new ReservationLedger(4, 100, 8, id -> new int[] {10, 0});
+        ledger.expire(0);
+        ReservationLedger.Hold soon = ledger.hold(INVENTORY_ID, 3, 250, "cart-1", null);
+        ReservationLedger.Hold later = ledger.hold(INVENTORY_ID, 2, 2000, "cart-2", null);
+        ReservationLedger.Hold released = ledger.hold(INVENTORY_ID, 1, 250, "cart-3", null);
+        ledger.release(released.id);
+        assertThat(ledger.view(INVENTORY_ID)[3]).isEqualTo(5);
+
+        assertThat(ledger.expire(300)).containsExactly(soon);
+        assertThat(ledger.view(INVENTORY_ID)[3]).isEqualTo(8);
+        assertThat(ledger.expire(1900)).isEmpty();
+        assertThat(ledger.expire(2100)).containsExactly(later);
+        assertThat(ledger.view(INVENTORY_ID)[3]).isEqualTo(10);
+        assertThat(ledger.confirm(soon.id)).isNull();
+    }
+
+    @Test
+    @DisplayName("저장 전에 해제된 예약은 버리고 확정 예약은 재고별 증감으로 인계")
+    void drainCoalescesChanges() {
+        ReservationLedger ledger = new ReservationLedger(4, 100, 8, id -> new int[] {10, 2});
+        ReservationLedger.Hold confirmed = ledger.hold(INVENTORY_ID, 4, 5000, null, null);
+        ReservationLedger.Hold dropped = ledger.hold(INVENTORY_ID, 1, 5000, null, null);
+        ReservationLedger.Hold pending = ledger.hold(INVENTORY_ID, 2, 5000, null, null);
+        ledger.confirm(confirmed.id);
+        ledger.release(dropped.id);
+
+        ReservationLedger.Drain first = ledger.drain();
+        assertThat(first.inserts()).containsExactlyInAnyOrder(confirmed, pending);
+        assertThat(first.updates()).isEmpty();
+        assertThat(first.reservedDeltas()).containsEntry(INVENTORY_ID, 4);
+
+        // 저장 실패 시 되돌린 변경분은 다음 인계에 그대로 포함
+        ledger.requeue(first);
+        ReservationLedger.Drain retried = ledger.drain();
+        assertThat(retried.inserts()).containsExactlyInAnyOrder(confirmed, pending);
+        assertThat(retried.reservedDeltas()).containsEntry(INVENTORY_ID, 4);
+
+        ledger.release(pending.id);
+        assertThat(ledger.unreserve(INVENTORY_ID, 7)).isFalse();
+        assertThat(ledger.unreserve(INVENTORY_ID, 5)).isTrue();
+        ReservationLedger.Drain second = ledger.drain();
+        assertThat(second.inserts()).isEmpty();
+        assertThat(second.updates()).containsExactly(pending);
+        assertThat(second.reservedDeltas()).containsEntry(INVENTORY_ID, -5);
+        assertThat(ledger.view(INVENTORY_ID)).containsExactly(10, 1, 0, 9);
+    }
+
+    @Test
+    @DisplayName("적재 쿼리 중에 수량 변경이 커밋되면 적재 값을 버리고 다시 적재")
+    void reloadsSlotMovedDuringLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        ledger = new ReservationLedger(4, 100, 8, id -> {
+            if (loads.incrementAndGet() == 1) {
+                // 적재 쿼리가 출고 전 수량 20을 읽는 동안 출고 5가 커밋되어 이벤트가 먼저 도착
+                ledger.applyStockChange(id, -5);
+                return new int[] {20, 0};
+            }
+            return new int[] {15, 0};
+        });
+
+        assertThat(ledger.hold(INVENTORY_ID, 16, 5000, null, null)).isNull();
+        assertThat(ledger.view(INVENTORY_ID)).containsExactly(15, 0, 0, 15);
+        assertThat(loads.get()).isEqualTo(2);
+
+        ledger.applyStockChange(INVENTORY_ID, 3);
+        assertThat(ledger.view(INVENTORY_ID)[0]).isEqualTo(18);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보정은 DB와 달라진 수량을 맞추되 조회 중 수량 변경이나 저장 전 확정 예약이 있으면 건너뜀")
+    void refreshCorrectsDriftWithoutOverwritingNewerChanges() {
+        ledger = new ReservationLedger(4, 100, 8, id -> new int[] {20, 2});
+        ReservationLedger.Hold held = ledger.hold(INVENTORY_ID, 3, 5000, null, null);
+
+        // 놓친 출고 2건으로 DB 수량이 18
+        assertThat(ledger.refresh(ids -> Map.of(INVENTORY_ID, new int[] {18, 2}))).isEqualTo(1);
+        assertThat(ledger.view(INVENTORY_ID)).containsExactly(18, 2, 3, 13);
+
+        // 조회 중에 출고 4가 커밋되면 조회 값이 출고 전인지 후인지 알 수 없으므로 수량은 그대로
+        assertThat(ledger.refresh(ids -> {
+            ledger.applyStockChange(INVENTORY_ID, -4);
+            return Map.of(INVENTORY_ID, new int[] {18, 2});
+        })).isZero();
+        assertThat(ledger.view(INVENTORY_ID)[0]).isEqualTo(14);
+
+        // 확정했지만 아직 저장하지 않은 예약은 DB 확정 예약 수량에 없으므로 덮어쓰지 않음
+        ledger.confirm(held.id);
+        assertThat(ledger.refresh(ids -> Map.of(INVENTORY_ID, new int[] {14, 2}))).isZero();
+        assertThat(ledger.view(INVENTORY_ID)).containsExactly(14, 5, 0, 9);
+
+        ReservationLedger.Drain drain = ledger.drain();
+        assertThat(ledger.refresh(ids -> Map.of(INVENTORY_ID, new int[] {14, 2}))).isZero();
+        ledger.flushed(drain);
+        assertThat(ledger.refresh(ids -> Map.of(INVENTORY_ID, new int[] {14, 6}))).isEqualTo(1);
+        assertThat(ledger.view(INVENTORY_ID)).containsExactly(14, 6, 0, 8);
+    }
+
+    @Test
+    @DisplayName("출고는 임시/확정 예약분을 뺀 가용 수량까지만 잡고, 잡아 둔 수량은 새 예약도 받지 않음")
+    void outboundClaimRespectsHolds() {
+        ledger = new ReservationLedger(4, 100, 8, id -> new int[] {10, 2});
+        ReservationLedger.Hold cart = ledger.hold(INVENTORY_ID, 5, 5000, "cart-1", null);
+        ledger.confirm(ledger.hold(INVENTORY_ID, 1, 5000, "order-1", null).id);
+
+        // DB 조건(수량 10 - 확정 예약 2)으로는 8개까지 출고되지만 메모리 예약 6개를 빼면 2개
+        assertThat(ledger.claim(INVENTORY_ID, 3)).isFalse();
+        assertThat(ledger.claim(INVENTORY_ID, 2)).isTrue();
+        assertThat(ledger.hold(INVENTORY_ID, 1, 5000, "cart-2", null)).isNull();
+
+        // 출고 커밋 후 수량 변경 반영, 트랜잭션 종료 후 잡아 둔 수량 반환
+        ledger.applyStockChange(INVENTORY_ID, -2);
+        ledger.unclaim(INVENTORY_ID, 2);
+        assertThat(ledger.view(INVENTORY_ID)).containsExactly(8, 3, 5, 0);
+
+        ledger.release(cart.id);
+        assertThat(ledger.claim(INVENTORY_ID, 5)).isTrue();
+    }
+}
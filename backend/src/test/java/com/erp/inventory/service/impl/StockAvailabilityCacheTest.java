@@ -0,0 +1,101 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.inventory.entity.StockMovement;
+import com.erp.inventory.event.StockMovedEvent;
+import com.erp.inventory.repository.InventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상품/창고 재고 캐시 테스트
+ * 커밋된 수량 변경의 증분 반영, 적재 중에 들어온 변경의 재적재, 보관 시간 만료를 확인합니다
+ */
+class StockAvailabilityCacheTest {
+
+    private static final Long COMPANY_ID = 1L;
+    private static final Long PRODUCT_ID = 2L;
+    private static final Long INVENTORY_ID = 11L;
+
+    private final InventoryRepository inventoryRepository = mock(InventoryRepository.class);
+    private StockAvailabilityCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new StockAvailabilityCache(inventoryRepository);
+        ReflectionTestUtils.setField(cache, "cacheTtlSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("한 번 적재한 상품은 커밋된 수량 변경을 증분 반영하고 다시 읽지 않음")
+    void appliesCommittedMovesToLoadedProduct() {
+        when(inventoryRepository.getWarehouseStockByProducts(eq(COMPANY_ID), any())).thenReturn(rows(20));
+
+        cache.get(COMPANY_ID, List.of(PRODUCT_ID));
+        cache.onStockMoved(event(-3));
+
+        assertThat(quantity()).isEqualTo(17);
+        verify(inventoryRepository, times(1)).getWarehouseStockByProducts(eq(COMPANY_ID), any());
+    }
+
+    @Test
+    @DisplayName("적재 쿼리 중에 커밋된 수량 변경이 들어오면 적재 값을 캐시하지 않고 다음 조회 때 다시 적재")
+    void reloadsProductMovedDuringLoad() {
+        cache.get(COMPANY_ID, List.of(99L));
+        // 적재 쿼리가 변경 전 수량 20을 읽는 동안 출고 5가 커밋되어 이벤트가 먼저 도착
+        when(inventoryRepository.getWarehouseStockByProducts(eq(COMPANY_ID), eq(List.of(PRODUCT_ID))))
+            .thenAnswer(invocation -> {
+                cache.onStockMoved(event(-5));
+                return rows(20);
+            })
+            .thenReturn(rows(15));
+
+        assertThat(cache.get(COMPANY_ID, List.of(PRODUCT_ID))).containsKey(PRODUCT_ID);
+        assertThat(quantity()).isEqualTo(15);
+        verify(inventoryRepository, times(2)).getWarehouseStockByProducts(COMPANY_ID, List.of(PRODUCT_ID));
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지난 상품은 확정 예약을 포함해 다시 적재")
+    void reloadsExpiredProduct() {
+        ReflectionTestUtils.setField(cache, "cacheTtlSeconds", 0L);
+        when(inventoryRepository.getWarehouseStockByProducts(eq(COMPANY_ID), any()))
+            .thenReturn(rows(20)).thenReturn(List.<Object[]>of(
+                new Object[] {PRODUCT_ID, 3, INVENTORY_ID, 1L, "본사 창고", 20, 8}));
+
+        cache.get(COMPANY_ID, List.of(PRODUCT_ID));
+        StockAvailabilityCache.WarehouseStock warehouse =
+            cache.get(COMPANY_ID, List.of(PRODUCT_ID)).get(PRODUCT_ID).warehouses().get(0);
+
+        assertThat(warehouse.reservedQuantity()).isEqualTo(8);
+        verify(inventoryRepository, times(2)).getWarehouseStockByProducts(eq(COMPANY_ID), any());
+    }
+
+    private int quantity() {
+        return cache.get(COMPANY_ID, List.of(PRODUCT_ID)).get(PRODUCT_ID).warehouses().get(0).quantity().get();
+    }
+
+    /**
+     * [상품 ID, 리드타임, 재고 ID, 창고 ID, 창고명, 수량, 확정 예약]
+     */
+    private static List<Object[]> rows(int quantity) {
+        return List.<Object[]>of(new Object[] {PRODUCT_ID, 3, INVENTORY_ID, 1L, "본사 창고", quantity, 0});
+    }
+
+    private static StockMovedEvent event(int delta) {
+        return new StockMovedEvent(COMPANY_ID, INVENTORY_ID, PRODUCT_ID, 1L,
+            delta > 0 ? StockMovement.MovementType.RECEIPT : StockMovement.MovementType.ISSUE,
+            delta, 0, 0, 0);
+    }
+}
@@ -0,0 +1,190 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.inventory.entity.StockMovement;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 원장 엔진 동시성 테스트
+ * 로컬 PostgreSQL에서 원장 문장을 그대로 실행해 같은 재고에 64개 스레드가 동시에 출고/입고할 때
+ * 조건부 UPDATE의 행 잠금/재평가로 갱신 유실과 초과 출고가 없는지 확인합니다
+ * 실행: -Dpostgres.url=jdbc:postgresql://localhost:5432/erp_test -Dpostgres.username=... -Dpostgres.password=...
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "postgres.url", matches = ".+")
+class StockLedgerEngineTest {
+
+    private static final String SCHEMA = "stock_ledger_test";
+    private static final int PICKERS = 64;
+    private static final long INVENTORY_ID = 1L;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private StockLedgerEngine engine;
+
+    @BeforeAll
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("postgres.url"));
+        dataSource.setUsername(System.getProperty("postgres.username", "postgres"));
+        dataSource.setPassword(System.getProperty("postgres.password", ""));
+        dataSource.setMaximumPoolSize(PICKERS);
+        dataSource.setConnectionInitSql("SET search_path TO " + SCHEMA);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("CREATE TABLE " + SCHEMA + ".products (id BIGINT PRIMARY KEY, base_unit VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE " + SCHEMA + ".inventories (id BIGINT PRIMARY KEY, company_id BIGINT, " +
+            "product_id BIGINT, warehouse_id BIGINT, quantity INTEGER, reserved_quantity INTEGER, " +
+            "available_quantity INTEGER, reorder_point INTEGER, updated_at TIMESTAMP, last_outbound_at TIMESTAMP, " +
+            "is_deleted BOOLEAN NOT NULL DEFAULT false)");
+        jdbcTemplate.execute("CREATE TABLE " + SCHEMA + ".stock_movements (id BIGSERIAL PRIMARY KEY, " +
+            "movement_number VARCHAR(50), company_id BIGINT, product_id BIGINT, warehouse_id BIGINT, " +
+            "inventory_id BIGINT, movement_type VARCHAR(30), movement_status VARCHAR(30), movement_date TIMESTAMP, " +
+            "quantity INTEGER, unit VARCHAR(20), unit_price NUMERIC(15, 2), total_amount NUMERIC(15, 2), " +
+            "before_stock INTEGER, after_stock INTEGER, from_warehouse_id BIGINT, to_warehouse_id BIGINT, " +
+            "reference_number VARCHAR(50), reference_type VARCHAR(30), lot_number VARCHAR(50), " +
+            "serial_number VARCHAR(50), reason VARCHAR(200), description TEXT, processed_by_id BIGINT, " +
+            "processed_at TIMESTAMP, created_at TIMESTAMP, created_by BIGINT, is_deleted BOOLEAN)");
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".products VALUES (1, 'EA')");
+        engine = new StockLedgerEngine(jdbcTemplate);
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void resetLedger() {
+        jdbcTemplate.execute("TRUNCATE " + SCHEMA + ".stock_movements, " + SCHEMA + ".inventories");
+    }
+
+    @Test
+    @DisplayName("64개 스레드 동시 출고 시 가용 수량만큼만 출고되고 전후 수량이 끊김 없이 이어짐")
+    void concurrentPickersNeverOversell() throws Exception {
+        insertInventory(2000, 100);
+        List<StockLedgerEngine.Entry> movements = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(picker -> {
+            for (int i = 0; i < 40; i++) {
+                engine.apply(StockLedgerEngine.Change.of(INVENTORY_ID, StockMovement.MovementType.ISSUE,
+                        -1, "출고", null, null))
+                    .ifPresentOrElse(movements::add, rejected::incrementAndGet);
+            }
+        });
+
+        assertThat(movements).hasSize(1900);
+        assertThat(rejected.get()).isEqualTo(PICKERS * 40 - 1900);
+        assertThat(quantity()).isEqualTo(100);
+        assertThat(engine.availableQuantity(INVENTORY_ID)).isZero();
+        assertThat(movementCount()).isEqualTo(1900);
+        assertContinuous(movements, 2000, 100);
+    }
+
+    @Test
+    @DisplayName("입고와 출고가 섞여도 최종 수량은 반영된 증감의 합과 같음")
+    void mixedMovementsKeepBalance() throws Exception {
+        insertInventory(50, 0);
+        List<StockLedgerEngine.Entry> movements = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger applied = new AtomicInteger();
+
+        runConcurrently(picker -> {
+            boolean receiver = picker % 2 == 0;
+            for (int i = 0; i < 50; i++) {
+                StockLedgerEngine.Change change = receiver
+                    ? StockLedgerEngine.Change.of(INVENTORY_ID, StockMovement.MovementType.RECEIPT, 1, "입고", null, null)
+                    : StockLedgerEngine.Change.of(INVENTORY_ID, StockMovement.MovementType.ISSUE, -2, "출고", null, null);
+                engine.apply(change).ifPresent(entry -> {
+                    movements.add(entry);
+                    applied.addAndGet(entry.afterStock() - entry.beforeStock());
+                });
+            }
+        });
+
+        int quantity = quantity();
+        assertThat(quantity).isEqualTo(50 + applied.get()).isGreaterThanOrEqualTo(0);
+        assertThat(movementCount()).isEqualTo(movements.size());
+        assertContinuous(movements, 50, quantity);
+        assertThat(movements).allSatisfy(entry -> assertThat(entry.afterStock()).isGreaterThanOrEqualTo(0));
+    }
+
+    private void insertInventory(int quantity, int reserved) {
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".inventories (id, company_id, product_id, warehouse_id, " +
+            "quantity, reserved_quantity, available_quantity, reorder_point) VALUES (?, 1, 1, 1, ?, ?, ?, 0)",
+            INVENTORY_ID, quantity, reserved, quantity - reserved);
+    }
+
+    private int quantity() {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM " + SCHEMA + ".inventories WHERE id = ?",
+            Integer.class, INVENTORY_ID);
+    }
+
+    private int movementCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + SCHEMA + ".stock_movements", Integer.class);
+    }
+
+    private static void runConcurrently(PickerTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PICKERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>(PICKERS);
+            for (int picker = 0; picker < PICKERS; picker++) {
+                int id = picker;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(id);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 이동 번호 순서대로 앞 기록의 변경 후 수량이 다음 기록의 변경 전 수량과 같아야 함 (갱신 유실 없음)
+     * 이동 번호는 행 잠금을 잡은 뒤 같은 문장에서 채번하므로 잠금 순서와 같습니다
+     */
+    private static void assertContinuous(List<StockLedgerEngine.Entry> movements, int opening, int closing) {
+        List<StockLedgerEngine.Entry> ordered = new ArrayList<>(movements);
+        ordered.sort(Comparator.comparing(StockLedgerEngine.Entry::movementId));
+        int expected = opening;
+        for (StockLedgerEngine.Entry entry : ordered) {
+            assertThat(entry.beforeStock()).isEqualTo(expected);
+            expected = entry.afterStock();
+        }
+        assertThat(expected).isEqualTo(closing);
+    }
+
+    @FunctionalInterface
+    private interface PickerTask {
+        void run(int picker) throws Exception;
+    }
+}
@@ -0,0 +1,111 @@
+package com.erp.inventory.service.impl;
+
+import com.erp.common.export.ExportFormat;
+import com.erp.common.export.XlsxExportWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 재고 실사 파일 리더/대사 테스트
+ * CSV/XLSX 실사 파일 읽기 규칙과 상품코드 해시 조인(합산, 전수/부분 실사, 미대응 항목)을 확인합니다
+ */
+class StocktakingReconcilerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("CSV는 BOM/헤더 별칭/천 단위 구분을 처리하고 형식 오류 행은 건너뜀")
+    void readsCsv() throws IOException {
+        Path file = tempDir.resolve("count.csv");
+        Files.writeString(file, "\uFEFF비고,상품코드,실사수량\n"
+            + "A구역,P-001,\"1,200\"\n"
+            + ",,\n"
+            + "B구역,P-002,-3\n"
+            + "B구역,P-003,2.5\n"
+            + "C구역,,7\n"
+            + "C구역,P-001,5\n", StandardCharsets.UTF_8);
+
+        List<StocktakingCountReader.CountLine> lines = new ArrayList<>();
+        StocktakingCountReader.Result result = StocktakingCountReader.read(file, ExportFormat.CSV, lines::add);
+
+        assertThat(result).isEqualTo(new StocktakingCountReader.Result(5, 3));
+        assertThat(lines).containsExactly(
+            new StocktakingCountReader.CountLine(1, "P-001", 1200),
+            new StocktakingCountReader.CountLine(6, "P-001", 5));
+    }
+
+    @Test
+    @DisplayName("XLSX 첫 시트를 이벤트 모델로 읽고 헤더가 없으면 거부")
+    void readsXlsx() throws IOException {
+        Path file = tempDir.resolve("count.xlsx");
+        try (OutputStream out = Files.newOutputStream(file);
+             XlsxExportWriter writer = new XlsxExportWriter(out, "실사")) {
+            writer.writeHeader("SKU", "Qty");
+            writer.writeRow("P-001", 12);
+            writer.writeRow("P-002", null);
+            writer.writeRow("P-003", 0);
+        }
+
+        List<StocktakingCountReader.CountLine> lines = new ArrayList<>();
+        StocktakingCountReader.Result result = StocktakingCountReader.read(file, ExportFormat.XLSX, lines::add);
+
+        assertThat(result).isEqualTo(new StocktakingCountReader.Result(3, 1));
+        assertThat(lines).containsExactly(
+            new StocktakingCountReader.CountLine(1, "P-001", 12),
+            new StocktakingCountReader.CountLine(3, "P-003", 0));
+
+        Path noHeader = tempDir.resolve("no-header.csv");
+        Files.writeString(noHeader, "상품명,위치\n볼트,A\n", StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> StocktakingCountReader.read(noHeader, ExportFormat.CSV, line -> { }))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("헤더");
+    }
+
+    @Test
+    @DisplayName("부분 실사는 센 상품만, 전수 실사는 세지 않은 재고를 0개로 대사")
+    void reconcilesByProductCode() {
+        StocktakingReconciler partial = reconciler(false);
+        StocktakingReconciler full = reconciler(true);
+
+        for (StocktakingReconciler reconciler : List.of(partial, full)) {
+            // 같은 상품을 두 위치에서 세면 합산
+            assertThat(reconciler.probe(11L, 101L, "P-001", "볼트", 10, new BigDecimal("500")))
+                .isEqualTo(new StocktakingReconciler.Variance(11L, 101L, "P-001", "볼트", 10, 12,
+                    new BigDecimal("500")));
+            // 차이가 없으면 결과 없음
+            assertThat(reconciler.probe(12L, 102L, "P-002", "너트", 4, null)).isNull();
+            assertThat(reconciler.unmatched()).containsExactly(new StocktakingReconciler.Unmatched(3, "P-009", 1));
+            assertThat(reconciler.countedItems()).isEqualTo(3);
+        }
+
+        assertThat(partial.probe(13L, 103L, "P-003", "와셔", 6, null)).isNull();
+        StocktakingReconciler.Variance missing = full.probe(13L, 103L, "P-003", "와셔", 6, new BigDecimal("100"));
+        assertThat(missing.difference()).isEqualTo(-6);
+        assertThat(missing.differenceValue()).isEqualByComparingTo("-600");
+        assertThat(partial.probe(14L, 101L, "P-001", "볼트", 3, null)).isNull();
+        assertThat(full.probe(14L, 101L, "P-001", "볼트", 3, null).countedQuantity()).isZero();
+    }
+
+    private static StocktakingReconciler reconciler(boolean fullCount) {
+        StocktakingReconciler reconciler = new StocktakingReconciler(fullCount);
+        reconciler.count(new StocktakingCountReader.CountLine(1, "P-001", 7));
+        reconciler.count(new StocktakingCountReader.CountLine(2, "P-002", 4));
+        reconciler.count(new StocktakingCountReader.CountLine(3, "P-009", 1));
+        reconciler.count(new StocktakingCountReader.CountLine(4, "P-001", 5));
+        return reconciler;
+    }
+}
@@ -522,7 +522,7 @@ export interface FinancialRatioAnalysis {
   equityRatio: number
   roa: number
   roe: number
-  grossMargin: number
+  operatingMargin: number
   netMargin: number
 }
 